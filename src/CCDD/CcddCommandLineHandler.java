@@ -23,6 +23,7 @@ import java.util.regex.Pattern;
 import CCDD.CcddClasses.CCDDException;
 import CCDD.CcddConstants.CommandLineType;
 import CCDD.CcddConstants.EventLogMessageType;
+import CCDD.CcddConstants.ModifiableSizeInfo;
 
 /******************************************************************************
  * CFS Command & Data Dictionary command line argument handler class
@@ -584,6 +585,27 @@ public class CcddCommandLineHandler
             }
         });
 
+        // Script execution threads command
+        argument.add(new CommandHandler("scriptThreads",
+                                        "Set number of scripts executed at once",
+                                        "1 - "
+                                            + ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getMaximum(),
+                                        CommandLineType.MINMAX,
+                                        9,
+                                        new Object[] {ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getMinimum(),
+                                                      ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getMaximum()})
+        {
+            /******************************************************************
+             * Set the maximum number of script associations executed
+             * concurrently
+             *****************************************************************/
+            @Override
+            protected void doCommand(Object parmVal)
+            {
+                ccddMain.getScriptHandler().setExecutionThreads((Integer) parmVal);
+            }
+        });
+
         // Execute script command
         argument.add(new CommandHandler("execute",
                                         "Execute script(s)",
@@ -78,6 +78,16 @@ public class CcddConstants
     // Prefix assigned to internally created CCDD database tables
     protected static final String INTERNAL_TABLE_PREFIX = "__";
 
+    // Expression that removes the last data type and variable name from a
+    // custom values table path, producing the path of the table that contains
+    // the variable. The custom values table is indexed on this expression so
+    // that the values belonging to a table can be found without a full scan
+    protected static final String VALUES_PARENT_PATH = "regexp_replace(table_path, E',[^,]+$', '')";
+
+    // Name of the custom values table parent path index
+    protected static final String VALUES_PARENT_INDEX = INTERNAL_TABLE_PREFIX
+                                                        + "values_parent_idx";
+
     // Name of the database save point
     protected static final String DB_SAVE_POINT_NAME = "ccdd_savepoint";
 
@@ -1111,6 +1121,8 @@ public class CcddConstants
     protected static enum ModifiableSizeInfo
     {
         MAX_LOG_MESSAGE_LENGTH("Maximum log message length", "Maximum number of characters to display in the session event log", "MaximumLogMessageLength", 250, 10, 1000),
+        EVENT_LOG_QUEUE_SIZE("Event log queue size", "Maximum number of session event log messages waiting to be written to the log file. Logging waits for the log file writer when the queue is full", "EventLogQueueSize", 10000, 100, 1000000),
+        EVENT_LOG_FLUSH_INTERVAL("Event log flush interval", "Maximum time, in milliseconds, that a session event log message waits before being flushed to the log file. If 0 then each message is flushed to the log file before the logging call returns", "EventLogFlushInterval", 250, 0, 10000),
         NUM_REMEMBERED_SEARCHES("Maximum remembered search strings", "Maximum number of remembered search strings", "NumberOfRememberedSearches", 30, 1, 100),
         NUM_REMEMBERED_SERVERS("Maximum remembered server names", "Maximum number of remembered server names", "NumberOfRememberedServers", 30, 1, 100),
         MIN_DIALOG_WIDTH("Minimum dialog width", "Minimum dialog window width in pixels", "MinimumDialogWidth", 300, 100, 1000),
@@ -1123,7 +1135,16 @@ public class CcddConstants
         INIT_VIEWABLE_TABLE_ROWS("Initial table rows (non-data)", "Number of non-data table rows to display initially", "InitialViewableTableRows", 10, 1, 50),
         INIT_VIEWABLE_DATA_TABLE_ROWS("Initial table rows (data)", "Number of data table rows to display initially", "InitialViewableDataTableRows", 16, 1, 50),
         INIT_VIEWABLE_LIST_ROWS("Initial list rows", "Number of rows of radio buttons or check boxes to display initially", "InitalViewableListRows", 12, 1, 50),
-        MAX_INIT_CELL_WIDTH("Maximum initial table cell width", "Maximum initial table cell width in pixels", "MaximumInitialTableCellWidth", 250, 25, 1000);
+        MAX_INIT_CELL_WIDTH("Maximum initial table cell width", "Maximum initial table cell width in pixels", "MaximumInitialTableCellWidth", 250, 25, 1000),
+        DB_CONNECTION_POOL_SIZE("Database connection pool size", "Maximum number of additional database connections used to execute read-only queries (e.g., web server requests and script data loads) in parallel with other database commands; 0 to execute all commands using a single connection. A change takes effect the next time a database is opened", "DatabaseConnectionPoolSize", 4, 0, 32),
+        TABLE_CACHE_SIZE("Table cache size", "Maximum number of loaded tables retained in memory so that these needn't be reloaded from the database; 0 to disable the cache. A change takes effect the next time a database is opened", "TableCacheSize", 250, 0, 10000),
+        SEARCH_INDEX_SIZE("Search index size", "Approximate amount of memory, in megabytes, used to retain table contents so that text searches needn't scan the database. The least recently searched tables are discarded when this is exceeded; a table too large to retain is searched without being retained. 0 to disable the index", "SearchIndexSize", 64, 0, 4096),
+        SCRIPT_EXECUTION_THREADS("Script execution threads", "Maximum number of script associations executed at the same time. Each association executes using its own script engine; the console output for each is displayed once it completes. 1 to execute the associations one at a time, in order", "ScriptExecutionThreads", 1, 1, 16),
+        WEB_SERVER_THREADS("Web server threads", "Number of web server requests that can be processed at the same time. Requests that exceed this number wait until a request completes. A change takes effect the next time the web server is started", "WebServerThreads", 8, 1, 64),
+        WEB_COMPRESSION_LEVEL("Web response compression level", "Compression level applied to web server responses when the requester accepts gzip or deflate encoding, from 1 (fastest) to 9 (smallest); 0 to disable compression", "WebCompressionLevel", 6, 0, 9),
+        WEB_COMPRESSION_THRESHOLD("Web response compression threshold", "Minimum size, in bytes, of a web server response for it to be compressed. Smaller responses are sent uncompressed", "WebCompressionThreshold", 1024, 0, 1048576),
+        MAX_SEARCH_RESULTS("Maximum search results", "Maximum number of results displayed for a table, script, or event log search. The search stops once this number of results is found", "MaximumSearchResults", 10000, 100, 1000000),
+        SEARCH_RESULTS_PAGE_SIZE("Search results page size", "Number of search results displayed per page in the search dialog", "SearchResultsPageSize", 500, 10, 10000);
 
         private final String name;
         private final String description;
@@ -3163,7 +3184,16 @@ public class CcddConstants
                                {ValuesColumn.VALUE.columnName,
                                 ValuesColumn.VALUE.dataType}},
                "",
-               "");
+
+               // Index the values by the path of the table containing the
+               // variable
+               "CREATE INDEX "
+                   + VALUES_PARENT_INDEX
+                   + " ON "
+                   + INTERNAL_TABLE_PREFIX
+                   + "values ("
+                   + VALUES_PARENT_PATH
+                   + ")");
 
         /**********************************************************************
          * Application scheduler table columns
@@ -3818,6 +3848,17 @@ public class CcddConstants
                                                ? " " + initCommand + "; "
                                                : " ");
         }
+
+        /**********************************************************************
+         * Get the command(s) required to initialize this internal table
+         * 
+         * @return Internal table initialization command(s); blank if the
+         *         table has no initialization command
+         *********************************************************************/
+        protected String getInitCommand()
+        {
+            return initCommand;
+        }
     }
 
     /**************************************************************************
@@ -5517,9 +5558,6 @@ public class CcddConstants
         ALL_TABLES("SELECT tablename FROM pg_tables "
                    + "WHERE schemaname = 'public' ORDER BY tablename ASC;"),
 
-        // Check if a specific table exists in the database (case insensitive)
-        SPECIFIC_TABLE("SELECT 1 FROM pg_tables WHERE tablename ~* E'^_table_name_$';"),
-
         // Get the list of CCDD databases (in the form 'database name,lock
         // status,visible name,description'), sorted alphabetically
         DATABASES("SELECT datname || E'"
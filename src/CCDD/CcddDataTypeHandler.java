@@ -22,7 +22,9 @@ import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.JComboBox;
 import javax.swing.JDialog;
@@ -65,6 +67,12 @@ public class CcddDataTypeHandler
     // List containing the data type names and associated data type definitions
     private List<String[]> dataTypes;
 
+    // Map containing the data type definitions keyed by the lower case data
+    // type name, and the list and list size from which the map was built
+    private Map<String, String[]> dataTypeIndex;
+    private List<String[]> indexedDataTypes;
+    private int indexedSize;
+
     /**************************************************************************
      * Data type handler class constructor used when setting the data types
      * from a source other than those in the project database
@@ -76,6 +84,9 @@ public class CcddDataTypeHandler
     CcddDataTypeHandler(List<String[]> dataTypes)
     {
         this.dataTypes = dataTypes;
+
+        // Build the data type name index
+        updateDataTypeIndex();
     }
 
     /**************************************************************************
@@ -118,6 +129,41 @@ public class CcddDataTypeHandler
     protected void setDataTypeData(List<String[]> dataTypes)
     {
         this.dataTypes = new ArrayList<String[]>(dataTypes);
+
+        // Rebuild the data type name index for the new data types
+        updateDataTypeIndex();
+    }
+
+    /**************************************************************************
+     * Build the map used to look up a data type's definition by its name. The
+     * data type name is converted to lower case so that the look up is case
+     * insensitive. If more than one data type has the same name then the
+     * first one in the list is used, matching the behavior of a sequential
+     * search
+     *************************************************************************/
+    private void updateDataTypeIndex()
+    {
+        Map<String, String[]> dataTypeIndex = new HashMap<String, String[]>(dataTypes.size() * 2 + 1);
+
+        // Step through each defined data type
+        for (String[] type : dataTypes)
+        {
+            String key = getDataTypeName(type).toLowerCase();
+
+            // Check if no data type with this name is already in the index
+            if (!dataTypeIndex.containsKey(key))
+            {
+                // Add the data type to the index
+                dataTypeIndex.put(key, type);
+            }
+        }
+
+        // Store the index, and the list reference and size used to build it
+        // so that changes made to the list outside of this handler can be
+        // detected
+        this.dataTypeIndex = dataTypeIndex;
+        indexedDataTypes = dataTypes;
+        indexedSize = dataTypes.size();
     }
 
     /**************************************************************************
@@ -180,20 +226,16 @@ public class CcddDataTypeHandler
      *************************************************************************/
     protected String[] getDataTypeInfo(String dataTypeName)
     {
-        String[] dataType = null;
-
-        // Step through each defined data type
-        for (String[] type : dataTypes)
+        // Check if the data type list has changed since the index was built
+        if (indexedDataTypes != dataTypes || indexedSize != dataTypes.size())
         {
-            // Check if the supplied name matches this data type's name
-            if (dataTypeName.equalsIgnoreCase(getDataTypeName(type)))
-            {
-                // Store the data type information and stop searching
-                dataType = type;
-                break;
-            }
+            // Rebuild the data type name index
+            updateDataTypeIndex();
         }
 
+        // Get the data type information for the supplied name
+        String[] dataType = dataTypeIndex.get(dataTypeName.toLowerCase());
+
         return dataType;
     }
 
@@ -11,14 +11,25 @@ import static CCDD.CcddConstants.EventLogMessageType.COMMAND_MSG;
 
 import java.awt.Component;
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
 
 import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.DbCommandType;
+import CCDD.CcddConstants.ModifiableSizeInfo;
 
 /******************************************************************************
  * CFS Command & Data Dictionary database command handler class
@@ -29,22 +40,144 @@ public class CcddDbCommandHandler
     private final CcddMain ccddMain;
     private CcddEventLogDialog eventLog;
 
-    // PostgreSQL database connection
+    // PostgreSQL database connection. This is the primary connection; all
+    // commands that modify the database, and any query made by the thread
+    // that owns an active save point, are executed using this connection
     private Connection connection;
 
-    // PostgreSQL database statement
-    private Statement statement;
+    // Lock used to serialize the execution of commands on the primary
+    // connection
+    private final Object primaryLock;
+
+    // Pool of idle secondary connections used to execute read-only queries in
+    // parallel with commands on the primary connection
+    private final Deque<Connection> idleConnections;
+
+    // Database URL, user, and password used to create the secondary
+    // connections; null if the connection pool isn't open
+    private String poolURL;
+    private String poolUser;
+    private String poolPassword;
+
+    // Maximum number of secondary connections and the number of secondary
+    // connections currently open
+    private int maxPoolSize;
+    private int numPoolConnections;
+
+    // Pool generation, incremented each time the pool is closed, and the
+    // generation of the pool from which each secondary connection in use or
+    // idle was created. A connection from an older pool is discarded when
+    // released since it isn't counted in the current pool's size
+    private int poolGeneration;
+    private final Map<Connection, Integer> connectionGenerations;
+
+    // Secondary connection reserved by a thread for reading from a consistent
+    // snapshot of the database; not set if the thread isn't reading from a
+    // snapshot
+    private final ThreadLocal<Connection> snapshotConnection;
+
+    // Number of database commands executed by each thread
+    private final ThreadLocal<long[]> commandCount;
+
+    // Prepared statements for each connection, stored by command text
+    private final Map<Connection, Map<String, PreparedStatement>> statementCache;
+
+    // Maximum number of prepared statements retained per connection
+    private static final int MAX_CACHED_STATEMENTS = 50;
 
     // Command to create a save point
     private static final String SAVE_POINT_COMMAND = "SAVEPOINT " + DB_SAVE_POINT_NAME + ";";
 
-    // Flag to enable/disable creating a save point prior to a transaction
+    // Flag to enable/disable creating a save point prior to a transaction.
+    // This is guarded by the primary connection lock
     private boolean savePointEnabled;
 
     // Flag indicating that a save point has been created for this transaction
-    // block
+    // block. This is guarded by the primary connection lock
     private boolean isSavePointCreated;
 
+    // Thread that enabled creation of the save point; null if no save point
+    // is enabled. This is changed only while holding the primary connection
+    // lock, but is read without it
+    private volatile Thread savePointOwner;
+
+    /**************************************************************************
+     * Class for processing the rows of a query's results as these are
+     * retrieved from the database, rather than once the entire result set is
+     * retrieved. The query can be canceled from another thread
+     *************************************************************************/
+    abstract protected static class CursorQuery
+    {
+        // Statement executing the query; null if the query isn't executing
+        private Statement statement;
+
+        // Flag indicating that the query is canceled
+        private boolean isCanceled = false;
+
+        /**********************************************************************
+         * Process a row of the query results
+         *
+         * @param row
+         *            result set positioned at the row
+         *
+         * @return true to continue retrieving rows; false to stop
+         *
+         * @throws SQLException
+         *             If an error occurs reading the row
+         *********************************************************************/
+        abstract protected boolean handleRow(ResultSet row) throws SQLException;
+
+        /**********************************************************************
+         * Cancel the query. If the query is executing then the database
+         * server is requested to stop executing it; otherwise the query
+         * isn't executed
+         *********************************************************************/
+        protected synchronized void cancel()
+        {
+            isCanceled = true;
+
+            // Check if the query is executing
+            if (statement != null)
+            {
+                try
+                {
+                    // Request the server to stop executing the query
+                    statement.cancel();
+                }
+                catch (SQLException se)
+                {
+                    // Ignore the error; the remaining rows are discarded
+                    // regardless
+                }
+            }
+        }
+
+        /**********************************************************************
+         * Check if the query is canceled
+         *
+         * @return true if the query is canceled
+         *********************************************************************/
+        protected synchronized boolean isCanceled()
+        {
+            return isCanceled;
+        }
+
+        /**********************************************************************
+         * Set the statement executing the query
+         *
+         * @param statement
+         *            statement executing the query; null if the query is no
+         *            longer executing
+         *
+         * @return true if the query isn't canceled
+         *********************************************************************/
+        private synchronized boolean setStatement(Statement statement)
+        {
+            this.statement = statement;
+            return !isCanceled;
+        }
+    }
+
     /**************************************************************************
      * Database command handler class constructor
      * 
@@ -54,6 +187,21 @@ public class CcddDbCommandHandler
     protected CcddDbCommandHandler(CcddMain ccddMain)
     {
         this.ccddMain = ccddMain;
+        primaryLock = new Object();
+        idleConnections = new ArrayDeque<Connection>();
+        connectionGenerations = new HashMap<Connection, Integer>();
+        poolGeneration = 0;
+        snapshotConnection = new ThreadLocal<Connection>();
+        commandCount = new ThreadLocal<long[]>()
+        {
+            @Override
+            protected long[] initialValue()
+            {
+                return new long[1];
+            }
+        };
+        statementCache = new HashMap<Connection, Map<String, PreparedStatement>>();
+        poolURL = null;
 
         // Initialize the save point flags
         setSavePointEnable(false);
@@ -77,6 +225,9 @@ public class CcddDbCommandHandler
      *************************************************************************/
     protected void setConnection(Connection connection)
     {
+        // Discard the prepared statements for the previous connection
+        discardStatementCache(this.connection);
+
         this.connection = connection;
     }
 
@@ -91,14 +242,458 @@ public class CcddDbCommandHandler
     }
 
     /**************************************************************************
-     * Set the connection statement
+     * Open the pool of secondary database connections. The connections are
+     * created as needed, up to the maximum number specified by the program
+     * preferences, and are used to execute read-only queries so that these
+     * don't wait on (or interfere with) commands executing on the primary
+     * connection. Any existing pool is closed first
      * 
-     * @param statement
-     *            connection statement
+     * @param databaseURL
+     *            database URL
+     * 
+     * @param user
+     *            user name
+     * 
+     * @param password
+     *            user password
      *************************************************************************/
-    protected void setStatement(Statement statement)
+    protected void openConnectionPool(String databaseURL,
+                                      String user,
+                                      String password)
     {
-        this.statement = statement;
+        // Close any existing pooled connections
+        closeConnectionPool();
+
+        synchronized (idleConnections)
+        {
+            // Store the connection parameters and the maximum pool size
+            poolURL = databaseURL;
+            poolUser = user;
+            poolPassword = password;
+            maxPoolSize = ModifiableSizeInfo.DB_CONNECTION_POOL_SIZE.getSize();
+        }
+    }
+
+    /**************************************************************************
+     * Close the pool of secondary database connections. Connections currently
+     * in use are closed when they're released
+     *************************************************************************/
+    protected void closeConnectionPool()
+    {
+        synchronized (idleConnections)
+        {
+            // Step through each idle connection
+            for (Connection poolConn : idleConnections)
+            {
+                try
+                {
+                    // Discard the connection's prepared statements and close
+                    // the connection
+                    connectionGenerations.remove(poolConn);
+                    discardStatementCache(poolConn);
+                    poolConn.close();
+                }
+                catch (SQLException se)
+                {
+                    // Ignore the error; the connection is discarded regardless
+                }
+            }
+
+            idleConnections.clear();
+            numPoolConnections = 0;
+            poolURL = null;
+
+            // Start a new pool generation so that the connections in use are
+            // discarded, rather than returned to the pool, when released
+            poolGeneration++;
+
+            // Wake any threads waiting for a connection so that these use the
+            // primary connection instead
+            idleConnections.notifyAll();
+        }
+    }
+
+    /**************************************************************************
+     * Get a secondary connection from the pool. If no idle connection is
+     * available and the pool isn't at its maximum size then a new connection
+     * is created; otherwise wait for a connection to be released
+     * 
+     * @return Secondary database connection; null if the pool isn't open or
+     *         is disabled
+     * 
+     * @throws SQLException
+     *             If a new connection cannot be created
+     *************************************************************************/
+    private Connection acquirePoolConnection() throws SQLException
+    {
+        String url;
+        int generation;
+
+        synchronized (idleConnections)
+        {
+            // Wait until an idle connection is available or another
+            // connection can be created
+            while (poolURL != null
+                   && idleConnections.isEmpty()
+                   && numPoolConnections >= maxPoolSize
+                   && maxPoolSize > 0)
+            {
+                try
+                {
+                    idleConnections.wait();
+                }
+                catch (InterruptedException ie)
+                {
+                    // Restore the interrupt status and use the primary
+                    // connection instead
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+
+            // Check if the pool is closed or disabled
+            if (poolURL == null || maxPoolSize == 0)
+            {
+                return null;
+            }
+
+            // Check if an idle connection is available
+            if (!idleConnections.isEmpty())
+            {
+                return idleConnections.pop();
+            }
+
+            // Reserve a slot for the new connection
+            url = poolURL;
+            generation = poolGeneration;
+            numPoolConnections++;
+        }
+
+        try
+        {
+            // Create a new connection using the same settings as the primary
+            // connection, except that each query is committed automatically
+            Connection poolConn = DriverManager.getConnection(url,
+                                                              poolUser,
+                                                              poolPassword);
+            poolConn.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            poolConn.setAutoCommit(true);
+
+            synchronized (idleConnections)
+            {
+                // Store the generation of the pool for which the connection
+                // was created
+                connectionGenerations.put(poolConn, generation);
+            }
+
+            return poolConn;
+        }
+        catch (SQLException se)
+        {
+            synchronized (idleConnections)
+            {
+                // Check if the pool hasn't been closed since the slot was
+                // reserved (closing the pool resets the number of connections)
+                if (generation == poolGeneration)
+                {
+                    // Release the slot reserved for the connection
+                    numPoolConnections--;
+                }
+
+                idleConnections.notify();
+            }
+
+            throw se;
+        }
+    }
+
+    /**************************************************************************
+     * Return a secondary connection to the pool
+     * 
+     * @param poolConn
+     *            secondary database connection
+     *************************************************************************/
+    private void releasePoolConnection(Connection poolConn)
+    {
+        synchronized (idleConnections)
+        {
+            // Get the generation of the pool for which the connection was
+            // created
+            Integer generation = connectionGenerations.get(poolConn);
+
+            // Check if the connection is from the currently open pool
+            boolean isCurrentPool = generation != null
+                                    && generation == poolGeneration
+                                    && poolURL != null;
+            boolean isDiscarded = true;
+
+            try
+            {
+                // Check if the connection is from the currently open pool and
+                // is still usable
+                if (isCurrentPool && !poolConn.isClosed())
+                {
+                    // Make the connection available to other callers
+                    idleConnections.push(poolConn);
+                    isDiscarded = false;
+                }
+                // The connection is from a pool that has since been closed, or
+                // the connection failed or was closed (e.g., when its query
+                // was canceled)
+                else
+                {
+                    // Discard the connection and its prepared statements
+                    connectionGenerations.remove(poolConn);
+                    discardStatementCache(poolConn);
+                    poolConn.close();
+                }
+            }
+            catch (SQLException se)
+            {
+                // Ignore the error; the connection is discarded
+                connectionGenerations.remove(poolConn);
+            }
+
+            // Check if a connection counted in the current pool's size was
+            // discarded
+            if (isCurrentPool && isDiscarded)
+            {
+                // Release the connection's slot so that a replacement can be
+                // created
+                numPoolConnections--;
+            }
+
+            idleConnections.notify();
+        }
+    }
+
+    /**************************************************************************
+     * Begin reading from a consistent snapshot of the database. A secondary
+     * connection is reserved for the calling thread, and all of the thread's
+     * subsequent queries are executed in a single read-only transaction on
+     * that connection, so that these see the database as it was when the
+     * first query executed. The table cache is bypassed for the thread; the
+     * tables it loads are instead retained for the duration of the snapshot.
+     * Each successful call must be paired with a call to endSnapshot()
+     * 
+     * @return true if the snapshot is established; false if the calling
+     *         thread owns an active save point, already has a snapshot, or no
+     *         secondary connection is available (in which case the queries
+     *         are executed as usual)
+     *************************************************************************/
+    protected boolean beginSnapshot()
+    {
+        boolean isSnapshot = false;
+
+        // Check if the calling thread can use a secondary connection and
+        // isn't already reading from a snapshot
+        if (isUsePool() && snapshotConnection.get() == null)
+        {
+            Connection poolConn = null;
+
+            try
+            {
+                // Get a connection from the pool
+                poolConn = acquirePoolConnection();
+
+                // Check if a pooled connection is available
+                if (poolConn != null)
+                {
+                    // Start a read-only transaction. The repeatable read
+                    // isolation level makes every query in the transaction
+                    // use the snapshot taken by the first query
+                    poolConn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                    poolConn.setReadOnly(true);
+                    poolConn.setAutoCommit(false);
+
+                    // Reserve the connection for the calling thread
+                    snapshotConnection.set(poolConn);
+                    ccddMain.getTableCacheHandler().beginSnapshot();
+                    isSnapshot = true;
+                }
+            }
+            catch (SQLException se)
+            {
+                // Check if the connection was obtained
+                if (poolConn != null)
+                {
+                    try
+                    {
+                        // Close the connection since its settings are unknown
+                        poolConn.close();
+                    }
+                    catch (SQLException se2)
+                    {
+                        // Ignore the error; the connection is discarded
+                        // regardless
+                    }
+
+                    releasePoolConnection(poolConn);
+                }
+            }
+        }
+
+        return isSnapshot;
+    }
+
+    /**************************************************************************
+     * Stop reading from the database snapshot begun by the calling thread.
+     * The read-only transaction is ended and the secondary connection is
+     * returned to the pool
+     *************************************************************************/
+    protected void endSnapshot()
+    {
+        Connection poolConn = snapshotConnection.get();
+
+        // Check if the calling thread is reading from a snapshot
+        if (poolConn != null)
+        {
+            snapshotConnection.remove();
+            ccddMain.getTableCacheHandler().endSnapshot();
+
+            try
+            {
+                // End the transaction and restore the connection's settings
+                poolConn.rollback();
+                poolConn.setAutoCommit(true);
+                poolConn.setReadOnly(false);
+                poolConn.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            }
+            catch (SQLException se)
+            {
+                try
+                {
+                    // Close the connection since its settings are unknown
+                    poolConn.close();
+                }
+                catch (SQLException se2)
+                {
+                    // Ignore the error; the connection is discarded regardless
+                }
+            }
+
+            // Return the connection to the pool
+            releasePoolConnection(poolConn);
+        }
+    }
+
+    /**************************************************************************
+     * Establish a save point in the database snapshot begun by the calling
+     * thread. A failed command aborts the snapshot's transaction, causing
+     * every subsequent command in it to fail; rolling back to a save point
+     * established prior to the failed command allows the snapshot to continue
+     * to be used. Each save point obtained must be passed to
+     * endSnapshotSavePoint()
+     * 
+     * @return Save point; null if the calling thread isn't reading from a
+     *         snapshot or the save point can't be established
+     *************************************************************************/
+    protected Savepoint setSnapshotSavePoint()
+    {
+        Savepoint savePoint = null;
+        Connection poolConn = snapshotConnection.get();
+
+        // Check if the calling thread is reading from a snapshot
+        if (poolConn != null)
+        {
+            try
+            {
+                // Establish the save point
+                savePoint = poolConn.setSavepoint();
+            }
+            catch (SQLException se)
+            {
+                // Ignore the error; the snapshot is used without the save
+                // point
+            }
+        }
+
+        return savePoint;
+    }
+
+    /**************************************************************************
+     * End a save point in the database snapshot begun by the calling thread.
+     * If a command executed since the save point was established failed then
+     * the snapshot's transaction is rolled back to the save point so that the
+     * snapshot remains usable
+     * 
+     * @param savePoint
+     *            save point returned by setSnapshotSavePoint(); null if none
+     *            was established
+     * 
+     * @return true if a command executed since the save point was established
+     *         failed
+     *************************************************************************/
+    protected boolean endSnapshotSavePoint(Savepoint savePoint)
+    {
+        boolean isFailed = false;
+        Connection poolConn = snapshotConnection.get();
+
+        // Check if the calling thread is reading from a snapshot and the save
+        // point was established
+        if (poolConn != null && savePoint != null)
+        {
+            try
+            {
+                // Release the save point. This fails if the transaction was
+                // aborted by a failed command
+                poolConn.releaseSavepoint(savePoint);
+            }
+            catch (SQLException se)
+            {
+                isFailed = true;
+
+                try
+                {
+                    // Discard the failed command(s) so that the transaction
+                    // can continue
+                    poolConn.rollback(savePoint);
+                }
+                catch (SQLException se2)
+                {
+                    // Ignore the error; the subsequent commands in the
+                    // snapshot fail and are reported by their callers
+                }
+            }
+        }
+
+        return isFailed;
+    }
+
+    /**************************************************************************
+     * Check if the query should be executed using a secondary connection. A
+     * secondary connection is used unless the calling thread owns an active
+     * save point, in which case the query must see the uncommitted changes
+     * made on the primary connection
+     * 
+     * @return true if the query can be executed using a secondary connection
+     *************************************************************************/
+    private boolean isUsePool()
+    {
+        return !isSavePointOwner();
+    }
+
+    /**************************************************************************
+     * Get the number of database commands executed by the calling thread. The
+     * difference between two calls is the number of commands executed between
+     * them
+     * 
+     * @return Number of database commands executed by the calling thread
+     *************************************************************************/
+    protected long getCommandCount()
+    {
+        return commandCount.get()[0];
+    }
+
+    /**************************************************************************
+     * Check if the calling thread owns an active save point
+     * 
+     * @return true if the calling thread enabled creation of a save point and
+     *         it hasn't been disabled
+     *************************************************************************/
+    protected boolean isSavePointOwner()
+    {
+        return savePointOwner == Thread.currentThread();
     }
 
     /**************************************************************************
@@ -121,6 +716,184 @@ public class CcddDbCommandHandler
                                               component);
     }
 
+    /**************************************************************************
+     * Execute a parameterized database query command and log the command to
+     * the session log. A command having parameters is prepared once per
+     * connection and reused on subsequent calls having the same command text,
+     * which eliminates the server's parsing and planning of the command for
+     * each call; a command without parameters is prepared for the call only,
+     * since its text typically varies with the table it references. The
+     * parameter values are supplied separately from the command, so these
+     * don't require delimiting or escaping. The prepared statement remains
+     * in use until the caller closes the result set; a call made while the
+     * statement's result set is open uses a statement prepared for the call
+     * only
+     *
+     * @param command
+     *            SQL query command to execute, with a question mark (?) in
+     *            place of each parameter value
+     * 
+     * @param parameters
+     *            array of parameter values, in the order the parameters appear
+     *            in the command. A String array parameter is supplied to the
+     *            command as a PostgreSQL text array
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *
+     * @return Command results; throws an SQLexception and returns null if no
+     *         connection exists to the server
+     *************************************************************************/
+    protected ResultSet executeDbQuery(String command,
+                                       Object[] parameters,
+                                       Component component) throws SQLException
+    {
+        return (ResultSet) executeDbStatement(DbCommandType.QUERY,
+                                              command,
+                                              parameters,
+                                              component);
+    }
+
+    /**************************************************************************
+     * Execute a database query command and log the command to the session
+     * log. The rows of the results are supplied to the query handler as these
+     * are retrieved, in batches of the specified size, so that the caller can
+     * process the first rows before the remainder are retrieved and needn't
+     * retain every row. If the calling thread owns an active save point or is
+     * reading from a database snapshot then the query is executed as usual
+     * and the rows are supplied once the entire result set is retrieved
+     *
+     * @param command
+     *            SQL query command to execute
+     *
+     * @param fetchSize
+     *            number of rows retrieved from the database at a time
+     *
+     * @param query
+     *            handler for the rows of the query results
+     *
+     * @param component
+     *            GUI component over which to center any error dialog
+     *
+     * @throws SQLException
+     *             If an error occurs executing the query, other than the
+     *             query being canceled
+     *************************************************************************/
+    protected void executeDbCursorQuery(String command,
+                                        int fetchSize,
+                                        CursorQuery query,
+                                        Component component) throws SQLException
+    {
+        Connection poolConn = null;
+
+        // Check if the query can be executed using a secondary connection
+        // that isn't reserved for a snapshot
+        if (isUsePool() && snapshotConnection.get() == null)
+        {
+            // Get a connection from the pool
+            poolConn = acquirePoolConnection();
+        }
+
+        // Check if a pooled connection is available
+        if (poolConn != null)
+        {
+            // Count the command for the calling thread and log the command
+            commandCount.get()[0]++;
+            eventLog.logEvent(COMMAND_MSG, command);
+
+            Statement statement = null;
+
+            try
+            {
+                // The server returns the rows in batches only if the query is
+                // executed within a transaction
+                poolConn.setAutoCommit(false);
+                statement = poolConn.createStatement();
+                statement.setFetchSize(fetchSize);
+
+                // Check if the query isn't canceled
+                if (query.setStatement(statement))
+                {
+                    ResultSet result = statement.executeQuery(command);
+
+                    // Step through each row, stopping if the handler
+                    // indicates no more rows are needed
+                    while (result.next() && query.handleRow(result))
+                    {
+                    }
+                }
+            }
+            catch (SQLException se)
+            {
+                // Check if the error isn't due to the query being canceled
+                if (!query.isCanceled())
+                {
+                    // Re-throw the exception so that the caller can handle it
+                    throw se;
+                }
+            }
+            finally
+            {
+                query.setStatement(null);
+
+                try
+                {
+                    // Check if the statement was created
+                    if (statement != null)
+                    {
+                        // Close the statement
+                        statement.close();
+                    }
+
+                    // End the transaction and restore the connection's
+                    // settings
+                    poolConn.rollback();
+                    poolConn.setAutoCommit(true);
+
+                    // Check if the query was canceled
+                    if (query.isCanceled())
+                    {
+                        // Close the connection so that a cancellation request
+                        // that arrives late can't affect another query
+                        poolConn.close();
+                    }
+                }
+                catch (SQLException se)
+                {
+                    try
+                    {
+                        // Close the connection since its state is unknown
+                        poolConn.close();
+                    }
+                    catch (SQLException se2)
+                    {
+                        // Ignore the error; the connection is discarded
+                        // regardless
+                    }
+                }
+
+                // Return the connection to the pool
+                releasePoolConnection(poolConn);
+            }
+        }
+        // The query must be executed using the primary or snapshot connection
+        else
+        {
+            // Execute the query. The entire result set is retrieved
+            ResultSet result = executeDbQuery(command, component);
+
+            // Step through each row, stopping if the handler indicates no more
+            // rows are needed or the query is canceled
+            while (!query.isCanceled()
+                   && result.next()
+                   && query.handleRow(result))
+            {
+            }
+
+            result.close();
+        }
+    }
+
     /**************************************************************************
      * Execute a database update command and log the command to the session log
      *
@@ -184,99 +957,581 @@ public class CcddDbCommandHandler
                                         String command,
                                         Component component) throws SQLException
     {
-        Object result = null;
+        return executeDbStatement(commandType, command, null, component);
+    }
 
-        // Check if creation of a save point is enabled and a save point hasn't
-        // already been created
-        if (savePointEnabled && !isSavePointCreated)
+    /**************************************************************************
+     * Execute a database statement and log the command to the session log
+     * 
+     * @param commandType
+     *            command type (DbCommandType)
+     * 
+     * @param command
+     *            SQL command to execute
+     * 
+     * @param parameters
+     *            array of parameter values for a parameterized query; null if
+     *            the command isn't parameterized
+     * 
+     * @param component
+     *            GUI component over which to center any error dialog
+     * 
+     * @return Command result (content is dependent on the command type);
+     *         throws an SQLexception and returns null if no connection exists
+     *         to the server
+     *************************************************************************/
+    private Object executeDbStatement(DbCommandType commandType,
+                                      String command,
+                                      Object[] parameters,
+                                      Component component) throws SQLException
+    {
+        // Count the command for the calling thread
+        commandCount.get()[0]++;
+
+        // Check if this is a query that can be executed using a secondary
+        // connection
+        if (commandType == DbCommandType.QUERY && isUsePool())
         {
-            // Execute the command to create a save point
-            statement.execute(SAVE_POINT_COMMAND);
+            // Use the connection reserved for the calling thread's database
+            // snapshot, if any; otherwise get a connection from the pool
+            Connection snapshotConn = snapshotConnection.get();
+            Connection poolConn = snapshotConn != null
+                                                      ? snapshotConn
+                                                      : acquirePoolConnection();
+
+            // Check if a pooled connection is available
+            if (poolConn != null)
+            {
+                // Log the command
+                eventLog.logEvent(COMMAND_MSG,
+                                  getLoggedCommand(command, parameters));
+
+                Statement poolStatement = null;
+
+                try
+                {
+                    // Check if the query is parameterized
+                    if (parameters != null)
+                    {
+                        // Execute the query using the connection's prepared
+                        // statement for this command
+                        return executePreparedQuery(poolConn,
+                                                    command,
+                                                    parameters);
+                    }
 
-            // Log the save point command
-            eventLog.logEvent(COMMAND_MSG, SAVE_POINT_COMMAND);
+                    // Execute the query command using a statement dedicated to
+                    // this caller. The statement is closed when the caller
+                    // closes the result set. The query results are retrieved
+                    // in their entirety, so the connection can be returned to
+                    // the pool immediately
+                    poolStatement = poolConn.createStatement();
+                    ResultSet result = poolStatement.executeQuery(command);
+                    poolStatement.closeOnCompletion();
+                    return result;
+                }
+                catch (SQLException se)
+                {
+                    // Check if the statement was created
+                    if (poolStatement != null)
+                    {
+                        // Close the statement
+                        poolStatement.close();
+                    }
 
-            // Set the flag to indicate the save point command has been created
-            isSavePointCreated = true;
+                    // Re-throw the exception so that the caller can handle it
+                    throw se;
+                }
+                finally
+                {
+                    // Check if the connection isn't reserved for a snapshot
+                    if (poolConn != snapshotConn)
+                    {
+                        // Return the connection to the pool
+                        releasePoolConnection(poolConn);
+                    }
+                }
+            }
         }
 
-        // Log the command
-        eventLog.logEvent(COMMAND_MSG, command);
+        Object result = null;
 
-        // Check if no valid database connection exists
-        if (statement == null)
+        synchronized (primaryLock)
         {
-            throw new SQLException("no database connection");
+            // Check if no valid database connection exists
+            if (connection == null)
+            {
+                // Log the command
+                eventLog.logEvent(COMMAND_MSG, command);
+
+                throw new SQLException("no database connection");
+            }
+
+            // Wait while another thread has a save point enabled. The
+            // thread's changes are uncommitted, so a command executed using
+            // the primary connection would become part of its transaction
+            while (savePointOwner != null
+                   && savePointOwner != Thread.currentThread())
+            {
+                try
+                {
+                    primaryLock.wait();
+                }
+                catch (InterruptedException ie)
+                {
+                    // Restore the interrupt status and abandon the command
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("interrupted while waiting for the database connection");
+                }
+            }
+
+            // Create a statement dedicated to this command so that executing
+            // it doesn't close a result set in use by another caller
+            Statement statement = connection.createStatement();
+
+            // Check if creation of a save point is enabled and a save point
+            // hasn't already been created
+            if (savePointEnabled && !isSavePointCreated)
+            {
+                // Execute the command to create a save point
+                statement.execute(SAVE_POINT_COMMAND);
+
+                // Log the save point command
+                eventLog.logEvent(COMMAND_MSG, SAVE_POINT_COMMAND);
+
+                // Set the flag to indicate the save point command has been
+                // created
+                isSavePointCreated = true;
+            }
+
+            // Log the command
+            eventLog.logEvent(COMMAND_MSG,
+                              getLoggedCommand(command, parameters));
+
+            // Flag indicating if the result set belongs to the statement
+            // created above
+            boolean isStatementResult = false;
+
+            try
+            {
+                switch (commandType)
+                {
+                    case QUERY:
+                        // Check if the query is parameterized
+                        if (parameters != null)
+                        {
+                            // Execute the query using the connection's
+                            // prepared statement for this command
+                            result = executePreparedQuery(connection,
+                                                          command,
+                                                          parameters);
+                        }
+                        // The query isn't parameterized
+                        else
+                        {
+                            // Execute the query command. The statement is
+                            // closed when the caller closes the result set
+                            result = statement.executeQuery(command);
+                            statement.closeOnCompletion();
+                            isStatementResult = true;
+                        }
+
+                        break;
+
+                    case COMMAND:
+                        // Execute the command
+                        result = statement.execute(command);
+                        break;
+
+                    case UPDATE:
+                        // Execute the update command
+                        result = statement.executeUpdate(command);
+                        break;
+                }
+
+                // Check if auto-commit is disabled and a save point isn't
+                // established
+                if (connection.getAutoCommit() == false && !savePointEnabled)
+                {
+                    // Commit the change to the database
+                    connection.commit();
+                }
+
+                // Check if the command can alter the database and the change
+                // is committed
+                if (commandType != DbCommandType.QUERY && !savePointEnabled)
+                {
+                    // Have the table cache reflect the change before it's next
+                    // used
+                    ccddMain.getTableCacheHandler().localChangeCommitted();
+                }
+            }
+            catch (SQLException se)
+            {
+                // Check if a query result set is open
+                if (result instanceof ResultSet)
+                {
+                    // Close the result set so that its statement is closed
+                    // or becomes available for reuse
+                    ((ResultSet) result).close();
+                }
+
+                // Discard the result so that the statement is closed
+                result = null;
+
+                // Check if auto-commit is disabled and a save point isn't
+                // established
+                if (connection.getAutoCommit() == false && !savePointEnabled)
+                {
+                    try
+                    {
+                        // The command failed to complete successfully; revert
+                        // the change to the database
+                        connection.rollback();
+                    }
+                    catch (SQLException se2)
+                    {
+                        // Inform the user that rolling back the changes failed
+                        eventLog.logFailEvent(component,
+                                              "Cannot revert changes project; cause '"
+                                                  + se2.getMessage()
+                                                  + "'",
+                                              "<html><b>Cannot revert changes to project");
+                    }
+                }
+
+                // Re-throw the exception so that the caller can handle it
+                throw se;
+            }
+            finally
+            {
+                // Check if the statement isn't needed by the caller to access
+                // a result set
+                if (result == null || !isStatementResult)
+                {
+                    // Close the statement
+                    statement.close();
+                }
+            }
         }
 
-        try
+        return result;
+    }
+
+    /**************************************************************************
+     * Execute a parameterized query using the specified connection's prepared
+     * statement for the command, preparing the command if it isn't already.
+     * If the connection's statement for the command has a result set that
+     * hasn't been closed then the command is prepared for this query only, so
+     * that executing the query doesn't close the other caller's result set
+     * 
+     * @param conn
+     *            database connection. The calling thread must have exclusive
+     *            use of the connection
+     * 
+     * @param command
+     *            SQL query command to execute, with a question mark (?) in
+     *            place of each parameter value
+     * 
+     * @param parameters
+     *            array of parameter values
+     * 
+     * @return Query results. The prepared statement remains in use until the
+     *         caller closes the result set
+     * 
+     * @throws SQLException
+     *             If an error occurs preparing or executing the query
+     *************************************************************************/
+    @SuppressWarnings("serial")
+    private ResultSet executePreparedQuery(Connection conn,
+                                           String command,
+                                           Object[] parameters) throws SQLException
+    {
+        PreparedStatement statement = null;
+
+        // Check if the command has parameters. Without parameters the command
+        // text varies with any table or column names it contains, so there's
+        // no benefit in keeping the statement for reuse
+        if (parameters.length != 0)
         {
-            switch (commandType)
+            synchronized (statementCache)
             {
-                case QUERY:
-                    // Execute the query command
-                    result = statement.executeQuery(command);
-                    break;
+                // Get the prepared statements for this connection
+                Map<String, PreparedStatement> statements = statementCache.get(conn);
+
+                // Check if no statements have been prepared for this
+                // connection
+                if (statements == null)
+                {
+                    // Create the storage for the connection's prepared
+                    // statements. When the maximum number is reached the least
+                    // recently used statement is discarded
+                    statements = new LinkedHashMap<String, PreparedStatement>(16,
+                                                                              0.75f,
+                                                                              true)
+                    {
+                        /******************************************************
+                         * Close and remove the least recently used statement
+                         * when the maximum number of statements is exceeded.
+                         * A statement with an open result set is closed once
+                         * the caller closes the result set
+                         *****************************************************/
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest)
+                        {
+                            boolean isRemove = size() > MAX_CACHED_STATEMENTS;
+
+                            // Check if the maximum number of statements is
+                            // exceeded
+                            if (isRemove)
+                            {
+                                try
+                                {
+                                    // Check if the statement's result set is
+                                    // in use
+                                    if (isResultOpen(eldest.getValue()))
+                                    {
+                                        // Close the statement when the result
+                                        // set is closed
+                                        eldest.getValue().closeOnCompletion();
+                                    }
+                                    // The statement isn't in use
+                                    else
+                                    {
+                                        // Close the statement
+                                        eldest.getValue().close();
+                                    }
+                                }
+                                catch (SQLException se)
+                                {
+                                    // Ignore the error; the statement is
+                                    // discarded regardless
+                                }
+                            }
 
-                case COMMAND:
-                    // Execute the command
-                    result = statement.execute(command);
-                    break;
+                            return isRemove;
+                        }
+                    };
 
-                case UPDATE:
-                    // Execute the update command
-                    result = statement.executeUpdate(command);
-                    break;
+                    statementCache.put(conn, statements);
+                }
+
+                // Get the prepared statement for this command
+                statement = statements.get(command);
+
+                // Check if the command hasn't been prepared for this
+                // connection
+                if (statement == null || statement.isClosed())
+                {
+                    // Prepare the command and store it for reuse
+                    statement = conn.prepareStatement(command);
+                    statements.put(command, statement);
+                }
+                // Check if the statement's result set is still in use
+                else if (isResultOpen(statement))
+                {
+                    // Prepare the command for this query only
+                    statement = null;
+                }
             }
+        }
+
+        boolean isStored = statement != null;
 
-            // Check if auto-commit is disabled and a save point isn't
-            // established
-            if (connection.getAutoCommit() == false && !savePointEnabled)
+        // Check if the command isn't using a stored statement
+        if (!isStored)
+        {
+            // Prepare the command for this query only. The statement is closed
+            // when the caller closes the result set
+            statement = conn.prepareStatement(command);
+            statement.closeOnCompletion();
+        }
+
+        try
+        {
+            // Step through each parameter value
+            for (int index = 0; index < parameters.length; index++)
             {
-                // Commit the change to the database
-                connection.commit();
+                // Check if the parameter is an array of strings
+                if (parameters[index] instanceof String[])
+                {
+                    // Supply the array as a PostgreSQL text array
+                    statement.setArray(index + 1,
+                                       conn.createArrayOf("text",
+                                                          (String[]) parameters[index]));
+                }
+                // The parameter is a single value
+                else
+                {
+                    statement.setObject(index + 1, parameters[index]);
+                }
             }
+
+            return statement.executeQuery();
         }
         catch (SQLException se)
         {
-            // Check if auto-commit is disabled and a save point isn't
-            // established
-            if (connection.getAutoCommit() == false && !savePointEnabled)
+            // Check if the statement was prepared for this query only
+            if (!isStored)
             {
-                try
-                {
-                    // The command failed to complete successfully; revert the
-                    // change to the database
-                    connection.rollback();
-                }
-                catch (SQLException se2)
+                // Close the statement since no result set exists to close it
+                statement.close();
+            }
+
+            throw se;
+        }
+    }
+
+    /**************************************************************************
+     * Check if the specified statement has a result set that hasn't been
+     * closed
+     * 
+     * @param statement
+     *            statement to check
+     * 
+     * @return true if the statement's result set is open
+     * 
+     * @throws SQLException
+     *             If the statement is closed
+     *************************************************************************/
+    private boolean isResultOpen(Statement statement) throws SQLException
+    {
+        ResultSet resultSet = statement.getResultSet();
+
+        return resultSet != null && !resultSet.isClosed();
+    }
+
+    /**************************************************************************
+     * Close and discard the prepared statements for the specified connection
+     * 
+     * @param conn
+     *            database connection; null if none
+     *************************************************************************/
+    private void discardStatementCache(Connection conn)
+    {
+        synchronized (statementCache)
+        {
+            // Remove the connection's prepared statements
+            Map<String, PreparedStatement> statements = statementCache.remove(conn);
+
+            // Check if any statements were prepared for the connection
+            if (statements != null)
+            {
+                // Step through each prepared statement
+                for (PreparedStatement statement : statements.values())
                 {
-                    // Inform the user that rolling back the changes failed
-                    eventLog.logFailEvent(component,
-                                          "Cannot revert changes project; cause '"
-                                              + se2.getMessage()
-                                              + "'",
-                                          "<html><b>Cannot revert changes to project");
+                    try
+                    {
+                        // Close the statement
+                        statement.close();
+                    }
+                    catch (SQLException se)
+                    {
+                        // Ignore the error; the statement is discarded
+                        // regardless
+                    }
                 }
             }
+        }
+    }
+
+    /**************************************************************************
+     * Get the text of a command as logged to the session log. For a
+     * parameterized command the parameter values are appended
+     * 
+     * @param command
+     *            SQL command
+     * 
+     * @param parameters
+     *            array of parameter values; null if the command isn't
+     *            parameterized
+     * 
+     * @return Command text as logged to the session log
+     *************************************************************************/
+    private String getLoggedCommand(String command, Object[] parameters)
+    {
+        String loggedCommand = command;
+
+        // Check if the command is parameterized
+        if (parameters != null && parameters.length != 0)
+        {
+            loggedCommand += " [";
+
+            // Step through each parameter value
+            for (Object parameter : parameters)
+            {
+                // Append the parameter value to the command text
+                loggedCommand += (parameter instanceof String[]
+                                                                ? Arrays.toString((String[]) parameter)
+                                                                : String.valueOf(parameter))
+                                 + "; ";
+            }
 
-            // Re-throw the exception so that the caller can handle it
-            throw new SQLException(se.getMessage());
+            loggedCommand = CcddUtilities.removeTrailer(loggedCommand, "; ") + "]";
         }
 
-        return result;
+        return loggedCommand;
     }
 
     /**************************************************************************
-     * Enable or disable creation of a save point prior to a transaction
+     * Enable or disable creation of a save point prior to a transaction. While
+     * enabled, queries made by the thread that enabled the save point are
+     * executed using the primary connection so that the uncommitted changes
+     * are visible to it. Other threads' commands that use the primary
+     * connection wait until the save point is disabled, so that these don't
+     * become part of the uncommitted transaction
      * 
      * @param enable
      *            true to enable creating a save point
      *************************************************************************/
     protected void setSavePointEnable(boolean enable)
     {
-        savePointEnabled = enable;
-        isSavePointCreated = false;
+        boolean isInterrupted = false;
+
+        synchronized (primaryLock)
+        {
+            // Wait while another thread has a save point enabled. Only one
+            // transaction can be in progress on the primary connection
+            while (enable
+                   && savePointOwner != null
+                   && savePointOwner != Thread.currentThread())
+            {
+                try
+                {
+                    primaryLock.wait();
+                }
+                catch (InterruptedException ie)
+                {
+                    // Continue waiting; the interrupt status is restored
+                    // afterwards
+                    isInterrupted = true;
+                }
+            }
+
+            // Check if a save point is being disabled after it was created.
+            // The changes made under the save point have been committed or
+            // reverted
+            if (!enable && isSavePointCreated)
+            {
+                // Have the table cache reflect any committed changes before
+                // it's next used
+                ccddMain.getTableCacheHandler().localChangeCommitted();
+            }
+
+            savePointEnabled = enable;
+            isSavePointCreated = false;
+            savePointOwner = enable ? Thread.currentThread() : null;
+
+            // Wake any threads waiting for the save point to be disabled
+            primaryLock.notifyAll();
+        }
+
+        // Check if the thread was interrupted while waiting
+        if (isInterrupted)
+        {
+            // Restore the interrupt status
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**************************************************************************
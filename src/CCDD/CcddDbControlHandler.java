@@ -22,6 +22,7 @@ import static CCDD.CcddConstants.POSTGRESQL_SERVER_HOST;
 import static CCDD.CcddConstants.POSTGRESQL_SERVER_PORT;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
 import static CCDD.CcddConstants.USER;
+import static CCDD.CcddConstants.VALUES_PARENT_INDEX;
 import static CCDD.CcddConstants.ConnectionType.NO_CONNECTION;
 import static CCDD.CcddConstants.ConnectionType.TO_DATABASE;
 import static CCDD.CcddConstants.ConnectionType.TO_SERVER_ONLY;
@@ -894,6 +895,214 @@ public class CcddDbControlHandler
         });
     }
 
+    /**************************************************************************
+     * Build the command to add the change notification trigger to the
+     * specified table. The trigger notifies listeners when the table's
+     * contents are altered so that any cached information derived from the
+     * table can be discarded
+     * 
+     * @param tableName
+     *            name of the table
+     * 
+     * @return Command to add the change notification trigger to the table
+     *************************************************************************/
+    protected String buildChangeNotifyCommand(String tableName)
+    {
+        return "DROP TRIGGER IF EXISTS "
+               + CcddTableCacheHandler.CHANGE_CHANNEL
+               + " ON "
+               + tableName
+               + "; CREATE TRIGGER "
+               + CcddTableCacheHandler.CHANGE_CHANNEL
+               + " AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON "
+               + tableName
+               + " FOR EACH STATEMENT EXECUTE PROCEDURE notify_table_change(); ";
+    }
+
+    /**************************************************************************
+     * Build the command to notify listeners that one or more tables were
+     * renamed or deleted. These changes don't alter a table's contents, so
+     * they aren't reported by the change notification trigger. The
+     * notification is delivered only if the transaction containing the
+     * command is committed
+     * 
+     * @param change
+     *            change indicator (CcddTableCacheHandler.TABLE_RENAMED or
+     *            CcddTableCacheHandler.TABLE_DELETED)
+     * 
+     * @param tableNames
+     *            name(s) of the affected table(s), as used in the database.
+     *            For a renamed table these are the old and new names
+     * 
+     * @return Command to send the change notification
+     *************************************************************************/
+    protected String buildChangeEventCommand(String change, String... tableNames)
+    {
+        String payload = change;
+
+        // Step through each table name
+        for (String tableName : tableNames)
+        {
+            // Append the table name to the payload
+            payload += CcddTableCacheHandler.CHANGE_SEPARATOR
+                       + tableName.toLowerCase();
+        }
+
+        return "NOTIFY "
+               + CcddTableCacheHandler.CHANGE_CHANNEL
+               + ", '"
+               + payload
+               + "'; ";
+    }
+
+    /**************************************************************************
+     * Add the change notification trigger to every data table, internal
+     * table, and script table that doesn't already have the trigger. Tables
+     * having the trigger are left untouched so that these aren't locked while
+     * the trigger is replaced. Failure to create the triggers isn't treated as
+     * an error since the tables remain usable; changes to the tables made
+     * outside of the application then aren't detected by the table cache
+     *************************************************************************/
+    private void createChangeNotifyTriggers()
+    {
+        StringBuilder command = new StringBuilder();
+        List<String> triggerTables = new ArrayList<String>();
+
+        try
+        {
+            // Get the names of the tables that already have the change
+            // notification trigger
+            ResultSet triggers = dbCommand.executeDbQuery("SELECT c.relname FROM "
+                                                          + "pg_trigger AS t JOIN pg_class AS c "
+                                                          + "ON t.tgrelid = c.oid WHERE t.tgname = '"
+                                                          + CcddTableCacheHandler.CHANGE_CHANNEL
+                                                          + "';",
+                                                          ccddMain.getMainFrame());
+
+            // Step through each table having the trigger
+            while (triggers.next())
+            {
+                // Store the table name
+                triggerTables.add(triggers.getString(1));
+            }
+
+            triggers.close();
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that checking for the triggers failed
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Cannot obtain table change triggers; cause '"
+                                      + se.getMessage()
+                                      + "'",
+                                  "<html><b>Cannot obtain table change triggers");
+            return;
+        }
+
+        // Step through each data table
+        for (String tableName : dbCommand.getList(DatabaseListCommand.DATA_TABLES,
+                                                  null,
+                                                  ccddMain.getMainFrame()))
+        {
+            // Check if the table doesn't have the trigger
+            if (!triggerTables.contains(tableName.toLowerCase()))
+            {
+                // Add the trigger command for the table
+                command.append(buildChangeNotifyCommand(tableName.toLowerCase()));
+            }
+        }
+
+        // Step through the internal tables
+        for (InternalTable intTable : InternalTable.values())
+        {
+            // Check if this isn't the script table identifier (the script
+            // tables are added below) and the table doesn't have the trigger
+            if (intTable != InternalTable.SCRIPT
+                && !triggerTables.contains(intTable.getTableName()))
+            {
+                // Add the trigger command for the table
+                command.append(buildChangeNotifyCommand(intTable.getTableName()));
+            }
+        }
+
+        // Step through each script table
+        for (String scriptComment : dbCommand.getList(DatabaseListCommand.SCRIPTS,
+                                                      null,
+                                                      ccddMain.getMainFrame()))
+        {
+            String scriptTable = InternalTable.SCRIPT.getTableName(scriptComment);
+
+            // Check if the script table doesn't have the trigger
+            if (!triggerTables.contains(scriptTable))
+            {
+                // Add the trigger command for the table
+                command.append(buildChangeNotifyCommand(scriptTable));
+            }
+        }
+
+        // Check if every table already has the trigger
+        if (command.length() == 0)
+        {
+            return;
+        }
+
+        try
+        {
+            // Add the triggers to the tables
+            dbCommand.executeDbCommand(command.toString(),
+                                       ccddMain.getMainFrame());
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that adding the triggers failed
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Cannot create table change triggers; cause '"
+                                      + se.getMessage()
+                                      + "'",
+                                  "<html><b>Cannot create table change triggers");
+        }
+    }
+
+    /**************************************************************************
+     * Add the parent path index to the custom values table if the table
+     * doesn't already have it (the index isn't present in databases created
+     * before it was introduced). Failure to create the index isn't treated as
+     * an error since the table remains usable; loading instance tables'
+     * custom values then requires a full scan of the table
+     *************************************************************************/
+    private void createValuesParentIndex()
+    {
+        try
+        {
+            // Check if the custom values table has the parent path index
+            ResultSet index = dbCommand.executeDbQuery("SELECT 1 FROM pg_class WHERE relname = '"
+                                                       + VALUES_PARENT_INDEX
+                                                       + "' AND relkind = 'i' AND "
+                                                       + "pg_table_is_visible(oid);",
+                                                       ccddMain.getMainFrame());
+            boolean isIndexed = index.next();
+            index.close();
+
+            // Check if the index doesn't exist
+            if (!isIndexed)
+            {
+                // Add the index to the custom values table
+                dbCommand.executeDbCommand(InternalTable.VALUES.getInitCommand()
+                                           + ";",
+                                           ccddMain.getMainFrame());
+            }
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that adding the index failed
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Cannot create custom values table index; cause '"
+                                      + se.getMessage()
+                                      + "'",
+                                  "<html><b>Cannot create custom values table index");
+        }
+    }
+
     /**************************************************************************
      * Create the reusable database functions and default tables. This does not
      * include the default column functions
@@ -953,6 +1162,25 @@ public class CcddDbControlHandler
                 }
             }
 
+            // Add the parent path index to the custom values table if it
+            // predates the index
+            createValuesParentIndex();
+
+            // Create function to notify listeners that a table changed. The
+            // notification payload is the name of the changed table
+            dbCommand.executeDbCommand("CREATE OR REPLACE FUNCTION notify_table_change() "
+                                       + "RETURNS trigger AS $$ BEGIN PERFORM pg_notify('"
+                                       + CcddTableCacheHandler.CHANGE_CHANNEL
+                                       + "', TG_TABLE_NAME); RETURN NULL; END; $$ "
+                                       + "LANGUAGE plpgsql; "
+                                       + buildOwnerCommand(DatabaseObject.FUNCTION,
+                                                           "notify_table_change()"),
+                                       ccddMain.getMainFrame());
+
+            // Add the change notification trigger to the data tables and to
+            // the internal tables that affect the loaded table information
+            createChangeNotifyTriggers();
+
             // Create function to search all tables for the input text with
             // case sensitivity determined by an input flag. A second flag
             // determines if the search string is treated as a literal string
@@ -1625,7 +1853,6 @@ public class CcddDbControlHandler
             connection = DriverManager.getConnection(getDatabaseURL(databaseName),
                                                      activeUser,
                                                      activePassword);
-            dbCommand.setStatement(connection.createStatement());
 
             // Reset the flag that indicates a connection failure occurred due
             // to a missing password
@@ -1643,6 +1870,23 @@ public class CcddDbControlHandler
             // Store the database connection
             dbCommand.setConnection(connection);
 
+            // Open the pool of secondary connections used to execute
+            // read-only queries in parallel with the primary connection
+            dbCommand.openConnectionPool(getDatabaseURL(databaseName),
+                                         activeUser,
+                                         activePassword);
+
+            // Check if a project database is selected
+            if (!databaseName.equals(DEFAULT_DATABASE))
+            {
+                // Listen for changes to the project database so that the
+                // cached table information can be discarded when the tables
+                // are altered
+                ccddMain.getTableCacheHandler().startListener(getDatabaseURL(databaseName),
+                                                              activeUser,
+                                                              activePassword);
+            }
+
             // Save the name of the newly connected database
             activeDatabase = databaseName;
 
@@ -2353,7 +2597,10 @@ public class CcddDbControlHandler
                     }
                 }
 
-                // Close the database
+                // Stop listening for database changes, then close the
+                // secondary connections and the database
+                ccddMain.getTableCacheHandler().stopListener();
+                dbCommand.closeConnectionPool();
                 connection.close();
 
                 // Inform the user that closing the database succeeded and
@@ -19,6 +19,7 @@ import static CCDD.CcddConstants.TLM_SCH_SEPARATOR;
 import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_OTHER;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
+import static CCDD.CcddConstants.VALUES_PARENT_PATH;
 import static CCDD.CcddConstants.EventLogMessageType.SUCCESS_MSG;
 
 import java.awt.Component;
@@ -28,7 +29,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
@@ -92,6 +97,21 @@ public class CcddDbTableCommandHandler
     // be used in a PostgrSQL command
     private final String assnsSeparator;
     private final String tlmSchSeparator;
+    private final CcddTableCacheHandler tableCache;
+
+    // Data field handler containing every data field in the project, the
+    // table cache generation at which its fields were loaded, and the lock
+    // used to coordinate access to it
+    private CcddFieldHandler projectFieldHandler;
+    private long projectFieldGeneration;
+    private final Object projectFieldLock = new Object();
+
+    // Maximum number of tables referenced by a single query when loading
+    // multiple tables
+    private static final int MAX_TABLES_PER_QUERY = 100;
+
+    // Name of the column containing the table name in a multiple table query
+    private static final String BULK_TABLE_NAME = "ccdd_table_name";
 
     /**************************************************************************
      * Database table command handler class constructor
@@ -106,6 +126,7 @@ public class CcddDbTableCommandHandler
         // Create references to shorten subsequent calls
         dbCommand = ccddMain.getDbCommandHandler();
         dbControl = ccddMain.getDbControlHandler();
+        tableCache = ccddMain.getTableCacheHandler();
         eventLog = ccddMain.getSessionEventLog();
 
         // Escape any special characters in the script associations and
@@ -187,9 +208,32 @@ public class CcddDbTableCommandHandler
      *************************************************************************/
     protected boolean isTableExists(String tableName, Component parent)
     {
-        return dbCommand.getList(DatabaseListCommand.SPECIFIC_TABLE,
-                                 new String[][] {{"_table_name_", tableName}},
-                                 parent).length != 0;
+        boolean isExists = false;
+
+        try
+        {
+            // Check if the table is in the list of tables
+            ResultSet tables = dbCommand.executeDbQuery("SELECT 1 FROM pg_tables WHERE lower(tablename) = lower(?);",
+                                                        new Object[] {tableName},
+                                                        parent);
+            isExists = tables.next();
+            tables.close();
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that checking for the table failed
+            eventLog.logFailEvent(parent,
+                                  "Cannot verify existence of table '"
+                                      + tableName
+                                      + "'; cause '"
+                                      + se.getMessage()
+                                      + "'",
+                                  "<html><b>Cannot verify existence of table '</b>"
+                                      + tableName
+                                      + "<b>'");
+        }
+
+        return isExists;
     }
 
     /**************************************************************************
@@ -648,9 +692,9 @@ public class CcddDbTableCommandHandler
         try
         {
             // Get the table's comment
-            ResultSet comment = dbCommand.executeDbQuery("SELECT obj_description('public."
-                                                         + tableName.toLowerCase()
-                                                         + "'::regclass, 'pg_class');",
+            ResultSet comment = dbCommand.executeDbQuery("SELECT obj_description(?::regclass, 'pg_class');",
+                                                         new Object[] {"public."
+                                                                       + tableName.toLowerCase()},
                                                          parent);
 
             // Get the comment string from the result set
@@ -791,11 +835,10 @@ public class CcddDbTableCommandHandler
                                                           + InternalTable.VALUES.getTableName()
                                                           + " WHERE "
                                                           + ValuesColumn.TABLE_PATH.getColumnName()
-                                                          + " = '"
-                                                          + tablePath
-                                                          + "' AND "
+                                                          + " = ? AND "
                                                           + ValuesColumn.COLUMN_NAME.getColumnName()
                                                           + " = '';",
+                                                          new Object[] {tablePath},
                                                           parent);
 
             // Check if the description exists for this table
@@ -868,13 +911,11 @@ public class CcddDbTableCommandHandler
                                                            + InternalTable.ORDERS.getTableName()
                                                            + " WHERE "
                                                            + OrdersColumn.USER_NAME.getColumnName()
-                                                           + " = '"
-                                                           + dbControl.getUser()
-                                                           + "' AND "
+                                                           + " = ? AND "
                                                            + OrdersColumn.TABLE_PATH.getColumnName()
-                                                           + " = '"
-                                                           + tablePath
-                                                           + "';",
+                                                           + " = ?;",
+                                                           new Object[] {dbControl.getUser(),
+                                                                         tablePath},
                                                            parent);
 
             // Check if the column order exists for this table
@@ -1204,13 +1245,14 @@ public class CcddDbTableCommandHandler
                        + buildColumnOrder(tableName,
                                           tableTypeHandler.getDefaultColumnOrder(tableType)));
 
-        // Copy the default fields for the new table's type to the new table
-        // and set the table's owner
+        // Copy the default fields for the new table's type to the new table,
+        // set the table's owner, and add the change notification trigger
         command.append(copyDataFieldCommand(CcddFieldHandler.getFieldTypeName(tableType),
                                             tableName,
                                             parent)
                        + dbControl.buildOwnerCommand(DatabaseObject.TABLE,
-                                                     tableName));
+                                                     tableName)
+                       + dbControl.buildChangeNotifyCommand(dbTableName));
 
         return command.toString();
     }
@@ -1325,6 +1367,16 @@ public class CcddDbTableCommandHandler
                                + newName
                                + "');";
 
+                    // Check that the old and new names differ in more than
+                    // capitalization
+                    if (!dbTableName.equals(dbNewName))
+                    {
+                        // Notify listeners that the table was renamed
+                        command += dbControl.buildChangeEventCommand(CcddTableCacheHandler.TABLE_RENAMED,
+                                                                     dbTableName,
+                                                                     dbNewName);
+                    }
+
                     // Execute the command to change the table's name,
                     // including the table's original name (before conversion
                     // to all lower case) that's stored as a comment
@@ -1514,7 +1566,8 @@ public class CcddDbTableCommandHandler
                                      + dbControl.buildOwnerCommand(DatabaseObject.TABLE,
                                                                    dbNewName)
                                      + dbControl.buildOwnerCommand(DatabaseObject.SEQUENCE,
-                                                                   sequenceName);
+                                                                   sequenceName)
+                                     + dbControl.buildChangeNotifyCommand(dbNewName);
 
                     // Update the table comment to reflect the name with case
                     // intact, and create the commands to duplicate the
@@ -1686,7 +1739,7 @@ public class CcddDbTableCommandHandler
             {
                 // Execute the command to reset the rate for links that no
                 // longer contain any variables
-                dbCommand.executeDbQuery("SELECT reset_link_rate();", parent);
+                dbCommand.executeDbCommand("SELECT reset_link_rate();", parent);
             }
 
             // Log that the table deletion succeeded
@@ -1727,12 +1780,17 @@ public class CcddDbTableCommandHandler
     {
         // Build the table deletion commands
         String command = "DROP TABLE IF EXISTS ";
+        String notifyCmd = "";
 
         // Step through the array of table names
         for (String name : tableNames)
         {
             // Add the table to the commands
             command += name + ", ";
+
+            // Build the command to notify listeners that the table was deleted
+            notifyCmd += dbControl.buildChangeEventCommand(CcddTableCacheHandler.TABLE_DELETED,
+                                                           name);
         }
 
         command = CcddUtilities.removeTrailer(command, ", ") + " CASCADE";
@@ -1843,7 +1901,10 @@ public class CcddDbTableCommandHandler
                        + assnsUpdCmd;
         }
 
-        return command + ";";
+        return command
+               + "; "
+               + CcddUtilities.removeTrailer(notifyCmd, "; ")
+               + ";";
     }
 
     /**************************************************************************
@@ -2102,8 +2163,28 @@ public class CcddDbTableCommandHandler
         // the database commands in the event log
         String dbTableName = tableName.toLowerCase();
 
+        // Get the table's data field information if requested
+        List<FieldInformation> fieldInfo = loadFieldInfo
+                                                        ? getProjectFieldHandler(parent).getFieldInformationByOwnerCopy(tablePath)
+                                                        : null;
+
+        // Get the cache generation prior to loading the table, then get the
+        // table's information from the cache if it's present
+        long generation = tableCache.getGeneration();
+        TableInformation cachedInfo = tableCache.getTable(tablePath,
+                                                          isParentStructure,
+                                                          loadDescription,
+                                                          loadColumnOrder,
+                                                          fieldInfo);
+
+        // Check if the table's information is cached
+        if (cachedInfo != null)
+        {
+            // Use the cached table information
+            tableInfo = cachedInfo;
+        }
         // Check if the table exists in the database
-        if (isTableExists(dbTableName, parent))
+        else if (isTableExists(dbTableName, parent))
         {
             try
             {
@@ -2173,10 +2254,7 @@ public class CcddDbTableCommandHandler
                                                                                          parent)
                                                                  : ""),
                                                  isParentStructure,
-                                                 (loadFieldInfo
-                                                               ? retrieveInformationTable(InternalTable.FIELDS,
-                                                                                          parent).toArray(new String[0][0])
-                                                               : null));
+                                                 fieldInfo);
 
                 // Get the index of the variable name and data type columns
                 int varNameIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
@@ -2189,13 +2267,6 @@ public class CcddDbTableCommandHandler
                     && dataTypeIndex != -1
                     && tablePath.contains(","))
                 {
-                    // Place double back slashes before each square brace
-                    // character in an array index so that the brackets are
-                    // interpreted correctly in the query's regular
-                    // expression comparisons
-                    tablePath = tablePath.replaceAll("\\[(\\d+)\\]",
-                                                     "\\\\\\\\[$1\\\\\\\\]");
-
                     // Get the rows from the custom values table that match
                     // the specified parent table and variable path. These
                     // values replace those loaded for the prototype of
@@ -2203,59 +2274,32 @@ public class CcddDbTableCommandHandler
                     rowData = dbCommand.executeDbQuery("SELECT * FROM "
                                                        + InternalTable.VALUES.getTableName()
                                                        + " WHERE "
-                                                       + ValuesColumn.TABLE_PATH.getColumnName()
-                                                       + " ~ E'^"
-                                                       + tablePath
-                                                       + ",[^,]+$' AND "
+                                                       + VALUES_PARENT_PATH
+                                                       + " = ? AND "
                                                        + ValuesColumn.COLUMN_NAME.getColumnName()
                                                        + " != '';",
+                                                       new Object[] {tablePath},
                                                        parent);
 
                     // Step through each of the query results
                     while (rowData.next())
                     {
-                        // Get the variable name that will have its value
-                        // replaced
-                        String variableName = rowData.getString(ValuesColumn.TABLE_PATH.getColumnName());
-
-                        // Get the index of the last data type/variable name
-                        // separator character (if present)
-                        int varIndex = variableName.lastIndexOf(".");
-
-                        // Check if a variable name exists
-                        if (varIndex != -1)
-                        {
-                            // Get the row index for the referenced variable
-                            int row = typeDefn.getRowIndexByColumnValue(tableInfo.getData(),
-                                                                        variableName.substring(varIndex + 1),
-                                                                        varNameIndex);
-
-                            // Check if the table contains the variable and if
-                            // the data type of the variable in the table
-                            // matches the data type in the path from the
-                            // custom values table
-                            if (row != -1
-                                && tableInfo.getData()[row][dataTypeIndex].equals(variableName.subSequence(variableName.lastIndexOf(",")
-                                                                                                           + 1,
-                                                                                                           varIndex)))
-                            {
-                                // Get the index of the column that will have
-                                // its data replaced
-                                int column = typeDefn.getColumnIndexByUserName(rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()));
-
-                                // Check if the table contains the column
-                                if (column != -1)
-                                {
-                                    // Replace the value in the table with the
-                                    // one from the custom values table
-                                    tableInfo.getData()[row][column] = rowData.getString(ValuesColumn.VALUE.getColumnName());
-                                }
-                            }
-                        }
+                        // Replace the value in the table with the one from
+                        // the custom values table
+                        setCustomValue(tableInfo,
+                                       rowData.getString(ValuesColumn.TABLE_PATH.getColumnName()),
+                                       rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
+                                       rowData.getString(ValuesColumn.VALUE.getColumnName()));
                     }
 
                     rowData.close();
                 }
+
+                // Store the table's information in the cache
+                tableCache.putTable(tableInfo,
+                                    loadDescription,
+                                    loadColumnOrder,
+                                    generation);
             }
             catch (SQLException se)
             {
@@ -2281,6 +2325,761 @@ public class CcddDbTableCommandHandler
         return tableInfo;
     }
 
+    /**************************************************************************
+     * Get the data field handler containing the information for every data
+     * field in the project, indexed by owner. The fields are loaded from the
+     * database once and reused until the table cache indicates that the
+     * database has changed. If the table cache isn't in use then the fields
+     * are loaded for each call
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return Data field handler containing the project's data field
+     *         information
+     *************************************************************************/
+    protected CcddFieldHandler getProjectFieldHandler(Component parent)
+    {
+        CcddFieldHandler fieldHandler;
+
+        synchronized (projectFieldLock)
+        {
+            // Get the cache generation prior to loading the fields
+            long generation = tableCache.getGeneration();
+
+            // Check if the table cache isn't in use, in which case changes to
+            // the fields can't be detected
+            if (!tableCache.isEnabled())
+            {
+                // Load the fields from the database
+                fieldHandler = new CcddFieldHandler(ccddMain, null, parent);
+            }
+            // Check if the fields haven't been loaded or have changed since
+            // these were loaded
+            else if (projectFieldHandler == null
+                     || projectFieldGeneration != generation)
+            {
+                // Load the fields from the database and store these for reuse
+                fieldHandler = new CcddFieldHandler(ccddMain, null, parent);
+                projectFieldHandler = fieldHandler;
+                projectFieldGeneration = generation;
+            }
+            // The loaded fields are current
+            else
+            {
+                // Use the previously loaded fields
+                fieldHandler = projectFieldHandler;
+            }
+        }
+
+        return fieldHandler;
+    }
+
+    /**************************************************************************
+     * Perform the database queries to load the contents of the specified
+     * database tables. Unlike loading each table individually, the tables are
+     * loaded using a small number of set-based queries: one for the table
+     * comments, one per table type (per block of prototypes) for the table
+     * data, and one each for the custom values, descriptions, and column
+     * orders. Each prototype's data is read once regardless of the number of
+     * its instances in the list, and the custom values are applied to the
+     * instance tables in memory. The data in each table is sorted in
+     * ascending numerical order based on the index (primary key) column
+     * 
+     * @param tablePaths
+     *            list of table paths, each in the format
+     *            rootTable[,dataType1.variable1[,dataType2 .variable2[,...]]]
+     * 
+     * @param rootStructures
+     *            list of root structure table names, used to set the parent
+     *            structure flag for each table; null if the flag isn't needed
+     * 
+     * @param loadDescription
+     *            true to load the tables' descriptions
+     * 
+     * @param loadColumnOrder
+     *            true to load the tables' column orders
+     * 
+     * @param loadFieldInfo
+     *            true to retrieve the data field information to include with
+     *            the table information; false to not load the field
+     *            information
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return List of TableInformation classes containing the table data from
+     *         the database, in the same order as the supplied table paths. If
+     *         the error flag is set for a table then an error occurred and the
+     *         data for that table is invalid
+     *************************************************************************/
+    protected List<TableInformation> loadTableData(List<String> tablePaths,
+                                                   List<String> rootStructures,
+                                                   boolean loadDescription,
+                                                   boolean loadColumnOrder,
+                                                   boolean loadFieldInfo,
+                                                   Component parent)
+    {
+        List<TableInformation> tableInformation = new ArrayList<TableInformation>(tablePaths.size());
+        List<String> uncachedPaths = new ArrayList<String>();
+
+        // Get the data field information for the project, indexed by owner,
+        // if the field information is requested
+        CcddFieldHandler fieldHandler = loadFieldInfo
+                                                     ? getProjectFieldHandler(parent)
+                                                     : null;
+
+        // Get the cache generation prior to loading the tables
+        long generation = tableCache.getGeneration();
+
+        // Step through each table path
+        for (String tablePath : tablePaths)
+        {
+            // Get the table's information from the cache if it's present
+            TableInformation tableInfo = tableCache.getTable(tablePath,
+                                                             rootStructures != null
+                                                                 && rootStructures.contains(TableInformation.getProtoVariableName(tablePath)),
+                                                             loadDescription,
+                                                             loadColumnOrder,
+                                                             fieldHandler != null
+                                                                                  ? fieldHandler.getFieldInformationByOwnerCopy(tablePath)
+                                                                                  : null);
+            tableInformation.add(tableInfo);
+
+            // Check if the table isn't cached
+            if (tableInfo == null)
+            {
+                // Add the table to the list of those to load from the
+                // database
+                uncachedPaths.add(tablePath);
+            }
+        }
+
+        // Check if any of the tables aren't cached
+        if (!uncachedPaths.isEmpty())
+        {
+            // Load the tables that aren't cached
+            Iterator<TableInformation> loadedTables = loadUncachedTableData(uncachedPaths,
+                                                                            rootStructures,
+                                                                            loadDescription,
+                                                                            loadColumnOrder,
+                                                                            fieldHandler,
+                                                                            parent).iterator();
+
+            // Step through each table
+            for (int index = 0; index < tableInformation.size(); index++)
+            {
+                // Check if the table wasn't cached
+                if (tableInformation.get(index) == null)
+                {
+                    // Store the loaded table's information in the list and in
+                    // the cache
+                    TableInformation tableInfo = loadedTables.next();
+                    tableInformation.set(index, tableInfo);
+                    tableCache.putTable(tableInfo,
+                                        loadDescription,
+                                        loadColumnOrder,
+                                        generation);
+                }
+            }
+        }
+
+        return tableInformation;
+    }
+
+    /**************************************************************************
+     * Perform the set-based database queries to load the contents of the
+     * specified database tables
+     * 
+     * @param tablePaths
+     *            list of table paths, each in the format
+     *            rootTable[,dataType1.variable1[,dataType2 .variable2[,...]]]
+     * 
+     * @param rootStructures
+     *            list of root structure table names, used to set the parent
+     *            structure flag for each table; null if the flag isn't needed
+     * 
+     * @param loadDescription
+     *            true to load the tables' descriptions
+     * 
+     * @param loadColumnOrder
+     *            true to load the tables' column orders
+     * 
+     * @param fieldHandler
+     *            data field handler containing the project's data field
+     *            information; null if the field information isn't requested
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return List of TableInformation classes containing the table data from
+     *         the database, in the same order as the supplied table paths
+     *************************************************************************/
+    private List<TableInformation> loadUncachedTableData(List<String> tablePaths,
+                                                         List<String> rootStructures,
+                                                         boolean loadDescription,
+                                                         boolean loadColumnOrder,
+                                                         CcddFieldHandler fieldHandler,
+                                                         Component parent)
+    {
+        List<TableInformation> tableInformation = new ArrayList<TableInformation>(tablePaths.size());
+
+        try
+        {
+            // Get the comments for every data table, which contain the table
+            // types, and store these by the table name as used in the database
+            Map<String, String> tableTypes = new HashMap<String, String>();
+
+            for (String[] comment : queryDataTableComments(parent))
+            {
+                tableTypes.put(comment[TableCommentIndex.NAME.ordinal()].toLowerCase(),
+                               comment.length > TableCommentIndex.TYPE.ordinal()
+                                                                                 ? comment[TableCommentIndex.TYPE.ordinal()]
+                                                                                 : "");
+            }
+
+            // Group the prototypes of the requested tables by table type, and
+            // build the list of paths used for the description and column
+            // order queries
+            Map<String, List<String>> prototypesByType = new LinkedHashMap<String, List<String>>();
+            List<String> queryPaths = new ArrayList<String>();
+            List<String> instancePaths = new ArrayList<String>();
+
+            for (String tablePath : tablePaths)
+            {
+                String dbTableName = TableInformation.getPrototypeName(tablePath).toLowerCase();
+                String tableType = tableTypes.get(dbTableName);
+
+                // Check if the table exists and has a valid type
+                if (tableType != null
+                    && tableTypeHandler.getTypeDefinition(tableType) != null)
+                {
+                    List<String> prototypes = prototypesByType.get(tableType);
+
+                    if (prototypes == null)
+                    {
+                        prototypes = new ArrayList<String>();
+                        prototypesByType.put(tableType, prototypes);
+                    }
+
+                    // Check if the prototype isn't already in the list
+                    if (!prototypes.contains(dbTableName))
+                    {
+                        prototypes.add(dbTableName);
+                    }
+
+                    // Add the path and, for an instance, its prototype to the
+                    // list of paths to query
+                    queryPaths.add(tablePath);
+
+                    if (tablePath.contains(","))
+                    {
+                        instancePaths.add(tablePath);
+                        queryPaths.add(TableInformation.getPrototypeName(tablePath));
+                    }
+                }
+            }
+
+            // Load the rows for every prototype, by table type
+            Map<String, List<String[]>> prototypeRows = new HashMap<String, List<String[]>>();
+
+            for (Map.Entry<String, List<String>> typeAndPrototypes : prototypesByType.entrySet())
+            {
+                loadPrototypeRows(tableTypeHandler.getTypeDefinition(typeAndPrototypes.getKey()),
+                                  typeAndPrototypes.getValue(),
+                                  prototypeRows,
+                                  parent);
+            }
+
+            // Load the descriptions and column orders, if requested
+            Map<String, String> descriptions = loadDescription
+                                                               ? queryPathValues(InternalTable.VALUES.getTableName(),
+                                                                                 ValuesColumn.TABLE_PATH.getColumnName(),
+                                                                                 ValuesColumn.VALUE.getColumnName(),
+                                                                                 ValuesColumn.COLUMN_NAME.getColumnName()
+                                                                                     + " = ''",
+                                                                                 new Object[0],
+                                                                                 queryPaths,
+                                                                                 parent)
+                                                               : null;
+            Map<String, String> columnOrders = loadColumnOrder
+                                                               ? queryPathValues(InternalTable.ORDERS.getTableName(),
+                                                                                 OrdersColumn.TABLE_PATH.getColumnName(),
+                                                                                 OrdersColumn.COLUMN_ORDER.getColumnName(),
+                                                                                 OrdersColumn.USER_NAME.getColumnName()
+                                                                                     + " = ?",
+                                                                                 new Object[] {dbControl.getUser()},
+                                                                                 queryPaths,
+                                                                                 parent)
+                                                               : null;
+
+            // Storage for the instance tables that may have custom values,
+            // stored by table path
+            Map<String, List<TableInformation>> instanceTables = new HashMap<String, List<TableInformation>>();
+
+            // Step through each table path
+            for (String tablePath : tablePaths)
+            {
+                TableInformation tableInfo;
+                String tableType = tableTypes.get(TableInformation.getPrototypeName(tablePath).toLowerCase());
+                List<String[]> rows = prototypeRows.get(TableInformation.getPrototypeName(tablePath).toLowerCase());
+
+                // Check if the table's data loaded successfully
+                if (tableType != null && rows != null)
+                {
+                    // Copy the prototype's data so that each table has its own
+                    // data array to which the custom values can be applied
+                    String[][] data = new String[rows.size()][];
+
+                    for (int row = 0; row < data.length; row++)
+                    {
+                        data[row] = Arrays.copyOf(rows.get(row), rows.get(row).length);
+                    }
+
+                    // Get the table's description. An instance table without a
+                    // description uses its prototype's description
+                    String description = "";
+
+                    if (descriptions != null)
+                    {
+                        description = descriptions.containsKey(tablePath)
+                                                                          ? descriptions.get(tablePath).trim()
+                                                                          : "";
+
+                        if (description.isEmpty()
+                            && tablePath.contains(",")
+                            && descriptions.containsKey(TableInformation.getPrototypeName(tablePath)))
+                        {
+                            description = descriptions.get(TableInformation.getPrototypeName(tablePath)).trim();
+                        }
+                    }
+
+                    // Get the table's column order. The default order for the
+                    // table type is used if the user hasn't altered it
+                    String columnOrder = "";
+
+                    if (columnOrders != null)
+                    {
+                        columnOrder = columnOrders.get(tablePath);
+
+                        if (columnOrder == null)
+                        {
+                            columnOrder = tableTypeHandler.getDefaultColumnOrder(tableType);
+                        }
+                    }
+
+                    // Create the table information handler for this table
+                    tableInfo = new TableInformation(tableType,
+                                                     tablePath,
+                                                     data,
+                                                     columnOrder,
+                                                     description,
+                                                     rootStructures != null
+                                                         && rootStructures.contains(TableInformation.getProtoVariableName(tablePath)),
+                                                     fieldHandler != null
+                                                                          ? fieldHandler.getFieldInformationByOwnerCopy(tablePath)
+                                                                          : null);
+
+                    // Check if this is an instance table
+                    if (tablePath.contains(","))
+                    {
+                        // Store the table so that any custom values can be
+                        // applied to it
+                        List<TableInformation> instances = instanceTables.get(tablePath);
+
+                        if (instances == null)
+                        {
+                            instances = new ArrayList<TableInformation>(1);
+                            instanceTables.put(tablePath, instances);
+                        }
+
+                        instances.add(tableInfo);
+                    }
+                }
+                // The table doesn't exist or its data failed to load
+                else
+                {
+                    // Create a table information class with the error flag set
+                    tableInfo = new TableInformation(tablePath);
+                }
+
+                tableInformation.add(tableInfo);
+            }
+
+            // Check if any of the tables are instances
+            if (!instanceTables.isEmpty())
+            {
+                // Step through each block of instance table paths
+                for (int start = 0; start < instancePaths.size(); start += MAX_TABLES_PER_QUERY)
+                {
+                    // Get the rows from the custom values table that belong to
+                    // the instance tables in this block
+                    ResultSet rowData = dbCommand.executeDbQuery("SELECT "
+                                                                 + ValuesColumn.TABLE_PATH.getColumnName()
+                                                                 + ", "
+                                                                 + ValuesColumn.COLUMN_NAME.getColumnName()
+                                                                 + ", "
+                                                                 + ValuesColumn.VALUE.getColumnName()
+                                                                 + " FROM "
+                                                                 + InternalTable.VALUES.getTableName()
+                                                                 + " WHERE "
+                                                                 + ValuesColumn.COLUMN_NAME.getColumnName()
+                                                                 + " != '' AND "
+                                                                 + VALUES_PARENT_PATH
+                                                                 + " = ANY (?);",
+                                                                 new Object[] {instancePaths.subList(start,
+                                                                                                     Math.min(start
+                                                                                                              + MAX_TABLES_PER_QUERY,
+                                                                                                              instancePaths.size()))
+                                                                                            .toArray(new String[0])},
+                                                                 parent);
+
+                    // Step through each of the query results
+                    while (rowData.next())
+                    {
+                        String valuePath = rowData.getString(1);
+                        List<TableInformation> instances = instanceTables.get(valuePath.substring(0,
+                                                                                                  valuePath.lastIndexOf(",")));
+
+                        // Check if the variable's parent table loaded
+                        // successfully
+                        if (instances == null)
+                        {
+                            continue;
+                        }
+
+                        // Step through each table having this variable's
+                        // parent path
+                        for (TableInformation tableInfo : instances)
+                        {
+                            // Replace the table value with the custom value
+                            setCustomValue(tableInfo,
+                                           valuePath,
+                                           rowData.getString(2),
+                                           rowData.getString(3));
+                        }
+                    }
+
+                    rowData.close();
+                }
+            }
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that loading the tables failed
+            eventLog.logFailEvent(parent,
+                                  "Cannot load tables; cause '"
+                                      + se.getMessage()
+                                      + "'",
+                                  "<html><b>Cannot load tables");
+
+            // Flag all of the tables as having failed to load
+            tableInformation.clear();
+
+            for (String tablePath : tablePaths)
+            {
+                tableInformation.add(new TableInformation(tablePath));
+            }
+        }
+        catch (Exception e)
+        {
+            // Display a dialog providing details on the unanticipated error
+            CcddUtilities.displayException(e, parent);
+
+            // Flag any tables not yet processed as having failed to load
+            for (int index = tableInformation.size(); index < tablePaths.size(); index++)
+            {
+                tableInformation.add(new TableInformation(tablePaths.get(index)));
+            }
+        }
+
+        return tableInformation;
+    }
+
+    /**************************************************************************
+     * Load the rows for the specified prototype tables of the same table type.
+     * The tables are read in blocks, each using a single query. If a block's
+     * query fails (e.g., because a table is missing one of its type's columns)
+     * then the tables in the block are read individually so that only the
+     * table(s) in error fail to load
+     * 
+     * @param typeDefn
+     *            table type definition for the prototype tables
+     * 
+     * @param prototypes
+     *            list of prototype table names, as used in the database
+     * 
+     * @param prototypeRows
+     *            map in which to store each prototype's row data, keyed by
+     *            the table name as used in the database. No entry is added for
+     *            a table that fails to load
+     * 
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    private void loadPrototypeRows(TypeDefinition typeDefn,
+                                   List<String> prototypes,
+                                   Map<String, List<String[]>> prototypeRows,
+                                   Component parent)
+    {
+        // Get a comma-separated list of the columns for this table type
+        String columnNames = CcddUtilities.convertArrayToString(typeDefn.getColumnNamesDatabase());
+
+        // Step through each block of prototype tables
+        for (int start = 0; start < prototypes.size(); start += MAX_TABLES_PER_QUERY)
+        {
+            List<String> block = prototypes.subList(start,
+                                                    Math.min(start + MAX_TABLES_PER_QUERY,
+                                                             prototypes.size()));
+            StringBuilder command = new StringBuilder();
+
+            // Step through each table in the block
+            for (String dbTableName : block)
+            {
+                // Add the query for this table's rows, tagged with the table
+                // name
+                command.append(command.length() == 0 ? "SELECT " : " UNION ALL SELECT ")
+                       .append(delimitText(dbTableName))
+                       .append("::text AS ")
+                       .append(BULK_TABLE_NAME)
+                       .append(", ")
+                       .append(columnNames)
+                       .append(" FROM ")
+                       .append(dbTableName);
+            }
+
+            command.append(" ORDER BY ")
+                   .append(BULK_TABLE_NAME)
+                   .append(", ")
+                   .append(DefaultColumn.ROW_INDEX.getDbName())
+                   .append(";");
+
+            try
+            {
+                // Create an empty row list for each table so that a table
+                // without rows is recognized as loaded
+                for (String dbTableName : block)
+                {
+                    prototypeRows.put(dbTableName, new ArrayList<String[]>());
+                }
+
+                // Get the rows for all of the tables in the block
+                ResultSet rowData = dbCommand.executeDbQuery(command.toString(),
+                                                             parent);
+
+                // Step through each of the query results
+                while (rowData.next())
+                {
+                    // Create an array to contain the column values
+                    String[] columnValues = new String[typeDefn.getColumnCountDatabase()];
+
+                    // Step through each column in the row. The first column
+                    // in the result set is the table name
+                    for (int column = 0; column < typeDefn.getColumnCountDatabase(); column++)
+                    {
+                        // Add the column value to the array, replacing a null
+                        // with a blank
+                        columnValues[column] = rowData.getString(column + 2);
+
+                        if (columnValues[column] == null)
+                        {
+                            columnValues[column] = "";
+                        }
+                    }
+
+                    // Add the row data to the table's list
+                    prototypeRows.get(rowData.getString(1)).add(columnValues);
+                }
+
+                rowData.close();
+            }
+            catch (SQLException se)
+            {
+                // Remove the partially loaded tables
+                for (String dbTableName : block)
+                {
+                    prototypeRows.remove(dbTableName);
+                }
+
+                // Check if the block contains more than one table
+                if (block.size() > 1)
+                {
+                    // Load each table individually in order to isolate the
+                    // one(s) that can't be loaded
+                    for (String dbTableName : block)
+                    {
+                        loadPrototypeRows(typeDefn,
+                                          Arrays.asList(dbTableName),
+                                          prototypeRows,
+                                          parent);
+                    }
+                }
+                // The block contains a single table
+                else
+                {
+                    // Inform the user that loading the table failed
+                    eventLog.logFailEvent(parent,
+                                          "Cannot load table '"
+                                              + block.get(0)
+                                              + "'; cause '"
+                                              + se.getMessage()
+                                              + "'",
+                                          "<html><b>Cannot load table '</b>"
+                                              + block.get(0)
+                                              + "<b>'");
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Retrieve the value stored for each of the specified table paths in the
+     * specified internal table
+     * 
+     * @param intTableName
+     *            internal table name
+     * 
+     * @param pathColumn
+     *            name of the internal table's table path column
+     * 
+     * @param valueColumn
+     *            name of the internal table's column containing the value to
+     *            retrieve
+     * 
+     * @param condition
+     *            additional SQL condition that a row must satisfy, with a
+     *            question mark (?) in place of each parameter value
+     * 
+     * @param conditionParameters
+     *            array of parameter values for the condition
+     * 
+     * @param tablePaths
+     *            list of table paths for which to retrieve the values
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return Map containing the value for each table path that has one
+     * 
+     * @throws SQLException
+     *             If an error occurs executing the query
+     *************************************************************************/
+    private Map<String, String> queryPathValues(String intTableName,
+                                                String pathColumn,
+                                                String valueColumn,
+                                                String condition,
+                                                Object[] conditionParameters,
+                                                List<String> tablePaths,
+                                                Component parent) throws SQLException
+    {
+        Map<String, String> pathValues = new HashMap<String, String>();
+
+        // Create the parameter array, with the table paths last
+        Object[] parameters = Arrays.copyOf(conditionParameters,
+                                            conditionParameters.length + 1);
+
+        // Step through each block of table paths
+        for (int start = 0; start < tablePaths.size(); start += MAX_TABLES_PER_QUERY)
+        {
+            parameters[conditionParameters.length] = tablePaths.subList(start,
+                                                                        Math.min(start
+                                                                                 + MAX_TABLES_PER_QUERY,
+                                                                                 tablePaths.size()))
+                                                               .toArray(new String[0]);
+
+            // Get the values for the table paths in this block
+            ResultSet valueData = dbCommand.executeDbQuery("SELECT "
+                                                           + pathColumn
+                                                           + ", "
+                                                           + valueColumn
+                                                           + " FROM "
+                                                           + intTableName
+                                                           + " WHERE "
+                                                           + condition
+                                                           + " AND "
+                                                           + pathColumn
+                                                           + " = ANY (?);",
+                                                           parameters,
+                                                           parent);
+
+            // Step through each of the query results
+            while (valueData.next())
+            {
+                // Store the value for the table path
+                pathValues.put(valueData.getString(1), valueData.getString(2));
+            }
+
+            valueData.close();
+        }
+
+        return pathValues;
+    }
+
+    /**************************************************************************
+     * Replace a value in a table's data with a value from the custom values
+     * table. The value is replaced only if the table contains the variable
+     * and column, and if the variable's data type matches the one in the path
+     * 
+     * @param tableInfo
+     *            table information for the table in which to replace the
+     *            value
+     * 
+     * @param variablePath
+     *            variable path from the custom values table
+     * 
+     * @param columnName
+     *            name of the column (as seen by the user) containing the value
+     *            to replace
+     * 
+     * @param value
+     *            custom value
+     *************************************************************************/
+    private void setCustomValue(TableInformation tableInfo,
+                                String variablePath,
+                                String columnName,
+                                String value)
+    {
+        // Get the table type definition and the index of the variable name
+        // and data type columns
+        TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+        int varNameIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+        int dataTypeIndex = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
+
+        // Get the index of the last data type/variable name separator
+        // character (if present)
+        int varIndex = variablePath.lastIndexOf(".");
+
+        // Check if the table has variable name and data type columns, and if a
+        // variable name exists
+        if (varNameIndex != -1 && dataTypeIndex != -1 && varIndex != -1)
+        {
+            // Get the row index for the referenced variable
+            int row = typeDefn.getRowIndexByColumnValue(tableInfo.getData(),
+                                                        variablePath.substring(varIndex + 1),
+                                                        varNameIndex);
+
+            // Check if the table contains the variable and if the data type of
+            // the variable in the table matches the data type in the path from
+            // the custom values table
+            if (row != -1
+                && tableInfo.getData()[row][dataTypeIndex].equals(variablePath.subSequence(variablePath.lastIndexOf(",")
+                                                                                           + 1,
+                                                                                           varIndex)))
+            {
+                // Get the index of the column that will have its data replaced
+                int column = typeDefn.getColumnIndexByUserName(columnName);
+
+                // Check if the table contains the column
+                if (column != -1)
+                {
+                    // Replace the value in the table with the one from the
+                    // custom values table
+                    tableInfo.getData()[row][column] = value;
+                }
+            }
+        }
+    }
+
     /**************************************************************************
      * Perform the database query to load the rows from the custom values table
      * that match the specified column name and column value
@@ -2970,7 +3769,7 @@ public class CcddDbTableCommandHandler
 
                 // Execute the command to reset the rate for links that no
                 // longer contain any variables
-                dbCommand.executeDbQuery("SELECT reset_link_rate();", parent);
+                dbCommand.executeDbCommand("SELECT reset_link_rate();", parent);
             }
 
             // Check if this is a prototype table and that new rows were added.
@@ -5387,6 +6186,9 @@ public class CcddDbTableCommandHandler
                                                   + dbControl.buildOwnerCommand(DatabaseObject.TABLE,
                                                                                 tableName));
 
+        // Add the change notification trigger to the recreated table
+        command.append(dbControl.buildChangeNotifyCommand(tableName));
+
         try
         {
             // Check if no comment is provided
@@ -5925,7 +6727,7 @@ public class CcddDbTableCommandHandler
 
                         // Execute the command to reset the rate for links that
                         // no longer contain any variables
-                        dbCommand.executeDbQuery("SELECT reset_link_rate();", parent);
+                        dbCommand.executeDbCommand("SELECT reset_link_rate();", parent);
 
                         // Log that the table deletion succeeded
                         eventLog.logEvent(SUCCESS_MSG,
@@ -31,7 +31,9 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.swing.BorderFactory;
@@ -1761,15 +1763,11 @@ public class CcddDbVerificationHandler
         // data
         tableStorage = new ArrayList<TableStorage>();
 
+        List<String> tablePaths = new ArrayList<String>();
+
         // Step through the root node's children
         for (Enumeration<?> element = tableTree.getRootNode().preorderEnumeration(); element.hasMoreElements();)
         {
-            // Check if the user canceled verification
-            if (canceled)
-            {
-                break;
-            }
-
             // Get the referenced node and the path to the node
             ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
             TreePath path = new TreePath(tableNode.getPath());
@@ -1777,188 +1775,197 @@ public class CcddDbVerificationHandler
             // Check if the path references a table
             if (path.getPathCount() > tableTree.getHeaderNodeLevel())
             {
-                // Get the information from the database for the specified
-                // table
-                TableInformation tableInfo = dbTable.loadTableData(tableTree.getFullVariablePath(path.getPath()),
-                                                                   rootStructure.contains(path.getLastPathComponent().toString()),
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   ccddMain.getMainFrame());
-
-                // Check if the table loaded successfully and that the table
-                // has data
-                if (!tableInfo.isErrorFlag() && tableInfo.getData().length > 0)
-                {
-                    // Create storage for the table data as it exists in the
-                    // database
-                    String[][] committedData = new String[tableInfo.getData().length][tableInfo.getData()[0].length];
+                // Add the table to the list of those to load
+                tablePaths.add(tableTree.getFullVariablePath(path.getPath()));
+            }
+        }
 
-                    // Step through each row in the table
-                    for (int row = 0; row < tableInfo.getData().length && !canceled; row++)
+        // Step through the information from the database for each table
+        for (TableInformation tableInfo : dbTable.loadTableData(tablePaths,
+                                                                rootStructure,
+                                                                false,
+                                                                false,
+                                                                false,
+                                                                ccddMain.getMainFrame()))
+        {
+            // Check if the user canceled verification
+            if (canceled)
+            {
+                break;
+            }
+
+            // Check if the table loaded successfully and that the table
+            // has data
+            if (!tableInfo.isErrorFlag() && tableInfo.getData().length > 0)
+            {
+                // Create storage for the table data as it exists in the
+                // database
+                String[][] committedData = new String[tableInfo.getData().length][tableInfo.getData()[0].length];
+
+                // Step through each row in the table
+                for (int row = 0; row < tableInfo.getData().length && !canceled; row++)
+                {
+                    // Step through each column in the table
+                    for (int column = 0; column < tableInfo.getData()[0].length && !canceled; column++)
                     {
-                        // Step through each column in the table
-                        for (int column = 0; column < tableInfo.getData()[0].length && !canceled; column++)
-                        {
-                            // Store the table value into the committed storage
-                            // array
-                            committedData[row][column] = tableInfo.getData()[row][column];
-                        }
+                        // Store the table value into the committed storage
+                        // array
+                        committedData[row][column] = tableInfo.getData()[row][column];
                     }
+                }
 
-                    // Add the table information and data to the list
-                    tableStorage.add(new TableStorage(tableInfo, committedData));
+                // Add the table information and data to the list
+                tableStorage.add(new TableStorage(tableInfo, committedData));
 
-                    // Get the table's type definition
-                    typeDefinition = tableTypeHandler.getTypeDefinition(tableInfo.getType());
-
-                    // Initialize the array check parameters: array data type,
-                    // name, number of members, array dimension sizes, and
-                    // current index position
-                    String dataType = "";
-                    String arrayName = "";
-                    membersRemaining = 0;
-                    totalArraySize = new int[0];
-                    currentArrayIndex = new int[0];
-
-                    // Initialize the array definition row index
-                    definitionRow = 0;
-
-                    // Step through each row in the table
-                    for (int row = 0; row < tableInfo.getData().length && !canceled; row++)
+                // Get the table's type definition
+                typeDefinition = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+
+                // Initialize the array check parameters: array data type,
+                // name, number of members, array dimension sizes, and
+                // current index position
+                String dataType = "";
+                String arrayName = "";
+                membersRemaining = 0;
+                totalArraySize = new int[0];
+                currentArrayIndex = new int[0];
+
+                // Initialize the array definition row index
+                definitionRow = 0;
+
+                // Step through each row in the table
+                for (int row = 0; row < tableInfo.getData().length && !canceled; row++)
+                {
+                    // Step through each column in the table
+                    for (int column = 0; column < tableInfo.getData()[row].length && !canceled; column++)
                     {
-                        // Step through each column in the table
-                        for (int column = 0; column < tableInfo.getData()[row].length && !canceled; column++)
-                        {
-                            // Check if the cell value doesn't match the cell's
-                            // input type
-                            checkInputType(tableInfo, row, column);
-                        }
+                        // Check if the cell value doesn't match the cell's
+                        // input type
+                        checkInputType(tableInfo, row, column);
+                    }
 
-                        // Check if this is a structure table and that the
-                        // array size isn't blank
-                        if (typeDefinition.isStructure()
-                            && tableInfo.getData()[row][arraySizeIndex] != null
-                            && !tableInfo.getData()[row][arraySizeIndex].isEmpty())
+                    // Check if this is a structure table and that the
+                    // array size isn't blank
+                    if (typeDefinition.isStructure()
+                        && tableInfo.getData()[row][arraySizeIndex] != null
+                        && !tableInfo.getData()[row][arraySizeIndex].isEmpty())
+                    {
+                        // Check if this is the first pass through the
+                        // array; an array definition is expected
+                        if (membersRemaining == 0)
                         {
-                            // Check if this is the first pass through the
-                            // array; an array definition is expected
-                            if (membersRemaining == 0)
+                            // Get the variable name for this row
+                            arrayName = tableInfo.getData()[row][variableNameIndex];
+
+                            // Store the index of the array definition row
+                            definitionRow = row;
+
+                            // Check that no extra array member exists
+                            if (!checkExcessArrayMember(tableInfo,
+                                                        row,
+                                                        arrayName))
                             {
-                                // Get the variable name for this row
-                                arrayName = tableInfo.getData()[row][variableNameIndex];
+                                // Get the number of array members
+                                // remaining and data type for this row and
+                                // initialize the array index
+                                totalArraySize = ArrayVariable.getArrayIndexFromSize(macroHandler.getMacroExpansion(tableInfo.getData()[row][arraySizeIndex]));
+
+                                // Get the total number of members for this
+                                // array
+                                membersRemaining = ArrayVariable.getNumMembersFromArrayDimension(totalArraySize);
 
-                                // Store the index of the array definition row
-                                definitionRow = row;
+                                // Initialize the current array index
+                                // values
+                                currentArrayIndex = new int[totalArraySize.length];
 
-                                // Check that no extra array member exists
-                                if (!checkExcessArrayMember(tableInfo,
+                                // Get the data type
+                                dataType = tableInfo.getData()[row][dataTypeIndex];
+
+                                // Check if the expected array definition
+                                // is missing
+                                if (checkForArrayDefinition(tableInfo,
                                                             row,
                                                             arrayName))
                                 {
-                                    // Get the number of array members
-                                    // remaining and data type for this row and
-                                    // initialize the array index
-                                    totalArraySize = ArrayVariable.getArrayIndexFromSize(macroHandler.getMacroExpansion(tableInfo.getData()[row][arraySizeIndex]));
-
-                                    // Get the total number of members for this
-                                    // array
-                                    membersRemaining = ArrayVariable.getNumMembersFromArrayDimension(totalArraySize);
-
-                                    // Initialize the current array index
-                                    // values
-                                    currentArrayIndex = new int[totalArraySize.length];
-
-                                    // Get the data type
-                                    dataType = tableInfo.getData()[row][dataTypeIndex];
-
-                                    // Check if the expected array definition
-                                    // is missing
-                                    if (checkForArrayDefinition(tableInfo,
-                                                                row,
-                                                                arrayName))
-                                    {
-                                        // Remove the array index from the
-                                        // array variable name and back up a
-                                        // row so that the array members can be
-                                        // checked
-                                        arrayName = ArrayVariable.removeArrayIndex(arrayName);
-                                        row--;
-                                    }
-                                }
-                            }
-                            // This is not the first pass through this array;
-                            // i.e., an array member is expected
-                            else
-                            {
-                                // Check if the array definition and all of its
-                                // members don't have the same variable name
-                                if (checkArrayNamesMatch(tableInfo,
-                                                         row,
-                                                         arrayName))
-                                {
-                                    // Back up a row so that it can be checked
-                                    // as a separate variable
+                                    // Remove the array index from the
+                                    // array variable name and back up a
+                                    // row so that the array members can be
+                                    // checked
+                                    arrayName = ArrayVariable.removeArrayIndex(arrayName);
                                     row--;
                                 }
-                                // The array names match
-                                else
-                                {
-                                    // Check if the array definition and all of
-                                    // its members have the same array size
-                                    checkArraySizesMatch(tableInfo,
-                                                         row,
-                                                         arrayName,
-                                                         tableInfo.getData()[row][arraySizeIndex]);
-
-                                    // Check if the array definition and all of
-                                    // its members have the same data type
-                                    checkDataTypesMatch(tableInfo,
-                                                        row,
-                                                        arrayName,
-                                                        dataType);
-                                }
-
-                                // Update the array member counters
-                                membersRemaining--;
-
-                                // Update the current array index value(s)
-                                goToNextArrayMember();
                             }
                         }
-                        // Check if there are remaining array members that
-                        // don't exist
+                        // This is not the first pass through this array;
+                        // i.e., an array member is expected
                         else
                         {
-                            // Check if an array member is expected but not
-                            // present
-                            checkForMissingArrayMember(tableInfo,
-                                                       row,
-                                                       arrayName);
+                            // Check if the array definition and all of its
+                            // members don't have the same variable name
+                            if (checkArrayNamesMatch(tableInfo,
+                                                     row,
+                                                     arrayName))
+                            {
+                                // Back up a row so that it can be checked
+                                // as a separate variable
+                                row--;
+                            }
+                            // The array names match
+                            else
+                            {
+                                // Check if the array definition and all of
+                                // its members have the same array size
+                                checkArraySizesMatch(tableInfo,
+                                                     row,
+                                                     arrayName,
+                                                     tableInfo.getData()[row][arraySizeIndex]);
+
+                                // Check if the array definition and all of
+                                // its members have the same data type
+                                checkDataTypesMatch(tableInfo,
+                                                    row,
+                                                    arrayName,
+                                                    dataType);
+                            }
+
+                            // Update the array member counters
+                            membersRemaining--;
+
+                            // Update the current array index value(s)
+                            goToNextArrayMember();
                         }
                     }
-
-                    // Perform for each remaining missing array member
-                    while (membersRemaining != 0)
+                    // Check if there are remaining array members that
+                    // don't exist
+                    else
                     {
-                        // Check if there are remaining array members that
-                        // don't exist
+                        // Check if an array member is expected but not
+                        // present
                         checkForMissingArrayMember(tableInfo,
-                                                   tableInfo.getData().length,
+                                                   row,
                                                    arrayName);
                     }
+                }
 
-                    // Check if the flag to make changes is not already set
-                    if (!isChanges)
-                    {
-                        // Check if a row is missing based on the row indices
-                        checkForRowIndexMismatch(tableInfo);
-                    }
+                // Perform for each remaining missing array member
+                while (membersRemaining != 0)
+                {
+                    // Check if there are remaining array members that
+                    // don't exist
+                    checkForMissingArrayMember(tableInfo,
+                                               tableInfo.getData().length,
+                                               arrayName);
+                }
 
-                    // Check if columns marked as unique contain duplicate
-                    // values
-                    checkForDuplicates(tableInfo);
+                // Check if the flag to make changes is not already set
+                if (!isChanges)
+                {
+                    // Check if a row is missing based on the row indices
+                    checkForRowIndexMismatch(tableInfo);
                 }
+
+                // Check if columns marked as unique contain duplicate
+                // values
+                checkForDuplicates(tableInfo);
             }
         }
     }
@@ -2366,38 +2373,47 @@ public class CcddDbVerificationHandler
             // Check if the values in this column must be unique
             if (typeDefinition.isRowValueUnique()[column])
             {
+                // Create storage for the index of the next row having the same
+                // value, and a map of the row containing each value
+                int[] nextRow = new int[tableInfo.getData().length];
+                Map<String, Integer> valueRow = new HashMap<String, Integer>();
+
+                // Step backwards through each row in the table so that the
+                // map contains the closest following row for each value. The
+                // macros in each value are expanded only once
+                for (int row = tableInfo.getData().length - 1; row >= 0; row--)
+                {
+                    Integer otherRow = valueRow.put(macroHandler.getMacroExpansion(tableInfo.getData()[row][column]),
+                                                    row);
+                    nextRow[row] = otherRow == null
+                                                   ? -1
+                                                   : otherRow;
+                }
+
                 // Step through each row in the table
                 for (int row = 0; row < tableInfo.getData().length - 1; row++)
                 {
-                    // Step through the remaining rows in the table
-                    for (int otherRow = row + 1; otherRow < tableInfo.getData().length; otherRow++)
+                    // Check if a following row has the same value in this
+                    // column and that the value isn't blank
+                    if (nextRow[row] != -1
+                        && !tableInfo.getData()[row][column].isEmpty())
                     {
-                        // Check if the values in the columns for these two
-                        // rows match and that the values aren't blank
-                        if (!tableInfo.getData()[row][column].isEmpty()
-                            && macroHandler.getMacroExpansion(tableInfo.getData()[row][column])
-                                           .equals(macroHandler.getMacroExpansion(tableInfo.getData()[otherRow][column])))
-                        {
-                            // Duplicate item exists in a column designated as
-                            // having unique values
-                            issues.add(new TableIssue("Table '"
-                                                      + tableInfo.getProtoVariableName()
-                                                      + "' column '"
-                                                      + typeDefinition.getColumnNamesUser()[column]
-                                                      + "' rows "
-                                                      + (row + 1)
-                                                      + " and "
-                                                      + (otherRow + 1)
-                                                      + " have duplicate values",
-                                                      "Replace with a blank",
-                                                      otherRow,
-                                                      column,
-                                                      "",
-                                                      tableInfo));
-
-                            // Stop checking the row indices
-                            break;
-                        }
+                        // Duplicate item exists in a column designated as
+                        // having unique values
+                        issues.add(new TableIssue("Table '"
+                                                  + tableInfo.getProtoVariableName()
+                                                  + "' column '"
+                                                  + typeDefinition.getColumnNamesUser()[column]
+                                                  + "' rows "
+                                                  + (row + 1)
+                                                  + " and "
+                                                  + (nextRow[row] + 1)
+                                                  + " have duplicate values",
+                                                  "Replace with a blank",
+                                                  nextRow[row],
+                                                  column,
+                                                  "",
+                                                  tableInfo));
                     }
                 }
             }
@@ -34,7 +34,11 @@ import java.io.PrintWriter;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
@@ -102,6 +106,88 @@ public class CcddEventLogDialog extends CcddFrameHandler
     // CCDD logo graphic
     private BufferedImage image;
 
+    // Log entry time stamp format
+    private static final String LOG_TIME_FORMAT = "MM/dd/yyyy HH:mm:ss.SSS";
+
+    // Entry placed in the log file writer's queue when the log is closed
+    private static final LogEntry END_OF_LOG = new LogEntry(null, null, null, null, 0, null);
+
+    // Time, in milliseconds, between checks that the log file writer thread
+    // is running while waiting for a log entry to be flushed
+    private static final long FLUSH_WAIT_TIME = 100;
+
+    // Queue of log entries waiting to be written to the session log file, and
+    // the thread that writes these
+    private BlockingQueue<LogEntry> logQueue;
+    private Thread logWriterThread;
+
+    // Lock used to queue the log entries in order and to close the log file,
+    // and the number of log entries queued
+    private final Object logQueueLock = new Object();
+    private long numQueued = 0;
+
+    // Lock used to wait for log entries to be flushed to the log file, and the
+    // number of log entries flushed
+    private final Object flushLock = new Object();
+    private long numFlushed = 0;
+
+    // Log entries waiting to be added to the event log table
+    private final List<LogEntry> pendingRows = new ArrayList<LogEntry>();
+
+    // Time stamp format for the event log table. The format is used only on
+    // the event dispatch thread
+    private final SimpleDateFormat tableTimeFormat = new SimpleDateFormat(LOG_TIME_FORMAT);
+
+    /**************************************************************************
+     * Session event log entry class
+     *************************************************************************/
+    private static class LogEntry
+    {
+        private final String server;
+        private final String database;
+        private final String user;
+        private final EventLogMessageType type;
+        private final long time;
+        private final String message;
+
+        /**********************************************************************
+         * Session event log entry class constructor
+         * 
+         * @param server
+         *            server host and port
+         * 
+         * @param database
+         *            database connection
+         * 
+         * @param user
+         *            user name
+         * 
+         * @param type
+         *            message type (e.g., COMMAND_MSG)
+         * 
+         * @param time
+         *            time, in milliseconds since the epoch, at which the event
+         *            occurred
+         * 
+         * @param message
+         *            event's log message
+         *********************************************************************/
+        private LogEntry(String server,
+                         String database,
+                         String user,
+                         EventLogMessageType type,
+                         long time,
+                         String message)
+        {
+            this.server = server;
+            this.database = database;
+            this.user = user;
+            this.type = type;
+            this.time = time;
+            this.message = message;
+        }
+    }
+
     /**************************************************************************
      * Event log class constructor
      * 
@@ -801,6 +887,10 @@ public class CcddEventLogDialog extends CcddFrameHandler
                     // Create a writer to the log
                     logWriter = new PrintWriter(logFile);
 
+                    // Start the thread that writes the log entries to the
+                    // file
+                    startLogWriter();
+
                     // Indicate that the log was created
                     isLogWrite = true;
                 }
@@ -891,55 +981,59 @@ public class CcddEventLogDialog extends CcddFrameHandler
     {
         try
         {
-            // Create a log reader
-            BufferedReader logReader = new BufferedReader(new FileReader(logFile));
-
-            // Read first line in file
-            String line = logReader.readLine();
-
-            // Log entry row index
-            long row = 1;
-
-            // Continue to read the file until EOF is reached or an error is
-            // detected
-            while (line != null)
+            // Check if only a single log entry is to be displayed
+            if (targetRow != null)
             {
-                // Break the input line into its separate columns
-                String[] parts = line.split("[|]", EventColumns.values().length - 1);
+                CcddEventLogIndexHandler logIndex = new CcddEventLogIndexHandler(logFile);
 
-                // Check if no target time stamp is provided, or if one is that
-                // it matches this log entry's time stamp
-                if (targetRow == null || row == targetRow)
+                try
                 {
-                    // Add the new event log entry. Truncate the message length
-                    // if needed, unless this is a single log entry viewer
-                    eventLogList.add(new Object[] {row,
-                                                   getServerLog(parts[EventColumns.SERVER.ordinal() - 1]),
-                                                   parts[EventColumns.PROJECT.ordinal() - 1],
-                                                   parts[EventColumns.USER.ordinal() - 1],
-                                                   getDateTimeStampLog(parts[EventColumns.TIME.ordinal() - 1]),
-                                                   getMessageType(parts[EventColumns.TYPE.ordinal() - 1]).getTypeMsg(),
-                                                   (targetRow == null
-                                                                     ? truncateLogMessage(parts[EventColumns.MESSAGE.ordinal() - 1])
-                                                                     : parts[EventColumns.MESSAGE.ordinal() - 1])});
-
-                    // Check if a target time stamp is provided (i.e., only a
-                    // single log entry is loaded for this event log)
-                    if (targetRow != null)
+                    // Read the log entry using the log file's index rather
+                    // than reading the preceding entries
+                    logIndex.open();
+                    String line = logIndex.getEntry(targetRow);
+
+                    // Check if the log entry exists
+                    if (line != null)
                     {
-                        // Stop searching
-                        break;
+                        // Add the log entry
+                        addLogEntry(targetRow, line, false);
                     }
                 }
+                finally
+                {
+                    logIndex.close();
+                }
+            }
+            // Display all of the log entries
+            else
+            {
+                // Create a log reader
+                BufferedReader logReader = new BufferedReader(new FileReader(logFile));
 
-                row++;
+                // Read first line in file
+                String line = logReader.readLine();
 
-                // Read the next line in the file
-                line = logReader.readLine();
-            }
+                // Log entry row index
+                long row = 1;
+
+                // Continue to read the file until EOF is reached or an error
+                // is detected
+                while (line != null)
+                {
+                    // Add the new event log entry. Truncate the message length
+                    // if needed
+                    addLogEntry(row, line, true);
+
+                    row++;
+
+                    // Read the next line in the file
+                    line = logReader.readLine();
+                }
 
-            // Close the log reader
-            logReader.close();
+                // Close the log reader
+                logReader.close();
+            }
         }
         catch (Exception e)
         {
@@ -953,15 +1047,85 @@ public class CcddEventLogDialog extends CcddFrameHandler
     }
 
     /**************************************************************************
-     * Close the event log file
+     * Add an entry read from an existing event log file to the stored log
+     * events
+     * 
+     * @param row
+     *            log entry row index
+     * 
+     * @param line
+     *            log entry text
+     * 
+     * @param isTruncate
+     *            true to truncate the message length if needed; false if this
+     *            is a single log entry viewer
+     *************************************************************************/
+    private void addLogEntry(long row, String line, boolean isTruncate)
+    {
+        // Break the input line into its separate columns
+        String[] parts = line.split("[|]", EventColumns.values().length - 1);
+
+        // Add the new event log entry
+        eventLogList.add(new Object[] {row,
+                                       getServerLog(parts[EventColumns.SERVER.ordinal() - 1]),
+                                       parts[EventColumns.PROJECT.ordinal() - 1],
+                                       parts[EventColumns.USER.ordinal() - 1],
+                                       getDateTimeStampLog(parts[EventColumns.TIME.ordinal() - 1]),
+                                       getMessageType(parts[EventColumns.TYPE.ordinal() - 1]).getTypeMsg(),
+                                       (isTruncate
+                                                   ? truncateLogMessage(parts[EventColumns.MESSAGE.ordinal() - 1])
+                                                   : parts[EventColumns.MESSAGE.ordinal() - 1])});
+    }
+
+    /**************************************************************************
+     * Close the event log file. The log file writer thread writes any queued
+     * log entries before the file is closed
      *************************************************************************/
     protected void closeEventLogFile()
     {
-        // Check if the log is open
-        if (isLogWrite)
+        boolean isClose = false;
+
+        synchronized (logQueueLock)
+        {
+            // Check if the log is open
+            if (isLogWrite)
+            {
+                // Stop accepting log entries and tell the log file writer
+                // thread to stop once the queued entries are written
+                isLogWrite = false;
+                putLogEntry(END_OF_LOG);
+                isClose = true;
+            }
+        }
+
+        // Check if the log is being closed
+        if (isClose)
         {
+            boolean isInterrupted = false;
+
+            // Wait for the log file writer thread to write the queued entries
+            while (logWriterThread.isAlive())
+            {
+                try
+                {
+                    logWriterThread.join();
+                }
+                catch (InterruptedException ie)
+                {
+                    // Continue to wait so that no entries are lost
+                    isInterrupted = true;
+                }
+            }
+
             // Close the event log file
             logWriter.close();
+
+            // Check if the wait was interrupted
+            if (isInterrupted)
+            {
+                // Restore the interrupt status
+                Thread.currentThread().interrupt();
+            }
         }
     }
 
@@ -994,7 +1158,12 @@ public class CcddEventLogDialog extends CcddFrameHandler
 
     /**************************************************************************
      * Append an event message to the current session's event log window and
-     * file
+     * file. The message is added to the log window on the event dispatch
+     * thread and written to the log file by the log file writer thread. If
+     * the log file writer's queue is full then this waits for space in the
+     * queue; if the writer thread has stopped then the message is written by
+     * the calling thread. If the log flush interval is 0 then this waits for the message to
+     * be flushed to the log file
      * 
      * @param type
      *            message type (e.g., COMMAND_MSG)
@@ -1002,79 +1171,336 @@ public class CcddEventLogDialog extends CcddFrameHandler
      * @param logMessage
      *            new event's log message
      *************************************************************************/
-    protected void logEvent(final EventLogMessageType type, String logMessage)
+    protected void logEvent(EventLogMessageType type, String logMessage)
     {
-        // Get the server, database, and user responsible for the event.
-        final String server = dbControl.getServer();
-        final String database = dbControl.getProject();
-        final String user = dbControl.getUser();
+        // Get the server, database, and user responsible for the event and the
+        // time of the event. Remove any embedded line feed and carriage return
+        // characters from the message since these interfere with parsing when
+        // reading the log files
+        LogEntry entry = new LogEntry(dbControl.getServer(),
+                                      dbControl.getProject(),
+                                      dbControl.getUser(),
+                                      type,
+                                      System.currentTimeMillis(),
+                                      logMessage.replaceAll("[\r\n]", ""));
+
+        synchronized (pendingRows)
+        {
+            // Add the entry to those waiting to be added to the log window
+            pendingRows.add(entry);
 
-        // Get the current date and time stamp
-        final String timestamp = getDateTimeStamp("MM/dd/yyyy HH:mm:ss.SSS");
+            // Check if this is the only entry waiting. If other entries are
+            // waiting then the log window update is already scheduled
+            if (pendingRows.size() == 1)
+            {
+                // Create a runnable object to be executed
+                SwingUtilities.invokeLater(new Runnable()
+                {
+                    /**********************************************************
+                     * Since the log addition involves a GUI update use
+                     * invokeLater to execute the call on the event dispatch
+                     * thread
+                     *********************************************************/
+                    @Override
+                    public void run()
+                    {
+                        // Add the waiting entries to the event log
+                        addPendingRows();
+                    }
+                });
+            }
+        }
 
-        // Remove any embedded line feed characters since these interfere with
-        // parsing when reading the log files
-        final String message = logMessage.replaceAll("\n", "");
+        long entryNum = 0;
 
-        // Check if the log event call is made on the event dispatch thread
-        if (SwingUtilities.isEventDispatchThread())
+        synchronized (logQueueLock)
         {
-            // Add the message to the event log
-            addMessageToLog(server, database, user, type, timestamp, message);
+            // Check if the event log file exists
+            if (isLogWrite)
+            {
+                // Queue the entry to be written to the log file. Entries are
+                // numbered in the order these are queued
+                putLogEntry(entry);
+                numQueued++;
+                entryNum = numQueued;
+            }
         }
-        // The log event call is made from a background thread
-        else
+
+        // Check if the entry was queued and that each entry is to be flushed
+        // to the log file before returning
+        if (entryNum != 0
+            && ModifiableSizeInfo.EVENT_LOG_FLUSH_INTERVAL.getSize() == 0)
         {
-            // Create a runnable object to be executed
-            SwingUtilities.invokeLater(new Runnable()
+            boolean isInterrupted = false;
+
+            synchronized (flushLock)
             {
-                /**************************************************************
-                 * Since the log addition involves a GUI update use invokeLater
-                 * to execute the call on the event dispatch thread
-                 *************************************************************/
-                @Override
-                public void run()
+                // Wait for the log file writer thread to flush the entry. The
+                // wait ends if the writer thread stops
+                while (numFlushed < entryNum && logWriterThread.isAlive())
                 {
-                    // Add the message to the event log
-                    addMessageToLog(server, database, user, type, timestamp, message);
+                    try
+                    {
+                        flushLock.wait(FLUSH_WAIT_TIME);
+                    }
+                    catch (InterruptedException ie)
+                    {
+                        // Continue to wait for the entry to be flushed
+                        isInterrupted = true;
+                    }
                 }
-            });
+            }
+
+            // Check if the wait was interrupted
+            if (isInterrupted)
+            {
+                // Restore the interrupt status
+                Thread.currentThread().interrupt();
+            }
         }
+    }
+
+    /**************************************************************************
+     * Add an entry to the queue of log entries to be written to the log file,
+     * waiting for space in the queue if it's full. If the log file writer
+     * thread has stopped then the entry, and any entries remaining in the
+     * queue, are written to the log file by the calling thread instead. The
+     * caller must hold the log queue lock so that the entries are queued and
+     * numbered in the same order
+     * 
+     * @param entry
+     *            log entry
+     *************************************************************************/
+    private void putLogEntry(LogEntry entry)
+    {
+        boolean isInterrupted = false;
 
-        // Check if the event log file exists
-        if (isLogWrite)
+        // Continue until the entry is queued or written so that no entries
+        // are lost
+        while (true)
         {
-            try
+            // Check if the log file writer thread has stopped
+            if (!logWriterThread.isAlive())
             {
-                // Use a StringBuilder to concatenate the log message in case
-                // the message is lengthy (StringBuilder is much faster than
-                // string concatenation using '+')
-                StringBuilder logEntry = new StringBuilder(server
-                                                           + "|"
-                                                           + database
-                                                           + "|"
-                                                           + user
-                                                           + "|"
-                                                           + timestamp
-                                                           + "|"
-                                                           + type.getTypeName()
-                                                           + "|");
-                logEntry.append(message);
-
-                // Write the message to the event log file
-                logWriter.println(logEntry.toString());
+                SimpleDateFormat timeFormat = new SimpleDateFormat(LOG_TIME_FORMAT);
+                List<LogEntry> entries = new ArrayList<LogEntry>();
+
+                // Get the entries the writer thread didn't write, followed by
+                // this entry
+                logQueue.drainTo(entries);
+                entries.add(entry);
+
+                // Step through each entry
+                for (LogEntry unwritten : entries)
+                {
+                    // Check if this isn't the entry indicating the log is
+                    // closed
+                    if (unwritten != END_OF_LOG)
+                    {
+                        // Write the entry to the log file
+                        writeLogEntry(unwritten, timeFormat);
+                    }
+                }
+
                 logWriter.flush();
+                break;
             }
-            catch (Exception e)
+
+            try
             {
-                // Inform the user that an error occurred writing to the log
-                new CcddDialogHandler().showMessageDialog(ccddMain.getMainFrame(),
-                                                          "<html><b>Cannot write to event log",
-                                                          "Log Error",
-                                                          JOptionPane.WARNING_MESSAGE,
-                                                          DialogOption.OK_OPTION);
+                // Queue the entry, waiting for space in the queue for a
+                // limited time so that the writer thread can be checked
+                if (logQueue.offer(entry, FLUSH_WAIT_TIME, TimeUnit.MILLISECONDS))
+                {
+                    break;
+                }
+            }
+            catch (InterruptedException ie)
+            {
+                isInterrupted = true;
             }
         }
+
+        // Check if the wait was interrupted
+        if (isInterrupted)
+        {
+            // Restore the interrupt status
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**************************************************************************
+     * Write an entry to the log file
+     * 
+     * @param entry
+     *            log entry
+     * 
+     * @param timeFormat
+     *            time stamp format; this isn't thread-safe, so each thread
+     *            writing entries must supply its own
+     *************************************************************************/
+    private void writeLogEntry(LogEntry entry, SimpleDateFormat timeFormat)
+    {
+        logWriter.println(entry.server
+                          + "|"
+                          + entry.database
+                          + "|"
+                          + entry.user
+                          + "|"
+                          + timeFormat.format(new Date(entry.time))
+                          + "|"
+                          + entry.type.getTypeName()
+                          + "|"
+                          + entry.message);
+    }
+
+    /**************************************************************************
+     * Start the thread that writes the queued log entries to the log file.
+     * Entries are written in batches; the log file is flushed when the flush
+     * interval elapses after the first unflushed entry is written, or when no
+     * entries are waiting if the flush interval is 0
+     *************************************************************************/
+    private void startLogWriter()
+    {
+        logQueue = new ArrayBlockingQueue<LogEntry>(ModifiableSizeInfo.EVENT_LOG_QUEUE_SIZE.getSize());
+
+        logWriterThread = new Thread("CCDD event log writer")
+        {
+            /******************************************************************
+             * Write the queued log entries until the log is closed
+             *****************************************************************/
+            @Override
+            public void run()
+            {
+                // Time stamp format for the log file. The format is used only
+                // by this thread
+                SimpleDateFormat timeFormat = new SimpleDateFormat(LOG_TIME_FORMAT);
+
+                List<LogEntry> batch = new ArrayList<LogEntry>();
+                long numWritten = 0;
+                long numWrittenFlushed = 0;
+                long flushTime = 0;
+                boolean isEnd = false;
+                boolean isErrorReported = false;
+
+                // Continue until the log is closed
+                while (!isEnd)
+                {
+                    try
+                    {
+                        // Check if no written entries are waiting to be
+                        // flushed
+                        if (numWritten == numWrittenFlushed)
+                        {
+                            // Wait for an entry
+                            batch.add(logQueue.take());
+                        }
+                        // Entries are waiting to be flushed
+                        else
+                        {
+                            // Wait for an entry until the flush time is
+                            // reached
+                            LogEntry entry = logQueue.poll(Math.max(0,
+                                                                    flushTime - System.currentTimeMillis()),
+                                                           TimeUnit.MILLISECONDS);
+
+                            // Check if an entry was received
+                            if (entry != null)
+                            {
+                                batch.add(entry);
+                            }
+                        }
+
+                        // Add any other waiting entries to the batch
+                        logQueue.drainTo(batch);
+                    }
+                    catch (InterruptedException ie)
+                    {
+                        // Ignore the interrupt; the entries are written until
+                        // the log is closed
+                    }
+
+                    // Step through each entry in the batch
+                    for (LogEntry entry : batch)
+                    {
+                        // Check if the log is closed
+                        if (entry == END_OF_LOG)
+                        {
+                            isEnd = true;
+                            break;
+                        }
+
+                        // Check if no written entries are waiting to be
+                        // flushed
+                        if (numWritten == numWrittenFlushed)
+                        {
+                            // Set the time by which this entry is flushed
+                            flushTime = entry.time
+                                        + ModifiableSizeInfo.EVENT_LOG_FLUSH_INTERVAL.getSize();
+                        }
+
+                        // Write the entry to the log file
+                        writeLogEntry(entry, timeFormat);
+                        numWritten++;
+                    }
+
+                    batch.clear();
+
+                    // Check if written entries are waiting to be flushed and
+                    // if the log is closed, the flush time is reached, or each
+                    // entry is flushed as soon as it's written
+                    if (numWritten != numWrittenFlushed
+                        && (isEnd
+                            || System.currentTimeMillis() >= flushTime
+                            || (logQueue.isEmpty()
+                                && ModifiableSizeInfo.EVENT_LOG_FLUSH_INTERVAL.getSize() == 0)))
+                    {
+                        // Flush the entries to the log file
+                        logWriter.flush();
+                        numWrittenFlushed = numWritten;
+
+                        synchronized (flushLock)
+                        {
+                            // Update the number of entries flushed and inform
+                            // any waiting logging threads
+                            numFlushed = numWritten;
+                            flushLock.notifyAll();
+                        }
+
+                        // Check if the log file couldn't be written and the
+                        // error hasn't been reported
+                        if (logWriter.checkError() && !isErrorReported)
+                        {
+                            isErrorReported = true;
+
+                            // Create a runnable object to be executed
+                            SwingUtilities.invokeLater(new Runnable()
+                            {
+                                /**********************************************
+                                 * Inform the user on the event dispatch thread
+                                 *********************************************/
+                                @Override
+                                public void run()
+                                {
+                                    // Inform the user that an error occurred
+                                    // writing to the log
+                                    new CcddDialogHandler().showMessageDialog(ccddMain.getMainFrame(),
+                                                                              "<html><b>Cannot write to event log",
+                                                                              "Log Error",
+                                                                              JOptionPane.WARNING_MESSAGE,
+                                                                              DialogOption.OK_OPTION);
+                                }
+                            });
+                        }
+                    }
+                }
+            }
+        };
+
+        // Don't let the writer thread keep the application running; the
+        // shutdown hook closes the log, which writes any queued entries
+        logWriterThread.setDaemon(true);
+        logWriterThread.start();
     }
 
     /**************************************************************************
@@ -1132,50 +1558,54 @@ public class CcddEventLogDialog extends CcddFrameHandler
     }
 
     /**************************************************************************
-     * Add a new log entry to the event log table
-     * 
-     * @param server
-     *            server host and port
-     * 
-     * @param database
-     *            database connection
-     * 
-     * @param user
-     *            user name
-     * 
-     * @param type
-     *            message type (e.g., COMMAND_MSG)
-     * 
-     * @param timestamp
-     *            date and time when event occurred
-     * 
-     * @param logMessage
-     *            new event's log message
+     * Add the log entries waiting to be displayed to the event log table. This
+     * must be called on the event dispatch thread
      *************************************************************************/
-    private void addMessageToLog(String server,
-                                 String database,
-                                 String user,
-                                 EventLogMessageType type,
-                                 String timestamp,
-                                 String logMessage)
+    private void addPendingRows()
     {
+        List<LogEntry> entries;
+
+        synchronized (pendingRows)
+        {
+            // Get the waiting entries and empty the list
+            entries = new ArrayList<LogEntry>(pendingRows);
+            pendingRows.clear();
+        }
+
         // Set the table row sorter. This is required so that command line
         // options to filter the events are handled properly
         eventTable.setTableSortable();
 
-        // Insert the event at the end of the event log table
-        eventTable.insertRow(false,
-                             true,
-                             new Object[] {indexNum,
-                                           getServerLog(server),
-                                           database,
-                                           user,
-                                           getDateTimeStampLog(timestamp),
-                                           type.getTypeMsg(),
-                                           truncateLogMessage(logMessage)});
-
-        // Update the log entry counter
-        indexNum++;
+        // Step through each entry
+        for (int index = 0; index < entries.size(); index++)
+        {
+            LogEntry entry = entries.get(index);
+            Object[] rowData = new Object[] {indexNum,
+                                             getServerLog(entry.server),
+                                             entry.database,
+                                             entry.user,
+                                             getDateTimeStampLog(tableTimeFormat.format(new Date(entry.time))),
+                                             entry.type.getTypeMsg(),
+                                             truncateLogMessage(entry.message)};
+
+            // Check if this is the last entry
+            if (index == entries.size() - 1)
+            {
+                // Insert the event at the end of the event log table, select
+                // it, and scroll the table to show it
+                eventTable.insertRow(false, true, rowData);
+            }
+            // Not the last entry
+            else
+            {
+                // Insert the event at the end of the event log table
+                eventTable.insertRowData(eventTableModel.getRowCount() - 1,
+                                         rowData);
+            }
+
+            // Update the log entry counter
+            indexNum++;
+        }
     }
 
     /**************************************************************************
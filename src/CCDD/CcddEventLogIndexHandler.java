@@ -0,0 +1,1184 @@
+/**
+ * CFS Command & Data Dictionary event log index handler. Copyright 2017 United
+ * States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import CCDD.CcddConstants.EventColumns;
+import CCDD.CcddConstants.EventLogMessageType;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary event log index handler class. Maintains an
+ * index of an event log file so that a log entry can be read, and the log
+ * searched and filtered by event type, user, and time, without reading the
+ * entire log file. The index is stored in two files alongside the log file
+ * (or in the temporary file directory if the log file's directory can't be
+ * written):
+ *
+ * The row index contains a header followed by a fixed-length record for each
+ * log entry, giving the entry's position in the log file, time stamp, event
+ * type, and user.
+ *
+ * The block index contains a record for each block of consecutive log
+ * entries, giving the event types and users present in the block, the block's
+ * earliest and latest time stamps, and a filter for the three-character
+ * sequences (trigrams) occurring in the block's entries. A block that can't
+ * contain a match is skipped without reading its log entries.
+ *
+ * The index is extended with any entries added to the log file each time the
+ * index is used, and is rebuilt if the log file no longer matches it
+ *****************************************************************************/
+public class CcddEventLogIndexHandler
+{
+    // Row and block index file name extensions
+    private static final String ROW_INDEX_EXTENSION = ".idx";
+    private static final String BLOCK_INDEX_EXTENSION = ".blk";
+
+    // Row index file identifier ('CCDDLIDX') and format version
+    private static final long INDEX_ID = 0x4343444C49445800L;
+    private static final int INDEX_VERSION = 1;
+
+    // Row index header size, in bytes: identifier, version, block size,
+    // trigram filter size, log file fingerprint, number of log file bytes
+    // indexed, and number of log entries indexed
+    private static final int HEADER_SIZE = 8 + 4 + 4 + 4 + 8 + 8 + 8;
+
+    // Row index record size, in bytes: log entry position, time stamp, event
+    // type, and user name hash
+    private static final int ROW_RECORD_SIZE = 8 + 8 + 1 + 4;
+
+    // Number of log entries in a block
+    private static final int BLOCK_ROWS = 1024;
+
+    // Block trigram filter size, in bytes (must be a power of 2), and number
+    // of filter bits set for each trigram
+    private static final int FILTER_BYTES = 16384;
+    private static final int FILTER_HASHES = 3;
+
+    // Block index record size, in bytes: event types, users, earliest and
+    // latest time stamps, and trigram filter
+    private static final int BLOCK_HEADER_SIZE = 4 + 8 + 8 + 8;
+    private static final int BLOCK_RECORD_SIZE = BLOCK_HEADER_SIZE + FILTER_BYTES;
+
+    // Number of bytes at the start of the log file used to detect if the log
+    // file is replaced
+    private static final int FINGERPRINT_BYTES = 4096;
+
+    // Log file read buffer size, in bytes
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+    // Number of row index records written at a time
+    private static final int ROW_WRITE_RECORDS = 4096;
+
+    // Number of trigram characters
+    private static final int TRIGRAM_LENGTH = 3;
+
+    // Event type value stored for a log entry with an unrecognized type
+    private static final byte UNKNOWN_TYPE = -1;
+
+    // Lock used to access one index at a time, so that an index isn't updated
+    // by more than one search
+    private static final Object indexLock = new Object();
+
+    // Event log file
+    private final File logFile;
+
+    // Character set with which the log file is written
+    private final Charset charset;
+
+    // Log, row index, and block index files; null if not open
+    private RandomAccessFile log;
+    private RandomAccessFile rowIndex;
+    private RandomAccessFile blockIndex;
+
+    // Number of log entries and log file bytes indexed
+    private long numRows;
+    private long indexedLength;
+
+    // Summary of the block of log entries being indexed
+    private int blockTypes;
+    private long blockUsers;
+    private long blockStartTime;
+    private long blockEndTime;
+    private byte[] blockFilter;
+
+    /**************************************************************************
+     * Interface for receiving the log entries found by a search
+     *************************************************************************/
+    protected interface LogEntryHandler
+    {
+        /**********************************************************************
+         * Process a log entry
+         *
+         * @param row
+         *            log entry row index (the first entry is row 1)
+         *
+         * @param entry
+         *            log entry text, without the line terminator
+         *
+         * @return true to continue searching; false to stop
+         *********************************************************************/
+        boolean handleEntry(long row, String entry);
+    }
+
+    /**************************************************************************
+     * Event log entry filter class. Only log entries matching all of the
+     * filter's criteria are searched
+     *************************************************************************/
+    protected static class EventLogFilter
+    {
+        private final Set<EventLogMessageType> types;
+        private final String user;
+        private final Long startTime;
+        private final Long endTime;
+
+        /**********************************************************************
+         * Event log entry filter class constructor
+         *
+         * @param types
+         *            event types to include; null to include all types
+         *
+         * @param user
+         *            user name to include; null to include all users
+         *
+         * @param startTime
+         *            earliest time stamp to include, in the format returned
+         *            by getTimeStampValue(); null if no lower limit
+         *
+         * @param endTime
+         *            latest time stamp to include, in the format returned by
+         *            getTimeStampValue(); null if no upper limit
+         *********************************************************************/
+        protected EventLogFilter(Set<EventLogMessageType> types,
+                                 String user,
+                                 Long startTime,
+                                 Long endTime)
+        {
+            this.types = types;
+            this.user = user;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        /**********************************************************************
+         * Check if the filter excludes any log entries
+         *
+         * @return true if the filter includes all log entries
+         *********************************************************************/
+        protected boolean isEmpty()
+        {
+            return types == null
+                   && user == null
+                   && startTime == null
+                   && endTime == null;
+        }
+    }
+
+    /**************************************************************************
+     * Event log index handler class constructor
+     *
+     * @param logFile
+     *            event log file
+     *************************************************************************/
+    CcddEventLogIndexHandler(File logFile)
+    {
+        this.logFile = logFile;
+
+        // The log file is written using the default character set
+        charset = Charset.defaultCharset();
+    }
+
+    /**************************************************************************
+     * Open the event log file and its index files. The index files are
+     * created if these don't exist
+     *
+     * @throws IOException
+     *             If the log file can't be read or the index files can't be
+     *             created
+     *************************************************************************/
+    protected void open() throws IOException
+    {
+        log = new RandomAccessFile(logFile, "r");
+
+        try
+        {
+            // Open the index files stored alongside the log file
+            openIndex(logFile.getPath());
+        }
+        catch (IOException ioe)
+        {
+            // The log file's directory can't be written; store the index in
+            // the temporary file directory, using a name derived from the log
+            // file's path so that the index is reused
+            String name = "ccdd-"
+                          + Integer.toHexString(logFile.getCanonicalPath().hashCode())
+                          + "-"
+                          + logFile.getName();
+            openIndex(new File(System.getProperty("java.io.tmpdir"), name).getPath());
+        }
+    }
+
+    /**************************************************************************
+     * Open the row and block index files
+     *
+     * @param path
+     *            index file path, excluding the extension
+     *
+     * @throws IOException
+     *             If an index file can't be opened or created
+     *************************************************************************/
+    private void openIndex(String path) throws IOException
+    {
+        // Close any index file opened by a previous attempt
+        closeFile(rowIndex);
+        closeFile(blockIndex);
+        rowIndex = null;
+        blockIndex = null;
+
+        rowIndex = new RandomAccessFile(path + ROW_INDEX_EXTENSION, "rw");
+        blockIndex = new RandomAccessFile(path + BLOCK_INDEX_EXTENSION, "rw");
+    }
+
+    /**************************************************************************
+     * Close the event log file and its index files
+     *************************************************************************/
+    protected void close()
+    {
+        closeFile(log);
+        closeFile(rowIndex);
+        closeFile(blockIndex);
+        log = null;
+        rowIndex = null;
+        blockIndex = null;
+    }
+
+    /**************************************************************************
+     * Close a file, ignoring any error
+     *
+     * @param file
+     *            file to close; null if the file isn't open
+     *************************************************************************/
+    private static void closeFile(RandomAccessFile file)
+    {
+        // Check if the file is open
+        if (file != null)
+        {
+            try
+            {
+                file.close();
+            }
+            catch (IOException ioe)
+            {
+                // Ignore the error; the file contents are already written
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Get the number of entries in the event log
+     *
+     * @return Number of entries in the event log
+     *
+     * @throws IOException
+     *             If the log or index files can't be accessed
+     *************************************************************************/
+    protected long getNumEntries() throws IOException
+    {
+        synchronized (indexLock)
+        {
+            update();
+            return numRows;
+        }
+    }
+
+    /**************************************************************************
+     * Read an entry from the event log
+     *
+     * @param row
+     *            log entry row index (the first entry is row 1)
+     *
+     * @return Log entry text, without the line terminator; null if the log
+     *         doesn't contain the row
+     *
+     * @throws IOException
+     *             If the log or index files can't be accessed
+     *************************************************************************/
+    protected String getEntry(long row) throws IOException
+    {
+        String entry = null;
+
+        synchronized (indexLock)
+        {
+            update();
+
+            // Check if the log contains the row
+            if (row >= 1 && row <= numRows)
+            {
+                // Get the positions of the start of the entry and of the
+                // entry following it
+                long start = getRowPosition(row - 1);
+                long end = getRowPosition(row);
+
+                // Read the entry from the log
+                byte[] buffer = new byte[(int) (end - start)];
+                log.seek(start);
+                log.readFully(buffer);
+                entry = decodeEntry(buffer, 0, buffer.length);
+            }
+        }
+
+        return entry;
+    }
+
+    /**************************************************************************
+     * Search the event log for the entries containing the specified text that
+     * match the filter criteria. The index is used to skip the blocks of
+     * entries that can't contain the text or match the filter, so only the
+     * remaining entries are read from the log. An entry passed to the handler
+     * matches the filter, but may not contain the search text (the handler
+     * must check this)
+     *
+     * @param searchText
+     *            text the log entries must contain, ignoring case and any
+     *            HTML tags; blank to use the filter only
+     *
+     * @param filter
+     *            log entry filter
+     *
+     * @param handler
+     *            handler for the log entries found
+     *
+     * @return true if the search completed; false if the handler stopped the
+     *         search
+     *
+     * @throws IOException
+     *             If the log or index files can't be accessed
+     *************************************************************************/
+    protected boolean search(String searchText,
+                             EventLogFilter filter,
+                             LogEntryHandler handler) throws IOException
+    {
+        boolean isComplete = true;
+
+        // Get the bitmask for the event types to include
+        int typesMask = -1;
+
+        // Check if the filter limits the event types
+        if (filter.types != null)
+        {
+            typesMask = 0;
+
+            // Step through each event type to include
+            for (EventLogMessageType type : filter.types)
+            {
+                typesMask |= 1 << type.ordinal();
+            }
+        }
+
+        // Get the hash of the user name to include
+        int userHash = filter.user != null
+                                           ? filter.user.hashCode()
+                                           : 0;
+        long startTime = filter.startTime != null
+                                                  ? filter.startTime
+                                                  : Long.MIN_VALUE;
+        long endTime = filter.endTime != null
+                                              ? filter.endTime
+                                              : Long.MAX_VALUE;
+
+        // Get the trigram filter bits set by the search text. A log entry
+        // containing the search text sets all of these bits in its block's
+        // filter
+        int[] textBits = getFilterBits(searchText);
+
+        synchronized (indexLock)
+        {
+            update();
+
+            byte[] blockRecord = new byte[BLOCK_RECORD_SIZE];
+            byte[] rowRecords = new byte[BLOCK_ROWS * ROW_RECORD_SIZE];
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            long bufferStart = 0;
+            long bufferEnd = 0;
+
+            // Step through each block of log entries
+            for (long block = 0; block * BLOCK_ROWS < numRows && isComplete; block++)
+            {
+                // Read the block's summary
+                blockIndex.seek(block * BLOCK_RECORD_SIZE);
+                blockIndex.readFully(blockRecord,
+                                     0,
+                                     textBits.length == 0
+                                                          ? BLOCK_HEADER_SIZE
+                                                          : BLOCK_RECORD_SIZE);
+                ByteBuffer summary = ByteBuffer.wrap(blockRecord);
+
+                // Check if the block contains no entries matching the filter's
+                // event types, user, or time range, or if it can't contain the
+                // search text. The event types are checked only if the filter
+                // limits these, since a block's entries may all be of an
+                // unrecognized type
+                if ((filter.types != null
+                     && (summary.getInt(0) & typesMask) == 0)
+                    || (filter.user != null
+                        && (summary.getLong(4) & getUserBit(userHash)) == 0)
+                    || summary.getLong(4 + 8) > endTime
+                    || summary.getLong(4 + 8 + 8) < startTime
+                    || !isFilterSet(blockRecord, BLOCK_HEADER_SIZE, textBits))
+                {
+                    // Skip the block
+                    continue;
+                }
+
+                // Read the row index records for the block's entries
+                long firstRow = block * BLOCK_ROWS;
+                int blockRows = (int) Math.min(BLOCK_ROWS, numRows - firstRow);
+                rowIndex.seek(HEADER_SIZE + firstRow * ROW_RECORD_SIZE);
+                rowIndex.readFully(rowRecords, 0, blockRows * ROW_RECORD_SIZE);
+                ByteBuffer rows = ByteBuffer.wrap(rowRecords);
+
+                // Get the position of the end of the block's last entry
+                long blockEnd = getRowPosition(firstRow + blockRows);
+
+                // Step through each entry in the block
+                for (int index = 0; index < blockRows; index++)
+                {
+                    // Get the entry's index information
+                    int offset = index * ROW_RECORD_SIZE;
+                    long start = rows.getLong(offset);
+                    long time = rows.getLong(offset + 8);
+                    byte type = rows.get(offset + 8 + 8);
+                    int user = rows.getInt(offset + 8 + 8 + 1);
+                    long end = index + 1 < blockRows
+                                                     ? rows.getLong(offset + ROW_RECORD_SIZE)
+                                                     : blockEnd;
+
+                    // Check if the entry matches the filter's event types,
+                    // user, and time range
+                    if ((filter.types == null
+                         || (type != UNKNOWN_TYPE
+                             && (typesMask & (1 << type)) != 0))
+                        && (filter.user == null || user == userHash)
+                        && (filter.startTime == null || time >= startTime)
+                        && (filter.endTime == null || time <= endTime))
+                    {
+                        // Check if the entry isn't in the read buffer
+                        if (start < bufferStart || end > bufferEnd)
+                        {
+                            // Read the log starting with the entry, up to the
+                            // end of the block or the buffer size, whichever
+                            // is less. The buffer is enlarged if the entry
+                            // doesn't fit
+                            int length = (int) Math.max(end - start,
+                                                        Math.min(blockEnd - start,
+                                                                 READ_BUFFER_SIZE));
+
+                            // Check if the entry doesn't fit in the buffer
+                            if (length > buffer.length)
+                            {
+                                buffer = new byte[length];
+                            }
+
+                            log.seek(start);
+                            log.readFully(buffer, 0, length);
+                            bufferStart = start;
+                            bufferEnd = start + length;
+                        }
+
+                        String entry = decodeEntry(buffer,
+                                                   (int) (start - bufferStart),
+                                                   (int) (end - start));
+
+                        // Check if the user name matches the filter (the user
+                        // name hash alone doesn't guarantee a match), then
+                        // pass the entry to the handler
+                        if ((filter.user == null
+                             || filter.user.equals(getField(entry, EventColumns.USER)))
+                            && !handler.handleEntry(firstRow + index + 1, entry))
+                        {
+                            // Stop searching
+                            isComplete = false;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        return isComplete;
+    }
+
+    /**************************************************************************
+     * Convert an event log time stamp to a value that can be compared to
+     * another time stamp's value
+     *
+     * @param timeStamp
+     *            time stamp in the format MM/dd/yyyy HH:mm:ss.SSS; null if
+     *            the log entry has no time stamp
+     *
+     * @return Time stamp value in the form yyyyMMddHHmmssSSS; 0 if the time
+     *         stamp isn't in the expected format
+     *************************************************************************/
+    protected static long getTimeStampValue(String timeStamp)
+    {
+        long value = 0;
+
+        // Check if the time stamp exists and is the expected length
+        if (timeStamp != null && timeStamp.length() == 23)
+        {
+            // Get the time stamp fields, in order of significance
+            long year = getNumber(timeStamp, 6, 4);
+            long month = getNumber(timeStamp, 0, 2);
+            long day = getNumber(timeStamp, 3, 2);
+            long hour = getNumber(timeStamp, 11, 2);
+            long minute = getNumber(timeStamp, 14, 2);
+            long second = getNumber(timeStamp, 17, 2);
+            long millisecond = getNumber(timeStamp, 20, 3);
+
+            // Check if all of the fields are numeric
+            if (year >= 0
+                && month >= 0
+                && day >= 0
+                && hour >= 0
+                && minute >= 0
+                && second >= 0
+                && millisecond >= 0)
+            {
+                value = (((((year
+                             * 100 + month)
+                            * 100 + day)
+                           * 100 + hour)
+                          * 100 + minute)
+                         * 100 + second)
+                        * 1000 + millisecond;
+            }
+        }
+
+        return value;
+    }
+
+    /**************************************************************************
+     * Get the numeric value of a sequence of digits
+     *
+     * @param text
+     *            text containing the digits
+     *
+     * @param start
+     *            index of the first digit
+     *
+     * @param length
+     *            number of digits
+     *
+     * @return Numeric value of the digits; -1 if a character isn't a digit
+     *************************************************************************/
+    private static long getNumber(String text, int start, int length)
+    {
+        long value = 0;
+
+        // Step through each digit
+        for (int index = start; index < start + length; index++)
+        {
+            char digit = text.charAt(index);
+
+            // Check if the character isn't a digit
+            if (digit < '0' || digit > '9')
+            {
+                value = -1;
+                break;
+            }
+
+            value = value * 10 + digit - '0';
+        }
+
+        return value;
+    }
+
+    /**************************************************************************
+     * Get the text of a column from an event log entry
+     *
+     * @param entry
+     *            log entry text
+     *
+     * @param column
+     *            log entry column (SERVER through MESSAGE)
+     *
+     * @return Column text; null if the entry doesn't contain the column
+     *************************************************************************/
+    protected static String getField(String entry, EventColumns column)
+    {
+        String field = null;
+        int start = 0;
+
+        // Step through the columns preceding the one to get
+        for (int index = EventColumns.SERVER.ordinal(); index < column.ordinal() && start != -1; index++)
+        {
+            // Find the start of the next column
+            start = entry.indexOf('|', start);
+
+            // Check if the column separator is found
+            if (start != -1)
+            {
+                start++;
+            }
+        }
+
+        // Check if the column exists
+        if (start != -1)
+        {
+            // Get the column's text. The message is the remainder of the entry
+            int end = column == EventColumns.MESSAGE
+                                                    ? -1
+                                                    : entry.indexOf('|', start);
+            field = end == -1
+                              ? entry.substring(start)
+                              : entry.substring(start, end);
+        }
+
+        return field;
+    }
+
+    /**************************************************************************
+     * Index any entries added to the log file since the index was last
+     * updated. The index is rebuilt if it doesn't exist or no longer matches
+     * the log file. Only complete entries (those ending with a line
+     * terminator) are indexed
+     *
+     * @throws IOException
+     *             If the log or index files can't be accessed
+     *************************************************************************/
+    private void update() throws IOException
+    {
+        long logLength = log.length();
+        numRows = 0;
+        indexedLength = 0;
+
+        // Check if the row index header exists
+        if (rowIndex.length() >= HEADER_SIZE)
+        {
+            // Read the row index header
+            byte[] header = new byte[HEADER_SIZE];
+            rowIndex.seek(0);
+            rowIndex.readFully(header);
+            ByteBuffer hdr = ByteBuffer.wrap(header);
+
+            // Check if the index is in the current format and describes the
+            // log file's contents
+            if (hdr.getLong() == INDEX_ID
+                && hdr.getInt() == INDEX_VERSION
+                && hdr.getInt() == BLOCK_ROWS
+                && hdr.getInt() == FILTER_BYTES)
+            {
+                long fingerprint = hdr.getLong();
+                long length = hdr.getLong();
+                long rows = hdr.getLong();
+
+                // Check if the log file hasn't been shortened or replaced
+                // since it was indexed
+                if (length <= logLength
+                    && fingerprint == getFingerprint(length))
+                {
+                    // Continue indexing from the end of the indexed entries
+                    indexedLength = length;
+                    numRows = rows;
+                }
+            }
+        }
+
+        // Check if the index must be rebuilt
+        if (numRows == 0)
+        {
+            // Discard the index contents
+            rowIndex.setLength(0);
+            blockIndex.setLength(0);
+        }
+
+        // Check if entries have been added to the log file since it was
+        // indexed
+        if (indexedLength < logLength)
+        {
+            // Check if the last block is incomplete
+            if (numRows % BLOCK_ROWS != 0)
+            {
+                // Load the last block's summary so that the block can be
+                // completed
+                byte[] blockRecord = new byte[BLOCK_RECORD_SIZE];
+                blockIndex.seek(numRows / BLOCK_ROWS * BLOCK_RECORD_SIZE);
+                blockIndex.readFully(blockRecord);
+                ByteBuffer summary = ByteBuffer.wrap(blockRecord);
+                blockTypes = summary.getInt();
+                blockUsers = summary.getLong();
+                blockStartTime = summary.getLong();
+                blockEndTime = summary.getLong();
+                blockFilter = new byte[FILTER_BYTES];
+                summary.get(blockFilter);
+            }
+            // The last block is complete
+            else
+            {
+                // Start a new block
+                resetBlock();
+            }
+
+            indexEntries(logLength);
+
+            // Store the number of log file bytes and entries indexed
+            ByteBuffer hdr = ByteBuffer.allocate(HEADER_SIZE);
+            hdr.putLong(INDEX_ID)
+               .putInt(INDEX_VERSION)
+               .putInt(BLOCK_ROWS)
+               .putInt(FILTER_BYTES)
+               .putLong(getFingerprint(indexedLength))
+               .putLong(indexedLength)
+               .putLong(numRows);
+            rowIndex.seek(0);
+            rowIndex.write(hdr.array());
+        }
+    }
+
+    /**************************************************************************
+     * Index the complete log entries between the end of the indexed entries
+     * and the specified log file position
+     *
+     * @param logLength
+     *            log file length
+     *
+     * @throws IOException
+     *             If the log or index files can't be accessed
+     *************************************************************************/
+    private void indexEntries(long logLength) throws IOException
+    {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        ByteBuffer rowRecords = ByteBuffer.allocate(ROW_WRITE_RECORDS * ROW_RECORD_SIZE);
+        long rowsWritten = numRows;
+
+        // Continue to read the log file until all of it is indexed
+        while (indexedLength < logLength)
+        {
+            // Read the next portion of the log file
+            int length = (int) Math.min(buffer.length, logLength - indexedLength);
+            log.seek(indexedLength);
+            log.readFully(buffer, 0, length);
+
+            int start = 0;
+
+            // Step through each byte read
+            for (int index = 0; index < length; index++)
+            {
+                // Check if this is the end of a log entry
+                if (buffer[index] == '\n')
+                {
+                    // Index the entry
+                    addEntry(decodeEntry(buffer, start, index + 1 - start),
+                             indexedLength + start,
+                             rowRecords);
+                    numRows++;
+                    start = index + 1;
+
+                    // Check if the row index records storage is full
+                    if (!rowRecords.hasRemaining())
+                    {
+                        // Write the records to the row index
+                        rowsWritten = writeRowRecords(rowRecords, rowsWritten);
+                    }
+
+                    // Check if the block is complete
+                    if (numRows % BLOCK_ROWS == 0)
+                    {
+                        // Store the block's summary and start a new block
+                        writeBlock();
+                        resetBlock();
+                    }
+                }
+            }
+
+            // Check if no complete entry was read
+            if (start == 0)
+            {
+                // Check if the end of the log file has been reached
+                if (length < buffer.length)
+                {
+                    // The last entry is incomplete (it's being written);
+                    // leave it to be indexed later
+                    break;
+                }
+
+                // The entry is longer than the buffer; enlarge the buffer so
+                // that the entry can be read
+                buffer = new byte[buffer.length * 2];
+            }
+
+            // Continue indexing with the first entry not yet indexed
+            indexedLength += start;
+        }
+
+        // Write the remaining records to the row index
+        writeRowRecords(rowRecords, rowsWritten);
+
+        // Check if the last block is incomplete
+        if (numRows % BLOCK_ROWS != 0)
+        {
+            // Store the block's summary so far
+            writeBlock();
+        }
+    }
+
+    /**************************************************************************
+     * Store a log entry's row index record, and add the entry's event type,
+     * user, time stamp, and trigrams to the summary of the block being
+     * indexed
+     *
+     * @param entry
+     *            log entry text
+     *
+     * @param position
+     *            log file position of the start of the entry
+     *
+     * @param rowRecords
+     *            row index records storage
+     *************************************************************************/
+    private void addEntry(String entry, long position, ByteBuffer rowRecords)
+    {
+        String user = getField(entry, EventColumns.USER);
+        int userHash = user != null
+                                    ? user.hashCode()
+                                    : 0;
+        byte type = getType(getField(entry, EventColumns.TYPE));
+        long time = getTimeStampValue(getField(entry, EventColumns.TIME));
+
+        // Check if the event type is recognized
+        if (type != UNKNOWN_TYPE)
+        {
+            blockTypes |= 1 << type;
+        }
+
+        blockUsers |= getUserBit(userHash);
+
+        // Check if the entry has a valid time stamp
+        if (time != 0)
+        {
+            blockStartTime = Math.min(blockStartTime, time);
+            blockEndTime = Math.max(blockEndTime, time);
+        }
+
+        // Store the entry's position, time stamp, event type, and user name
+        // hash
+        rowRecords.putLong(position)
+                  .putLong(time)
+                  .put(type)
+                  .putInt(userHash);
+
+        // Step through each column of the entry. The search matches the
+        // column text with any HTML tags removed, so the trigrams are taken
+        // from this text
+        for (String column : entry.split("[|]", EventColumns.values().length - 1))
+        {
+            // Check if the column may contain HTML tags
+            if (column.indexOf('<') != -1)
+            {
+                column = CcddUtilities.removeHTMLTags(column);
+            }
+
+            // Step through each trigram in the column text
+            for (int index = 0; index <= column.length() - TRIGRAM_LENGTH; index++)
+            {
+                // Set the trigram's bits in the block filter
+                for (int bit : getTrigramBits(column, index))
+                {
+                    blockFilter[bit >>> 3] |= 1 << (bit & 7);
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Write the row index records stored so far
+     *
+     * @param rowRecords
+     *            row index records storage; this is emptied
+     *
+     * @param rowsWritten
+     *            number of row index records already written
+     *
+     * @return Number of row index records written
+     *
+     * @throws IOException
+     *             If the row index file can't be written
+     *************************************************************************/
+    private long writeRowRecords(ByteBuffer rowRecords, long rowsWritten) throws IOException
+    {
+        rowIndex.seek(HEADER_SIZE + rowsWritten * ROW_RECORD_SIZE);
+        rowIndex.write(rowRecords.array(), 0, rowRecords.position());
+        rowsWritten += rowRecords.position() / ROW_RECORD_SIZE;
+        rowRecords.clear();
+        return rowsWritten;
+    }
+
+    /**************************************************************************
+     * Write the summary of the block being indexed to the block index
+     *
+     * @throws IOException
+     *             If the block index file can't be written
+     *************************************************************************/
+    private void writeBlock() throws IOException
+    {
+        ByteBuffer summary = ByteBuffer.allocate(BLOCK_RECORD_SIZE);
+        summary.putInt(blockTypes)
+               .putLong(blockUsers)
+               .putLong(blockStartTime)
+               .putLong(blockEndTime)
+               .put(blockFilter);
+        blockIndex.seek((numRows - 1) / BLOCK_ROWS * BLOCK_RECORD_SIZE);
+        blockIndex.write(summary.array());
+    }
+
+    /**************************************************************************
+     * Start the summary of a new block
+     *************************************************************************/
+    private void resetBlock()
+    {
+        blockTypes = 0;
+        blockUsers = 0;
+        blockStartTime = Long.MAX_VALUE;
+        blockEndTime = Long.MIN_VALUE;
+        blockFilter = new byte[FILTER_BYTES];
+    }
+
+    /**************************************************************************
+     * Get the log file position of the specified log entry
+     *
+     * @param row
+     *            log entry index (the first entry is index 0). If this is the
+     *            number of entries then the position following the last
+     *            indexed entry is returned
+     *
+     * @return Log file position of the start of the entry
+     *
+     * @throws IOException
+     *             If the row index file can't be read
+     *************************************************************************/
+    private long getRowPosition(long row) throws IOException
+    {
+        long position = indexedLength;
+
+        // Check if the entry is indexed
+        if (row < numRows)
+        {
+            rowIndex.seek(HEADER_SIZE + row * ROW_RECORD_SIZE);
+            position = rowIndex.readLong();
+        }
+
+        return position;
+    }
+
+    /**************************************************************************
+     * Get the fingerprint of the start of the log file, used to detect if the
+     * log file is replaced
+     *
+     * @param length
+     *            number of log file bytes indexed
+     *
+     * @return Checksum of the log file bytes, up to the fingerprint length
+     *
+     * @throws IOException
+     *             If the log file can't be read
+     *************************************************************************/
+    private long getFingerprint(long length) throws IOException
+    {
+        byte[] buffer = new byte[(int) Math.min(length, FINGERPRINT_BYTES)];
+        log.seek(0);
+        log.readFully(buffer);
+        CRC32 crc = new CRC32();
+        crc.update(buffer);
+        return crc.getValue();
+    }
+
+    /**************************************************************************
+     * Convert log file bytes to a log entry
+     *
+     * @param buffer
+     *            buffer containing the log file bytes
+     *
+     * @param start
+     *            index of the entry's first byte
+     *
+     * @param length
+     *            number of bytes in the entry, including any line terminator
+     *
+     * @return Log entry text, without the line terminator
+     *************************************************************************/
+    private String decodeEntry(byte[] buffer, int start, int length)
+    {
+        // Step through the line terminator characters
+        while (length > 0
+               && (buffer[start + length - 1] == '\n'
+               || buffer[start + length - 1] == '\r'))
+        {
+            // Remove the character
+            length--;
+        }
+
+        return new String(buffer, start, length, charset);
+    }
+
+    /**************************************************************************
+     * Get the index value of an event type
+     *
+     * @param typeName
+     *            event type name (e.g., "Success"); null if the log entry has
+     *            no type
+     *
+     * @return Event type index; UNKNOWN_TYPE if the type isn't recognized
+     *************************************************************************/
+    private static byte getType(String typeName)
+    {
+        byte type = UNKNOWN_TYPE;
+
+        // Check if the type name exists
+        if (typeName != null)
+        {
+            // Step through each event type
+            for (EventLogMessageType msgType : EventLogMessageType.values())
+            {
+                // Check if the type name matches
+                if (msgType.getTypeName().equals(typeName))
+                {
+                    type = (byte) msgType.ordinal();
+                    break;
+                }
+            }
+        }
+
+        return type;
+    }
+
+    /**************************************************************************
+     * Get the bit representing a user in a block's set of users
+     *
+     * @param userHash
+     *            user name hash
+     *
+     * @return User bitmask
+     *************************************************************************/
+    private static long getUserBit(int userHash)
+    {
+        return 1L << (userHash & 63);
+    }
+
+    /**************************************************************************
+     * Get the block filter bits set by the trigrams in the search text
+     *
+     * @param searchText
+     *            search text
+     *
+     * @return Array containing the filter bit indices; empty if the search
+     *         text is shorter than a trigram
+     *************************************************************************/
+    private static int[] getFilterBits(String searchText)
+    {
+        int numTrigrams = Math.max(0, searchText.length() - TRIGRAM_LENGTH + 1);
+        int[] bits = new int[numTrigrams * FILTER_HASHES];
+
+        // Step through each trigram in the search text
+        for (int index = 0; index < numTrigrams; index++)
+        {
+            System.arraycopy(getTrigramBits(searchText, index),
+                             0,
+                             bits,
+                             index * FILTER_HASHES,
+                             FILTER_HASHES);
+        }
+
+        return bits;
+    }
+
+    /**************************************************************************
+     * Check if all of the specified bits are set in a block filter
+     *
+     * @param record
+     *            block index record
+     *
+     * @param offset
+     *            index of the filter in the record
+     *
+     * @param bits
+     *            filter bit indices
+     *
+     * @return true if all of the bits are set
+     *************************************************************************/
+    private static boolean isFilterSet(byte[] record, int offset, int[] bits)
+    {
+        boolean isSet = true;
+
+        // Step through each bit
+        for (int bit : bits)
+        {
+            // Check if the bit isn't set
+            if ((record[offset + (bit >>> 3)] & (1 << (bit & 7))) == 0)
+            {
+                isSet = false;
+                break;
+            }
+        }
+
+        return isSet;
+    }
+
+    /**************************************************************************
+     * Get the block filter bits for a trigram. The case of alphabetic
+     * characters is ignored, matching the event log search
+     *
+     * @param text
+     *            text containing the trigram
+     *
+     * @param start
+     *            index of the trigram's first character
+     *
+     * @return Array containing the filter bit indices for the trigram
+     *************************************************************************/
+    private static int[] getTrigramBits(String text, int start)
+    {
+        long key = 0;
+
+        // Step through each character in the trigram
+        for (int index = start; index < start + TRIGRAM_LENGTH; index++)
+        {
+            char character = text.charAt(index);
+
+            // Check if the character is an uppercase letter
+            if (character >= 'A' && character <= 'Z')
+            {
+                // Convert the letter to lowercase
+                character += 'a' - 'A';
+            }
+
+            key = (key << 16) | character;
+        }
+
+        // Mix the trigram's bits, then derive the bit indices from two hashes
+        // of the result
+        long hash = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        int hash1 = (int) (hash >>> 32);
+        int hash2 = (int) hash | 1;
+        int[] bits = new int[FILTER_HASHES];
+
+        // Step through each bit
+        for (int index = 0; index < FILTER_HASHES; index++)
+        {
+            bits[index] = (hash1 + index * hash2) & (FILTER_BYTES * 8 - 1);
+        }
+
+        return bits;
+    }
+}
@@ -11,7 +11,9 @@ import static CCDD.CcddConstants.TYPE_DATA_FIELD_IDENT;
 
 import java.awt.Component;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddConstants.FieldEditorColumnInfo;
@@ -30,6 +32,16 @@ public class CcddFieldHandler
     // List of field information
     private List<FieldInformation> fieldInformation;
 
+    // Field information indexed by owner name, and by owner name and field
+    // name (names are in lower case). The indices are rebuilt when the field
+    // information changes
+    private Map<String, List<FieldInformation>> ownerIndex;
+    private Map<String, Map<String, FieldInformation>> fieldIndex;
+
+    // Field information list and its size at the time the indices were built
+    private List<FieldInformation> indexedFields;
+    private int indexedSize;
+
     /**************************************************************************
      * Field handler class constructor
      *************************************************************************/
@@ -141,6 +153,91 @@ public class CcddFieldHandler
     protected void setFieldInformation(List<FieldInformation> fieldInfo)
     {
         fieldInformation = fieldInfo;
+        ownerIndex = null;
+    }
+
+    /**************************************************************************
+     * Discard the owner and field name indices so that these are rebuilt when
+     * next used. This must be called when a field's owner or name is changed
+     * in place, since such changes aren't otherwise detected
+     *************************************************************************/
+    protected void clearIndices()
+    {
+        ownerIndex = null;
+    }
+
+    /**************************************************************************
+     * Build the owner and field name indices for the field information if
+     * these don't exist or if the field information has changed since the
+     * indices were built
+     *************************************************************************/
+    private void updateIndices()
+    {
+        // Check if the indices don't exist or the field information changed
+        if (ownerIndex == null
+            || indexedFields != fieldInformation
+            || (fieldInformation != null
+                && indexedSize != fieldInformation.size()))
+        {
+            ownerIndex = new HashMap<String, List<FieldInformation>>();
+            fieldIndex = new HashMap<String, Map<String, FieldInformation>>();
+            indexedFields = fieldInformation;
+            indexedSize = 0;
+
+            // Check if any field information exists
+            if (fieldInformation != null)
+            {
+                indexedSize = fieldInformation.size();
+
+                // Step through each field
+                for (FieldInformation info : fieldInformation)
+                {
+                    String owner = info.getOwnerName().toLowerCase();
+                    List<FieldInformation> ownerFields = ownerIndex.get(owner);
+
+                    // Check if this is the first field for this owner
+                    if (ownerFields == null)
+                    {
+                        // Create the owner's entries in the indices
+                        ownerFields = new ArrayList<FieldInformation>();
+                        ownerIndex.put(owner, ownerFields);
+                        fieldIndex.put(owner,
+                                       new HashMap<String, FieldInformation>());
+                    }
+
+                    // Add the field to the owner's list
+                    ownerFields.add(info);
+
+                    // Check if the owner doesn't have another field with this
+                    // name. If duplicates exist the first one is used
+                    if (!fieldIndex.get(owner).containsKey(info.getFieldName().toLowerCase()))
+                    {
+                        // Add the field to the owner's field name index
+                        fieldIndex.get(owner).put(info.getFieldName().toLowerCase(),
+                                                  info);
+                    }
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Get a copy of the data field information for the specified owner
+     *
+     * @param ownerName
+     *            name of the data field owner (table name, including the path
+     *            if this table references a structure, group name, or table
+     *            type name)
+     *
+     * @return List containing a copy of the data field information for the
+     *         owner; an empty list if the owner has no data fields
+     *************************************************************************/
+    protected List<FieldInformation> getFieldInformationByOwnerCopy(String ownerName)
+    {
+        // Update the indices if needed
+        updateIndices();
+
+        return getFieldInformationCopy(ownerIndex.get(ownerName.toLowerCase()));
     }
 
     /**************************************************************************
@@ -163,17 +260,27 @@ public class CcddFieldHandler
     {
         FieldInformation fieldInfo = null;
 
-        // Step through each field
-        for (FieldInformation info : fieldInformation)
+        // Update the indices if needed, then get the fields belonging to the
+        // owner
+        updateIndices();
+        Map<String, FieldInformation> ownerFields = fieldIndex.get(ownerName.toLowerCase());
+
+        // Check if the owner has any fields
+        if (ownerFields != null)
         {
-            // Check if the owner and field names match the ones supplied (case
-            // insensitive)
-            if (info.getOwnerName().equalsIgnoreCase(ownerName)
-                && info.getFieldName().equalsIgnoreCase(fieldName))
+            // Get the field with the specified name
+            fieldInfo = ownerFields.get(fieldName.toLowerCase());
+
+            // Check if the field's owner or name changed after the indices
+            // were built
+            if (fieldInfo != null
+                && !(fieldInfo.getOwnerName().equalsIgnoreCase(ownerName)
+                && fieldInfo.getFieldName().equalsIgnoreCase(fieldName)))
             {
-                // Store the field information reference and stop searching
-                fieldInfo = info;
-                break;
+                // Discard the indices and search again using the rebuilt
+                // indices
+                ownerIndex = null;
+                fieldInfo = getFieldInformationByName(ownerName, fieldName);
             }
         }
 
@@ -209,6 +316,9 @@ public class CcddFieldHandler
     protected void buildFieldInformation(Object[][] fieldDefinitions,
                                          String ownerName)
     {
+        // Discard the field information indices
+        ownerIndex = null;
+
         // Check if the field information doesn't exist
         if (fieldInformation == null)
         {
@@ -222,6 +332,55 @@ public class CcddFieldHandler
             fieldInformation.clear();
         }
 
+        // Store the field information for the owner
+        fieldInformation.addAll(createFieldInformation(fieldDefinitions,
+                                                       ownerName));
+
+        // Build the field information indices. These are built here so that
+        // a handler whose fields aren't subsequently altered can be shared
+        // between threads
+        updateIndices();
+    }
+
+    /**************************************************************************
+     * Get the data field information for the specified owner from the field
+     * definitions. Unlike buildFieldInformation() the handler's field
+     * information isn't altered, so this can be used with a handler that's
+     * shared between threads
+     *
+     * @param ownerName
+     *            name of the data field owner (table name, including the path
+     *            if this table references a structure, group name, or table
+     *            type name); null to get all data fields
+     *
+     * @return List containing the data field information for the owner; an
+     *         empty list if the owner has no data fields
+     *************************************************************************/
+    protected List<FieldInformation> getFieldInformationFromDefinitions(String ownerName)
+    {
+        return createFieldInformation(fieldDefinitions.toArray(new String[0][0]),
+                                      ownerName);
+    }
+
+    /**************************************************************************
+     * Create the data field information from the field definitions provided
+     *
+     * @param fieldDefinitions
+     *            array of field definitions; null if no definitions exist
+     *            (this produces an empty field information list)
+     *
+     * @param ownerName
+     *            name of the data field owner (table name, including the path
+     *            if this table references a structure, group name, or table
+     *            type name); null to get all data fields
+     *
+     * @return List containing the data field information for the owner
+     *************************************************************************/
+    private static List<FieldInformation> createFieldInformation(Object[][] fieldDefinitions,
+                                                                 String ownerName)
+    {
+        List<FieldInformation> fieldInfo = new ArrayList<FieldInformation>();
+
         // Check if the field definitions exist
         if (fieldDefinitions != null)
         {
@@ -236,17 +395,19 @@ public class CcddFieldHandler
                     || ownerName.equalsIgnoreCase(fieldDefn[FieldsColumn.OWNER_NAME.ordinal()].toString()))
                 {
                     // Store the field information
-                    addField(fieldDefn[FieldsColumn.OWNER_NAME.ordinal()].toString(),
-                             fieldDefn[FieldsColumn.FIELD_NAME.ordinal()].toString(),
-                             fieldDefn[FieldsColumn.FIELD_DESC.ordinal()].toString(),
-                             Integer.valueOf(fieldDefn[FieldsColumn.FIELD_SIZE.ordinal()].toString()),
-                             fieldDefn[FieldsColumn.FIELD_TYPE.ordinal()].toString(),
-                             Boolean.valueOf(fieldDefn[FieldsColumn.FIELD_REQUIRED.ordinal()].toString()),
-                             fieldDefn[FieldsColumn.FIELD_APPLICABILITY.ordinal()].toString(),
-                             fieldDefn[FieldsColumn.FIELD_VALUE.ordinal()].toString());
+                    fieldInfo.add(new FieldInformation(fieldDefn[FieldsColumn.OWNER_NAME.ordinal()].toString(),
+                                                       fieldDefn[FieldsColumn.FIELD_NAME.ordinal()].toString(),
+                                                       fieldDefn[FieldsColumn.FIELD_DESC.ordinal()].toString(),
+                                                       Integer.valueOf(fieldDefn[FieldsColumn.FIELD_SIZE.ordinal()].toString()),
+                                                       fieldDefn[FieldsColumn.FIELD_TYPE.ordinal()].toString(),
+                                                       Boolean.valueOf(fieldDefn[FieldsColumn.FIELD_REQUIRED.ordinal()].toString()),
+                                                       fieldDefn[FieldsColumn.FIELD_APPLICABILITY.ordinal()].toString(),
+                                                       fieldDefn[FieldsColumn.FIELD_VALUE.ordinal()].toString()));
                 }
             }
         }
+
+        return fieldInfo;
     }
 
     /**************************************************************************
@@ -469,6 +630,9 @@ public class CcddFieldHandler
             // position as the old field
             fieldInformation.add(index, updateInfo);
 
+            // Discard the field information indices
+            ownerIndex = null;
+
             // Set the flag to indicate a match exists
             isUpdate = true;
         }
@@ -493,6 +657,9 @@ public class CcddFieldHandler
             fieldInformation.get(index).setOwnerName(newName);
         }
 
+        // Discard the field information indices
+        clearIndices();
+
         return getFieldDefinitionList();
     }
 
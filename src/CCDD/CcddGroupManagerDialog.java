@@ -1284,6 +1284,10 @@ public class CcddGroupManagerDialog extends CcddDialogHandler
                     fieldInfo.setOwnerName(CcddFieldHandler.getFieldGroupName(groupNameFld.getText()));
                 }
 
+                // Discard the field handler's indices since the owner names
+                // of the fields it references may have changed
+                groupTree.getFieldHandler().clearIndices();
+
                 // Update the group dialog's change indicator
                 updateChangeIndicator();
             }
@@ -1352,6 +1356,10 @@ public class CcddGroupManagerDialog extends CcddDialogHandler
                     fieldInfo.setOwnerName(CcddFieldHandler.getFieldGroupName(groupNameFld.getText()));
                 }
 
+                // Discard the field handler's indices since the owner names
+                // of the fields it references may have changed
+                groupTree.getFieldHandler().clearIndices();
+
                 // Update the group dialog's change indicator
                 updateChangeIndicator();
             }
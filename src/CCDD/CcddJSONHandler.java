@@ -80,6 +80,13 @@ public class CcddJSONHandler implements CcddImportExportInterface
     // definitions
     private List<TableDefinition> tableDefinitions;
 
+    // Index of the first table row, and the maximum number of rows, to
+    // include when getting a table's data (-1 to include all rows), and the
+    // names of the columns to include (null to include all columns)
+    private int rowOffset;
+    private int rowLimit;
+    private List<String> columnNames;
+
     /**************************************************************************
      * JSON handler class constructor
      * 
@@ -107,6 +114,79 @@ public class CcddJSONHandler implements CcddImportExportInterface
         dataTypeHandler = ccddMain.getDataTypeHandler();
         macroHandler = ccddMain.getMacroHandler();
         rsvMsgIDHandler = ccddMain.getReservedMsgIDHandler();
+        rowOffset = 0;
+        rowLimit = -1;
+        columnNames = null;
+    }
+
+    /**************************************************************************
+     * Set the range of rows and the columns to include when getting a table's
+     * data. By default all rows and columns are included
+     * 
+     * @param rowOffset
+     *            index of the first table row to include
+     * 
+     * @param rowLimit
+     *            maximum number of table rows to include; -1 to include all
+     *            rows following the first
+     * 
+     * @param columnNames
+     *            names of the columns to include (case insensitive); null to
+     *            include all columns
+     *************************************************************************/
+    protected void setTableDataFilter(int rowOffset,
+                                      int rowLimit,
+                                      List<String> columnNames)
+    {
+        this.rowOffset = rowOffset;
+        this.rowLimit = rowLimit;
+        this.columnNames = columnNames;
+    }
+
+    /**************************************************************************
+     * Get the number of rows in the table most recently loaded to get its
+     * data, including rows outside of the range of included rows
+     * 
+     * @return Number of rows in the table most recently loaded; 0 if no table
+     *         has loaded successfully
+     *************************************************************************/
+    protected int getTableRowCount()
+    {
+        return tableInfo != null && !tableInfo.isErrorFlag()
+                                                            ? tableInfo.getData().length
+                                                            : 0;
+    }
+
+    /**************************************************************************
+     * Check if the specified column is to be included when getting a table's
+     * data
+     * 
+     * @param columnName
+     *            column name
+     * 
+     * @return true if all columns are included or if the column name is in
+     *         the list of included columns
+     *************************************************************************/
+    protected boolean isColumnIncluded(String columnName)
+    {
+        boolean isIncluded = columnNames == null;
+
+        // Check if only specific columns are included
+        if (!isIncluded)
+        {
+            // Step through each included column name
+            for (String name : columnNames)
+            {
+                // Check if the column name matches
+                if (name.equalsIgnoreCase(columnName))
+                {
+                    isIncluded = true;
+                    break;
+                }
+            }
+        }
+
+        return isIncluded;
     }
 
     /**************************************************************************
@@ -1378,7 +1458,8 @@ public class CcddJSONHandler implements CcddImportExportInterface
      * 
      * @return The supplied JSON object, with the table data added (if any);
      *         null if the table doesn't exists or an error occurs when loading
-     *         the data. Empty table cells are omitted
+     *         the data. Empty table cells are omitted, as are the rows and
+     *         columns excluded by the table data filter
      *************************************************************************/
     @SuppressWarnings("unchecked")
     protected JSONObject getTableData(String tableName,
@@ -1405,6 +1486,13 @@ public class CcddJSONHandler implements CcddImportExportInterface
             JSONObject columnJO = new JSONObject();
             tableDataJA = new JSONArray();
 
+            // Determine the range of rows to include
+            int firstRow = Math.min(rowOffset, tableInfo.getData().length);
+            int lastRow = rowLimit == -1
+                                        ? tableInfo.getData().length
+                                        : Math.min(firstRow + rowLimit,
+                                                   tableInfo.getData().length);
+
             // Check if the macro names should be replaced with the
             // corresponding macro values
             if (replaceMacros)
@@ -1420,21 +1508,27 @@ public class CcddJSONHandler implements CcddImportExportInterface
                 TypeDefinition typeDefn = ccddMain.getTableTypeHandler().getTypeDefinition(tableInfo.getType());
                 String[] columnNames = typeDefn.getColumnNamesUser();
 
-                // Step through each table row
-                for (int row = 0; row < tableInfo.getData().length; row++)
+                // Step through each table row in the range of included rows
+                for (int row = firstRow; row < lastRow; row++)
                 {
                     columnJO = new JSONObject();
 
                     // Step through each table column
                     for (int column = NUM_HIDDEN_COLUMNS; column < tableInfo.getData()[row].length; column++)
                     {
-                        // Check if a cell isn't blank
-                        if (!tableInfo.getData()[row][column].isEmpty())
+                        // Check if a cell isn't blank and that the column is
+                        // included
+                        if (!tableInfo.getData()[row][column].isEmpty()
+                            && isColumnIncluded(columnNames[column]))
                         {
                             // Add the column name and value to the cell object
                             columnJO.put(columnNames[column],
                                          tableInfo.getData()[row][column]);
+                        }
 
+                        // Check if a cell isn't blank
+                        if (!tableInfo.getData()[row][column].isEmpty())
+                        {
                             // Check if the table represents a structure, that
                             // the variable path column is to be included, and
                             // that a variable handler and path separators are
@@ -1442,7 +1536,8 @@ public class CcddJSONHandler implements CcddImportExportInterface
                             if (typeDefn.isStructure()
                                 && includeVariablePaths
                                 && variableHandler != null
-                                && separators != null)
+                                && separators != null
+                                && isColumnIncluded("Variable Path"))
                             {
                                 // Get the variable's data type
                                 String dataType = tableInfo.getData()[row][typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT)];
@@ -1515,16 +1610,18 @@ public class CcddJSONHandler implements CcddImportExportInterface
     {
         JSONArray dataFieldDefnJA = new JSONArray();
 
-        // Get the existing data fields for the specified owner
-        fieldHandler.buildFieldInformation(ownerName);
+        // Get the existing data fields for the specified owner. The field
+        // handler's information isn't altered so that the handler can be
+        // shared
+        List<FieldInformation> ownerFields = fieldHandler.getFieldInformationFromDefinitions(ownerName);
 
         // Check if the owner has any fields
-        if (!fieldHandler.getFieldInformation().isEmpty())
+        if (!ownerFields.isEmpty())
         {
             JSONObject fieldJO = new JSONObject();
 
             // Step through the data fields for this owner
-            for (FieldInformation fieldInfo : fieldHandler.getFieldInformation())
+            for (FieldInformation fieldInfo : ownerFields)
             {
                 fieldJO = new JSONObject();
 
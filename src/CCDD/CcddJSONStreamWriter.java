@@ -0,0 +1,306 @@
+/**
+ * CFS Command & Data Dictionary JSON stream writer. Copyright 2017 United
+ * States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+import CCDD.CcddClasses.CCDDException;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary JSON stream writer class. Serializes JSON
+ * objects, arrays, and values directly to an output stream, without first
+ * building the entire JSON string in memory
+ *****************************************************************************/
+public class CcddJSONStreamWriter
+{
+    // Output stream to which the JSON text is written
+    private final Writer writer;
+
+    // Hexadecimal digits used for Unicode escape sequences
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**************************************************************************
+     * Streamed JSON array class. The array members are created one at a time
+     * as the array is serialized; a member is discarded once it has been
+     * written so that only one member at a time is held in memory. The
+     * members can instead be created in batches, for arrays where the number
+     * of members isn't known until these are created
+     *************************************************************************/
+    protected abstract static class StreamedJSONArray
+    {
+        /**********************************************************************
+         * Check if the array members are created in batches. If so, then
+         * size() is the number of batches, and each member created by
+         * getMember() is a list whose contents are written as members of this
+         * array
+         *
+         * @return true if the array members are created in batches; false if
+         *         the members are created one at a time
+         *********************************************************************/
+        protected boolean isBatched()
+        {
+            return false;
+        }
+
+        /**********************************************************************
+         * Get the number of members in the array
+         *
+         * @return Number of members in the array
+         *********************************************************************/
+        protected abstract int size();
+
+        /**********************************************************************
+         * Create the specified array member
+         *
+         * @param index
+         *            index of the member to create
+         *
+         * @return JSON object, array, or value for the array member
+         *
+         * @throws CCDDException
+         *             If the array member can't be created
+         *********************************************************************/
+        protected abstract Object getMember(int index) throws CCDDException;
+    }
+
+    /**************************************************************************
+     * JSON stream writer class constructor
+     *
+     * @param writer
+     *            output stream to which the JSON text is written
+     *************************************************************************/
+    protected CcddJSONStreamWriter(Writer writer)
+    {
+        this.writer = writer;
+    }
+
+    /**************************************************************************
+     * Write the specified JSON object, array, or value to the output stream.
+     * Maps are written as JSON objects; lists, arrays, and streamed arrays are
+     * written as JSON arrays; numbers and boolean values are written without
+     * quotes; all other values are written as JSON strings
+     *
+     * @param value
+     *            JSON object, array, or value to write
+     *
+     * @throws IOException
+     *             If an error occurs writing to the output stream
+     *
+     * @throws CCDDException
+     *             If a streamed array member can't be created
+     *************************************************************************/
+    protected void writeValue(Object value) throws IOException, CCDDException
+    {
+        // Check if the value is null
+        if (value == null)
+        {
+            writer.write("null");
+        }
+        // Check if the value is a string
+        else if (value instanceof String)
+        {
+            writeString((String) value);
+        }
+        // Check if the value is a number or boolean
+        else if (value instanceof Number || value instanceof Boolean)
+        {
+            writer.write(value.toString());
+        }
+        // Check if the value is a JSON object
+        else if (value instanceof Map)
+        {
+            boolean isFirst = true;
+            writer.write('{');
+
+            // Step through each key/value pair in the object
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+            {
+                // Check if this isn't the first pair in the object
+                if (!isFirst)
+                {
+                    writer.write(',');
+                }
+
+                isFirst = false;
+
+                // Write the key and value
+                writeString(String.valueOf(entry.getKey()));
+                writer.write(':');
+                writeValue(entry.getValue());
+            }
+
+            writer.write('}');
+        }
+        // Check if the value is a JSON array
+        else if (value instanceof Iterable)
+        {
+            Iterator<?> iterator = ((Iterable<?>) value).iterator();
+            writer.write('[');
+
+            // Step through each member of the array
+            while (iterator.hasNext())
+            {
+                writeValue(iterator.next());
+
+                // Check if this isn't the last member of the array
+                if (iterator.hasNext())
+                {
+                    writer.write(',');
+                }
+            }
+
+            writer.write(']');
+        }
+        // Check if the value is a streamed JSON array
+        else if (value instanceof StreamedJSONArray)
+        {
+            StreamedJSONArray streamedArray = (StreamedJSONArray) value;
+            boolean isFirst = true;
+            writer.write('[');
+
+            // Step through each member, or batch of members, of the array
+            for (int index = 0; index < streamedArray.size(); index++)
+            {
+                // Create the member or batch of members
+                Object member = streamedArray.getMember(index);
+
+                // Step through each member created
+                for (Object batchMember : streamedArray.isBatched()
+                                                                    ? (Iterable<?>) member
+                                                                    : Arrays.asList(member))
+                {
+                    // Check if this isn't the first member of the array
+                    if (!isFirst)
+                    {
+                        writer.write(',');
+                    }
+
+                    // Write the member to the output stream
+                    writeValue(batchMember);
+                    isFirst = false;
+                }
+            }
+
+            writer.write(']');
+        }
+        // Check if the value is an array of objects
+        else if (value instanceof Object[])
+        {
+            Object[] array = (Object[]) value;
+            writer.write('[');
+
+            // Step through each member of the array
+            for (int index = 0; index < array.length; index++)
+            {
+                // Check if this isn't the first member of the array
+                if (index != 0)
+                {
+                    writer.write(',');
+                }
+
+                writeValue(array[index]);
+            }
+
+            writer.write(']');
+        }
+        // The value is some other type
+        else
+        {
+            // Write the value's text representation as a string
+            writeString(value.toString());
+        }
+    }
+
+    /**************************************************************************
+     * Write the specified text to the output stream as a JSON string. The
+     * quote, backslash, and control characters are escaped; all other
+     * characters, including the forward slash, are written unaltered
+     *
+     * @param text
+     *            text to write
+     *
+     * @throws IOException
+     *             If an error occurs writing to the output stream
+     *************************************************************************/
+    private void writeString(String text) throws IOException
+    {
+        int start = 0;
+        writer.write('"');
+
+        // Step through each character in the text
+        for (int index = 0; index < text.length(); index++)
+        {
+            char c = text.charAt(index);
+            String escape = null;
+
+            switch (c)
+            {
+                case '"':
+                    escape = "\\\"";
+                    break;
+
+                case '\\':
+                    escape = "\\\\";
+                    break;
+
+                case '\b':
+                    escape = "\\b";
+                    break;
+
+                case '\f':
+                    escape = "\\f";
+                    break;
+
+                case '\n':
+                    escape = "\\n";
+                    break;
+
+                case '\r':
+                    escape = "\\r";
+                    break;
+
+                case '\t':
+                    escape = "\\t";
+                    break;
+
+                default:
+                    // Check if the character is a control character, or a
+                    // line or paragraph separator (which aren't valid in
+                    // JavaScript string literals)
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029')
+                    {
+                        escape = new String(new char[] {'\\',
+                                                        'u',
+                                                        HEX_DIGITS[(c >> 12) & 0xf],
+                                                        HEX_DIGITS[(c >> 8) & 0xf],
+                                                        HEX_DIGITS[(c >> 4) & 0xf],
+                                                        HEX_DIGITS[c & 0xf]});
+                    }
+
+                    break;
+            }
+
+            // Check if the character must be escaped
+            if (escape != null)
+            {
+                // Write the unaltered characters preceding this one, followed
+                // by the escape sequence
+                writer.write(text, start, index - start);
+                writer.write(escape);
+                start = index + 1;
+            }
+        }
+
+        // Write the remaining unaltered characters
+        writer.write(text, start, text.length() - start);
+        writer.write('"');
+    }
+}
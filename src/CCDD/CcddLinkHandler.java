@@ -8,17 +8,13 @@ package CCDD;
 
 import java.awt.Component;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
 
-import javax.swing.tree.TreeNode;
-
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddClasses.RateInformation;
-import CCDD.CcddClasses.ToolTipTreeNode;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.LinksColumn;
-import CCDD.CcddConstants.TableTreeType;
+import CCDD.CcddStructureLayoutHandler.StructureLayout;
 
 /******************************************************************************
  * CFS Command & Data Dictionary link handler class
@@ -33,16 +29,9 @@ public class CcddLinkHandler
     // retrieved from the database
     private List<String[]> linkDefinitions;
 
-    // Variable offset parameters
-    private int bitCount;
-    private int lastByteSize;
-    private String lastDataType;
-    private int lastBitLength;
-
-    // List containing the paths for every structure and variable, and the
-    // offset to the structures and variables relative to their root structures
-    private List<String> structureAndVariablePaths;
-    private List<Integer> structureAndVariableOffsets;
+    // Paths for every structure and variable, and the offset to the
+    // structures and variables relative to their root structures
+    private final StructureLayout structureLayout;
 
     /**************************************************************************
      * Link handler class constructor
@@ -59,8 +48,8 @@ public class CcddLinkHandler
         this.dataTypeHandler = ccddMain.getDataTypeHandler();
         this.linkDefinitions = linkDefinitions;
 
-        // Create the variable path and offset lists
-        buildPathAndOffsetLists();
+        // Get the variable paths and offsets
+        structureLayout = ccddMain.getStructureLayoutHandler().getLayout();
 
         // Remove any variable references in the link definitions that aren't
         // found in the links tree
@@ -350,8 +339,8 @@ public class CcddLinkHandler
 
                 // Get the offset of this variable relative to its root
                 // structure. A variable's bit length is ignored if provided
-                int index = structureAndVariablePaths.indexOf(linkMember.replaceFirst(":.+$", ""));
-                int offset = structureAndVariableOffsets.get(index);
+                int index = structureLayout.indexOf(removeBitLength(linkMember));
+                int offset = structureLayout.getOffset(index);
 
                 // Check if this variable is not bit-packed with the previous
                 // one. The variables are packed together if this variable
@@ -546,13 +535,13 @@ public class CcddLinkHandler
         {
             // Get the index in the path list for the specified structure or
             // variable. Remove the bit length if provided
-            int index = structureAndVariablePaths.indexOf(dataType);
+            int index = structureLayout.indexOf(dataType);
 
             // Check if the target exists
             if (index != -1)
             {
                 // Get the size of the structure
-                sizeInBytes = structureAndVariableOffsets.get(index);
+                sizeInBytes = structureLayout.getOffset(index);
             }
         }
 
@@ -580,7 +569,7 @@ public class CcddLinkHandler
 
         // Get the index into the variable path list for the specified
         // structure/variable. A variable's bit length is ignored if present
-        int index = structureAndVariablePaths.indexOf(targetVariable.replaceFirst(":.+$", ""));
+        int index = structureLayout.indexOf(removeBitLength(targetVariable));
 
         // Check that the structure/variable exists
         if (index != -1)
@@ -589,7 +578,7 @@ public class CcddLinkHandler
             if (targetVariable.contains(","))
             {
                 // Retrieve the variable's offset
-                offset = structureAndVariableOffsets.get(index);
+                offset = structureLayout.getOffset(index);
             }
             // The target is a prototype/root structure
             else
@@ -605,222 +594,20 @@ public class CcddLinkHandler
     }
 
     /**************************************************************************
-     * Using a variable tree create two lists: one that contains a reference to
-     * every structure and variable (keeping the child structures and variables
-     * in the order in which they appear relative to their root structure), and
-     * another list that has the offset for the variable relative to its root
-     * structure. The total structure size in bytes is stored in place of the
-     * offset value for each root structure entry in the list
-     *************************************************************************/
-    private void buildPathAndOffsetLists()
-    {
-        // Create a tree containing all of the structures, both prototypes and
-        // instances, including primitive variables. This is used for
-        // determining bit-packing, variable relative position, variable
-        // offsets, and structure sizes
-        CcddTableTreeHandler allVariableTree = new CcddTableTreeHandler(ccddMain,
-                                                                        TableTreeType.STRUCTURES_WITH_PRIMITIVES,
-                                                                        ccddMain.getMainFrame());
-
-        // Expand the tree so that all nodes are 'visible'
-        allVariableTree.setTreeExpansion(true);
-
-        structureAndVariablePaths = new ArrayList<String>();
-        structureAndVariableOffsets = new ArrayList<Integer>();
-
-        // Initialize the offset, bit count, and the previous variable's size,
-        // type, and bit length
-        int offset = 0;
-        bitCount = 0;
-        lastByteSize = 0;
-        lastDataType = "";
-        lastBitLength = 0;
-
-        int lastIndex = 0;
-        int structIndex = 0;
-
-        // Step through all of the nodes in the variable tree
-        for (Enumeration<?> element = allVariableTree.getRootNode().preorderEnumeration(); element.hasMoreElements();)
-        {
-            // Get the path to this node
-            TreeNode[] nodePath = ((ToolTipTreeNode) element.nextElement()).getPath();
-
-            // Check if the path references a structure or variable (instead of
-            // the tree's root or header nodes)
-            if (nodePath.length > allVariableTree.getHeaderNodeLevel())
-            {
-                // Get the variable path for this tree node
-                String varPath = allVariableTree.getFullVariablePath(nodePath);
-
-                // Check if the path contains a data type
-                if (varPath.matches(".+,.+\\..+"))
-                {
-                    // Extract the data type from the variable path
-                    String dataType = varPath.substring(varPath.lastIndexOf(",") + 1,
-                                                        varPath.lastIndexOf("."));
-
-                    // Check if this references a primitive data type
-                    if (dataTypeHandler.isPrimitive(dataType))
-                    {
-                        String bitLength = "";
-
-                        int bitIndex = varPath.indexOf(":");
-
-                        // Check if this variable has a bit length
-                        if (bitIndex != -1)
-                        {
-                            // Extract the bit length from the variable path
-                            bitLength = ccddMain.getMacroHandler().getMacroExpansion(varPath.substring(bitIndex + 1));
-
-                            // Remove the bit length from the variable path
-                            varPath = varPath.substring(0, bitIndex);
-                        }
-
-                        // Adjust the offset to account for bit-packing
-                        offset = adjustVariableOffset(dataType, bitLength, offset);
-                    }
-                    // Not a primitive data type (i.e., it's a structure)
-                    else
-                    {
-                        // Add the last variable's byte size to the offset
-                        // total
-                        offset += lastByteSize;
-
-                        // Reinitialize the bit count, and the previous
-                        // variable's size, type, and bit length
-                        bitCount = 0;
-                        lastByteSize = 0;
-                        lastDataType = "";
-                        lastBitLength = 0;
-                    }
-                }
-                // The path doesn't contain a data type; i.e., it's a prototype
-                // structure reference
-                else
-                {
-                    // Check that this isn't the first prototype structure
-                    // detected. The size is stored once the end of the
-                    // structure is reached
-                    if (lastIndex != 0)
-                    {
-                        // Adjust the offset to account for bit-packing
-                        offset = adjustVariableOffset(lastDataType, "", offset);
-
-                        // Store the offset as the size for this structure
-                        structureAndVariableOffsets.set(structIndex, offset);
-
-                        // Store the index of the prototype structure
-                        structIndex = lastIndex;
-                    }
-
-                    // Reset the offset since this indicates the start of a new
-                    // root structure. Initialize the bit count, and the
-                    // previous variable's size, type, and bit length
-                    offset = 0;
-                    bitCount = 0;
-                    lastByteSize = 0;
-                    lastDataType = "";
-                    lastBitLength = 0;
-                }
-
-                // Check the list for this variable path. Due to the
-                // construction of the table tree a prototype structure
-                // reference can occur twice
-                int index = structureAndVariablePaths.indexOf(varPath);
-
-                // Check if the variable path (prototype table) is already in
-                // the list
-                if (index != -1)
-                {
-                    // The first listing is the prototype table only (no
-                    // variables); the second includes the variables and is the
-                    // one required. Remove the existing reference from the
-                    // list and update the index pointer to the structure to
-                    // account for the removal
-                    structureAndVariablePaths.remove(index);
-                    structureAndVariableOffsets.remove(index);
-                    structIndex--;
-                }
-                // This is the first reference to this variable path
-                else
-                {
-                    // Update the index pointing to the last member of the
-                    // structure
-                    lastIndex++;
-                }
-
-                // Add the variable path and its offset to the lists
-                structureAndVariablePaths.add(varPath);
-                structureAndVariableOffsets.add(offset);
-            }
-        }
-
-        // Check that a prototype structure was detected
-        if (lastIndex != 0)
-        {
-            // Adjust the offset to account for bit-packing
-            offset = adjustVariableOffset(lastDataType, "", offset);
-
-            // Store the offset as the size for this structure
-            structureAndVariableOffsets.set(structIndex, offset);
-        }
-    }
-
-    /**************************************************************************
-     * Adjust the offset to the current variable based on the last variable's
-     * byte size and any bit packing
-     * 
-     * @param dataType
-     *            variable's data type
-     * 
-     * @param bitLength
-     *            string representing the number of bits used by variable;
-     *            blank if this is a non-bit variable
+     * Remove the bit length, if present, from the specified variable path
      * 
-     * @param offset
-     *            offset to the previous variable
+     * @param variablePath
+     *            variable path, with or without a bit length
      * 
-     * @return The adjusted byte offset to the target variable
+     * @return Variable path without the bit length
      *************************************************************************/
-    private int adjustVariableOffset(String dataType,
-                                     String bitLength,
-                                     int offset)
+    private String removeBitLength(String variablePath)
     {
-        // Get the size in bytes based on the variable's data type
-        int byteSize = dataTypeHandler.getSizeInBytes(dataType);
-
-        // Get the bit length associated with the variable; use 0 if no bit
-        // length is specified
-        int bits = bitLength.matches("\\d+")
-                                            ? bits = Integer.valueOf(bitLength)
-                                            : 0;
-
-        // Update the bit counter using the bit length
-        bitCount += bits;
-
-        // Check if the current or previous variable has no bit length
-        // specified, the data type changed, or the data type has no room for
-        // the requested number of bits
-        if (bits == 0
-            || lastBitLength == 0
-            || !dataType.equals(lastDataType)
-            || bitCount > byteSize * 8)
-        {
-            // Set the bit counter to the current variable's bit length (0 if
-            // this is a non-bit variable)
-            bitCount = bits;
-
-            // Add the previous parameter's byte size to the offset counter
-            offset += lastByteSize;
-        }
-
-        // Store the size in bytes, the data type, and bit length for
-        // calculating the offset to the next variable
-        lastByteSize = byteSize;
-        lastDataType = dataType;
-        lastBitLength = bits;
+        int bitIndex = variablePath.indexOf(":");
 
-        return offset;
+        return bitIndex != -1 && bitIndex < variablePath.length() - 1
+                                                                      ? variablePath.substring(0, bitIndex)
+                                                                      : variablePath;
     }
 
     /**************************************************************************
@@ -841,7 +628,7 @@ public class CcddLinkHandler
             // definition) and that the variable isn't in the link tree
             if (linkMember.contains(".")
                 && !linkMember.matches("\\d.*")
-                && structureAndVariablePaths.indexOf(linkMember.replaceFirst(":.+$", "")) == -1)
+                && structureLayout.indexOf(removeBitLength(linkMember)) == -1)
             {
                 // Store the invalid link
                 invalidLinks.add(linkDefn);
@@ -21,9 +21,11 @@ import java.awt.event.KeyEvent;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import javax.swing.BorderFactory;
 import javax.swing.JComboBox;
@@ -63,8 +65,18 @@ public class CcddMacroHandler
     // List containing the macro names and associated values
     private List<String[]> macros;
 
-    // Macro name pattern
-    private final Pattern macroPattern;
+    // Map containing the macro definitions keyed by the lower case macro name,
+    // and the list and list size from which the map was built
+    private Map<String, String[]> macroNameIndex;
+    private List<String[]> indexedMacros;
+    private int indexedSize;
+
+    // Maximum number of expanded text strings to retain
+    private static final int MAX_CACHED_EXPANSIONS = 10000;
+
+    // Map containing the expanded text keyed by the unexpanded text. The map
+    // is emptied whenever the macro definitions change
+    private final Map<String, String> expansionCache;
 
     /**************************************************************************
      * Macro location class
@@ -119,19 +131,27 @@ public class CcddMacroHandler
      *            list of string arrays containing macro names and the
      *            corresponding macro values
      *************************************************************************/
+    @SuppressWarnings("serial")
     CcddMacroHandler(List<String[]> macros)
     {
         this.macros = macros;
 
-        // Create the macro name search pattern
-        macroPattern = Pattern.compile("^.*?("
-                                       + MACRO_IDENTIFIER
-                                       + "([^"
-                                       + MACRO_IDENTIFIER
-                                       + "]+)"
-                                       + MACRO_IDENTIFIER
-                                       + ").*$",
-                                       Pattern.CASE_INSENSITIVE);
+        // Create the expanded text storage. The least recently used entry is
+        // discarded once the maximum number of entries is reached
+        expansionCache = new LinkedHashMap<String, String>(16, 0.75f, true)
+        {
+            /******************************************************************
+             * Remove the least recently used expansion if the map is full
+             *****************************************************************/
+            @Override
+            protected boolean removeEldestEntry(Entry<String, String> eldest)
+            {
+                return size() > MAX_CACHED_EXPANSIONS;
+            }
+        };
+
+        // Build the macro name index
+        updateMacroIndex();
     }
 
     /**************************************************************************
@@ -170,6 +190,87 @@ public class CcddMacroHandler
     protected void setMacroData(List<String[]> macros)
     {
         this.macros = new ArrayList<String[]>(macros);
+
+        // Rebuild the macro name index for the new macros
+        updateMacroIndex();
+    }
+
+    /**************************************************************************
+     * Build the map used to look up a macro's definition by its name. The
+     * macro name is converted to lower case so that the look up is case
+     * insensitive. If more than one macro has the same name then the first
+     * one in the list is used, matching the behavior of a sequential search
+     *************************************************************************/
+    private void updateMacroIndex()
+    {
+        Map<String, String[]> macroNameIndex = new HashMap<String, String[]>(macros.size() * 2 + 1);
+
+        // Step through each defined macro
+        for (String[] macro : macros)
+        {
+            String key = macro[MacrosColumn.MACRO_NAME.ordinal()].toLowerCase();
+
+            // Check if no macro with this name is already in the index
+            if (!macroNameIndex.containsKey(key))
+            {
+                // Add the macro to the index
+                macroNameIndex.put(key, macro);
+            }
+        }
+
+        // Store the index, and the list reference and size used to build it
+        // so that changes made to the list outside of this handler can be
+        // detected
+        this.macroNameIndex = macroNameIndex;
+        indexedMacros = macros;
+        indexedSize = macros.size();
+
+        // Discard any expansions made using the previous macro values
+        clearExpansionCache();
+    }
+
+    /**************************************************************************
+     * Discard the stored macro expansions. This must be called whenever a
+     * macro value is set so that subsequent expansions reflect the new value
+     *************************************************************************/
+    private void clearExpansionCache()
+    {
+        synchronized (expansionCache)
+        {
+            expansionCache.clear();
+        }
+    }
+
+    /**************************************************************************
+     * Rebuild the macro name index if the macro list has been replaced or
+     * changed size since the index was built
+     *************************************************************************/
+    private void checkMacroIndex()
+    {
+        // Check if the macro list has changed since the index was built
+        if (indexedMacros != macros || indexedSize != macros.size())
+        {
+            // Rebuild the macro name index
+            updateMacroIndex();
+        }
+    }
+
+    /**************************************************************************
+     * Get the macro definition for the specified macro name (case
+     * insensitive)
+     * 
+     * @param macroName
+     *            macro name
+     * 
+     * @return Macro definition for the specified macro name; null if the macro
+     *         doesn't exist
+     *************************************************************************/
+    private String[] getMacroDefinition(String macroName)
+    {
+        // Rebuild the macro name index if the macro list changed
+        checkMacroIndex();
+
+        return macroNameIndex.get(macroName.toLowerCase());
     }
 
     /**************************************************************************
@@ -195,53 +296,58 @@ public class CcddMacroHandler
      *************************************************************************/
     private List<MacroLocation> getMacroLocation(String text)
     {
-        Matcher matcher;
-        int start = 0;
-
         // Create storage for the macro name locations
         List<MacroLocation> locations = new ArrayList<MacroLocation>();
 
-        do
+        // Check if the text string is present
+        if (text != null)
         {
-            // Locate the macro name pattern within the text string
-            matcher = macroPattern.matcher(text);
+            // Find the first macro delimiter in the text string
+            int start = text.indexOf(MACRO_IDENTIFIER);
 
-            // Check if the macro name pattern is present
-            if (matcher.matches())
+            // Continue to process the text string while a delimiter is found
+            while (start != -1)
             {
-                // Get the macro name, with the macro delimiters
-                String macroName = matcher.group(1);
-
-                // Store the index of the macro name pattern
-                int position = text.indexOf(macroName);
-
-                // Check if the pattern matches a defined macro. This uses the
-                // macro name without the delimiters
-                if (isMacroExists(matcher.group(2)))
+                // Get the index of the first character following the
+                // delimiter
+                int nameStart = start + MACRO_IDENTIFIER.length();
+                int nameEnd = nameStart;
+
+                // Step through the characters following the delimiter until
+                // the end of the text or a delimiter character is found. The
+                // macro name can't contain the delimiter character
+                while (nameEnd < text.length()
+                       && MACRO_IDENTIFIER.indexOf(text.charAt(nameEnd)) == -1)
                 {
-                    // Update the macro name starting position and remove the
-                    // characters from the beginning of the text string to the
-                    // end of the macro name
-                    start += position;
-                    text = text.substring(position + macroName.length());
-
-                    // Store the location for this macro
-                    locations.add(new MacroLocation(macroName, start));
+                    nameEnd++;
+                }
 
-                    // Update the start index to skip the macro name
-                    start += macroName.length();
+                // Check if the name isn't empty, is followed by a delimiter,
+                // and matches a defined macro
+                if (nameEnd != nameStart
+                    && text.startsWith(MACRO_IDENTIFIER, nameEnd)
+                    && isMacroExists(text.substring(nameStart, nameEnd)))
+                {
+                    // Store the location for this macro, including the
+                    // delimiters
+                    locations.add(new MacroLocation(text.substring(start,
+                                                                   nameEnd
+                                                                       + MACRO_IDENTIFIER.length()),
+                                                    start));
+
+                    // Search for the next delimiter following the macro name
+                    start = text.indexOf(MACRO_IDENTIFIER,
+                                         nameEnd + MACRO_IDENTIFIER.length());
                 }
                 // Looks like a macro but doesn't match a defined name
                 else
                 {
-                    // Remove the first character in the text, advance the
-                    // starting position by 1, and try matching again
-                    text = text.substring(position + 1);
-                    start += position + 1;
+                    // Search for the next delimiter, starting with the
+                    // character following the beginning of this one
+                    start = text.indexOf(MACRO_IDENTIFIER, start + 1);
                 }
             }
-        } while (matcher.matches());
-        // Process the text string until no macro names are found
+        }
 
         return locations;
     }
@@ -547,19 +653,13 @@ public class CcddMacroHandler
      *************************************************************************/
     protected String getMacroValue(String macroName)
     {
-        String macroValue = null;
+        // Get the definition for the supplied macro name
+        String[] macro = getMacroDefinition(macroName);
 
-        // Step through each defined macro
-        for (String[] macro : macros)
-        {
-            // Check if the supplied name matches this macro's name
-            if (macroName.equalsIgnoreCase(macro[MacrosColumn.MACRO_NAME.ordinal()]))
-            {
-                // Get the associated macro value and stop searching
-                macroValue = macro[MacrosColumn.VALUE.ordinal()];
-                break;
-            }
-        }
+        // Get the associated macro value if the macro exists
+        String macroValue = macro == null
+                                         ? null
+                                         : macro[MacrosColumn.VALUE.ordinal()];
 
         return macroValue;
     }
@@ -575,19 +675,13 @@ public class CcddMacroHandler
      *************************************************************************/
     protected String getMacroIndex(String macroName)
     {
-        String macroIndex = null;
+        // Get the definition for the supplied macro name
+        String[] macro = getMacroDefinition(macroName);
 
-        // Step through each defined macro
-        for (String[] macro : macros)
-        {
-            // Check if the supplied name matches this macro's name
-            if (macroName.equalsIgnoreCase(macro[MacrosColumn.MACRO_NAME.ordinal()]))
-            {
-                // Get the associated macro OID and stop searching
-                macroIndex = macro[MacrosColumn.OID.ordinal()];
-                break;
-            }
-        }
+        // Get the associated macro OID if the macro exists
+        String macroIndex = macro == null
+                                         ? null
+                                         : macro[MacrosColumn.OID.ordinal()];
 
         return macroIndex;
     }
@@ -602,11 +696,12 @@ public class CcddMacroHandler
      *************************************************************************/
     protected boolean hasMacro(String text)
     {
-        return text != null && text.matches(".*"
-                                            + MACRO_IDENTIFIER
-                                            + ".+"
-                                            + MACRO_IDENTIFIER
-                                            + ".*");
+        int start;
+
+        return text != null
+               && (start = text.indexOf(MACRO_IDENTIFIER)) != -1
+               && text.indexOf(MACRO_IDENTIFIER,
+                               start + MACRO_IDENTIFIER.length() + 1) != -1;
     }
 
     /**************************************************************************
@@ -619,20 +714,8 @@ public class CcddMacroHandler
      *************************************************************************/
     protected boolean isMacroExists(String macroName)
     {
-        boolean isExists = false;
-
-        // Step through each defined macro
-        for (String[] macro : macros)
-        {
-            // Check if the macro name matches the supplied name
-            if (macroName.equalsIgnoreCase(macro[MacrosColumn.MACRO_NAME.ordinal()]))
-            {
-                // Set the flag to indicate the macro name already exists and
-                // stop searching
-                isExists = true;
-                break;
-            }
-        }
+        // Check if a macro with the supplied name exists
+        boolean isExists = getMacroDefinition(macroName) != null;
 
         return isExists;
     }
@@ -649,23 +732,63 @@ public class CcddMacroHandler
      *************************************************************************/
     protected String getMacroExpansion(String text)
     {
-        String expandedText = "";
-        int lastEnd = 0;
+        String expandedText;
 
-        // Step through each macro in the text string
-        for (MacroLocation location : getMacroLocation(text))
+        // Check if the text string is empty or contains no macro delimiter
+        if (text == null || !text.contains(MACRO_IDENTIFIER))
+        {
+            // No expansion is needed; return the text as is
+            expandedText = text;
+        }
+        // The text may contain a macro name
+        else
         {
-            // Append the text leading to the macro name, then add macro value
-            // in place of the name
-            expandedText += text.substring(lastEnd, location.getStart())
-                            + getMacroValue(location.getMacroName().replaceAll(MACRO_IDENTIFIER, ""));
+            // Rebuild the macro name index (and discard any stored
+            // expansions) if the macro list changed
+            checkMacroIndex();
 
-            // Store the end position of the macro name for the next pass
-            lastEnd = location.getStart() + location.getMacroName().length();
+            synchronized (expansionCache)
+            {
+                // Get the expansion for this text if previously stored
+                expandedText = expansionCache.get(text);
+            }
+
+            // Check if the text hasn't been expanded previously
+            if (expandedText == null)
+            {
+                StringBuilder expanded = new StringBuilder(text.length() + 16);
+                int lastEnd = 0;
+
+                // Step through each macro in the text string
+                for (MacroLocation location : getMacroLocation(text))
+                {
+                    String macroName = location.getMacroName();
+
+                    // Append the text leading to the macro name, then add the
+                    // macro value in place of the name
+                    expanded.append(text, lastEnd, location.getStart())
+                            .append(getMacroValue(macroName.substring(MACRO_IDENTIFIER.length(),
+                                                                      macroName.length()
+                                                                          - MACRO_IDENTIFIER.length())));
+
+                    // Store the end position of the macro name for the next
+                    // pass
+                    lastEnd = location.getStart() + macroName.length();
+                }
+
+                // Append any remaining text
+                expandedText = expanded.append(text, lastEnd, text.length()).toString();
+
+                synchronized (expansionCache)
+                {
+                    // Store the expansion for subsequent calls with the same
+                    // text
+                    expansionCache.put(text, expandedText);
+                }
+            }
         }
 
-        // Append any remaining text
-        return expandedText += text.substring(lastEnd);
+        return expandedText;
     }
 
     /**************************************************************************
@@ -712,7 +835,9 @@ public class CcddMacroHandler
         for (MacroLocation location : getMacroLocation(text))
         {
             // Strip the macro delimiters from the name
-            String macroName = location.getMacroName().replaceAll(MACRO_IDENTIFIER, "");
+            String macroName = location.getMacroName().substring(MACRO_IDENTIFIER.length(),
+                                                                 location.getMacroName().length()
+                                                                     - MACRO_IDENTIFIER.length());
 
             // Check if the macro is not already in the list (case insensitive)
             if (!CcddUtilities.contains(macroName, referenced))
@@ -806,11 +931,7 @@ public class CcddMacroHandler
     protected String getMacroToolTipText(String text)
     {
         // Check if the text string contains any macros
-        if (text != null && text.matches(".*"
-                                         + MACRO_IDENTIFIER
-                                         + ".+"
-                                         + MACRO_IDENTIFIER
-                                         + ".*"))
+        if (hasMacro(text))
         {
             // Replace any macro names in the text with the associated macro
             // values
@@ -860,8 +981,10 @@ public class CcddMacroHandler
             // Check if the macro doesn't already exist
             if (macro == null)
             {
-                // Add the macro
+                // Add the macro and rebuild the macro name index so that the
+                // new macro is found by subsequent look ups
                 macros.add(macroDefn);
+                updateMacroIndex();
             }
             // The macro exists; check if the macro value provided matches the
             // existing macro value
@@ -91,6 +91,9 @@ public class CcddMain
     private final CcddDbCommandHandler dbCommand;
     private final CcddDbControlHandler dbControl;
     private final CcddDbTableCommandHandler dbTable;
+    private final CcddTableCacheHandler tableCache;
+    private final CcddSearchIndexHandler searchIndex;
+    private final CcddStructureLayoutHandler structureLayout;
     private CcddDataTypeHandler dataTypeHandler;
     private CcddTableTypeHandler tableTypeHandler;
     private CcddTableTypeEditorDialog tableTypeEditorDialog;
@@ -227,6 +230,17 @@ public class CcddMain
         dbCommand = new CcddDbCommandHandler(CcddMain.this);
         dbControl = new CcddDbControlHandler(CcddMain.this);
 
+        // Create the cache for loaded table information
+        tableCache = new CcddTableCacheHandler(CcddMain.this);
+
+        // Create the index of the table contents used for text searches and
+        // have it informed of changes to the tables
+        searchIndex = new CcddSearchIndexHandler(CcddMain.this);
+        tableCache.addChangeObserver(searchIndex);
+
+        // Create the handler for the structure sizes and variable offsets
+        structureLayout = new CcddStructureLayoutHandler(CcddMain.this);
+
         // Get the program preferences
         getProgramPreferences();
 
@@ -474,6 +488,36 @@ public class CcddMain
         return dbTable;
     }
 
+    /**************************************************************************
+     * Get the table information cache handler
+     * 
+     * @return Table information cache handler
+     *************************************************************************/
+    protected CcddTableCacheHandler getTableCacheHandler()
+    {
+        return tableCache;
+    }
+
+    /**************************************************************************
+     * Get the table contents search index handler
+     * 
+     * @return Table contents search index handler
+     *************************************************************************/
+    protected CcddSearchIndexHandler getSearchIndexHandler()
+    {
+        return searchIndex;
+    }
+
+    /**************************************************************************
+     * Get the structure size and variable offset handler
+     * 
+     * @return Structure size and variable offset handler
+     *************************************************************************/
+    protected CcddStructureLayoutHandler getStructureLayoutHandler()
+    {
+        return structureLayout;
+    }
+
     /**************************************************************************
      * Create the handler classes that rely on a successful connection to a
      * project database (other than the default): table type, macro, and rate
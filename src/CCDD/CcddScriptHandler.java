@@ -26,11 +26,21 @@ import java.awt.event.ActionListener;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.regex.Pattern;
 
 import javax.script.Bindings;
@@ -90,14 +100,18 @@ public class CcddScriptHandler
     // List of script engine factories that are available on this platform
     private final List<ScriptEngineFactory> scriptFactories;
 
-    // Global storage for the data obtained in the recursive table data reading
-    // method
-    private String[][] combinedData;
-
     // Array to indicate if a script association has a problem that prevents
     // its execution
     private boolean[] isBad;
 
+    // Maximum number of script associations to execute concurrently; 0 to use
+    // the value from the program preferences
+    private int executionThreads;
+
+    // List of the threads executing script associations concurrently. Used to
+    // terminate the scripts if execution is halted by the user
+    private final List<Thread> associationThreads;
+
     /**************************************************************************
      * Script handler class constructor
      * 
@@ -114,6 +128,34 @@ public class CcddScriptHandler
 
         // Get the available script engines
         scriptFactories = new ScriptEngineManager().getEngineFactories();
+
+        associationThreads = new ArrayList<Thread>();
+        executionThreads = 0;
+    }
+
+    /**************************************************************************
+     * Set the maximum number of script associations to execute concurrently,
+     * overriding the program preference value for this session
+     * 
+     * @param executionThreads
+     *            maximum number of script associations to execute
+     *            concurrently; 0 to use the program preference value
+     *************************************************************************/
+    protected void setExecutionThreads(int executionThreads)
+    {
+        this.executionThreads = executionThreads;
+    }
+
+    /**************************************************************************
+     * Get the maximum number of script associations to execute concurrently
+     * 
+     * @return Maximum number of script associations to execute concurrently
+     *************************************************************************/
+    private int getExecutionThreads()
+    {
+        return executionThreads != 0
+                                     ? executionThreads
+                                     : ModifiableSizeInfo.SCRIPT_EXECUTION_THREADS.getSize();
     }
 
     /**************************************************************************
@@ -780,6 +822,19 @@ public class CcddScriptHandler
                     // created by a script
                     scriptThread.stop();
 
+                    synchronized (associationThreads)
+                    {
+                        // Step through each thread executing a script
+                        // association concurrently
+                        for (Thread thread : associationThreads)
+                        {
+                            // Forcibly stop the script execution
+                            thread.stop();
+                        }
+
+                        associationThreads.clear();
+                    }
+
                     // Set the execution status(es) to indicate the scripts
                     // didn't complete
                     isBad = new boolean[associations.size()];
@@ -878,10 +933,6 @@ public class CcddScriptHandler
                             // more than one association
                             loadedTablePaths.add(tablePath);
 
-                            // Initialize the array for each of the tables to
-                            // load from the database
-                            combinedData = new String[0][0];
-
                             // Read the table and child table data from the
                             // database
                             tableInformation.add(readTable(tablePath, component));
@@ -901,10 +952,6 @@ public class CcddScriptHandler
                             // The table loaded successfully
                             else
                             {
-                                // Store the data for the table and its child
-                                // table
-                                tableInfo.setData(combinedData);
-
                                 // Get the type definition based on the table
                                 // type name
                                 TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
@@ -982,149 +1029,409 @@ public class CcddScriptHandler
         CcddGroupHandler groupHandler = new CcddGroupHandler(ccddMain,
                                                              component);
 
-        assnIndex = 0;
+        // Get the number of script associations to execute concurrently
+        int numThreads = Math.min(getExecutionThreads(), associations.size());
 
-        // Once all table information is loaded then gather the data for each
-        // association and execute it. Step through each script association
-        // definition
-        for (Object[] assn : associations)
+        // Check if the associations are to be executed one at a time
+        if (numThreads <= 1)
         {
-            // Check that an error didn't occur loading the data for this
-            // association
-            if (!isBad[assnIndex])
-            {
-                TableInformation[] combinedTableInfo = null;
+            assnIndex = 0;
 
-                // Check if at least one table is assigned to this script
+            // Once all table information is loaded then gather the data for
+            // each association and execute it. Step through each script
+            // association definition
+            for (Object[] assn : associations)
+            {
+                // Check that an error didn't occur loading the data for this
                 // association
-                if (!assn[AssociationsColumn.MEMBERS.ordinal()].toString().isEmpty())
+                if (!isBad[assnIndex])
                 {
-                    // Create storage for the table types used by this script
-                    // association
-                    List<String> tableTypes = new ArrayList<String>();
+                    try
+                    {
+                        // Execute the script using the association's table
+                        // data
+                        executeAssociation(component,
+                                           assn,
+                                           tableInformation,
+                                           linkHandler,
+                                           fieldHandler,
+                                           groupHandler,
+                                           null);
+                    }
+                    catch (CCDDException ce)
+                    {
+                        // Inform the user that script execution failed
+                        logScriptError(component,
+                                       assn[AssociationsColumn.SCRIPT_FILE.ordinal()].toString(),
+                                       assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                                       ce.getMessage());
+
+                        // Set the flag for this association indicating it
+                        // can't be executed
+                        isBad[assnIndex] = true;
+                    }
+                    catch (Exception e)
+                    {
+                        // Display a dialog providing details on the
+                        // unanticipated error
+                        CcddUtilities.displayException(e, ccddMain.getMainFrame());
+                    }
+                }
+
+                assnIndex++;
+            }
+        }
+        // Execute the associations concurrently
+        else
+        {
+            executeAssociationsConcurrently(component,
+                                            associations,
+                                            isBad,
+                                            numThreads,
+                                            tableInformation,
+                                            linkHandler,
+                                            fieldHandler,
+                                            groupHandler);
+        }
+
+        return isBad;
+    }
+
+    /**************************************************************************
+     * Execute the script associations concurrently, using up to the specified
+     * number of threads. Each association is executed using its own script
+     * engine and script data access handler. Any output the script writes to
+     * the console, and any execution error, is held until the association
+     * completes and then output in the order in which the associations are
+     * listed so that the output from different associations isn't interleaved
+     * 
+     * @param component
+     *            GUI component calling this method; null if executing the
+     *            script from the command line
+     * 
+     * @param associations
+     *            list of script associations to execute
+     * 
+     * @param isBad
+     *            array containing flags that indicate, for each association,
+     *            if the association did not complete successfully. The flag
+     *            is set for any association that fails
+     * 
+     * @param numThreads
+     *            maximum number of associations to execute concurrently
+     * 
+     * @param tableInformation
+     *            list containing the information for the tables referenced by
+     *            the associations
+     * 
+     * @param linkHandler
+     *            link handler reference
+     * 
+     * @param fieldHandler
+     *            field handler reference
+     * 
+     * @param groupHandler
+     *            group handler reference
+     *************************************************************************/
+    private void executeAssociationsConcurrently(final Component component,
+                                                 List<Object[]> associations,
+                                                 boolean[] isBad,
+                                                 int numThreads,
+                                                 final List<TableInformation> tableInformation,
+                                                 final CcddLinkHandler linkHandler,
+                                                 final CcddFieldHandler fieldHandler,
+                                                 final CcddGroupHandler groupHandler)
+    {
+        List<Future<?>> results = new ArrayList<Future<?>>();
+        List<StringWriter> outputs = new ArrayList<StringWriter>();
+
+        // Create the factory for the threads used to execute the associations.
+        // The threads are stored so that these can be stopped if the user
+        // halts execution
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            /******************************************************************
+             * Create a script association execution thread
+             *****************************************************************/
+            @Override
+            public Thread newThread(Runnable runnable)
+            {
+                Thread thread = new Thread(runnable, "Script association");
+
+                synchronized (associationThreads)
+                {
+                    associationThreads.add(thread);
+                }
 
-                    // Separate the individual table names
-                    List<String> tableNames = Arrays.asList(assn[AssociationsColumn.MEMBERS.ordinal()].toString().split(Pattern.quote(LIST_TABLE_SEPARATOR)));
+                return thread;
+            }
+        };
 
-                    // Create a list of the table types referenced by this
-                    // association. This is used to create the storage for the
-                    // combined tables. Step through each table information
-                    // instance
-                    for (TableInformation tableInfo : tableInformation)
+        // Create the executor that limits the number of associations executing
+        // at the same time
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads,
+                                                                threadFactory);
+
+        try
+        {
+            // Step through each script association definition
+            for (int index = 0; index < associations.size(); index++)
+            {
+                final Object[] assn = associations.get(index);
+                final StringWriter output = new StringWriter();
+                outputs.add(output);
+
+                // Check that an error didn't occur loading the data for this
+                // association
+                if (!isBad[index])
+                {
+                    // Queue the association for execution
+                    results.add(executor.submit(new Callable<Void>()
                     {
-                        // Check if this table is a member of the association
-                        if (tableNames.contains(tableInfo.getTablePath()))
+                        /******************************************************
+                         * Execute the script association
+                         *****************************************************/
+                        @Override
+                        public Void call() throws Exception
                         {
-                            // Check if the type for this table is not
-                            // already in the list
-                            if (!tableTypes.contains(tableInfo.getType()))
-                            {
-                                // Add the table type to the list
-                                tableTypes.add(tableInfo.getType());
-                            }
+                            executeAssociation(component,
+                                               assn,
+                                               tableInformation,
+                                               linkHandler,
+                                               fieldHandler,
+                                               groupHandler,
+                                               output);
+                            return null;
                         }
-                    }
+                    }));
+                }
+                // The association's data didn't load
+                else
+                {
+                    results.add(null);
+                }
+            }
 
-                    // Create storage for the combined table data
-                    combinedTableInfo = new TableInformation[tableTypes.size()];
+            // Step through each script association, in order
+            for (int index = 0; index < associations.size(); index++)
+            {
+                // Check if the association was queued for execution
+                if (results.get(index) != null)
+                {
+                    Object[] assn = associations.get(index);
 
-                    // Gather the table data, by table type, for each
-                    // associated table. Step through each table type
-                    // represented in this
-                    // association
-                    for (int typeIndex = 0; typeIndex < tableTypes.size(); typeIndex++)
+                    try
+                    {
+                        // Wait for the association to complete
+                        results.get(index).get();
+                    }
+                    catch (ExecutionException ee)
                     {
-                        String tableName = "";
-                        String[][] allTableData = new String[0][0];
+                        // Set the flag for this association indicating it
+                        // didn't complete
+                        isBad[index] = true;
 
-                        // Step through each table information instance
-                        for (TableInformation tableInfo : tableInformation)
+                        // Check if the script failed to execute
+                        if (ee.getCause() instanceof CCDDException)
                         {
-                            // Check if this table is a member of the
-                            // association
-                            if (tableNames.contains(tableInfo.getTablePath()))
-                            {
-                                // Check if the table types match
-                                if (tableTypes.get(typeIndex).equals(tableInfo.getType()))
-                                {
-                                    // Check if the name hasn't been stored
-                                    if (tableName.isEmpty())
-                                    {
-                                        // Assign the name of the first table
-                                        // of this type as this type's table
-                                        // name
-                                        tableName += tableInfo.getTablePath();
-                                    }
-
-                                    // Append the table data to the combined
-                                    // data array
-                                    allTableData = CcddUtilities.concatenateArrays(allTableData,
-                                                                                   tableInfo.getData());
-                                }
-                            }
+                            // Inform the user that script execution failed
+                            logScriptError(component,
+                                           assn[AssociationsColumn.SCRIPT_FILE.ordinal()].toString(),
+                                           assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
+                                           ee.getCause().getMessage());
                         }
+                        // Check if an unanticipated error occurred
+                        else if (ee.getCause() instanceof Exception)
+                        {
+                            // Display a dialog providing details on the
+                            // unanticipated error
+                            CcddUtilities.displayException((Exception) ee.getCause(),
+                                                           ccddMain.getMainFrame());
+                        }
+                    }
 
-                        // Create the table information from the table data
-                        // obtained from the database
-                        combinedTableInfo[typeIndex] = new TableInformation(tableTypes.get(typeIndex),
-                                                                            tableName,
-                                                                            allTableData,
-                                                                            null,
-                                                                            null,
-                                                                            false,
-                                                                            new Object[0][0]);
+                    // Check if the script wrote any console output
+                    if (outputs.get(index).getBuffer().length() != 0)
+                    {
+                        // Output the association's console output
+                        System.out.print(outputs.get(index).toString());
+                        System.out.flush();
                     }
                 }
-                // No table is assigned to this script association
-                else
+            }
+        }
+        catch (InterruptedException ie)
+        {
+            // Flag any association that didn't complete as having failed
+            for (int index = 0; index < results.size(); index++)
+            {
+                if (results.get(index) != null && !results.get(index).isDone())
                 {
-                    // Create a table information class in order to load and
-                    // parse the data fields, and to allow access to the field
-                    // methods
-                    combinedTableInfo = new TableInformation[1];
-                    combinedTableInfo[0] = new TableInformation("",
-                                                                "",
-                                                                null,
-                                                                null,
-                                                                null,
-                                                                false,
-                                                                new Object[0][0]);
+                    isBad[index] = true;
                 }
+            }
 
-                try
-                {
-                    // Execute the script using the indicated table data
-                    executeScript(component,
-                                  assn[AssociationsColumn.SCRIPT_FILE.ordinal()].toString(),
-                                  combinedTableInfo,
-                                  linkHandler,
-                                  fieldHandler,
-                                  groupHandler);
-                }
-                catch (CCDDException ce)
+            // Restore the interrupt status
+            Thread.currentThread().interrupt();
+        }
+        finally
+        {
+            // Release the execution threads
+            executor.shutdownNow();
+
+            synchronized (associationThreads)
+            {
+                associationThreads.clear();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Gather the table data for the specified script association and execute
+     * the association's script
+     * 
+     * @param component
+     *            GUI component calling this method; null if executing the
+     *            script from the command line
+     * 
+     * @param assn
+     *            script association to execute
+     * 
+     * @param tableInformation
+     *            list containing the information for the tables referenced by
+     *            the associations
+     * 
+     * @param linkHandler
+     *            link handler reference
+     * 
+     * @param fieldHandler
+     *            field handler reference
+     * 
+     * @param groupHandler
+     *            group handler reference
+     * 
+     * @param scriptOutput
+     *            writer to which the script's console output is directed;
+     *            null to use the standard output
+     * 
+     * @throws CCDDException
+     *             If the script can't be executed or an error occurs during
+     *             script execution
+     *************************************************************************/
+    private void executeAssociation(Component component,
+                                    Object[] assn,
+                                    List<TableInformation> tableInformation,
+                                    CcddLinkHandler linkHandler,
+                                    CcddFieldHandler fieldHandler,
+                                    CcddGroupHandler groupHandler,
+                                    Writer scriptOutput) throws CCDDException
+    {
+        TableInformation[] combinedTableInfo = null;
+
+        // Check if at least one table is assigned to this script
+        // association
+        if (!assn[AssociationsColumn.MEMBERS.ordinal()].toString().isEmpty())
+        {
+            // Create storage for the table types used by this script
+            // association
+            List<String> tableTypes = new ArrayList<String>();
+
+            // Separate the individual table names
+            List<String> tableNames = Arrays.asList(assn[AssociationsColumn.MEMBERS.ordinal()].toString().split(Pattern.quote(LIST_TABLE_SEPARATOR)));
+
+            // Create a list of the table types referenced by this
+            // association. This is used to create the storage for the
+            // combined tables. Step through each table information
+            // instance
+            for (TableInformation tableInfo : tableInformation)
+            {
+                // Check if this table is a member of the association
+                if (tableNames.contains(tableInfo.getTablePath()))
                 {
-                    // Inform the user that script execution failed
-                    logScriptError(component,
-                                   assn[AssociationsColumn.SCRIPT_FILE.ordinal()].toString(),
-                                   assn[AssociationsColumn.MEMBERS.ordinal()].toString(),
-                                   ce.getMessage());
-
-                    // Set the flag for this association indicating it can't be
-                    // executed
-                    isBad[assnIndex] = true;
+                    // Check if the type for this table is not
+                    // already in the list
+                    if (!tableTypes.contains(tableInfo.getType()))
+                    {
+                        // Add the table type to the list
+                        tableTypes.add(tableInfo.getType());
+                    }
                 }
-                catch (Exception e)
+            }
+
+            // Create storage for the combined table data
+            combinedTableInfo = new TableInformation[tableTypes.size()];
+
+            // Gather the table data, by table type, for each
+            // associated table. Step through each table type
+            // represented in this
+            // association
+            for (int typeIndex = 0; typeIndex < tableTypes.size(); typeIndex++)
+            {
+                String tableName = "";
+                List<String[]> allTableData = new ArrayList<String[]>();
+
+                // Step through each table information instance
+                for (TableInformation tableInfo : tableInformation)
                 {
-                    // Display a dialog providing details on the unanticipated
-                    // error
-                    CcddUtilities.displayException(e, ccddMain.getMainFrame());
+                    // Check if this table is a member of the
+                    // association
+                    if (tableNames.contains(tableInfo.getTablePath()))
+                    {
+                        // Check if the table types match
+                        if (tableTypes.get(typeIndex).equals(tableInfo.getType()))
+                        {
+                            // Check if the name hasn't been stored
+                            if (tableName.isEmpty())
+                            {
+                                // Assign the name of the first table
+                                // of this type as this type's table
+                                // name
+                                tableName += tableInfo.getTablePath();
+                            }
+
+                            // Append the table data to the combined
+                            // data list
+                            allTableData.addAll(Arrays.asList(tableInfo.getData()));
+                        }
+                    }
                 }
-            }
 
-            assnIndex++;
+                // Create the table information from the table data
+                // obtained from the database
+                combinedTableInfo[typeIndex] = new TableInformation(tableTypes.get(typeIndex),
+                                                                    tableName,
+                                                                    allTableData.toArray(new String[allTableData.size()][]),
+                                                                    null,
+                                                                    null,
+                                                                    false,
+                                                                    new Object[0][0]);
+            }
+        }
+        // No table is assigned to this script association
+        else
+        {
+            // Create a table information class in order to load and
+            // parse the data fields, and to allow access to the field
+            // methods
+            combinedTableInfo = new TableInformation[1];
+            combinedTableInfo[0] = new TableInformation("",
+                                                        "",
+                                                        null,
+                                                        null,
+                                                        null,
+                                                        false,
+                                                        new Object[0][0]);
         }
 
-        return isBad;
+
+        // Execute the script using the indicated table data
+        executeScript(component,
+                      assn[AssociationsColumn.SCRIPT_FILE.ordinal()].toString(),
+                      combinedTableInfo,
+                      linkHandler,
+                      fieldHandler,
+                      groupHandler,
+                      scriptOutput);
     }
 
     /**************************************************************************
@@ -1258,6 +1565,10 @@ public class CcddScriptHandler
      * @param groupHandler
      *            group handler reference
      * 
+     * @param scriptOutput
+     *            writer to which the script's console output is directed;
+     *            null to use the standard output
+     * 
      * @return true if an error occurs during script execution
      *************************************************************************/
     private void executeScript(Component component,
@@ -1265,7 +1576,8 @@ public class CcddScriptHandler
                                TableInformation[] tableInformation,
                                CcddLinkHandler linkHandler,
                                CcddFieldHandler fieldHandler,
-                               CcddGroupHandler groupHandler) throws CCDDException
+                               CcddGroupHandler groupHandler,
+                               Writer scriptOutput) throws CCDDException
     {
         // Check if the script file doesn't exist
         if (!new File(scriptFileName).isFile())
@@ -1330,6 +1642,15 @@ public class CcddScriptHandler
                     scriptEngine.setBindings(scriptBindings,
                                              ScriptContext.ENGINE_SCOPE);
 
+                    // Check if the script's console output is redirected
+                    if (scriptOutput != null)
+                    {
+                        // Direct the script's output and error messages to
+                        // the supplied writer
+                        scriptEngine.getContext().setWriter(scriptOutput);
+                        scriptEngine.getContext().setErrorWriter(scriptOutput);
+                    }
+
                     // Execute the script
                     scriptEngine.eval(new FileReader(scriptFileName));
                 }
@@ -1374,8 +1695,10 @@ public class CcddScriptHandler
     }
 
     /**************************************************************************
-     * Recursive method to load a table, and all the tables referenced within
-     * it and its child tables. The data is combined into a single array
+     * Load a table, and all the tables referenced within it and its child
+     * tables. The data is combined into a single array. The tables are read
+     * from the database one tree level at a time, with all of the tables in a
+     * level loaded together, rather than one at a time
      * 
      * @param tablePath
      *            table path
@@ -1388,13 +1711,103 @@ public class CcddScriptHandler
      *************************************************************************/
     private TableInformation readTable(String tablePath, Component parent)
     {
-        // Read the table's data from the database
-        TableInformation tableInfo = dbTable.loadTableData(tablePath,
-                                                           false,
-                                                           false,
-                                                           false,
-                                                           false,
-                                                           parent);
+        Map<String, TableInformation> loadedTables = new HashMap<String, TableInformation>();
+        List<String> levelPaths = new ArrayList<String>();
+        levelPaths.add(tablePath);
+
+        // Continue to load tables while child tables are found
+        while (!levelPaths.isEmpty())
+        {
+            // Read the data for the tables at this level from the database
+            List<TableInformation> levelTables = dbTable.loadTableData(levelPaths,
+                                                                       null,
+                                                                       false,
+                                                                       false,
+                                                                       false,
+                                                                       parent);
+            List<String> childPaths = new ArrayList<String>();
+
+            // Step through each table loaded at this level
+            for (TableInformation tableInfo : levelTables)
+            {
+                // Store the table information by its path
+                loadedTables.put(tableInfo.getTablePath(), tableInfo);
+
+                // Check that the data was successfully loaded from the
+                // database
+                if (!tableInfo.isErrorFlag())
+                {
+                    // Get the table's type definition
+                    TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+
+                    // Step through each row
+                    for (String[] rowData : tableInfo.getData())
+                    {
+                        // Get the path of the child table referenced by this
+                        // row, if any
+                        String childPath = getChildTablePath(tableInfo.getTablePath(),
+                                                             typeDefn,
+                                                             rowData);
+
+                        // Check if the row references a child table
+                        if (childPath != null)
+                        {
+                            // Add the child table to those to load at the next
+                            // level
+                            childPaths.add(childPath);
+                        }
+                    }
+                }
+            }
+
+            levelPaths = childPaths;
+        }
+
+        // Create storage for the rows of the table and its descendants. The
+        // rows are accumulated in a list, rather than by repeatedly extending
+        // an array, so that the time to combine the rows is proportional to
+        // the total number of rows
+        List<String[]> combinedData = new ArrayList<String[]>();
+
+        // Combine the table's data with that of its descendants
+        TableInformation tableInfo = readTable(tablePath,
+                                               loadedTables,
+                                               combinedData);
+
+        // Check that the data was successfully loaded from the database
+        if (!tableInfo.isErrorFlag())
+        {
+            // Store the data for the table and its child tables
+            tableInfo.setData(combinedData.toArray(new String[combinedData.size()][]));
+        }
+
+        return tableInfo;
+    }
+
+    /**************************************************************************
+     * Recursive method to combine the data for a table, and all the tables
+     * referenced within it and its child tables, into a single array
+     * 
+     * @param tablePath
+     *            table path
+     * 
+     * @param loadedTables
+     *            map containing the information for the table and all of its
+     *            descendants, keyed by table path
+     * 
+     * @param combinedData
+     *            list to which the rows of the table and its descendants are
+     *            appended
+     * 
+     * @return A TableDataHandler for the parent table. The error flag for the
+     *         table data handler is set if an error occurred loading the data
+     *************************************************************************/
+    private TableInformation readTable(String tablePath,
+                                       Map<String, TableInformation> loadedTables,
+                                       List<String[]> combinedData)
+    {
+        // Get the table's data as read from the database
+        TableInformation tableInfo = loadedTables.get(tablePath);
 
         // Check that the data was successfully loaded from the database and
         // that the table isn't empty
@@ -1421,47 +1834,28 @@ public class CcddScriptHandler
                 data[row][typeColumn] = tableInfo.getType();
                 data[row][pathColumn] = tablePath;
 
-                // Store the data from the table in the combined storage array
-                combinedData = CcddUtilities.concatenateArrays(combinedData,
-                                                               new String[][] {data[row]});
+                // Store the data from the table in the combined storage list
+                combinedData.add(data[row]);
 
                 // Check if this is a table reference (a data type column was
                 // found and it does not contain a primitive data type)
                 if (dataTypeColumn != -1
                     && !dataTypeHandler.isPrimitive(data[row][dataTypeColumn]))
                 {
-                    // Get the column containing the variable name for this
-                    // table
-                    int varNameColumn = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
-
                     // Check that a variable name column was found
-                    if (varNameColumn != -1)
+                    if (typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE) != -1)
                     {
-                        // Get the column containing the array size for this
-                        // table
-                        int arraySizeColumn = typeDefn.getColumnIndexByInputType(InputDataType.ARRAY_INDEX);
-
-                        // Check if the data type or variable name isn't blank,
-                        // and if an array size column doesn't exist or that
-                        // the row doesn't reference an array definition. This
-                        // is necessary to prevent appending the prototype
-                        // information for this data type structure
-                        if ((!data[row][dataTypeColumn].isEmpty()
-                            || !data[row][varNameColumn].isEmpty())
-                            && (arraySizeColumn == -1
-                                || data[row][arraySizeColumn].isEmpty()
-                                || ArrayVariable.isArrayMember(data[row][varNameColumn])))
+                        // Get the path of the child table referenced by this
+                        // row
+                        String childPath = getChildTablePath(tablePath,
+                                                             typeDefn,
+                                                             data[row]);
+
+                        // Check if the row references a child table
+                        if (childPath != null)
                         {
-                            // Get the variable in the format
-                            // dataType.variableName, prepend a comma to
-                            // separate the new variable from the preceding
-                            // variable path, then break down the child table
-                            readTable(tablePath
-                                      + ","
-                                      + data[row][dataTypeColumn]
-                                      + "."
-                                      + data[row][varNameColumn],
-                                      parent);
+                            // Break down the child table
+                            readTable(childPath, loadedTables, combinedData);
                         }
                     }
                     // Table has no variable name column
@@ -1476,4 +1870,65 @@ public class CcddScriptHandler
 
         return tableInfo;
     }
+
+    /**************************************************************************
+     * Get the path of the child table referenced by the specified table row
+     * 
+     * @param tablePath
+     *            path of the table containing the row
+     * 
+     * @param typeDefn
+     *            table type definition for the table containing the row
+     * 
+     * @param rowData
+     *            array of column values for the row
+     * 
+     * @return Path of the child table referenced by the row; null if the row
+     *         doesn't reference a child table
+     *************************************************************************/
+    private String getChildTablePath(String tablePath,
+                                     TypeDefinition typeDefn,
+                                     String[] rowData)
+    {
+        String childPath = null;
+
+        // Get the index of the columns containing the data type and variable
+        // name for this table if it has them
+        int dataTypeColumn = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
+        int varNameColumn = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+
+        // Check if this is a table reference (data type and variable name
+        // columns were found and the data type column does not contain a
+        // primitive data type)
+        if (dataTypeColumn != -1
+            && varNameColumn != -1
+            && !dataTypeHandler.isPrimitive(rowData[dataTypeColumn]))
+        {
+            // Get the column containing the array size for this table
+            int arraySizeColumn = typeDefn.getColumnIndexByInputType(InputDataType.ARRAY_INDEX);
+
+            // Check if the data type or variable name isn't blank, and if an
+            // array size column doesn't exist or that the row doesn't
+            // reference an array definition. This is necessary to prevent
+            // appending the prototype information for this data type
+            // structure
+            if ((!rowData[dataTypeColumn].isEmpty()
+                || !rowData[varNameColumn].isEmpty())
+                && (arraySizeColumn == -1
+                    || rowData[arraySizeColumn].isEmpty()
+                    || ArrayVariable.isArrayMember(rowData[varNameColumn])))
+            {
+                // Get the variable in the format dataType.variableName and
+                // prepend a comma to separate the new variable from the
+                // preceding variable path
+                childPath = tablePath
+                            + ","
+                            + rowData[dataTypeColumn]
+                            + "."
+                            + rowData[varNameColumn];
+            }
+        }
+
+        return childPath;
+    }
 }
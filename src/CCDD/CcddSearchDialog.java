@@ -9,13 +9,17 @@ package CCDD;
 
 import static CCDD.CcddConstants.AUTO_COMPLETE_TEXT_SEPARATOR;
 import static CCDD.CcddConstants.CLOSE_ICON;
+import static CCDD.CcddConstants.HALT_EXECUTION_ICON;
+import static CCDD.CcddConstants.LEFT_ICON;
 import static CCDD.CcddConstants.NUM_HIDDEN_COLUMNS;
 import static CCDD.CcddConstants.OK_BUTTON;
 import static CCDD.CcddConstants.PRINT_ICON;
+import static CCDD.CcddConstants.RIGHT_ICON;
 import static CCDD.CcddConstants.SEARCH_ICON;
 import static CCDD.CcddConstants.SEARCH_STRINGS;
 import static CCDD.CcddConstants.TABLE_ICON;
 
+import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.FlowLayout;
@@ -31,19 +35,26 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
+import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingWorker;
 import javax.swing.border.BevelBorder;
 import javax.swing.border.Border;
 import javax.swing.border.EtchedBorder;
@@ -56,8 +67,10 @@ import javax.swing.text.JTextComponent;
 
 import CCDD.CcddClasses.ArrayListMultiple;
 import CCDD.CcddClasses.AutoCompleteTextField;
+import CCDD.CcddClasses.CCDDException;
 import CCDD.CcddClasses.MultilineLabel;
 import CCDD.CcddConstants.DialogOption;
+import CCDD.CcddConstants.EventLogMessageType;
 import CCDD.CcddConstants.ModifiableColorInfo;
 import CCDD.CcddConstants.ModifiableFontInfo;
 import CCDD.CcddConstants.ModifiableSizeInfo;
@@ -65,6 +78,8 @@ import CCDD.CcddConstants.ModifiableSpacingInfo;
 import CCDD.CcddConstants.SearchDialogType;
 import CCDD.CcddConstants.SearchResultsColumnInfo;
 import CCDD.CcddConstants.TableSelectionMode;
+import CCDD.CcddEventLogIndexHandler.EventLogFilter;
+import CCDD.CcddSearchHandler.SearchResultHandler;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /******************************************************************************
@@ -89,6 +104,16 @@ public class CcddSearchDialog extends CcddFrameHandler
     private JCheckBox selectedColumnsCb;
     private JLabel numResultsLbl;
     private MultilineLabel selectedColumnsLbl;
+    private JButton btnPreviousPage;
+    private JButton btnNextPage;
+    private JLabel pageLbl;
+
+    // Event log filter components; null if the event log filter isn't
+    // displayed
+    private Map<EventLogMessageType, JCheckBox> logTypeCbs;
+    private JTextField logUserFld;
+    private JTextField logStartFld;
+    private JTextField logEndFld;
 
     // String containing the names of columns, separated by commas, to which to
     // constrain a table search
@@ -97,9 +122,19 @@ public class CcddSearchDialog extends CcddFrameHandler
     // Search dialog type
     private final SearchDialogType searchDlgType;
 
-    // Array to contain the search results
+    // Array to contain the search results displayed in the search results
+    // table
     private Object[][] resultsData;
 
+    // List containing every search result, and the index of the page of
+    // results displayed in the search results table
+    private List<Object[]> resultsList;
+    private int pageIndex;
+
+    // Handler for the table, script, or event log search in progress; null if
+    // no search is in progress
+    private SearchResultHandler searchInProgress;
+
     /**************************************************************************
      * Search database tables, scripts, and event log dialog class constructor
      * 
@@ -131,6 +166,9 @@ public class CcddSearchDialog extends CcddFrameHandler
 
         // Initialize the search results table contents
         resultsData = new Object[0][0];
+        resultsList = new ArrayList<Object[]>();
+        pageIndex = 0;
+        searchInProgress = null;
 
         // Create the database table search dialog
         initialize(targetRow);
@@ -466,6 +504,75 @@ public class CcddSearchDialog extends CcddFrameHandler
             }
         }
 
+        // Check if this is a search of an entire event log
+        if (searchDlgType == SearchDialogType.LOG && targetRow == null)
+        {
+            // Create the event log filter label
+            JLabel filterLbl = new JLabel("Filter log entries");
+            filterLbl.setFont(ModifiableFontInfo.LABEL_BOLD.getFont());
+            gbc.insets.top = ModifiableSpacingInfo.LABEL_VERTICAL_SPACING.getSpacing();
+            gbc.gridy++;
+            dialogPnl.add(filterLbl, gbc);
+
+            // Create a panel to contain the event type check boxes
+            JPanel typesPnl = new JPanel(new FlowLayout(FlowLayout.LEFT,
+                                                        ModifiableSpacingInfo.LABEL_HORIZONTAL_SPACING.getSpacing(),
+                                                        0));
+            logTypeCbs = new EnumMap<EventLogMessageType, JCheckBox>(EventLogMessageType.class);
+
+            // Step through each event type
+            for (EventLogMessageType type : EventLogMessageType.values())
+            {
+                // Check if this isn't the master filter
+                if (type != EventLogMessageType.SELECT_ALL)
+                {
+                    // Create a check box for including the event type, and
+                    // add it to the panel
+                    JCheckBox typeCb = new JCheckBox(type.getTypeName(), true);
+                    typeCb.setFont(ModifiableFontInfo.LABEL_PLAIN.getFont());
+                    typeCb.setBorder(BorderFactory.createEmptyBorder());
+                    typeCb.setToolTipText(CcddUtilities.wrapText("Search the '"
+                                                                 + type.getTypeName()
+                                                                 + "' log entries",
+                                                                 ModifiableSizeInfo.MAX_TOOL_TIP_LENGTH.getSize()));
+                    typesPnl.add(typeCb);
+                    logTypeCbs.put(type, typeCb);
+                }
+            }
+
+            gbc.insets.top = ModifiableSpacingInfo.LABEL_VERTICAL_SPACING.getSpacing() / 2;
+            gbc.insets.left = ModifiableSpacingInfo.LABEL_HORIZONTAL_SPACING.getSpacing() * 2;
+            gbc.gridy++;
+            dialogPnl.add(typesPnl, gbc);
+
+            // Create the user and time range filter fields and add these to
+            // the dialog
+            logUserFld = createFilterField(8,
+                                           border,
+                                           "Search only the log entries for this user; blank to search all users");
+            logStartFld = createFilterField(16,
+                                            border,
+                                            "Search only the log entries at or after this time "
+                                                + "(MM/dd/yyyy HH:mm:ss.SSS; the time may be "
+                                                + "shortened or omitted); blank for no limit");
+            logEndFld = createFilterField(16,
+                                          border,
+                                          "Search only the log entries at or before this time "
+                                              + "(MM/dd/yyyy HH:mm:ss.SSS; the time may be "
+                                              + "shortened or omitted); blank for no limit");
+            JPanel userTimePnl = new JPanel(new FlowLayout(FlowLayout.LEFT,
+                                                           ModifiableSpacingInfo.LABEL_HORIZONTAL_SPACING.getSpacing(),
+                                                           0));
+            userTimePnl.add(createFilterLabel("User"));
+            userTimePnl.add(logUserFld);
+            userTimePnl.add(createFilterLabel("From"));
+            userTimePnl.add(logStartFld);
+            userTimePnl.add(createFilterLabel("To"));
+            userTimePnl.add(logEndFld);
+            gbc.gridy++;
+            dialogPnl.add(userTimePnl, gbc);
+        }
+
         // Create the results and number of results found labels
         JLabel resultsLbl = new JLabel("Search results");
         resultsLbl.setFont(ModifiableFontInfo.LABEL_BOLD.getFont());
@@ -477,11 +584,57 @@ public class CcddSearchDialog extends CcddFrameHandler
         gbc.insets.bottom = 0;
         gbc.gridy++;
 
-        // Add the results labels to the dialog
+        // Create the buttons and label for changing the page of search results
+        // displayed
+        btnPreviousPage = new JButton();
+        btnPreviousPage.setIcon(new ImageIcon(getClass().getResource(LEFT_ICON)));
+        btnPreviousPage.setToolTipText(CcddUtilities.wrapText("Display the previous page of search results",
+                                                              ModifiableSizeInfo.MAX_TOOL_TIP_LENGTH.getSize()));
+        btnNextPage = new JButton();
+        btnNextPage.setIcon(new ImageIcon(getClass().getResource(RIGHT_ICON)));
+        btnNextPage.setToolTipText(CcddUtilities.wrapText("Display the next page of search results",
+                                                          ModifiableSizeInfo.MAX_TOOL_TIP_LENGTH.getSize()));
+        pageLbl = new JLabel();
+        pageLbl.setFont(ModifiableFontInfo.LABEL_PLAIN.getFont());
+
+        // Add a listener for the previous page button
+        btnPreviousPage.addActionListener(new ActionListener()
+        {
+            /******************************************************************
+             * Display the previous page of search results
+             *****************************************************************/
+            @Override
+            public void actionPerformed(ActionEvent ae)
+            {
+                showResultsPage(pageIndex - 1);
+            }
+        });
+
+        // Add a listener for the next page button
+        btnNextPage.addActionListener(new ActionListener()
+        {
+            /******************************************************************
+             * Display the next page of search results
+             *****************************************************************/
+            @Override
+            public void actionPerformed(ActionEvent ae)
+            {
+                showResultsPage(pageIndex + 1);
+            }
+        });
+
+        // Add the results labels and page controls to the dialog
         JPanel resultsPnl = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
         resultsPnl.add(resultsLbl);
         resultsPnl.add(numResultsLbl);
-        dialogPnl.add(resultsPnl, gbc);
+        JPanel pagePnl = new JPanel(new FlowLayout(FlowLayout.RIGHT, 0, 0));
+        pagePnl.add(btnPreviousPage);
+        pagePnl.add(pageLbl);
+        pagePnl.add(btnNextPage);
+        JPanel resultsHdrPnl = new JPanel(new BorderLayout());
+        resultsHdrPnl.add(resultsPnl, BorderLayout.WEST);
+        resultsHdrPnl.add(pagePnl, BorderLayout.EAST);
+        dialogPnl.add(resultsHdrPnl, gbc);
 
         // Create the table to display the search results
         resultsTable = new CcddJTableHandler()
@@ -686,7 +839,7 @@ public class CcddSearchDialog extends CcddFrameHandler
         dialogPnl.add(resultsTblPnl, gbc);
 
         // Search database tables button
-        JButton btnSearch = CcddButtonPanelHandler.createButton("Search",
+        final JButton btnSearch = CcddButtonPanelHandler.createButton("Search",
                                                                 SEARCH_ICON,
                                                                 KeyEvent.VK_O,
                                                                 "Search the project database");
@@ -700,58 +853,65 @@ public class CcddSearchDialog extends CcddFrameHandler
             @Override
             public void actionPerformed(ActionEvent ae)
             {
-                // Check if the search field is blank
-                if (searchFld.getText().isEmpty())
+                // Check if a search is in progress
+                if (searchInProgress != null)
                 {
-                    // Inform the user that the input value is invalid
-                    new CcddDialogHandler().showMessageDialog(CcddSearchDialog.this,
-                                                              "<html><b>Search text cannot be blank",
-                                                              "Invalid Input",
-                                                              JOptionPane.WARNING_MESSAGE,
-                                                              DialogOption.OK_OPTION);
+                    // Halt the search. The results found so far remain
+                    // displayed
+                    searchInProgress.halt();
                 }
-                // The search field contains text
+                // No search is in progress
                 else
                 {
-                    List<Object[]> resultsDataList = null;
+                    try
+                    {
+                        EventLogFilter logFilter = null;
 
-                    // Update the search string list
-                    searchFld.updateList(searchFld.getText());
+                        // Check if this is an event log search
+                        if (searchDlgType == SearchDialogType.LOG)
+                        {
+                            // Get the event log entry filter
+                            logFilter = getLogFilter();
+                        }
 
-                    // Store the search list in the program preferences
-                    ccddMain.getProgPrefs().put(SEARCH_STRINGS, searchFld.getListAsString());
+                        // Check if the search field is blank. An event log
+                        // search can select the log entries using only the
+                        // filter
+                        if (searchFld.getText().isEmpty()
+                            && (logFilter == null || logFilter.isEmpty()))
+                        {
+                            // Inform the user that the input value is invalid
+                            throw new CCDDException("Search text cannot be blank");
+                        }
+
+                        // Check if the search field contains text
+                        if (!searchFld.getText().isEmpty())
+                        {
+                            // Update the search string list
+                            searchFld.updateList(searchFld.getText());
 
-                    switch (searchDlgType)
+                            // Store the search list in the program preferences
+                            ccddMain.getProgPrefs().put(SEARCH_STRINGS, searchFld.getListAsString());
+                        }
+
+                        // Search the database tables, scripts, or event log
+                        // and display the results as these are found
+                        searchInBackground(searchHandler,
+                                           logFilter,
+                                           targetRow,
+                                           btnSearch);
+                    }
+                    catch (CCDDException ce)
                     {
-                        case TABLES:
-                        case SCRIPTS:
-                            // Search the database tables or scripts and
-                            // display the results
-                            resultsDataList = searchHandler.searchTablesOrScripts(searchFld.getText(),
-                                                                                  ignoreCaseCb.isSelected(),
-                                                                                  allowRegexCb.isSelected(),
-                                                                                  (searchDlgType == SearchDialogType.TABLES
-                                                                                                                           ? dataTablesOnlyCb.isSelected()
-                                                                                                                           : false),
-                                                                                  searchColumns);
-                            break;
-
-                        case LOG:
-                            // Search the event log and display the results
-                            resultsDataList = searchHandler.searchEventLogFile(searchFld.getText(),
-                                                                               ignoreCaseCb.isSelected(),
-                                                                               targetRow);
-                            break;
+                        // Inform the user that the input value is invalid
+                        new CcddDialogHandler().showMessageDialog(CcddSearchDialog.this,
+                                                                  "<html><b>"
+                                                                      + ce.getMessage(),
+                                                                  "Invalid Input",
+                                                                  JOptionPane.WARNING_MESSAGE,
+                                                                  DialogOption.OK_OPTION);
                     }
-
-                    // Convert the results list to an array and display the
-                    // results in the dialog's search results table
-                    resultsData = resultsDataList.toArray(new Object[0][0]);
-                    resultsTable.loadAndFormatData();
                 }
-
-                // Update the number of results found label
-                numResultsLbl.setText("  (" + resultsData.length + " found)");
             }
         });
 
@@ -817,6 +977,13 @@ public class CcddSearchDialog extends CcddFrameHandler
             @Override
             public void actionPerformed(ActionEvent ae)
             {
+                // Check if a table or script search is in progress
+                if (searchInProgress != null)
+                {
+                    // Halt the search
+                    searchInProgress.halt();
+                }
+
                 CcddSearchDialog.this.closeFrame();
             }
         });
@@ -854,6 +1021,9 @@ public class CcddSearchDialog extends CcddFrameHandler
                 break;
         }
 
+        // Initialize the page controls
+        showResultsPage(0);
+
         // Display the search dialog
         createFrame(ccddMain.getMainFrame(),
                     dialogPnl,
@@ -863,6 +1033,422 @@ public class CcddSearchDialog extends CcddFrameHandler
                     null);
     }
 
+    /**************************************************************************
+     * Search the database tables, scripts, or event log on a separate thread,
+     * displaying the results as these are found. The Search button becomes a
+     * Halt button for the duration of the search. The search stops once the
+     * maximum number of results is found; the results are sorted once the
+     * search ends
+     * 
+     * @param searchHandler
+     *            search handler
+     * 
+     * @param logFilter
+     *            filter limiting the event log entries searched; null if this
+     *            isn't an event log search
+     * 
+     * @param targetRow
+     *            row index to match if this is an event log entry search on a
+     *            table that displays only a single log entry; null otherwise
+     * 
+     * @param btnSearch
+     *            Search button
+     *************************************************************************/
+    private void searchInBackground(final CcddSearchHandler searchHandler,
+                                    final EventLogFilter logFilter,
+                                    final Long targetRow,
+                                    final JButton btnSearch)
+    {
+        // Get the search criteria so that changes made to these during the
+        // search have no effect
+        final String searchText = searchFld.getText();
+        final boolean ignoreCase = ignoreCaseCb.isSelected();
+        final boolean allowRegex = allowRegexCb.isSelected();
+        final boolean dataTablesOnly = searchDlgType == SearchDialogType.TABLES
+                                                                               ? dataTablesOnlyCb.isSelected()
+                                                                               : false;
+        final String columns = searchColumns;
+        final int maxResults = ModifiableSizeInfo.MAX_SEARCH_RESULTS.getSize();
+
+        /**********************************************************************
+         * Class for performing the search on a separate thread. The results
+         * are passed to the Event Dispatch Thread for display as these are
+         * found
+         *********************************************************************/
+        class SearchWorker extends SwingWorker<Void, Object[]>
+        {
+            // Flag indicating that the maximum number of results is found
+            private boolean isLimitReached = false;
+
+            // Every result found by this search. The results passed to the
+            // Event Dispatch Thread as these are found can arrive after the
+            // search ends, so the final results are taken from this list
+            // instead. This is accessed by the search thread until the search
+            // ends, and then only by the Event Dispatch Thread
+            private final List<Object[]> found = new ArrayList<Object[]>();
+
+            // Flag indicating that the search ended and its results are
+            // displayed
+            private boolean isCompleted = false;
+
+            // Handler for the search results
+            private final SearchResultHandler handler = new SearchResultHandler()
+            {
+                // Number of search results found
+                private int numFound = 0;
+
+                /**************************************************************
+                 * Pass the search result to the Event Dispatch Thread and
+                 * check if the maximum number of results is found
+                 *************************************************************/
+                @Override
+                protected boolean handleResult(Object[] result)
+                {
+                    found.add(result);
+                    publish(result);
+                    numFound++;
+
+                    // Check if the maximum number of results is found
+                    if (numFound >= maxResults)
+                    {
+                        // Stop the search
+                        isLimitReached = true;
+                    }
+
+                    return !isLimitReached;
+                }
+            };
+
+            /******************************************************************
+             * Perform the search. This is performed on a newly spawned
+             * background thread
+             *****************************************************************/
+            @Override
+            protected Void doInBackground()
+            {
+                // Check if this is an event log search
+                if (searchDlgType == SearchDialogType.LOG)
+                {
+                    searchHandler.searchEventLogFile(searchText,
+                                                     ignoreCase,
+                                                     targetRow,
+                                                     logFilter,
+                                                     handler);
+                }
+                // This is a table or script search
+                else
+                {
+                    searchHandler.searchTablesOrScripts(searchText,
+                                                        ignoreCase,
+                                                        allowRegex,
+                                                        dataTablesOnly,
+                                                        columns,
+                                                        handler);
+                }
+
+                return null;
+            }
+
+            /******************************************************************
+             * Add the search results found to the list and update the
+             * display. This is performed on the Event Dispatch Thread
+             *****************************************************************/
+            @Override
+            protected void process(List<Object[]> results)
+            {
+                // Check if the search has ended or if these results are from
+                // a search other than the one in progress. The final results
+                // of an ended search are already displayed
+                if (isCompleted || searchInProgress != handler)
+                {
+                    return;
+                }
+
+                // Check if the results land on the page being displayed
+                boolean isPageChanged = resultsList.size() < (pageIndex + 1)
+                                                             * ModifiableSizeInfo.SEARCH_RESULTS_PAGE_SIZE.getSize();
+
+                resultsList.addAll(results);
+
+                // Check if the results land on the page being displayed
+                if (isPageChanged)
+                {
+                    // Display the page, including the new results
+                    showResultsPage(pageIndex);
+                }
+                // The displayed page is unchanged
+                else
+                {
+                    // Update the page controls to reflect the number of pages
+                    updatePageControls();
+                }
+
+                // Update the number of results found label
+                numResultsLbl.setText("  ("
+                                      + resultsList.size()
+                                      + " found; searching...)");
+            }
+
+            /******************************************************************
+             * Search completed steps. These are performed on the Event
+             * Dispatch Thread
+             *****************************************************************/
+            @Override
+            protected void done()
+            {
+                // Check if this isn't the search in progress
+                if (searchInProgress != handler)
+                {
+                    return;
+                }
+
+                searchInProgress = null;
+                isCompleted = true;
+
+                // Restore the Search button
+                btnSearch.setText("Search");
+                btnSearch.setIcon(new ImageIcon(getClass().getResource(SEARCH_ICON)));
+                btnSearch.setToolTipText(CcddUtilities.wrapText("Search the project database",
+                                                                ModifiableSizeInfo.MAX_TOOL_TIP_LENGTH.getSize()));
+
+                // Sort the search results, display the current page, and
+                // update the number of results found label
+                resultsList = searchHandler.sortSearchResults(found);
+                showResultsPage(pageIndex);
+                numResultsLbl.setText("  ("
+                                      + resultsList.size()
+                                      + " found"
+                                      + (isLimitReached
+                                                        ? "; search stopped at the maximum"
+                                                        : (handler.isHalted()
+                                                                              ? "; search halted"
+                                                                              : ""))
+                                      + ")");
+            }
+        }
+
+        // Remove the results of any previous search
+        resultsList = new ArrayList<Object[]>();
+        showResultsPage(0);
+        numResultsLbl.setText("  (searching...)");
+
+        // Change the Search button to a Halt button for the duration of the
+        // search
+        btnSearch.setText("Halt");
+        btnSearch.setIcon(new ImageIcon(getClass().getResource(HALT_EXECUTION_ICON)));
+        btnSearch.setToolTipText(CcddUtilities.wrapText("Halt the search",
+                                                        ModifiableSizeInfo.MAX_TOOL_TIP_LENGTH.getSize()));
+
+        // Perform the search on a separate thread
+        SearchWorker searchWorker = new SearchWorker();
+        searchInProgress = searchWorker.handler;
+        searchWorker.execute();
+    }
+
+    /**************************************************************************
+     * Create a label for an event log filter field
+     * 
+     * @param text
+     *            label text
+     * 
+     * @return Event log filter field label
+     *************************************************************************/
+    private JLabel createFilterLabel(String text)
+    {
+        JLabel filterLbl = new JLabel(text);
+        filterLbl.setFont(ModifiableFontInfo.LABEL_PLAIN.getFont());
+        return filterLbl;
+    }
+
+    /**************************************************************************
+     * Create an event log filter field
+     * 
+     * @param columns
+     *            field width, in columns
+     * 
+     * @param border
+     *            field border
+     * 
+     * @param toolTip
+     *            field tool tip text
+     * 
+     * @return Event log filter field
+     *************************************************************************/
+    private JTextField createFilterField(int columns, Border border, String toolTip)
+    {
+        JTextField filterFld = new JTextField("", columns);
+        filterFld.setFont(ModifiableFontInfo.INPUT_TEXT.getFont());
+        filterFld.setEditable(true);
+        filterFld.setForeground(ModifiableColorInfo.INPUT_TEXT.getColor());
+        filterFld.setBackground(ModifiableColorInfo.INPUT_BACK.getColor());
+        filterFld.setBorder(border);
+        filterFld.setToolTipText(CcddUtilities.wrapText(toolTip,
+                                                        ModifiableSizeInfo.MAX_TOOL_TIP_LENGTH.getSize()));
+        return filterFld;
+    }
+
+    /**************************************************************************
+     * Get the event log entry filter from the event types, user, and time
+     * range selected in the dialog
+     * 
+     * @return Event log entry filter. The filter includes all log entries if
+     *         the filter components aren't displayed
+     * 
+     * @throws CCDDException
+     *             If no event type is selected or a time is invalid
+     *************************************************************************/
+    private EventLogFilter getLogFilter() throws CCDDException
+    {
+        Set<EventLogMessageType> types = null;
+        String user = null;
+        Long startTime = null;
+        Long endTime = null;
+
+        // Check if the filter components are displayed
+        if (logTypeCbs != null)
+        {
+            types = EnumSet.noneOf(EventLogMessageType.class);
+
+            // Step through each event type check box
+            for (Map.Entry<EventLogMessageType, JCheckBox> entry : logTypeCbs.entrySet())
+            {
+                // Check if the event type is selected
+                if (entry.getValue().isSelected())
+                {
+                    types.add(entry.getKey());
+                }
+            }
+
+            // Check if no event type is selected
+            if (types.isEmpty())
+            {
+                throw new CCDDException("At least one event type must be selected");
+            }
+
+            // Check if every event type is selected
+            if (types.size() == logTypeCbs.size())
+            {
+                // The event type doesn't limit the search
+                types = null;
+            }
+
+            // Check if a user is specified
+            if (!logUserFld.getText().trim().isEmpty())
+            {
+                user = logUserFld.getText().trim();
+            }
+
+            // Get the time range, extending a partial time to the start or
+            // end of the period it specifies
+            startTime = getFilterTime(logStartFld, "01/01/0000 00:00:00.000");
+            endTime = getFilterTime(logEndFld, "12/31/9999 23:59:59.999");
+
+            // Check if the time range is reversed
+            if (startTime != null && endTime != null && startTime > endTime)
+            {
+                throw new CCDDException("Filter 'From' time must not follow the 'To' time");
+            }
+        }
+
+        return new EventLogFilter(types, user, startTime, endTime);
+    }
+
+    /**************************************************************************
+     * Get the time stamp value for an event log filter time field
+     * 
+     * @param timeFld
+     *            filter time field
+     * 
+     * @param completion
+     *            time stamp from which any characters omitted from the end of
+     *            the field's time are taken
+     * 
+     * @return Time stamp value in the format used by the event log index;
+     *         null if the field is blank
+     * 
+     * @throws CCDDException
+     *             If the field's time is invalid
+     *************************************************************************/
+    private Long getFilterTime(JTextField timeFld, String completion) throws CCDDException
+    {
+        Long time = null;
+        String text = timeFld.getText().trim();
+
+        // Check if a time is specified
+        if (!text.isEmpty())
+        {
+            // Check if the time contains at least the date and isn't too long
+            if (text.length() >= "MM/dd/yyyy".length()
+                && text.length() <= completion.length())
+            {
+                // Get the time stamp value, completing the time if needed
+                time = CcddEventLogIndexHandler.getTimeStampValue(text
+                                                                  + completion.substring(text.length()));
+            }
+
+            // Check if the time is invalid
+            if (time == null || time == 0)
+            {
+                throw new CCDDException("Invalid filter time '"
+                                        + text
+                                        + "'; format is MM/dd/yyyy HH:mm:ss.SSS "
+                                        + "(the time may be shortened or omitted)");
+            }
+        }
+
+        return time;
+    }
+
+    /**************************************************************************
+     * Display the specified page of search results in the search results
+     * table
+     * 
+     * @param page
+     *            index of the page to display. The index is constrained to
+     *            the range of available pages
+     *************************************************************************/
+    private void showResultsPage(int page)
+    {
+        int pageSize = ModifiableSizeInfo.SEARCH_RESULTS_PAGE_SIZE.getSize();
+
+        // Constrain the page index to the available pages
+        pageIndex = Math.max(0, Math.min(page, getNumPages() - 1));
+
+        // Load the results on the page into the search results table
+        resultsData = resultsList.subList(Math.min(pageIndex * pageSize,
+                                                   resultsList.size()),
+                                          Math.min((pageIndex + 1) * pageSize,
+                                                   resultsList.size()))
+                                 .toArray(new Object[0][0]);
+        resultsTable.loadAndFormatData();
+
+        // Update the page controls
+        updatePageControls();
+    }
+
+    /**************************************************************************
+     * Update the page label and enable the page buttons based on the page
+     * displayed and the number of pages of search results
+     *************************************************************************/
+    private void updatePageControls()
+    {
+        int numPages = getNumPages();
+        pageLbl.setText(" Page " + (pageIndex + 1) + " of " + numPages + " ");
+        btnPreviousPage.setEnabled(pageIndex > 0);
+        btnNextPage.setEnabled(pageIndex < numPages - 1);
+    }
+
+    /**************************************************************************
+     * Get the number of pages of search results
+     * 
+     * @return Number of pages of search results; 1 if there are no results
+     *************************************************************************/
+    private int getNumPages()
+    {
+        int pageSize = ModifiableSizeInfo.SEARCH_RESULTS_PAGE_SIZE.getSize();
+        return Math.max(1, (resultsList.size() + pageSize - 1) / pageSize);
+    }
+
     /**************************************************************************
      * Open the table(s) associated with the selected search result(s)
      *************************************************************************/
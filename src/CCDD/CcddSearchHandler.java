@@ -10,19 +10,15 @@ package CCDD;
 import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
 import static CCDD.CcddConstants.TABLE_DESCRIPTION_SEPARATOR;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.CharBuffer;
-import java.nio.MappedByteBuffer;
-import java.nio.channels.FileChannel;
-import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
@@ -47,6 +43,10 @@ import CCDD.CcddConstants.InternalTable.ValuesColumn;
 import CCDD.CcddConstants.SearchDialogType;
 import CCDD.CcddConstants.SearchResultsQueryColumn;
 import CCDD.CcddConstants.SearchType;
+import CCDD.CcddDbCommandHandler.CursorQuery;
+import CCDD.CcddEventLogIndexHandler.EventLogFilter;
+import CCDD.CcddEventLogIndexHandler.LogEntryHandler;
+import CCDD.CcddSearchIndexHandler.SearchHitHandler;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /******************************************************************************
@@ -57,13 +57,157 @@ import CCDD.CcddTableTypeHandler.TypeDefinition;
 public class CcddSearchHandler extends CcddDialogHandler
 {
     // Class references
+    private final CcddMain ccddMain;
     private final CcddDbCommandHandler dbCommand;
     private final CcddTableTypeHandler tableTypeHandler;
     private final CcddEventLogDialog eventLog;
+    private final CcddSearchIndexHandler searchIndex;
 
     // Search dialog type
     private final SearchDialogType searchDlgType;
 
+    // Number of table or script search matches retrieved from the database at
+    // a time
+    private static final int SEARCH_FETCH_SIZE = 500;
+
+    /**************************************************************************
+     * Table type information used to describe the location of a table search
+     * result
+     *************************************************************************/
+    private static class TypeSearchInfo
+    {
+        // Visible column names
+        private final String[] columnNamesUser;
+
+        // Column indices, stored by database column name
+        private final Map<String, Integer> columnIndices;
+
+        // Index of the column containing the variable name for a structure
+        // table or the command name for a command table; -1 for other table
+        // types
+        private final int rowNameColumn;
+
+        // Description of the row name ('variable' or 'command'); null for
+        // other table types
+        private final String rowNameType;
+
+        /**********************************************************************
+         * Table type information class constructor
+         * 
+         * @param typeDefn
+         *            table type definition
+         *********************************************************************/
+        private TypeSearchInfo(TypeDefinition typeDefn)
+        {
+            columnNamesUser = typeDefn.getColumnNamesUser();
+            columnIndices = new HashMap<String, Integer>();
+            String[] columnNamesDb = typeDefn.getColumnNamesDatabase();
+
+            // Step through each column
+            for (int column = 0; column < columnNamesDb.length; column++)
+            {
+                // Check if this is the first column with this name
+                if (!columnIndices.containsKey(columnNamesDb[column]))
+                {
+                    // Store the column's index
+                    columnIndices.put(columnNamesDb[column], column);
+                }
+            }
+
+            // Check if this is a structure table
+            if (typeDefn.isStructure())
+            {
+                // Get the variable name column index
+                rowNameColumn = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+                rowNameType = "variable";
+            }
+            // Check if this is a command table
+            else if (typeDefn.isCommand())
+            {
+                // Get the command name column index
+                rowNameColumn = typeDefn.getColumnIndexByInputType(InputDataType.COMMAND_NAME);
+                rowNameType = "command";
+            }
+            // Not a structure or command table
+            else
+            {
+                rowNameColumn = -1;
+                rowNameType = null;
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Class for receiving table, script, or event log search results as these
+     * are found. The search can be halted from another thread
+     *************************************************************************/
+    abstract protected static class SearchResultHandler
+    {
+        // Database query performing the search; null if the database isn't
+        // being searched
+        private CursorQuery query;
+
+        // Flag indicating that the search is halted
+        private boolean isHalted = false;
+
+        // Number of search results supplied to the handler
+        private int numResults = 0;
+
+        /**********************************************************************
+         * Process a search result
+         * 
+         * @param result
+         *            search result object array providing the match's
+         *            location in the database tables, the column within the
+         *            location, and an extract for the located match showing
+         *            its context
+         * 
+         * @return true to continue searching; false to stop
+         *********************************************************************/
+        abstract protected boolean handleResult(Object[] result);
+
+        /**********************************************************************
+         * Halt the search. If the database is being searched then the query
+         * is canceled
+         *********************************************************************/
+        protected synchronized void halt()
+        {
+            isHalted = true;
+
+            // Check if the database is being searched
+            if (query != null)
+            {
+                // Cancel the search query
+                query.cancel();
+            }
+        }
+
+        /**********************************************************************
+         * Check if the search is halted
+         * 
+         * @return true if the search is halted
+         *********************************************************************/
+        protected synchronized boolean isHalted()
+        {
+            return isHalted;
+        }
+
+        /**********************************************************************
+         * Set the database query performing the search
+         * 
+         * @param query
+         *            database query performing the search; null if the
+         *            database is no longer being searched
+         * 
+         * @return true if the search isn't halted
+         *********************************************************************/
+        private synchronized boolean setQuery(CursorQuery query)
+        {
+            this.query = query;
+            return !isHalted;
+        }
+    }
+
     /**************************************************************************
      * Search database tables, scripts, and event log handler class constructor
      * 
@@ -85,12 +229,14 @@ public class CcddSearchHandler extends CcddDialogHandler
                       Long targetRow,
                       CcddEventLogDialog eventLog)
     {
+        this.ccddMain = ccddMain;
         this.searchDlgType = searchType;
         this.eventLog = eventLog;
 
         // Create references to shorten subsequent calls
         dbCommand = ccddMain.getDbCommandHandler();
         tableTypeHandler = ccddMain.getTableTypeHandler();
+        searchIndex = ccddMain.getSearchIndexHandler();
     }
 
     /**************************************************************************
@@ -139,8 +285,65 @@ public class CcddSearchHandler extends CcddDialogHandler
                                                    String searchColumns)
     {
         // Initialize the list to contain the search results
-        List<Object[]> resultsDataList = new ArrayList<Object[]>();
+        final List<Object[]> resultsDataList = new ArrayList<Object[]>();
+
+        // Search for the text, adding each result to the list
+        searchTablesOrScripts(searchText,
+                              ignoreCase,
+                              allowRegex,
+                              dataTablesOnly,
+                              searchColumns,
+                              new SearchResultHandler()
+                              {
+                                  /********************************************
+                                   * Add the search result to the list
+                                   *******************************************/
+                                  @Override
+                                  protected boolean handleResult(Object[] result)
+                                  {
+                                      resultsDataList.add(result);
+                                      return true;
+                                  }
+                              });
 
+        // Display the search results
+        return sortSearchResults(resultsDataList);
+    }
+
+    /**************************************************************************
+     * Search for occurrences of a string in the tables or scripts, supplying
+     * each search result to the handler as it's found. The search results
+     * aren't sorted
+     * 
+     * @param searchText
+     *            text string to search for in the database
+     * 
+     * @param ignoreCase
+     *            true to ignore case when looking for matching text
+     * 
+     * @param allowRegex
+     *            true to allow a regular expression search string
+     * 
+     * @param dataTablesOnly
+     *            true if only the data tables, and not references in the
+     *            internal tables, are to be searched
+     * 
+     * @param searchColumns
+     *            string containing the names of columns, separated by commas,
+     *            to which to constrain a table search
+     * 
+     * @param handler
+     *            handler for the search results. The search ends when the
+     *            handler indicates no more results are needed or the search
+     *            is halted
+     *************************************************************************/
+    protected void searchTablesOrScripts(final String searchText,
+                                         boolean ignoreCase,
+                                         boolean allowRegex,
+                                         boolean dataTablesOnly,
+                                         String searchColumns,
+                                         final SearchResultHandler handler)
+    {
         // Set the search type based on the dialog type and, for a table
         // search, the state of the 'data tables only' check box
         String searchType = searchDlgType == SearchDialogType.TABLES
@@ -149,514 +352,674 @@ public class CcddSearchHandler extends CcddDialogHandler
                                                                                      : SearchType.ALL.toString())
                                                                     : SearchType.SCRIPT.toString();
 
-        // Search the database for the text
-        String[] hits = dbCommand.getList(DatabaseListCommand.SEARCH,
-                                          new String[][] { {"_search_text_",
-                                                            searchText},
-                                                          {"_case_insensitive_",
-                                                           String.valueOf(ignoreCase)},
-                                                          {"_allow_regex_",
-                                                           String.valueOf(allowRegex)},
-                                                          {"_selected_tables_",
-                                                           searchType},
-                                                          {"_columns_",
-                                                           searchColumns}},
-                                          CcddSearchHandler.this);
-
-        // Step through each table/column containing the search text
-        for (String hit : hits)
+        boolean isSearched = false;
+
+        // Create the map of the information for the table types having search
+        // results. The information is determined once per type rather than
+        // for each result
+        final Map<String, TypeSearchInfo> typeInfoMap = new HashMap<String, TypeSearchInfo>();
+
+        // Create the handler for the matches found using the index
+        SearchHitHandler hitHandler = new SearchHitHandler()
         {
-            // Split the found item into table, column, description, and
-            // context
-            String[] tblColDescAndCntxt = hit.split(TABLE_DESCRIPTION_SEPARATOR, 4);
+            /******************************************************************
+             * Convert the match to a search result and supply it to the
+             * handler
+             *****************************************************************/
+            @Override
+            public boolean handleHit(String hit)
+            {
+                return processHit(hit, searchText, typeInfoMap, handler);
+            }
+        };
 
-            // Create a reference to the search result's column name to shorten
-            // comparisons below
-            String hitColumnName = tblColDescAndCntxt[SearchResultsQueryColumn.COLUMN.ordinal()];
+        // Check if the search text is literal
+        if (!allowRegex)
+        {
+            try
+            {
+                // Search the indexed table contents for the text
+                isSearched = searchIndex.search(searchText,
+                                                ignoreCase,
+                                                searchType,
+                                                searchColumns,
+                                                hitHandler);
+            }
+            catch (SQLException se)
+            {
+                // Check if any results were supplied before the error
+                // occurred
+                if (handler.numResults != 0)
+                {
+                    // Inform the user that the search failed. The database
+                    // isn't searched since this would repeat the results
+                    // already supplied
+                    logSearchFailure(se);
+                    isSearched = true;
+                }
+            }
+        }
+
+        // Check if the index wasn't used
+        if (!isSearched)
+        {
+            // Create the handler for the matches found by the database query
+            CursorQuery query = new CursorQuery()
+            {
+                /**************************************************************
+                 * Convert the match to a search result and supply it to the
+                 * handler
+                 *************************************************************/
+                @Override
+                protected boolean handleRow(ResultSet row) throws SQLException
+                {
+                    return processHit(row.getString(1).trim(),
+                                      searchText,
+                                      typeInfoMap,
+                                      handler);
+                }
+            };
 
-            // Check that the column isn't the primary key or row index
-            if (!hitColumnName.equals(DefaultColumn.PRIMARY_KEY.getDbName())
-                && !hitColumnName.equals(DefaultColumn.ROW_INDEX.getDbName()))
+            // Check if the search isn't halted
+            if (handler.setQuery(query))
             {
-                // Create references to the the remaining search result columns
-                // to shorten comparisons below
-                String hitTableName = tblColDescAndCntxt[SearchResultsQueryColumn.TABLE.ordinal()];
-                String hitTableComment = tblColDescAndCntxt[SearchResultsQueryColumn.COMMENT.ordinal()];
-                String hitContext = tblColDescAndCntxt[SearchResultsQueryColumn.CONTEXT.ordinal()];
-
-                // Separate the table comment into the viewable table name and
-                // table type, or for scripts the script name and description
-                String[] nameAndType = hitTableComment.split(",");
-
-                // Split the row in which the match is found into its separate
-                // columns, accounting for quotes around the comma separated
-                // column values (i.e., ignore commas within quotes)
-                String[] columnValue = CcddUtilities.splitAndRemoveQuotes(hitContext);
-
-                String target = null;
-                String location = null;
-                String context = null;
-
-                // Check if this is a table search
-                if (searchDlgType == SearchDialogType.TABLES)
+                try
+                {
+                    // Search the database for the text. The matches are
+                    // supplied to the handler as these are retrieved
+                    dbCommand.executeDbCursorQuery(DatabaseListCommand.SEARCH.getListCommand(new String[][] { {"_search_text_",
+                                                                                                              searchText},
+                                                                                                             {"_case_insensitive_",
+                                                                                                              String.valueOf(ignoreCase)},
+                                                                                                             {"_allow_regex_",
+                                                                                                              String.valueOf(allowRegex)},
+                                                                                                             {"_selected_tables_",
+                                                                                                              searchType},
+                                                                                                             {"_columns_",
+                                                                                                              searchColumns}}),
+                                                   SEARCH_FETCH_SIZE,
+                                                   query,
+                                                   CcddSearchHandler.this);
+                }
+                catch (SQLException se)
                 {
-                    // The reference is to a prototype table
-                    if (!hitTableName.startsWith(INTERNAL_TABLE_PREFIX))
+                    // Inform the user that the search failed
+                    logSearchFailure(se);
+                }
+
+                handler.setQuery(null);
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Convert a table or script search match into a search result and supply
+     * it to the handler
+     * 
+     * @param hit
+     *            table name, column name, table description, and row
+     *            containing the match, separated by backslashes
+     * 
+     * @param searchText
+     *            text string searched for in the database
+     * 
+     * @param typeInfoMap
+     *            map of the table type information determined during the
+     *            search, stored by table type name
+     * 
+     * @param handler
+     *            handler for the search results
+     * 
+     * @return true to continue searching; false if the search is halted or
+     *         the handler indicates no more results are needed
+     *************************************************************************/
+    private boolean processHit(String hit,
+                               String searchText,
+                               Map<String, TypeSearchInfo> typeInfoMap,
+                               SearchResultHandler handler)
+    {
+        boolean isContinue = !handler.isHalted();
+
+        // Check if the search isn't halted
+        if (isContinue)
+        {
+            // Convert the match into a search result
+            Object[] result = getSearchResult(hit, searchText, typeInfoMap);
+
+            // Check if the match is reported
+            if (result != null)
+            {
+                // Supply the result to the handler
+                handler.numResults++;
+                isContinue = handler.handleResult(result);
+            }
+        }
+
+        return isContinue;
+    }
+
+    /**************************************************************************
+     * Inform the user that a table or script search failed
+     * 
+     * @param se
+     *            exception describing the failure
+     *************************************************************************/
+    private void logSearchFailure(SQLException se)
+    {
+        ccddMain.getSessionEventLog().logFailEvent(CcddSearchHandler.this,
+                                                   "Cannot retrieve "
+                                                       + DatabaseListCommand.SEARCH
+                                                       + " list; cause '"
+                                                       + se.getMessage()
+                                                       + "'",
+                                                   "<html><b>Cannot retrieve "
+                                                       + DatabaseListCommand.SEARCH
+                                                       + " list");
+    }
+
+    /**************************************************************************
+     * Convert a table or script search match into a search result
+     * 
+     * @param hit
+     *            table name, column name, table description, and row
+     *            containing the match, separated by backslashes
+     * 
+     * @param searchText
+     *            text string searched for in the database
+     * 
+     * @param typeInfoMap
+     *            map of the table type information determined during the
+     *            search, stored by table type name. The information for a
+     *            type is added when its first search result is found
+     * 
+     * @return Search result object array providing the match's location in
+     *         the database tables, the column within the location, and an
+     *         extract for the located match showing its context; null if the
+     *         match isn't reported (e.g., it's in a primary key or row index
+     *         column)
+     *************************************************************************/
+    private Object[] getSearchResult(String hit,
+                                     String searchText,
+                                     Map<String, TypeSearchInfo> typeInfoMap)
+    {
+        Object[] result = null;
+
+        // Split the found item into table, column, description, and
+        // context
+        String[] tblColDescAndCntxt = hit.split(TABLE_DESCRIPTION_SEPARATOR, 4);
+
+        // Create a reference to the search result's column name to shorten
+        // comparisons below
+        String hitColumnName = tblColDescAndCntxt[SearchResultsQueryColumn.COLUMN.ordinal()];
+
+        // Check that the column isn't the primary key or row index
+        if (!hitColumnName.equals(DefaultColumn.PRIMARY_KEY.getDbName())
+            && !hitColumnName.equals(DefaultColumn.ROW_INDEX.getDbName()))
+        {
+            // Create references to the the remaining search result columns
+            // to shorten comparisons below
+            String hitTableName = tblColDescAndCntxt[SearchResultsQueryColumn.TABLE.ordinal()];
+            String hitTableComment = tblColDescAndCntxt[SearchResultsQueryColumn.COMMENT.ordinal()];
+            String hitContext = tblColDescAndCntxt[SearchResultsQueryColumn.CONTEXT.ordinal()];
+
+            // Separate the table comment into the viewable table name and
+            // table type, or for scripts the script name and description
+            String[] nameAndType = hitTableComment.split(",");
+
+            // Split the row in which the match is found into its separate
+            // columns, accounting for quotes around the comma separated
+            // column values (i.e., ignore commas within quotes)
+            String[] columnValue = CcddUtilities.splitAndRemoveQuotes(hitContext);
+
+            String target = null;
+            String location = null;
+            String context = null;
+
+            // Check if this is a table search
+            if (searchDlgType == SearchDialogType.TABLES)
+            {
+                // The reference is to a prototype table
+                if (!hitTableName.startsWith(INTERNAL_TABLE_PREFIX))
+                {
+                    // Get the information for the table's type, determining
+                    // it if this is the type's first search result
+                    TypeSearchInfo typeInfo = typeInfoMap.get(nameAndType[1]);
+
+                    if (typeInfo == null)
                     {
-                        // Get the table's type definition based on its table
-                        // type
-                        TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(nameAndType[1]);
+                        typeInfo = new TypeSearchInfo(tableTypeHandler.getTypeDefinition(nameAndType[1]));
+                        typeInfoMap.put(nameAndType[1], typeInfo);
+                    }
 
-                        // Get the index of the column where the match exists
-                        int colIndex = typeDefn.getColumnIndexByDbName(hitColumnName);
+                    // Get the index of the column where the match exists
+                    Integer columnIndex = typeInfo.columnIndices.get(hitColumnName);
+                    int colIndex = columnIndex == null ? -1 : columnIndex;
 
-                        // Set the row number for the row location if the
-                        // variable name or command name aren't present
-                        String row = "row "
-                                     + columnValue[DefaultColumn.ROW_INDEX.ordinal()];
+                    // Set the row number for the row location if the
+                    // variable name or command name aren't present
+                    String row = "row "
+                                 + columnValue[DefaultColumn.ROW_INDEX.ordinal()];
 
-                        // Check if this is a structure table
-                        if (typeDefn.isStructure())
-                        {
-                            // Get the variable name column index
-                            int index = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+                    // Check if this is a structure or command table and that
+                    // a variable or command name exists
+                    if (typeInfo.rowNameColumn != -1
+                        && !columnValue[typeInfo.rowNameColumn].isEmpty())
+                    {
+                        // Set the row location to the variable or command
+                        // name
+                        row = typeInfo.rowNameType
+                              + " '"
+                              + columnValue[typeInfo.rowNameColumn]
+                              + "'";
+                    }
 
-                            // Check that a variable name exists
-                            if (index != -1 && !columnValue[index].isEmpty())
-                            {
-                                // Set the row location to the variable name
-                                row = "variable '"
-                                      + columnValue[index]
-                                      + "'";
-                            }
+                    // Set the search result table values
+                    target = nameAndType[0];
+                    location = "Column '"
+                               + typeInfo.columnNamesUser[colIndex]
+                               + "', "
+                               + row;
+                    context = columnValue[colIndex];
+                }
+                // Check if the match is in the custom values internal
+                // table
+                else if (hitTableName.equals(InternalTable.VALUES.getTableName()))
+                {
+                    // Check if the match is in the value column
+                    if (hitColumnName.equals(ValuesColumn.VALUE.getColumnName()))
+                    {
+                        // Get the column values from the row in which the
+                        // match occurs
+                        String tablePath = columnValue[ValuesColumn.TABLE_PATH.ordinal()];
+                        String columnName = columnValue[ValuesColumn.COLUMN_NAME.ordinal()];
+                        String value = columnValue[ValuesColumn.VALUE.ordinal()];
+
+                        // Check if this is a table definition entry in the
+                        // values table
+                        if (columnName.isEmpty())
+                        {
+                            // Set the location
+                            location = "Table description";
                         }
-                        // Check if this is a command table
-                        else if (typeDefn.isCommand())
+                        // Column value from a child table stored in the
+                        // internal values table. Since this isn't a table
+                        // description the reference must be to a structure
+                        // table (for other table types the match would be
+                        // in the table prototype)
+                        else
                         {
-                            // Get the command name column index
-                            int index = typeDefn.getColumnIndexByInputType(InputDataType.COMMAND_NAME);
+                            // Set the location
+                            location = "Column '"
+                                       + columnName
+                                       + "'";
 
-                            // Check that a command name exists
-                            if (index != -1 && !columnValue[index].isEmpty())
+                            // Initialize the variable name and get the
+                            // index where the last variable name begins
+                            int index = tablePath.lastIndexOf(',');
+
+                            // Check if a variable name exists
+                            if (index != -1)
                             {
-                                // Set the row location to the command name
-                                row = "command '"
-                                      + columnValue[index]
-                                      + "'";
+                                // Extract the variable from the path, then
+                                // remove it from the variable path
+                                location += ", variable '"
+                                            + tablePath.substring(index + 1).replaceFirst("^.+\\.", "")
+                                            + "'";
+                                tablePath = tablePath.substring(0, index).replaceFirst(",", ":");
                             }
                         }
 
                         // Set the search result table values
-                        target = nameAndType[0];
-                        location = "Column '"
-                                   + typeDefn.getColumnNamesUser()[colIndex]
-                                   + "', "
-                                   + row;
-                        context = columnValue[colIndex];
-                    }
-                    // Check if the match is in the custom values internal
-                    // table
-                    else if (hitTableName.equals(InternalTable.VALUES.getTableName()))
-                    {
-                        // Check if the match is in the value column
-                        if (hitColumnName.equals(ValuesColumn.VALUE.getColumnName()))
-                        {
-                            // Get the column values from the row in which the
-                            // match occurs
-                            String tablePath = columnValue[ValuesColumn.TABLE_PATH.ordinal()];
-                            String columnName = columnValue[ValuesColumn.COLUMN_NAME.ordinal()];
-                            String value = columnValue[ValuesColumn.VALUE.ordinal()];
-
-                            // Check if this is a table definition entry in the
-                            // values table
-                            if (columnName.isEmpty())
-                            {
-                                // Set the location
-                                location = "Table description";
-                            }
-                            // Column value from a child table stored in the
-                            // internal values table. Since this isn't a table
-                            // description the reference must be to a structure
-                            // table (for other table types the match would be
-                            // in the table prototype)
-                            else
-                            {
-                                // Set the location
-                                location = "Column '"
-                                           + columnName
-                                           + "'";
-
-                                // Initialize the variable name and get the
-                                // index where the last variable name begins
-                                int index = tablePath.lastIndexOf(',');
-
-                                // Check if a variable name exists
-                                if (index != -1)
-                                {
-                                    // Extract the variable from the path, then
-                                    // remove it from the variable path
-                                    location += ", variable '"
-                                                + tablePath.substring(index + 1).replaceFirst("^.+\\.", "")
-                                                + "'";
-                                    tablePath = tablePath.substring(0, index).replaceFirst(",", ":");
-                                }
-                            }
-
-                            // Set the search result table values
-                            target = tablePath;
-                            context = value;
-                        }
+                        target = tablePath;
+                        context = value;
                     }
-                    // Check if the match is in the data types internal table
-                    else if (hitTableName.equals(InternalTable.DATA_TYPES.getTableName()))
+                }
+                // Check if the match is in the data types internal table
+                else if (hitTableName.equals(InternalTable.DATA_TYPES.getTableName()))
+                {
+                    target = "Data type";
+                    location = "Data type '"
+                               + CcddDataTypeHandler.getDataTypeName(columnValue[DataTypesColumn.USER_NAME.ordinal()],
+                                                                     columnValue[DataTypesColumn.C_NAME.ordinal()])
+                               + "' ";
+
+                    // Check if the match is with the user-defined name
+                    if (hitColumnName.equals(DataTypesColumn.USER_NAME.getColumnName()))
                     {
-                        target = "Data type";
-                        location = "Data type '"
-                                   + CcddDataTypeHandler.getDataTypeName(columnValue[DataTypesColumn.USER_NAME.ordinal()],
-                                                                         columnValue[DataTypesColumn.C_NAME.ordinal()])
-                                   + "' ";
-
-                        // Check if the match is with the user-defined name
-                        if (hitColumnName.equals(DataTypesColumn.USER_NAME.getColumnName()))
-                        {
-                            location += "user-defined name";
-                            context = columnValue[DataTypesColumn.USER_NAME.ordinal()];
-                        }
-                        // Check if the match is with the C-language name
-                        else if (hitColumnName.equals(DataTypesColumn.C_NAME.getColumnName()))
-                        {
-                            location += "C-language name";
-                            context = columnValue[DataTypesColumn.C_NAME.ordinal()];
-                        }
-                        // Check if the match is with the data type size
-                        else if (hitColumnName.equals(DataTypesColumn.SIZE.getColumnName()))
-                        {
-                            location += "data type size";
-                            context = columnValue[DataTypesColumn.SIZE.ordinal()];
-                        }
-                        // Check if the match is with the base type
-                        else if (hitColumnName.equals(DataTypesColumn.BASE_TYPE.getColumnName()))
-                        {
-                            location += "base data type";
-                            context = columnValue[DataTypesColumn.BASE_TYPE.ordinal()];
-                        }
+                        location += "user-defined name";
+                        context = columnValue[DataTypesColumn.USER_NAME.ordinal()];
+                    }
+                    // Check if the match is with the C-language name
+                    else if (hitColumnName.equals(DataTypesColumn.C_NAME.getColumnName()))
+                    {
+                        location += "C-language name";
+                        context = columnValue[DataTypesColumn.C_NAME.ordinal()];
+                    }
+                    // Check if the match is with the data type size
+                    else if (hitColumnName.equals(DataTypesColumn.SIZE.getColumnName()))
+                    {
+                        location += "data type size";
+                        context = columnValue[DataTypesColumn.SIZE.ordinal()];
                     }
-                    // Check if the match is in the groups table
-                    else if (hitTableName.equals(InternalTable.GROUPS.getTableName()))
+                    // Check if the match is with the base type
+                    else if (hitColumnName.equals(DataTypesColumn.BASE_TYPE.getColumnName()))
                     {
-                        target = "Group";
-                        location = "Group '"
-                                   + columnValue[GroupsColumn.GROUP_NAME.ordinal()]
-                                   + "' ";
+                        location += "base data type";
+                        context = columnValue[DataTypesColumn.BASE_TYPE.ordinal()];
+                    }
+                }
+                // Check if the match is in the groups table
+                else if (hitTableName.equals(InternalTable.GROUPS.getTableName()))
+                {
+                    target = "Group";
+                    location = "Group '"
+                               + columnValue[GroupsColumn.GROUP_NAME.ordinal()]
+                               + "' ";
 
-                        // Check if the match is with the group name
-                        if (hitColumnName.equals(GroupsColumn.GROUP_NAME.getColumnName()))
-                        {
-                            location += "name";
-                            context = columnValue[GroupsColumn.GROUP_NAME.ordinal()];
-                        }
-                        // The match is with a group definition or member
-                        else
+                    // Check if the match is with the group name
+                    if (hitColumnName.equals(GroupsColumn.GROUP_NAME.getColumnName()))
+                    {
+                        location += "name";
+                        context = columnValue[GroupsColumn.GROUP_NAME.ordinal()];
+                    }
+                    // The match is with a group definition or member
+                    else
+                    {
+                        // Check if the column begins with a number; this
+                        // is the group definition
+                        if (columnValue[GroupsColumn.MEMBERS.ordinal()].matches("^\\d+"))
                         {
-                            // Check if the column begins with a number; this
-                            // is the group definition
-                            if (columnValue[GroupsColumn.MEMBERS.ordinal()].matches("^\\d+"))
+                            // Get the group description (remove the dummy
+                            // number and comma that flags this as a group
+                            // definition)
+                            context = columnValue[GroupsColumn.MEMBERS.ordinal()].split(",")[1];
+
+                            // Check if the description contains the search
+                            // text (i.e., the dummy number and comma
+                            // aren't part of the match)
+                            if (context.toLowerCase().contains(searchText.toLowerCase()))
                             {
-                                // Get the group description (remove the dummy
-                                // number and comma that flags this as a group
-                                // definition)
-                                context = columnValue[GroupsColumn.MEMBERS.ordinal()].split(",")[1];
-
-                                // Check if the description contains the search
-                                // text (i.e., the dummy number and comma
-                                // aren't part of the match)
-                                if (context.toLowerCase().contains(searchText.toLowerCase()))
-                                {
-                                    location += "description";
-                                }
-                                // The match includes the dummy number and
-                                // comma; ignore
-                                else
-                                {
-                                    target = null;
-                                }
+                                location += "description";
                             }
-                            // This is a group member
+                            // The match includes the dummy number and
+                            // comma; ignore
                             else
                             {
-                                location += "member table";
-                                context = columnValue[GroupsColumn.MEMBERS.ordinal()];
+                                target = null;
                             }
                         }
-                    }
-                    // Check if the match is in the fields internal table
-                    else if (hitTableName.equals(InternalTable.FIELDS.getTableName()))
-                    {
-                        location = "Data field '"
-                                   + columnValue[FieldsColumn.FIELD_NAME.ordinal()]
-                                   + "' ";
-
-                        // Check if this is a default data field
-                        if ((columnValue[FieldsColumn.OWNER_NAME.ordinal()] + ":").startsWith(CcddFieldHandler.getFieldTypeName("")))
-                        {
-                            target = "Default data field";
-                        }
-                        // Check if this is a group data field
-                        else if ((columnValue[FieldsColumn.OWNER_NAME.ordinal()] + ":").startsWith(CcddFieldHandler.getFieldGroupName("")))
-                        {
-                            target = "Group data field";
-                        }
-                        // Table data field
+                        // This is a group member
                         else
                         {
-                            target = columnValue[FieldsColumn.OWNER_NAME.ordinal()].replaceFirst(",", ":");
+                            location += "member table";
+                            context = columnValue[GroupsColumn.MEMBERS.ordinal()];
                         }
+                    }
+                }
+                // Check if the match is in the fields internal table
+                else if (hitTableName.equals(InternalTable.FIELDS.getTableName()))
+                {
+                    location = "Data field '"
+                               + columnValue[FieldsColumn.FIELD_NAME.ordinal()]
+                               + "' ";
 
-                        // Check if the match is with the field owner name
-                        if (hitColumnName.equals(FieldsColumn.OWNER_NAME.getColumnName()))
-                        {
-                            location += "owner";
-                            context = columnValue[FieldsColumn.OWNER_NAME.ordinal()];
-                        }
-                        // Check if the match is with the field name
-                        else if (hitColumnName.equals(FieldsColumn.FIELD_NAME.getColumnName()))
-                        {
-                            location += "name";
-                            context = columnValue[FieldsColumn.FIELD_NAME.ordinal()];
-                        }
-                        // Check if the match is with the field description
-                        else if (hitColumnName.equals(FieldsColumn.FIELD_DESC.getColumnName()))
-                        {
-                            location += "description";
-                            context = columnValue[FieldsColumn.FIELD_DESC.ordinal()];
-                        }
-                        // Check if the match is with the field size
-                        else if (hitColumnName.equals(FieldsColumn.FIELD_SIZE.getColumnName()))
-                        {
-                            location += "size";
-                            context = columnValue[FieldsColumn.FIELD_SIZE.ordinal()];
-                        }
-                        // Check if the match is with the field input type
-                        else if (hitColumnName.equals(FieldsColumn.FIELD_TYPE.getColumnName()))
-                        {
-                            location += "input type";
-                            context = columnValue[FieldsColumn.FIELD_TYPE.ordinal()];
-                        }
-                        // Check if the match is with the field
-                        // applicability
-                        else if (hitColumnName.equals(FieldsColumn.FIELD_APPLICABILITY.getColumnName()))
-                        {
-                            location += "applicability";
-                            context = columnValue[FieldsColumn.FIELD_APPLICABILITY.ordinal()];
-                        }
-                        // Check if the match is with the field value
-                        else if (hitColumnName.equals(FieldsColumn.FIELD_VALUE.getColumnName()))
-                        {
-                            location += "value";
-                            context = columnValue[FieldsColumn.FIELD_VALUE.ordinal()];
-                        }
-                        // Check if the match is with the field required flag
-                        else if (hitColumnName.equals(FieldsColumn.FIELD_REQUIRED.getColumnName()))
-                        {
-                            location += "required flag";
-                            context = columnValue[FieldsColumn.FIELD_REQUIRED.ordinal()];
-                        }
+                    // Check if this is a default data field
+                    if ((columnValue[FieldsColumn.OWNER_NAME.ordinal()] + ":").startsWith(CcddFieldHandler.getFieldTypeName("")))
+                    {
+                        target = "Default data field";
                     }
-                    // Check if the match is in the associations internal table
-                    else if (hitTableName.equals(InternalTable.ASSOCIATIONS.getTableName()))
+                    // Check if this is a group data field
+                    else if ((columnValue[FieldsColumn.OWNER_NAME.ordinal()] + ":").startsWith(CcddFieldHandler.getFieldGroupName("")))
                     {
-                        target = "Script association";
-                        location = "Script '"
-                                   + columnValue[AssociationsColumn.SCRIPT_FILE.ordinal()]
-                                   + "' association ";
-
-                        // Check if the match is with the script file path
-                        // and/or name
-                        if (hitColumnName.equals(AssociationsColumn.SCRIPT_FILE.getColumnName()))
-                        {
-                            location += "file path and name";
-                            context = columnValue[AssociationsColumn.SCRIPT_FILE.ordinal()];
-                        }
-                        // The match is with a script association member
-                        else
-                        {
-                            location += "member table";
-                            context = columnValue[AssociationsColumn.MEMBERS.ordinal()];
-                        }
+                        target = "Group data field";
                     }
-                    // Check if the match is in the telemetry scheduler
-                    // internal table
-                    else if (hitTableName.equals(InternalTable.TLM_SCHEDULER.getTableName()))
+                    // Table data field
+                    else
                     {
-                        target = "Telemetry message";
-                        location = "Message '"
-                                   + columnValue[TlmSchedulerColumn.MESSAGE_NAME.ordinal()]
-                                   + "' ";
-
-                        // Check if the match is with the message name
-                        if (hitColumnName.equals(TlmSchedulerColumn.MESSAGE_NAME.getColumnName()))
-                        {
-                            location += "name";
-                            context = columnValue[TlmSchedulerColumn.MESSAGE_NAME.ordinal()];
-                        }
-                        // Check if the match is with the message rate name
-                        else if (hitColumnName.equals(TlmSchedulerColumn.RATE_NAME.getColumnName()))
-                        {
-                            location += "rate name";
-                            context = columnValue[TlmSchedulerColumn.RATE_NAME.ordinal()];
-                        }
-                        // Check if the match is with the message ID
-                        else if (hitColumnName.equals(TlmSchedulerColumn.MESSAGE_ID.getColumnName()))
-                        {
-                            location += "ID";
-                            context = columnValue[TlmSchedulerColumn.MESSAGE_ID.ordinal()];
-                        }
-                        // The match is with a message definition or member
-                        else
-                        {
-                            context = columnValue[TlmSchedulerColumn.MEMBER.ordinal()];
+                        target = columnValue[FieldsColumn.OWNER_NAME.ordinal()].replaceFirst(",", ":");
+                    }
 
-                            // Check if the column begins with a number; this
-                            // is the message definition
-                            if (columnValue[TlmSchedulerColumn.MEMBER.ordinal()].matches("^\\d+"))
-                            {
-                                location += "rate and description";
-                            }
-                            // This is a message member
-                            else
-                            {
-                                location += "member rate, table, and variable";
-                            }
-                        }
+                    // Check if the match is with the field owner name
+                    if (hitColumnName.equals(FieldsColumn.OWNER_NAME.getColumnName()))
+                    {
+                        location += "owner";
+                        context = columnValue[FieldsColumn.OWNER_NAME.ordinal()];
                     }
-                    // Check if the match is in the links internal table
-                    else if (hitTableName.equals(InternalTable.LINKS.getTableName()))
+                    // Check if the match is with the field name
+                    else if (hitColumnName.equals(FieldsColumn.FIELD_NAME.getColumnName()))
                     {
-                        target = "Telemetry link";
-                        location = "Link '"
-                                   + columnValue[LinksColumn.LINK_NAME.ordinal()]
-                                   + "' ";
-
-                        // Check if the match is with the link name
-                        if (hitColumnName.equals(LinksColumn.LINK_NAME.getColumnName()))
-                        {
-                            location += "name";
-                            context = columnValue[LinksColumn.LINK_NAME.ordinal()];
-                        }
-                        // Check if the match is with the link rate name
-                        else if (hitColumnName.equals(LinksColumn.RATE_NAME.getColumnName()))
-                        {
-                            location += "rate name";
-                            context = columnValue[LinksColumn.RATE_NAME.ordinal()];
-                        }
-                        // The match is with a link definition or member
-                        else
-                        {
-                            context = columnValue[LinksColumn.MEMBER.ordinal()];
+                        location += "name";
+                        context = columnValue[FieldsColumn.FIELD_NAME.ordinal()];
+                    }
+                    // Check if the match is with the field description
+                    else if (hitColumnName.equals(FieldsColumn.FIELD_DESC.getColumnName()))
+                    {
+                        location += "description";
+                        context = columnValue[FieldsColumn.FIELD_DESC.ordinal()];
+                    }
+                    // Check if the match is with the field size
+                    else if (hitColumnName.equals(FieldsColumn.FIELD_SIZE.getColumnName()))
+                    {
+                        location += "size";
+                        context = columnValue[FieldsColumn.FIELD_SIZE.ordinal()];
+                    }
+                    // Check if the match is with the field input type
+                    else if (hitColumnName.equals(FieldsColumn.FIELD_TYPE.getColumnName()))
+                    {
+                        location += "input type";
+                        context = columnValue[FieldsColumn.FIELD_TYPE.ordinal()];
+                    }
+                    // Check if the match is with the field
+                    // applicability
+                    else if (hitColumnName.equals(FieldsColumn.FIELD_APPLICABILITY.getColumnName()))
+                    {
+                        location += "applicability";
+                        context = columnValue[FieldsColumn.FIELD_APPLICABILITY.ordinal()];
+                    }
+                    // Check if the match is with the field value
+                    else if (hitColumnName.equals(FieldsColumn.FIELD_VALUE.getColumnName()))
+                    {
+                        location += "value";
+                        context = columnValue[FieldsColumn.FIELD_VALUE.ordinal()];
+                    }
+                    // Check if the match is with the field required flag
+                    else if (hitColumnName.equals(FieldsColumn.FIELD_REQUIRED.getColumnName()))
+                    {
+                        location += "required flag";
+                        context = columnValue[FieldsColumn.FIELD_REQUIRED.ordinal()];
+                    }
+                }
+                // Check if the match is in the associations internal table
+                else if (hitTableName.equals(InternalTable.ASSOCIATIONS.getTableName()))
+                {
+                    target = "Script association";
+                    location = "Script '"
+                               + columnValue[AssociationsColumn.SCRIPT_FILE.ordinal()]
+                               + "' association ";
+
+                    // Check if the match is with the script file path
+                    // and/or name
+                    if (hitColumnName.equals(AssociationsColumn.SCRIPT_FILE.getColumnName()))
+                    {
+                        location += "file path and name";
+                        context = columnValue[AssociationsColumn.SCRIPT_FILE.ordinal()];
+                    }
+                    // The match is with a script association member
+                    else
+                    {
+                        location += "member table";
+                        context = columnValue[AssociationsColumn.MEMBERS.ordinal()];
+                    }
+                }
+                // Check if the match is in the telemetry scheduler
+                // internal table
+                else if (hitTableName.equals(InternalTable.TLM_SCHEDULER.getTableName()))
+                {
+                    target = "Telemetry message";
+                    location = "Message '"
+                               + columnValue[TlmSchedulerColumn.MESSAGE_NAME.ordinal()]
+                               + "' ";
 
-                            // Check if the column begins with a number; this
-                            // is the link definition
-                            if (columnValue[1].matches("^\\d+"))
-                            {
-                                location += "rate and description";
-                            }
-                            // This is a link member
-                            else
-                            {
-                                location += "member table and variable";
-                            }
-                        }
+                    // Check if the match is with the message name
+                    if (hitColumnName.equals(TlmSchedulerColumn.MESSAGE_NAME.getColumnName()))
+                    {
+                        location += "name";
+                        context = columnValue[TlmSchedulerColumn.MESSAGE_NAME.ordinal()];
+                    }
+                    // Check if the match is with the message rate name
+                    else if (hitColumnName.equals(TlmSchedulerColumn.RATE_NAME.getColumnName()))
+                    {
+                        location += "rate name";
+                        context = columnValue[TlmSchedulerColumn.RATE_NAME.ordinal()];
                     }
-                    // Check if the match is in the table types internal table
-                    else if (hitTableName.equals(InternalTable.TABLE_TYPES.getTableName()))
+                    // Check if the match is with the message ID
+                    else if (hitColumnName.equals(TlmSchedulerColumn.MESSAGE_ID.getColumnName()))
+                    {
+                        location += "ID";
+                        context = columnValue[TlmSchedulerColumn.MESSAGE_ID.ordinal()];
+                    }
+                    // The match is with a message definition or member
+                    else
                     {
-                        target = "Table type";
-                        location = "Table type '"
-                                   + columnValue[TableTypesColumn.TYPE_NAME.ordinal()]
-                                   + "' ";
+                        context = columnValue[TlmSchedulerColumn.MEMBER.ordinal()];
 
-                        // Check if the match is with the column name
-                        if (hitColumnName.equals(TableTypesColumn.COLUMN_NAME_VISIBLE.getColumnName()))
+                        // Check if the column begins with a number; this
+                        // is the message definition
+                        if (columnValue[TlmSchedulerColumn.MEMBER.ordinal()].matches("^\\d+"))
                         {
-                            location += "column name";
-                            context = columnValue[TableTypesColumn.COLUMN_NAME_VISIBLE.ordinal()];
+                            location += "rate and description";
                         }
-                        // Check if the match is with the column description
-                        else if (hitColumnName.equals(TableTypesColumn.COLUMN_DESCRIPTION.getColumnName()))
-                        {
-                            location += "column description";
-                            context = columnValue[TableTypesColumn.COLUMN_DESCRIPTION.ordinal()];
-                        }
-                        // Check if the match is with the column input type
-                        else if (hitColumnName.equals(TableTypesColumn.INPUT_TYPE.getColumnName()))
-                        {
-                            location += "column input type";
-                            context = columnValue[TableTypesColumn.INPUT_TYPE.ordinal()];
-                        }
-                        // Check if the match is with the column required flag
-                        else if (hitColumnName.equals(TableTypesColumn.COLUMN_REQUIRED.getColumnName()))
-                        {
-                            location += "column required flag";
-                            context = columnValue[TableTypesColumn.COLUMN_REQUIRED.ordinal()];
-                        }
-                        // Check if the match is with the row value unique flag
-                        else if (hitColumnName.equals(TableTypesColumn.ROW_VALUE_UNIQUE.getColumnName()))
-                        {
-                            location += "row value unique flag";
-                            context = columnValue[TableTypesColumn.ROW_VALUE_UNIQUE.ordinal()];
-                        }
-                        // Match is in one of the remaining table type columns
+                        // This is a message member
                         else
                         {
-                            // Ignore this match
-                            target = null;
+                            location += "member rate, table, and variable";
                         }
                     }
-                    // Check if the match is in the application scheduler
-                    // internal table
-                    else if (hitTableName.equals(InternalTable.APP_SCHEDULER.getTableName()))
+                }
+                // Check if the match is in the links internal table
+                else if (hitTableName.equals(InternalTable.LINKS.getTableName()))
+                {
+                    target = "Telemetry link";
+                    location = "Link '"
+                               + columnValue[LinksColumn.LINK_NAME.ordinal()]
+                               + "' ";
+
+                    // Check if the match is with the link name
+                    if (hitColumnName.equals(LinksColumn.LINK_NAME.getColumnName()))
+                    {
+                        location += "name";
+                        context = columnValue[LinksColumn.LINK_NAME.ordinal()];
+                    }
+                    // Check if the match is with the link rate name
+                    else if (hitColumnName.equals(LinksColumn.RATE_NAME.getColumnName()))
+                    {
+                        location += "rate name";
+                        context = columnValue[LinksColumn.RATE_NAME.ordinal()];
+                    }
+                    // The match is with a link definition or member
+                    else
                     {
-                        target = "Scheduler";
-                        location = "Application '"
-                                   + columnValue[AppSchedulerColumn.TIME_SLOT.ordinal()]
-                                   + "' ";
+                        context = columnValue[LinksColumn.MEMBER.ordinal()];
 
-                        // Check if the match is with the application name
-                        if (hitColumnName.equals(AppSchedulerColumn.TIME_SLOT.getColumnName()))
+                        // Check if the column begins with a number; this
+                        // is the link definition
+                        if (columnValue[1].matches("^\\d+"))
                         {
-                            location += "name";
-                            context = columnValue[AppSchedulerColumn.TIME_SLOT.ordinal()];
+                            location += "rate and description";
                         }
-                        // The match is with a scheduler member
+                        // This is a link member
                         else
                         {
-                            context = columnValue[AppSchedulerColumn.APP_INFO.ordinal()];
-                            location += "member information";
+                            location += "member table and variable";
                         }
                     }
                 }
-                // This is a script search and the match is in a stored script
-                else
+                // Check if the match is in the table types internal table
+                else if (hitTableName.equals(InternalTable.TABLE_TYPES.getTableName()))
                 {
-                    // Set the search result table values
-                    target = nameAndType[0];
-                    location = columnValue[ScriptColumn.LINE_NUM.ordinal()];
-                    context = columnValue[ScriptColumn.LINE_TEXT.ordinal()];
-                }
+                    target = "Table type";
+                    location = "Table type '"
+                               + columnValue[TableTypesColumn.TYPE_NAME.ordinal()]
+                               + "' ";
 
-                // Check if a search result exists
-                if (target != null)
+                    // Check if the match is with the column name
+                    if (hitColumnName.equals(TableTypesColumn.COLUMN_NAME_VISIBLE.getColumnName()))
+                    {
+                        location += "column name";
+                        context = columnValue[TableTypesColumn.COLUMN_NAME_VISIBLE.ordinal()];
+                    }
+                    // Check if the match is with the column description
+                    else if (hitColumnName.equals(TableTypesColumn.COLUMN_DESCRIPTION.getColumnName()))
+                    {
+                        location += "column description";
+                        context = columnValue[TableTypesColumn.COLUMN_DESCRIPTION.ordinal()];
+                    }
+                    // Check if the match is with the column input type
+                    else if (hitColumnName.equals(TableTypesColumn.INPUT_TYPE.getColumnName()))
+                    {
+                        location += "column input type";
+                        context = columnValue[TableTypesColumn.INPUT_TYPE.ordinal()];
+                    }
+                    // Check if the match is with the column required flag
+                    else if (hitColumnName.equals(TableTypesColumn.COLUMN_REQUIRED.getColumnName()))
+                    {
+                        location += "column required flag";
+                        context = columnValue[TableTypesColumn.COLUMN_REQUIRED.ordinal()];
+                    }
+                    // Check if the match is with the row value unique flag
+                    else if (hitColumnName.equals(TableTypesColumn.ROW_VALUE_UNIQUE.getColumnName()))
+                    {
+                        location += "row value unique flag";
+                        context = columnValue[TableTypesColumn.ROW_VALUE_UNIQUE.ordinal()];
+                    }
+                    // Match is in one of the remaining table type columns
+                    else
+                    {
+                        // Ignore this match
+                        target = null;
+                    }
+                }
+                // Check if the match is in the application scheduler
+                // internal table
+                else if (hitTableName.equals(InternalTable.APP_SCHEDULER.getTableName()))
                 {
-                    // Add the search result to the list
-                    resultsDataList.add(new Object[] {target,
-                                                      location,
-                                                      context});
+                    target = "Scheduler";
+                    location = "Application '"
+                               + columnValue[AppSchedulerColumn.TIME_SLOT.ordinal()]
+                               + "' ";
+
+                    // Check if the match is with the application name
+                    if (hitColumnName.equals(AppSchedulerColumn.TIME_SLOT.getColumnName()))
+                    {
+                        location += "name";
+                        context = columnValue[AppSchedulerColumn.TIME_SLOT.ordinal()];
+                    }
+                    // The match is with a scheduler member
+                    else
+                    {
+                        context = columnValue[AppSchedulerColumn.APP_INFO.ordinal()];
+                        location += "member information";
+                    }
                 }
             }
+            // This is a script search and the match is in a stored script
+            else
+            {
+                // Set the search result table values
+                target = nameAndType[0];
+                location = columnValue[ScriptColumn.LINE_NUM.ordinal()];
+                context = columnValue[ScriptColumn.LINE_TEXT.ordinal()];
+            }
+
+            // Check if a search result exists
+            if (target != null)
+            {
+                // Create the search result
+                result = new Object[] {target, location, context};
+            }
         }
 
-        // Display the search results
-        return sortSearchResults(resultsDataList);
+        return result;
     }
 
     /**************************************************************************
@@ -682,10 +1045,65 @@ public class CcddSearchHandler extends CcddDialogHandler
                                                 boolean ignoreCase,
                                                 Long targetRow)
     {
-        Pattern pattern;
-
         // Initialize the list to contain the search results
-        List<Object[]> resultsDataList = new ArrayList<Object[]>();
+        final List<Object[]> resultsDataList = new ArrayList<Object[]>();
+
+        // Search for the text, adding each result to the list
+        searchEventLogFile(searchText,
+                           ignoreCase,
+                           targetRow,
+                           new EventLogFilter(null, null, null, null),
+                           new SearchResultHandler()
+                           {
+                               /***********************************************
+                                * Add the search result to the list
+                                **********************************************/
+                               @Override
+                               protected boolean handleResult(Object[] result)
+                               {
+                                   resultsDataList.add(result);
+                                   return true;
+                               }
+                           });
+
+        // Display the search results
+        return sortSearchResults(resultsDataList);
+    }
+
+    /**************************************************************************
+     * Search for occurrences of a string in the event log file (session log or
+     * other log file), supplying each search result to the handler as it's
+     * found. The log file's index is used so that only the log entries that
+     * may contain the text and that match the filter are read. The search
+     * results are in log entry order
+     * 
+     * @param searchText
+     *            text string to search for in the event log; blank to find
+     *            every log entry matching the filter
+     * 
+     * @param ignoreCase
+     *            true to ignore case when looking for matching text
+     * 
+     * @param targetRow
+     *            row index to match if this is an event log entry search on a
+     *            table that displays only a single log entry; null otherwise
+     * 
+     * @param filter
+     *            filter limiting the event types, user, and time range of the
+     *            log entries searched
+     * 
+     * @param handler
+     *            handler for the search results. The search ends when the
+     *            handler indicates no more results are needed or the search
+     *            is halted
+     *************************************************************************/
+    protected void searchEventLogFile(String searchText,
+                                      boolean ignoreCase,
+                                      Long targetRow,
+                                      EventLogFilter filter,
+                                      final SearchResultHandler handler)
+    {
+        final Pattern pattern;
 
         // Check if case is to be ignored
         if (ignoreCase)
@@ -701,80 +1119,87 @@ public class CcddSearchHandler extends CcddDialogHandler
             pattern = Pattern.compile(Pattern.quote(searchText));
         }
 
-        // Set up Charset and CharsetDecoder for ISO-8859-15
-        Charset charset = Charset.forName("ISO-8859-15");
-        CharsetDecoder decoder = charset.newDecoder();
+        final boolean isFilterOnly = searchText.isEmpty();
+        final String[] columnNames = EventColumns.getColumnNames();
+        CcddEventLogIndexHandler logIndex = new CcddEventLogIndexHandler(eventLog.getEventLogFile());
 
-        // Pattern used to detect separate lines
-        Pattern linePattern = Pattern.compile(".*\r?\n");
-
-        try
+        // Create the handler for the log entries found using the index
+        LogEntryHandler entryHandler = new LogEntryHandler()
         {
-            // Open a file stream on the event log file and then get a channel
-            // from the stream
-            FileInputStream fis = new FileInputStream(eventLog.getEventLogFile());
-            FileChannel fc = fis.getChannel();
-
-            // Get the file's size and then map it into memory
-            MappedByteBuffer byteBuffer = fc.map(FileChannel.MapMode.READ_ONLY,
-                                                 0,
-                                                 fc.size());
-
-            // Decode the file into a char buffer
-            CharBuffer charBuffer = decoder.decode(byteBuffer);
-
-            // Create the line and pattern matchers, then perform the search
-            Matcher lineMatch = linePattern.matcher(charBuffer);
-
-            long row = 1;
-
-            // For each line in the file
-            while (lineMatch.find())
+            /******************************************************************
+             * Match the search text against each column of the log entry and
+             * supply any matches to the handler
+             *****************************************************************/
+            @Override
+            public boolean handleEntry(long row, String entry)
             {
-                // Check if no target row is provided ,or if one is that it
-                // matches this log entry's row
-                if (targetRow == null || row == targetRow)
-                {
-                    // Get the line from the file and strip any leading or
-                    // trailing whitespace
-                    String line = lineMatch.group().toString();
+                boolean isContinue = !handler.isHalted();
 
-                    // Break the input line into its separate columns
-                    String[] parts = line.split("[|]", EventColumns.values().length - 1);
+                // Check if the search isn't halted
+                if (isContinue)
+                {
+                    // Break the log entry into its separate columns
+                    String[] parts = entry.split("[|]", EventColumns.values().length - 1);
 
-                    // Step through each log entry column
-                    for (int column = 0; column < parts.length; column++)
+                    // Check if only the filter is used to select log entries
+                    if (isFilterOnly)
                     {
-                        // Create the pattern matcher from the pattern. Ignore
-                        // any HTML tags in the log entry column text
-                        Matcher matcher = pattern.matcher(CcddUtilities.removeHTMLTags(parts[column].toString()));
-
-                        // Check if a match exists in the text string
-                        if (matcher.find())
-                        {
-                            // Add the search result to the list
-                            resultsDataList.add(new Object[] {row,
-                                                              eventLog.getEventTable().getColumnName(column + 1),
-                                                              parts[column]});
-                        }
+                        // Supply the log entry's message as the search
+                        // result
+                        int column = Math.min(parts.length,
+                                              EventColumns.MESSAGE.ordinal())
+                                     - 1;
+                        isContinue = handler.handleResult(new Object[] {row,
+                                                                        columnNames[column + 1],
+                                                                        parts[column]});
                     }
-
-                    // Check if the end of the file has been reached or if this
-                    // is a single log entry row search
-                    if (lineMatch.end() == charBuffer.limit()
-                        || targetRow != null)
+                    // Search the log entry for the text
+                    else
                     {
-                        // Exit the loop
-                        break;
+                        // Step through each log entry column
+                        for (int column = 0; column < parts.length && isContinue; column++)
+                        {
+                            // Check if a match exists in the column text,
+                            // ignoring any HTML tags
+                            if (pattern.matcher(CcddUtilities.removeHTMLTags(parts[column])).find())
+                            {
+                                // Supply the search result to the handler
+                                isContinue = handler.handleResult(new Object[] {row,
+                                                                                columnNames[column + 1],
+                                                                                parts[column]});
+                            }
+                        }
                     }
                 }
 
-                row++;
+                return isContinue;
             }
+        };
+
+        try
+        {
+            logIndex.open();
 
-            // Close the channel and the stream
-            fc.close();
-            fis.close();
+            // Check if only a single log entry is searched
+            if (targetRow != null)
+            {
+                // Read the log entry
+                String entry = logIndex.getEntry(targetRow);
+
+                // Check if the log entry exists
+                if (entry != null)
+                {
+                    // Search the log entry
+                    entryHandler.handleEntry(targetRow, entry);
+                }
+            }
+            // Search the entire log
+            else
+            {
+                // Search the log entries that may contain the text and that
+                // match the filter
+                logIndex.search(searchText, filter, entryHandler);
+            }
         }
         catch (IOException ioe)
         {
@@ -785,9 +1210,10 @@ public class CcddSearchHandler extends CcddDialogHandler
                                                       JOptionPane.WARNING_MESSAGE,
                                                       DialogOption.OK_OPTION);
         }
-
-        // Display the search results
-        return sortSearchResults(resultsDataList);
+        finally
+        {
+            logIndex.close();
+        }
     }
 
     /**************************************************************************
@@ -798,7 +1224,7 @@ public class CcddSearchHandler extends CcddDialogHandler
      * @param resultsDataList
      *            list containing the sorted search results
      *************************************************************************/
-    private List<Object[]> sortSearchResults(List<Object[]> resultsDataList)
+    protected List<Object[]> sortSearchResults(List<Object[]> resultsDataList)
     {
         // Sort the results by target, then by location, ignoring case
         Collections.sort(resultsDataList, new Comparator<Object[]>()
@@ -813,7 +1239,6 @@ public class CcddSearchHandler extends CcddDialogHandler
             {
                 int result = 0;
 
-                System.out.println(Arrays.toString(entry1) + "  " + Arrays.toString(entry2));// TODO
                 switch (searchDlgType)
                 {
                     case TABLES:
@@ -0,0 +1,1261 @@
+/**
+ * CFS Command & Data Dictionary search index handler. Copyright 2017 United
+ * States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import CCDD.CcddConstants.InternalTable;
+import CCDD.CcddConstants.ModifiableSizeInfo;
+import CCDD.CcddDbCommandHandler.CursorQuery;
+import CCDD.CcddConstants.SearchType;
+import CCDD.CcddTableCacheHandler.ChangeObserver;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary search index handler class. Retains the
+ * contents of the database tables in memory, along with an index of the
+ * three-character sequences (trigrams) occurring in each column value, so
+ * that searches for literal text needn't scan the database. A table's
+ * contents are loaded when first searched and discarded when the database
+ * indicates (via a change notification) that the table has changed, or when
+ * the memory used by the retained contents exceeds the limit set in the
+ * program preferences (the least recently searched tables are discarded
+ * first, but never those used by the search in progress). If the contents of
+ * the tables to be searched are estimated to exceed the limit then the index
+ * isn't used and the search_tables database function is used instead, so that
+ * the tables aren't repeatedly loaded from the database. The search results
+ * match those of the search_tables database function
+ *****************************************************************************/
+public class CcddSearchIndexHandler implements ChangeObserver
+{
+    // Class reference
+    private final CcddMain ccddMain;
+
+    // Number of characters in an indexed character sequence. Search text
+    // shorter than this is located by checking every column value
+    private static final int TRIGRAM_LENGTH = 3;
+
+    // Separator between the table name, column name, table description, and
+    // row in a search result (a single backslash)
+    private static final String RESULT_SEPARATOR = "\\";
+
+    // Number of table rows retrieved from the database at a time
+    private static final int FETCH_SIZE = 500;
+
+    // Approximate memory, in bytes, used by each stored text value and array,
+    // and by each indexed trigram and cell, in addition to the text's
+    // characters. These are used to estimate the memory used by the index
+    private static final int OBJECT_SIZE = 40;
+    private static final int TRIGRAM_SIZE = 80;
+    private static final int CELL_SIZE = 4;
+
+    // Names, descriptions, and column names of the database tables, stored by
+    // table name in alphabetical order; null if these must be loaded
+    private Map<String, TableColumns> tableList;
+
+    // Indexed table contents, stored by table name in least recently searched
+    // order, and the approximate memory, in bytes, used by the contents
+    private final Map<String, TableIndex> tableIndexes;
+    private long indexSize;
+
+    // Approximate memory, in bytes, used by each table's contents when last
+    // loaded, stored by table name. This is used to determine if the tables
+    // to be searched can be retained within the memory limit
+    private final Map<String, Long> tableSizes;
+
+    // Number of changes to each table, stored by table name, and the number
+    // of changes to the list of tables. Information loaded while a change
+    // occurs isn't retained since it may predate the change
+    private final Map<String, Long> tableVersions;
+    private long listVersion;
+
+    /**************************************************************************
+     * Interface for receiving the matches found by a search
+     *************************************************************************/
+    protected interface SearchHitHandler
+    {
+        /**********************************************************************
+         * Process a match
+         *
+         * @param hit
+         *            table name, column name, table description, and row
+         *            containing the match, separated by backslashes
+         *
+         * @return true to continue searching; false to stop
+         *********************************************************************/
+        boolean handleHit(String hit);
+    }
+
+    /**************************************************************************
+     * Table description and column names class
+     *************************************************************************/
+    private static class TableColumns
+    {
+        private final String description;
+        private final long diskSize;
+        private final List<String> columnNames;
+
+        /**********************************************************************
+         * Table description and column names class constructor
+         *
+         * @param description
+         *            table description (comment)
+         *
+         * @param diskSize
+         *            size, in bytes, of the table's contents in the database
+         *********************************************************************/
+        private TableColumns(String description, long diskSize)
+        {
+            this.description = description;
+            this.diskSize = diskSize;
+            columnNames = new ArrayList<String>();
+        }
+    }
+
+    /**************************************************************************
+     * Indexed table contents class. The column values are identified by a
+     * cell number: the row index times the number of columns, plus the column
+     * index
+     *************************************************************************/
+    private static class TableIndex
+    {
+        private final String[] columnNames;
+        private final List<String> rows;
+        private final List<String[]> values;
+        private final Map<Long, int[]> trigrams;
+        private long size;
+
+        /**********************************************************************
+         * Indexed table contents class constructor
+         *
+         * @param columnNames
+         *            table column names
+         *********************************************************************/
+        private TableIndex(String[] columnNames)
+        {
+            this.columnNames = columnNames;
+            rows = new ArrayList<String>();
+            values = new ArrayList<String[]>();
+            trigrams = new HashMap<Long, int[]>();
+            size = 0;
+        }
+
+        /**********************************************************************
+         * Get the value in the specified cell
+         *
+         * @param cell
+         *            cell number
+         *
+         * @return Column value in the cell; null if the value is null
+         *********************************************************************/
+        private String getValue(int cell)
+        {
+            return values.get(cell / columnNames.length)[cell % columnNames.length];
+        }
+    }
+
+    /**************************************************************************
+     * Search index handler class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *************************************************************************/
+    CcddSearchIndexHandler(CcddMain ccddMain)
+    {
+        this.ccddMain = ccddMain;
+        tableList = null;
+        tableIndexes = new LinkedHashMap<String, TableIndex>(16, 0.75f, true);
+        indexSize = 0;
+        tableSizes = new HashMap<String, Long>();
+        tableVersions = new HashMap<String, Long>();
+        listVersion = 0;
+    }
+
+    /**************************************************************************
+     * Discard the indexed information affected by a database change
+     *
+     * @param change
+     *            notification payload
+     *************************************************************************/
+    @Override
+    public void databaseChanged(String change)
+    {
+        synchronized (tableIndexes)
+        {
+            // Check if changes may have been missed, or if the table types
+            // changed (which can alter the columns of any data table)
+            if (change.equals(CcddTableCacheHandler.ALL_TABLES_CHANGED)
+                || change.equals(InternalTable.TABLE_TYPES.getTableName()))
+            {
+                // Discard all of the indexed information
+                tableIndexes.clear();
+                indexSize = 0;
+                tableSizes.clear();
+                tableList = null;
+                listVersion++;
+            }
+            // Check if a table was renamed or deleted
+            else if (change.contains(CcddTableCacheHandler.CHANGE_SEPARATOR))
+            {
+                String[] parts = change.split(CcddTableCacheHandler.CHANGE_SEPARATOR);
+
+                // Step through each affected table
+                for (int index = 1; index < parts.length; index++)
+                {
+                    discardTable(parts[index]);
+                    tableSizes.remove(parts[index]);
+                }
+
+                // Reload the table list since a table name changed
+                tableList = null;
+                listVersion++;
+            }
+            // A table's contents changed
+            else
+            {
+                discardTable(change);
+
+                // Check if the table isn't in the list of tables (i.e., it was
+                // created since the list was loaded)
+                if (tableList != null && !tableList.containsKey(change))
+                {
+                    // Reload the table list
+                    tableList = null;
+                    listVersion++;
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Discard the indexed contents of the specified table. The table's
+     * measured size is kept as an estimate of its changed contents. The
+     * caller must hold the index lock
+     *
+     * @param tableName
+     *            table name, as used in the database
+     *************************************************************************/
+    private void discardTable(String tableName)
+    {
+        TableIndex tableIndex = tableIndexes.remove(tableName);
+
+        // Check if the table's contents were retained
+        if (tableIndex != null)
+        {
+            indexSize -= tableIndex.size;
+        }
+
+        Long version = tableVersions.get(tableName);
+        tableVersions.put(tableName, version == null ? 1L : version + 1L);
+    }
+
+    /**************************************************************************
+     * Search the database tables for the specified literal text
+     *
+     * @param searchText
+     *            text for which to search
+     *
+     * @param ignoreCase
+     *            true to ignore case when looking for matching text
+     *
+     * @param searchType
+     *            tables to search: SearchType.ALL, PROTO, DATA, or SCRIPT
+     *
+     * @param searchColumns
+     *            names of the columns, separated by commas, to which to
+     *            constrain the search; blank to search all columns
+     *
+     * @param handler
+     *            handler for the matches, which are supplied as these are
+     *            found. Each match has the same form as the search_tables
+     *            database function's results: the table name, column name,
+     *            table description, and row containing the match, separated
+     *            by backslashes
+     *
+     * @return true if the search is performed; false if the index can't be
+     *         used, since the index is disabled, changes to the database
+     *         can't be detected, the calling thread has uncommitted changes,
+     *         or the contents of the tables to search are estimated to exceed
+     *         the index's memory limit
+     *
+     * @throws SQLException
+     *             If an error occurs loading the table contents
+     *************************************************************************/
+    protected boolean search(String searchText,
+                             boolean ignoreCase,
+                             String searchType,
+                             String searchColumns,
+                             SearchHitHandler handler) throws SQLException
+    {
+        // Get the memory limit for the retained table contents
+        long maxSize = ModifiableSizeInfo.SEARCH_INDEX_SIZE.getSize() * 1048576L;
+
+        // Check if the index is disabled, if the calling thread's uncommitted
+        // changes would be omitted, or if changes committed by this
+        // application might not yet be reflected in the index
+        if (maxSize == 0
+            || ccddMain.getDbCommandHandler().isSavePointOwner()
+            || !ccddMain.getTableCacheHandler().awaitChangeNotifications())
+        {
+            return false;
+        }
+
+        // Get the names of the columns to which to constrain the search
+        Set<String> columns = new HashSet<String>();
+
+        for (String column : searchColumns.split(","))
+        {
+            // Check if the column name isn't blank
+            if (!column.trim().isEmpty())
+            {
+                columns.add(column.trim());
+            }
+        }
+
+        String foldedText = fold(searchText);
+
+        // Names of the tables used by this search. These aren't discarded to
+        // make room for the other tables searched
+        Set<String> searchedTables = new HashSet<String>();
+
+        synchronized (tableIndexes)
+        {
+            // Discard the least recently searched tables if the memory limit
+            // was lowered
+            trimIndex(maxSize, searchedTables);
+        }
+
+        Map<String, TableColumns> tables = getTableList();
+
+        // Check if the tables to search can't be retained within the memory
+        // limit. Loading these for each search, only to discard them to make
+        // room for the others, is slower than searching the database
+        if (getScopeSize(tables, searchType) > maxSize)
+        {
+            return false;
+        }
+
+        // Step through each table
+        for (Map.Entry<String, TableColumns> entry : tables.entrySet())
+        {
+            String tableName = entry.getKey();
+
+            // Check if the table is within the search scope
+            if (isInScope(tableName, searchType))
+            {
+                boolean isContinue;
+                TableIndex tableIndex = getTableIndex(tableName,
+                                                      entry.getValue(),
+                                                      maxSize,
+                                                      searchedTables);
+
+                // Check if the table's contents are indexed
+                if (tableIndex != null)
+                {
+                    // Search the indexed contents
+                    isContinue = searchTable(tableName,
+                                             entry.getValue().description,
+                                             tableIndex,
+                                             searchText,
+                                             foldedText,
+                                             ignoreCase,
+                                             columns,
+                                             handler);
+                }
+                // The table is too large to retain. Subsequent searches
+                // including it use the database
+                else
+                {
+                    // Search the contents as these are read from the database
+                    isContinue = scanTable(tableName,
+                                           entry.getValue(),
+                                           searchText,
+                                           foldedText,
+                                           ignoreCase,
+                                           columns,
+                                           handler);
+                }
+
+                // Check if the handler indicates no more matches are needed
+                if (!isContinue)
+                {
+                    break;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**************************************************************************
+     * Get the list of tables, loading it if needed
+     *
+     * @return List of tables, stored by table name in alphabetical order
+     *
+     * @throws SQLException
+     *             If an error occurs loading the list of tables
+     *************************************************************************/
+    private Map<String, TableColumns> getTableList() throws SQLException
+    {
+        Map<String, TableColumns> tables;
+        long version;
+
+        synchronized (tableIndexes)
+        {
+            tables = tableList;
+            version = listVersion;
+        }
+
+        // Check if the list of tables must be loaded
+        if (tables == null)
+        {
+            tables = new TreeMap<String, TableColumns>();
+
+            // Get the names, descriptions, and column names of the tables
+            ResultSet result = ccddMain.getDbCommandHandler().executeDbQuery("SELECT c.relname, "
+                                                                             + "coalesce(obj_description(c.oid, "
+                                                                             + "'pg_class'), ''), a.attname, "
+                                                                             + "pg_relation_size(c.oid) "
+                                                                             + "FROM pg_class c JOIN pg_namespace n "
+                                                                             + "ON n.oid = c.relnamespace JOIN "
+                                                                             + "pg_attribute a ON a.attrelid = c.oid "
+                                                                             + "WHERE n.nspname = 'public' AND "
+                                                                             + "c.relkind = 'r' AND a.attnum > 0 AND "
+                                                                             + "NOT a.attisdropped ORDER BY "
+                                                                             + "c.relname, a.attnum;",
+                                                                             ccddMain.getMainFrame());
+
+            // Step through each table column
+            while (result.next())
+            {
+                TableColumns columns = tables.get(result.getString(1));
+
+                // Check if this is the table's first column
+                if (columns == null)
+                {
+                    // Store the table's description and size
+                    columns = new TableColumns(result.getString(2),
+                                               result.getLong(4));
+                    tables.put(result.getString(1), columns);
+                }
+
+                columns.columnNames.add(result.getString(3));
+            }
+
+            result.close();
+
+            synchronized (tableIndexes)
+            {
+                // Check that the list of tables didn't change while loading
+                if (version == listVersion)
+                {
+                    tableList = tables;
+                }
+            }
+        }
+
+        return tables;
+    }
+
+    /**************************************************************************
+     * Get the approximate memory needed to retain the contents of the tables
+     * within the search scope. The size measured when a table was last loaded
+     * is used if available; otherwise the table's size in the database is
+     * used
+     *
+     * @param tables
+     *            list of tables, stored by table name
+     *
+     * @param searchType
+     *            tables to search: SearchType.ALL, PROTO, DATA, or SCRIPT
+     *
+     * @return Approximate memory, in bytes, needed to retain the contents of
+     *         the tables within the search scope
+     *************************************************************************/
+    private long getScopeSize(Map<String, TableColumns> tables,
+                              String searchType)
+    {
+        long scopeSize = 0;
+
+        synchronized (tableIndexes)
+        {
+            // Step through each table
+            for (Map.Entry<String, TableColumns> entry : tables.entrySet())
+            {
+                // Check if the table is within the search scope
+                if (isInScope(entry.getKey(), searchType))
+                {
+                    Long tableSize = tableSizes.get(entry.getKey());
+                    scopeSize += tableSize == null
+                                                   ? entry.getValue().diskSize
+                                                   : tableSize;
+                }
+            }
+        }
+
+        return scopeSize;
+    }
+
+    /**************************************************************************
+     * Get the indexed contents of the specified table, loading these if needed
+     *
+     * @param tableName
+     *            table name, as used in the database
+     *
+     * @param columns
+     *            table description and column names
+     *
+     * @param maxSize
+     *            memory limit, in bytes, for the retained table contents
+     *
+     * @param searchedTables
+     *            names of the tables used by the search in progress. These
+     *            aren't discarded to make room for the table's contents. The
+     *            table is added if its contents are retained
+     *
+     * @return Indexed table contents; null if the table is too large to
+     *         retain
+     *
+     * @throws SQLException
+     *             If an error occurs loading the table contents
+     *************************************************************************/
+    private TableIndex getTableIndex(String tableName,
+                                     TableColumns columns,
+                                     final long maxSize,
+                                     Set<String> searchedTables) throws SQLException
+    {
+        TableIndex tableIndex;
+        Long version;
+        long tableListVersion;
+
+        synchronized (tableIndexes)
+        {
+            tableIndex = tableIndexes.get(tableName);
+            version = tableVersions.get(tableName);
+            tableListVersion = listVersion;
+
+            // Check if the table's contents are retained
+            if (tableIndex != null)
+            {
+                // Keep the contents while the search is in progress
+                searchedTables.add(tableName);
+            }
+        }
+
+        // Check if the table's contents must be loaded
+        if (tableIndex == null)
+        {
+            final TableIndex newIndex = new TableIndex(columns.columnNames.toArray(new String[0]));
+
+            // Create the handler for the table's rows
+            CursorQuery query = new CursorQuery()
+            {
+                /**************************************************************
+                 * Add the row to the index. Stop loading the table if its
+                 * contents exceed the memory limit
+                 *************************************************************/
+                @Override
+                protected boolean handleRow(ResultSet row) throws SQLException
+                {
+                    addRow(newIndex, row);
+                    return newIndex.size <= maxSize;
+                }
+            };
+
+            // Load the table's contents
+            ccddMain.getDbCommandHandler().executeDbCursorQuery(buildContentsCommand(tableName,
+                                                                                     newIndex.columnNames),
+                                                                FETCH_SIZE,
+                                                                query,
+                                                                ccddMain.getMainFrame());
+
+            boolean isTooLarge = newIndex.size > maxSize;
+
+            synchronized (tableIndexes)
+            {
+                // Store the memory used by the table's contents (this is a
+                // lower bound if the table is too large to retain)
+                tableSizes.put(tableName, newIndex.size);
+
+                Long currentVersion = tableVersions.get(tableName);
+
+                // Check that neither the table nor the list of tables changed
+                // while loading, that the table isn't too large to retain, and
+                // that it can be retained without discarding the contents of
+                // the tables used by the search in progress
+                if (tableListVersion == listVersion
+                    && (version == null
+                                        ? currentVersion == null
+                                        : version.equals(currentVersion))
+                    && !isTooLarge
+                    && indexSize
+                       - getDiscardableSize(tableName, searchedTables)
+                       + newIndex.size <= maxSize)
+                {
+                    // Retain the table's contents for subsequent searches,
+                    // replacing those of the same table loaded by another
+                    // search, if any
+                    TableIndex oldIndex = tableIndexes.put(tableName, newIndex);
+
+                    // Check if another search loaded the same table
+                    if (oldIndex != null)
+                    {
+                        indexSize -= oldIndex.size;
+                    }
+
+                    // Update the memory used and discard the least recently
+                    // searched tables if the limit is exceeded
+                    searchedTables.add(tableName);
+                    indexSize += newIndex.size;
+                    trimIndex(maxSize, searchedTables);
+                }
+            }
+
+            tableIndex = isTooLarge
+                                    ? null
+                                    : newIndex;
+        }
+
+        return tableIndex;
+    }
+
+    /**************************************************************************
+     * Get the memory used by the retained table contents that can be
+     * discarded to make room for a table's contents. The caller must hold the
+     * index lock
+     *
+     * @param tableName
+     *            name of the table to be retained. Any existing contents for
+     *            the table are replaced, so these can be discarded
+     *
+     * @param keepTables
+     *            names of the tables whose contents aren't discarded
+     *
+     * @return Memory, in bytes, used by the table contents that can be
+     *         discarded
+     *************************************************************************/
+    private long getDiscardableSize(String tableName, Set<String> keepTables)
+    {
+        long discardableSize = 0;
+
+        // Step through each table having retained contents
+        for (Map.Entry<String, TableIndex> entry : tableIndexes.entrySet())
+        {
+            // Check if the table's contents can be discarded
+            if (entry.getKey().equals(tableName)
+                || !keepTables.contains(entry.getKey()))
+            {
+                discardableSize += entry.getValue().size;
+            }
+        }
+
+        return discardableSize;
+    }
+
+    /**************************************************************************
+     * Discard the least recently searched table contents until the memory
+     * used by the retained contents is within the limit. The caller must hold
+     * the index lock
+     *
+     * @param maxSize
+     *            memory limit, in bytes, for the retained table contents
+     *
+     * @param keepTables
+     *            names of the tables whose contents aren't discarded
+     *************************************************************************/
+    private void trimIndex(long maxSize, Set<String> keepTables)
+    {
+        Iterator<Map.Entry<String, TableIndex>> iterator = tableIndexes.entrySet().iterator();
+
+        // Step through the tables, starting with the least recently searched,
+        // while the limit is exceeded
+        while (indexSize > maxSize && iterator.hasNext())
+        {
+            Map.Entry<String, TableIndex> entry = iterator.next();
+
+            // Check if the table's contents can be discarded
+            if (!keepTables.contains(entry.getKey()))
+            {
+                indexSize -= entry.getValue().size;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Build the query to get each row's text, followed by each column value
+     * converted to text. The row text has the same form as that returned by
+     * the search_tables database function
+     *
+     * @param tableName
+     *            table name, as used in the database
+     *
+     * @param columnNames
+     *            table column names
+     *
+     * @return Query command
+     *************************************************************************/
+    private String buildContentsCommand(String tableName, String[] columnNames)
+    {
+        StringBuilder command = new StringBuilder("SELECT regexp_replace(t::text, "
+                                                  + "E'^\\\\(|(\\\\)$)', '', 'g')");
+
+        for (String columnName : columnNames)
+        {
+            command.append(", cast(t.")
+                   .append(quoteIdentifier(columnName))
+                   .append(" AS text)");
+        }
+
+        command.append(" FROM ")
+               .append(quoteIdentifier(tableName))
+               .append(" AS t;");
+
+        return command.toString();
+    }
+
+    /**************************************************************************
+     * Add a row of the table's contents to the table's index
+     *
+     * @param tableIndex
+     *            indexed table contents
+     *
+     * @param row
+     *            result set positioned at the row, as returned by the query
+     *            from buildContentsCommand()
+     *
+     * @throws SQLException
+     *             If an error occurs reading the row
+     *************************************************************************/
+    private void addRow(TableIndex tableIndex, ResultSet row) throws SQLException
+    {
+        String[] values = new String[tableIndex.columnNames.length];
+        int cell = tableIndex.values.size() * values.length;
+        String rowText = row.getString(1);
+        tableIndex.rows.add(rowText);
+        tableIndex.size += getSize(rowText) + OBJECT_SIZE + CELL_SIZE * values.length;
+
+        // Step through each column value
+        for (int column = 0; column < values.length; column++)
+        {
+            values[column] = row.getString(column + 2);
+
+            // Check if the value isn't null
+            if (values[column] != null)
+            {
+                // Add the value and its trigrams to the index
+                tableIndex.size += getSize(values[column]);
+                addTrigrams(tableIndex, values[column], cell);
+            }
+
+            cell++;
+        }
+
+        tableIndex.values.add(values);
+    }
+
+    /**************************************************************************
+     * Get the approximate memory used by a stored text value
+     *
+     * @param text
+     *            text value; null if none
+     *
+     * @return Approximate memory, in bytes, used by the text value
+     *************************************************************************/
+    private static long getSize(String text)
+    {
+        return text == null
+                            ? 0
+                            : OBJECT_SIZE + 2L * text.length();
+    }
+
+    /**************************************************************************
+     * Add the trigrams in a column value to the table's index
+     *
+     * @param tableIndex
+     *            indexed table contents
+     *
+     * @param value
+     *            column value
+     *
+     * @param cell
+     *            cell number of the column value
+     *************************************************************************/
+    private void addTrigrams(TableIndex tableIndex, String value, int cell)
+    {
+        String folded = fold(value);
+
+        // Step through each trigram in the value
+        for (int index = 0; index <= folded.length() - TRIGRAM_LENGTH; index++)
+        {
+            Long key = getTrigramKey(folded, index);
+            int[] cells = tableIndex.trigrams.get(key);
+
+            // Check if the trigram isn't already indexed
+            if (cells == null)
+            {
+                // Create the trigram's list of cells. The first member of the
+                // array is the number of members in use
+                cells = new int[4];
+                cells[0] = 1;
+                tableIndex.trigrams.put(key, cells);
+                tableIndex.size += TRIGRAM_SIZE;
+            }
+
+            int size = cells[0];
+
+            // Check if the cell isn't already listed (the cells are added in
+            // ascending order, so only the last one need be checked)
+            if (size == 1 || cells[size - 1] != cell)
+            {
+                // Check if the array is full
+                if (size == cells.length)
+                {
+                    // Double the array's size
+                    cells = Arrays.copyOf(cells, size * 2);
+                    tableIndex.trigrams.put(key, cells);
+                }
+
+                cells[size] = cell;
+                cells[0] = size + 1;
+                tableIndex.size += CELL_SIZE;
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Search the contents of a table for the text and supply the matches to
+     * the handler. The matches are supplied in order of column name, then by
+     * row
+     *
+     * @param tableName
+     *            table name, as used in the database
+     *
+     * @param description
+     *            table description
+     *
+     * @param tableIndex
+     *            indexed table contents
+     *
+     * @param searchText
+     *            text for which to search
+     *
+     * @param foldedText
+     *            search text with case differences removed
+     *
+     * @param ignoreCase
+     *            true to ignore case when looking for matching text
+     *
+     * @param columns
+     *            names of the columns to which to constrain the search; empty
+     *            to search all columns
+     *
+     * @param handler
+     *            handler for the matches
+     *
+     * @return true to continue searching; false if the handler indicates no
+     *         more matches are needed
+     *************************************************************************/
+    private boolean searchTable(String tableName,
+                                String description,
+                                TableIndex tableIndex,
+                                String searchText,
+                                String foldedText,
+                                boolean ignoreCase,
+                                Set<String> columns,
+                                SearchHitHandler handler)
+    {
+        int numColumns = tableIndex.columnNames.length;
+        Map<String, List<String>> matches = new TreeMap<String, List<String>>();
+        int[] candidates = getCandidates(tableIndex, foldedText);
+        int numCandidates = candidates == null
+                                               ? numColumns * tableIndex.rows.size()
+                                               : candidates.length;
+
+        // Step through each cell that may contain the search text
+        for (int index = 0; index < numCandidates; index++)
+        {
+            int cell = candidates == null ? index : candidates[index];
+            String columnName = tableIndex.columnNames[cell % numColumns];
+
+            // Check if the column is searched
+            if (columns.isEmpty() || columns.contains(columnName))
+            {
+                // Check if the value contains the search text
+                if (isMatch(tableIndex.getValue(cell),
+                            searchText,
+                            foldedText,
+                            ignoreCase))
+                {
+                    addMatch(matches,
+                             columnName,
+                             tableIndex.rows.get(cell / numColumns));
+                }
+            }
+        }
+
+        return supplyMatches(tableName, description, matches, handler);
+    }
+
+    /**************************************************************************
+     * Search the contents of a table that is too large to retain for the text
+     * as the contents are read from the database, and supply the matches to
+     * the handler. Only the rows containing a match are retained. The matches
+     * are supplied in order of column name, then by row
+     *
+     * @param tableName
+     *            table name, as used in the database
+     *
+     * @param tableColumns
+     *            table description and column names
+     *
+     * @param searchText
+     *            text for which to search
+     *
+     * @param foldedText
+     *            search text with case differences removed
+     *
+     * @param ignoreCase
+     *            true to ignore case when looking for matching text
+     *
+     * @param columns
+     *            names of the columns to which to constrain the search; empty
+     *            to search all columns
+     *
+     * @param handler
+     *            handler for the matches
+     *
+     * @return true to continue searching; false if the handler indicates no
+     *         more matches are needed
+     *
+     * @throws SQLException
+     *             If an error occurs reading the table contents
+     *************************************************************************/
+    private boolean scanTable(String tableName,
+                              TableColumns tableColumns,
+                              final String searchText,
+                              final String foldedText,
+                              final boolean ignoreCase,
+                              final Set<String> columns,
+                              SearchHitHandler handler) throws SQLException
+    {
+        final String[] columnNames = tableColumns.columnNames.toArray(new String[0]);
+        final Map<String, List<String>> matches = new TreeMap<String, List<String>>();
+
+        // No more matches than the maximum number of search results are
+        // needed from any one column
+        final int maxMatches = ModifiableSizeInfo.MAX_SEARCH_RESULTS.getSize();
+
+        // Create the handler for the table's rows
+        CursorQuery query = new CursorQuery()
+        {
+            /******************************************************************
+             * Retain the row for each column in which it contains the search
+             * text
+             *****************************************************************/
+            @Override
+            protected boolean handleRow(ResultSet row) throws SQLException
+            {
+                // Step through each column value
+                for (int column = 0; column < columnNames.length; column++)
+                {
+                    // Check if the column is searched and the value contains
+                    // the search text
+                    if ((columns.isEmpty() || columns.contains(columnNames[column]))
+                        && isMatch(row.getString(column + 2),
+                                   searchText,
+                                   foldedText,
+                                   ignoreCase))
+                    {
+                        List<String> rows = matches.get(columnNames[column]);
+
+                        // Check if the column doesn't already have the maximum
+                        // number of matches
+                        if (rows == null || rows.size() < maxMatches)
+                        {
+                            addMatch(matches, columnNames[column], row.getString(1));
+                        }
+                    }
+                }
+
+                return true;
+            }
+        };
+
+        // Search the table's contents
+        ccddMain.getDbCommandHandler().executeDbCursorQuery(buildContentsCommand(tableName,
+                                                                                 columnNames),
+                                                            FETCH_SIZE,
+                                                            query,
+                                                            ccddMain.getMainFrame());
+
+        return supplyMatches(tableName, tableColumns.description, matches, handler);
+    }
+
+    /**************************************************************************
+     * Check if a column value contains the search text
+     *
+     * @param value
+     *            column value; null if the value is null
+     *
+     * @param searchText
+     *            text for which to search
+     *
+     * @param foldedText
+     *            search text with case differences removed
+     *
+     * @param ignoreCase
+     *            true to ignore case when looking for matching text
+     *
+     * @return true if the value contains the search text
+     *************************************************************************/
+    private static boolean isMatch(String value,
+                                   String searchText,
+                                   String foldedText,
+                                   boolean ignoreCase)
+    {
+        return value != null
+               && (ignoreCase
+                              ? fold(value).contains(foldedText)
+                              : value.contains(searchText));
+    }
+
+    /**************************************************************************
+     * Add a row containing a match to the matches for the column
+     *
+     * @param matches
+     *            rows containing a match, stored by column name
+     *
+     * @param columnName
+     *            name of the column containing the match
+     *
+     * @param rowText
+     *            text of the row containing the match
+     *************************************************************************/
+    private static void addMatch(Map<String, List<String>> matches,
+                                 String columnName,
+                                 String rowText)
+    {
+        List<String> rows = matches.get(columnName);
+
+        // Check if this is the first match in the column
+        if (rows == null)
+        {
+            rows = new ArrayList<String>();
+            matches.put(columnName, rows);
+        }
+
+        rows.add(rowText);
+    }
+
+    /**************************************************************************
+     * Supply the matches found in a table to the handler, in order of column
+     * name, then by row
+     *
+     * @param tableName
+     *            table name, as used in the database
+     *
+     * @param description
+     *            table description
+     *
+     * @param matches
+     *            text of the rows containing a match, stored by column name
+     *            in alphabetical order
+     *
+     * @param handler
+     *            handler for the matches
+     *
+     * @return true to continue searching; false if the handler indicates no
+     *         more matches are needed
+     *************************************************************************/
+    private boolean supplyMatches(String tableName,
+                                  String description,
+                                  Map<String, List<String>> matches,
+                                  SearchHitHandler handler)
+    {
+        // Step through each column containing a match
+        for (Map.Entry<String, List<String>> match : matches.entrySet())
+        {
+            // Step through each row containing a match in the column
+            for (String rowText : match.getValue())
+            {
+                // Supply the match to the handler and check if no more
+                // matches are needed
+                if (!handler.handleHit((tableName
+                                        + RESULT_SEPARATOR
+                                        + match.getKey()
+                                        + RESULT_SEPARATOR
+                                        + description
+                                        + RESULT_SEPARATOR
+                                        + rowText).trim()))
+                {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**************************************************************************
+     * Get the cells containing every trigram in the search text
+     *
+     * @param tableIndex
+     *            indexed table contents
+     *
+     * @param foldedText
+     *            search text with case differences removed
+     *
+     * @return Array of the numbers of the cells that may contain the search
+     *         text, in ascending order; null if the search text is too short
+     *         to use the index, in which case every cell must be checked
+     *************************************************************************/
+    private int[] getCandidates(TableIndex tableIndex, String foldedText)
+    {
+        int[] candidates = null;
+        int numCandidates = 0;
+
+        // Step through each trigram in the search text
+        for (int index = 0; index <= foldedText.length() - TRIGRAM_LENGTH; index++)
+        {
+            int[] cells = tableIndex.trigrams.get(getTrigramKey(foldedText, index));
+
+            // Check if no cell contains the trigram
+            if (cells == null)
+            {
+                return new int[0];
+            }
+
+            // Check if this is the first trigram
+            if (candidates == null)
+            {
+                candidates = Arrays.copyOfRange(cells, 1, cells[0]);
+                numCandidates = candidates.length;
+            }
+            // Not the first trigram
+            else
+            {
+                int keep = 0;
+                int other = 1;
+
+                // Retain the candidates that also contain this trigram. Both
+                // lists are in ascending order
+                for (int candidate = 0; candidate < numCandidates; candidate++)
+                {
+                    // Skip the cells that precede the candidate
+                    while (other < cells[0] && cells[other] < candidates[candidate])
+                    {
+                        other++;
+                    }
+
+                    // Check if the candidate contains the trigram
+                    if (other < cells[0] && cells[other] == candidates[candidate])
+                    {
+                        candidates[keep] = candidates[candidate];
+                        keep++;
+                    }
+                }
+
+                numCandidates = keep;
+            }
+        }
+
+        return candidates == null
+                                  ? null
+                                  : Arrays.copyOf(candidates, numCandidates);
+    }
+
+    /**************************************************************************
+     * Get the index key for the trigram at the specified position in the text
+     *
+     * @param text
+     *            text with case differences removed
+     *
+     * @param index
+     *            position of the trigram's first character
+     *
+     * @return Trigram index key
+     *************************************************************************/
+    private static Long getTrigramKey(String text, int index)
+    {
+        return ((long) text.charAt(index) << 32)
+               | ((long) text.charAt(index + 1) << 16)
+               | text.charAt(index + 2);
+    }
+
+    /**************************************************************************
+     * Remove the case differences from the text. Each character is converted
+     * individually so that the text's length is unchanged
+     *
+     * @param text
+     *            text to convert
+     *
+     * @return Text with case differences removed
+     *************************************************************************/
+    private static String fold(String text)
+    {
+        char[] chars = text.toCharArray();
+
+        for (int index = 0; index < chars.length; index++)
+        {
+            chars[index] = Character.toLowerCase(Character.toUpperCase(chars[index]));
+        }
+
+        return new String(chars);
+    }
+
+    /**************************************************************************
+     * Check if the table is within the search scope. The scopes are the same
+     * as those of the search_tables database function
+     *
+     * @param tableName
+     *            table name, as used in the database
+     *
+     * @param searchType
+     *            tables to search: SearchType.ALL, PROTO, DATA, or SCRIPT
+     *
+     * @return true if the table is searched
+     *************************************************************************/
+    private boolean isInScope(String tableName, String searchType)
+    {
+        boolean isInternal = tableName.startsWith(INTERNAL_TABLE_PREFIX);
+
+        return searchType.equals(SearchType.ALL.toString())
+               || (searchType.equals(SearchType.PROTO.toString()) && !isInternal)
+               || (searchType.equals(SearchType.DATA.toString())
+                   && (!isInternal
+                       || tableName.equals(InternalTable.VALUES.getTableName())))
+               || (searchType.equals(SearchType.SCRIPT.toString())
+                   && tableName.startsWith(InternalTable.SCRIPT.getTableName()));
+    }
+
+    /**************************************************************************
+     * Enclose a table or column name in double quotes for use in a database
+     * command
+     *
+     * @param name
+     *            table or column name
+     *
+     * @return Quoted name
+     *************************************************************************/
+    private static String quoteIdentifier(String name)
+    {
+        return "\"" + name.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,457 @@
+/**
+ * CFS Command & Data Dictionary structure layout handler. Copyright 2017
+ * United States Government as represented by the Administrator of the
+ * National Aeronautics and Space Administration. No copyright is claimed in
+ * the United States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.tree.TreeNode;
+
+import CCDD.CcddClasses.ToolTipTreeNode;
+import CCDD.CcddConstants.TableTreeType;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary structure layout handler class. Determines the
+ * size of every structure and the offset of every structure and variable
+ * relative to its root structure. The layout is retained and reused until the
+ * table cache indicates that the database has changed, or the data types or
+ * macros are altered
+ *****************************************************************************/
+public class CcddStructureLayoutHandler
+{
+    // Class reference
+    private final CcddMain ccddMain;
+
+    // Most recently built layout, and the table cache generation and the data
+    // type and macro lists (and their sizes) in effect when it was built
+    private StructureLayout layout;
+    private long layoutGeneration;
+    private List<String[]> layoutDataTypes;
+    private int layoutDataTypesSize;
+    private List<String[]> layoutMacros;
+    private int layoutMacrosSize;
+
+    // Variable offset parameters
+    private int bitCount;
+    private int lastByteSize;
+    private String lastDataType;
+    private int lastBitLength;
+
+    /**************************************************************************
+     * Structure layout class. The layout consists of a list containing the
+     * paths for every structure and variable (keeping the child structures and
+     * variables in the order in which they appear relative to their root
+     * structure), and a corresponding list of the offset to each structure
+     * and variable relative to its root structure. The total structure size in
+     * bytes is stored in place of the offset value for each root structure
+     * entry in the list. A layout isn't altered once built
+     *************************************************************************/
+    protected static class StructureLayout
+    {
+        private final List<String> paths;
+        private final List<Integer> offsets;
+        private final Map<String, Integer> pathIndex;
+
+        /**********************************************************************
+         * Structure layout class constructor
+         *
+         * @param paths
+         *            list of structure and variable paths
+         *
+         * @param offsets
+         *            list of structure sizes and variable offsets
+         *
+         * @param pathIndex
+         *            map of the index into the path list, keyed by the path
+         *********************************************************************/
+        private StructureLayout(List<String> paths,
+                                List<Integer> offsets,
+                                Map<String, Integer> pathIndex)
+        {
+            this.paths = Collections.unmodifiableList(paths);
+            this.offsets = Collections.unmodifiableList(offsets);
+            this.pathIndex = pathIndex;
+        }
+
+        /**********************************************************************
+         * Get the list of structure and variable paths
+         *
+         * @return List of structure and variable paths
+         *********************************************************************/
+        protected List<String> getPaths()
+        {
+            return paths;
+        }
+
+        /**********************************************************************
+         * Get the index of the specified structure or variable path
+         *
+         * @param path
+         *            structure or variable path (without a bit length)
+         *
+         * @return Index of the specified path; -1 if the path isn't in the
+         *         layout
+         *********************************************************************/
+        protected int indexOf(String path)
+        {
+            Integer index = pathIndex.get(path);
+
+            return index == null
+                                ? -1
+                                : index;
+        }
+
+        /**********************************************************************
+         * Get the offset of the structure or variable at the specified index.
+         * For a prototype/root structure this is the structure's size
+         *
+         * @param index
+         *            index of the structure or variable path
+         *
+         * @return Offset, in bytes, of the variable relative to its root
+         *         structure, or the size of the structure
+         *********************************************************************/
+        protected int getOffset(int index)
+        {
+            return offsets.get(index);
+        }
+    }
+
+    /**************************************************************************
+     * Structure layout handler class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *************************************************************************/
+    CcddStructureLayoutHandler(CcddMain ccddMain)
+    {
+        this.ccddMain = ccddMain;
+    }
+
+    /**************************************************************************
+     * Get the structure layout. The previously built layout is returned if
+     * the database, data types, and macros are unchanged since it was built;
+     * otherwise a new layout is built
+     *
+     * @return Structure layout
+     *************************************************************************/
+    protected synchronized StructureLayout getLayout()
+    {
+        CcddTableCacheHandler tableCache = ccddMain.getTableCacheHandler();
+        List<String[]> dataTypes = ccddMain.getDataTypeHandler().getDataTypeData();
+        List<String[]> macros = ccddMain.getMacroHandler().getMacroData();
+
+        // Check if the layout can't be reused; i.e., no layout exists, the
+        // database can't be monitored for changes, or the database, data
+        // types, or macros changed since the layout was built
+        if (layout == null
+            || !tableCache.isEnabled()
+            || layoutGeneration != tableCache.getGeneration()
+            || layoutDataTypes != dataTypes
+            || layoutDataTypesSize != dataTypes.size()
+            || layoutMacros != macros
+            || layoutMacrosSize != macros.size())
+        {
+            // Get the generation prior to building the layout so that a
+            // change made while building is detected
+            long generation = tableCache.getGeneration();
+
+            // Build the layout
+            StructureLayout newLayout = buildLayout();
+
+            // Check if the database can be monitored for changes and that the
+            // database didn't change while the layout was built
+            if (tableCache.isEnabled()
+                && generation == tableCache.getGeneration())
+            {
+                // Store the layout and the conditions under which it was built
+                layout = newLayout;
+                layoutGeneration = generation;
+                layoutDataTypes = dataTypes;
+                layoutDataTypesSize = dataTypes.size();
+                layoutMacros = macros;
+                layoutMacrosSize = macros.size();
+            }
+            // The layout can't be reused
+            else
+            {
+                // Discard any previous layout and return the new one
+                layout = null;
+                return newLayout;
+            }
+        }
+
+        return layout;
+    }
+
+    /**************************************************************************
+     * Discard the stored layout so that it's rebuilt when next requested
+     *************************************************************************/
+    protected synchronized void invalidate()
+    {
+        layout = null;
+    }
+
+    /**************************************************************************
+     * Using a variable tree create two lists: one that contains a reference to
+     * every structure and variable (keeping the child structures and variables
+     * in the order in which they appear relative to their root structure), and
+     * another list that has the offset for the variable relative to its root
+     * structure. The total structure size in bytes is stored in place of the
+     * offset value for each root structure entry in the list
+     *
+     * @return Structure layout containing the path and offset lists
+     *************************************************************************/
+    private StructureLayout buildLayout()
+    {
+        CcddDataTypeHandler dataTypeHandler = ccddMain.getDataTypeHandler();
+
+        // Create a tree containing all of the structures, both prototypes and
+        // instances, including primitive variables. This is used for
+        // determining bit-packing, variable relative position, variable
+        // offsets, and structure sizes
+        CcddTableTreeHandler allVariableTree = new CcddTableTreeHandler(ccddMain,
+                                                                        TableTreeType.STRUCTURES_WITH_PRIMITIVES,
+                                                                        ccddMain.getMainFrame());
+
+        // Expand the tree so that all nodes are 'visible'
+        allVariableTree.setTreeExpansion(true);
+
+        List<String> structureAndVariablePaths = new ArrayList<String>();
+        List<Integer> structureAndVariableOffsets = new ArrayList<Integer>();
+        Map<String, Integer> pathIndex = new HashMap<String, Integer>();
+
+        // Initialize the offset, bit count, and the previous variable's size,
+        // type, and bit length
+        int offset = 0;
+        bitCount = 0;
+        lastByteSize = 0;
+        lastDataType = "";
+        lastBitLength = 0;
+
+        int lastIndex = 0;
+        int structIndex = 0;
+
+        // Step through all of the nodes in the variable tree
+        for (Enumeration<?> element = allVariableTree.getRootNode().preorderEnumeration(); element.hasMoreElements();)
+        {
+            // Get the path to this node
+            TreeNode[] nodePath = ((ToolTipTreeNode) element.nextElement()).getPath();
+
+            // Check if the path references a structure or variable (instead of
+            // the tree's root or header nodes)
+            if (nodePath.length > allVariableTree.getHeaderNodeLevel())
+            {
+                // Get the variable path for this tree node
+                String varPath = allVariableTree.getFullVariablePath(nodePath);
+
+                // Get the index of the last comma and period in the path
+                int commaIndex = varPath.lastIndexOf(",");
+                int periodIndex = varPath.lastIndexOf(".");
+
+                // Check if the path contains a data type
+                if (commaIndex > 0 && periodIndex > commaIndex + 1
+                    && periodIndex < varPath.length() - 1)
+                {
+                    // Extract the data type from the variable path
+                    String dataType = varPath.substring(commaIndex + 1,
+                                                        periodIndex);
+
+                    // Check if this references a primitive data type
+                    if (dataTypeHandler.isPrimitive(dataType))
+                    {
+                        String bitLength = "";
+
+                        int bitIndex = varPath.indexOf(":");
+
+                        // Check if this variable has a bit length
+                        if (bitIndex != -1)
+                        {
+                            // Extract the bit length from the variable path
+                            bitLength = ccddMain.getMacroHandler().getMacroExpansion(varPath.substring(bitIndex + 1));
+
+                            // Remove the bit length from the variable path
+                            varPath = varPath.substring(0, bitIndex);
+                        }
+
+                        // Adjust the offset to account for bit-packing
+                        offset = adjustVariableOffset(dataTypeHandler,
+                                                      dataType,
+                                                      bitLength,
+                                                      offset);
+                    }
+                    // Not a primitive data type (i.e., it's a structure)
+                    else
+                    {
+                        // Add the last variable's byte size to the offset
+                        // total
+                        offset += lastByteSize;
+
+                        // Reinitialize the bit count, and the previous
+                        // variable's size, type, and bit length
+                        bitCount = 0;
+                        lastByteSize = 0;
+                        lastDataType = "";
+                        lastBitLength = 0;
+                    }
+                }
+                // The path doesn't contain a data type; i.e., it's a prototype
+                // structure reference
+                else
+                {
+                    // Check that this isn't the first prototype structure
+                    // detected. The size is stored once the end of the
+                    // structure is reached
+                    if (lastIndex != 0)
+                    {
+                        // Adjust the offset to account for bit-packing
+                        offset = adjustVariableOffset(dataTypeHandler,
+                                                      lastDataType,
+                                                      "",
+                                                      offset);
+
+                        // Store the offset as the size for this structure
+                        structureAndVariableOffsets.set(structIndex, offset);
+
+                        // Store the index of the prototype structure
+                        structIndex = lastIndex;
+                    }
+
+                    // Reset the offset since this indicates the start of a new
+                    // root structure. Initialize the bit count, and the
+                    // previous variable's size, type, and bit length
+                    offset = 0;
+                    bitCount = 0;
+                    lastByteSize = 0;
+                    lastDataType = "";
+                    lastBitLength = 0;
+                }
+
+                // Check the list for this variable path. Due to the
+                // construction of the table tree a prototype structure
+                // reference can occur twice
+                Integer index = pathIndex.get(varPath);
+
+                // Check if the variable path (prototype table) is already in
+                // the list
+                if (index != null)
+                {
+                    // The first listing is the prototype table only (no
+                    // variables); the second includes the variables and is the
+                    // one required. Remove the existing reference from the
+                    // list and update the index pointer to the structure to
+                    // account for the removal
+                    structureAndVariablePaths.remove((int) index);
+                    structureAndVariableOffsets.remove((int) index);
+                    structIndex--;
+
+                    // Step through the paths following the removed one
+                    for (int pathNum = index; pathNum < structureAndVariablePaths.size(); pathNum++)
+                    {
+                        // Update the path's index to account for the removal
+                        pathIndex.put(structureAndVariablePaths.get(pathNum),
+                                      pathNum);
+                    }
+                }
+                // This is the first reference to this variable path
+                else
+                {
+                    // Update the index pointing to the last member of the
+                    // structure
+                    lastIndex++;
+                }
+
+                // Add the variable path and its offset to the lists
+                pathIndex.put(varPath, structureAndVariablePaths.size());
+                structureAndVariablePaths.add(varPath);
+                structureAndVariableOffsets.add(offset);
+            }
+        }
+
+        // Check that a prototype structure was detected
+        if (lastIndex != 0)
+        {
+            // Adjust the offset to account for bit-packing
+            offset = adjustVariableOffset(dataTypeHandler,
+                                          lastDataType,
+                                          "",
+                                          offset);
+
+            // Store the offset as the size for this structure
+            structureAndVariableOffsets.set(structIndex, offset);
+        }
+
+        return new StructureLayout(structureAndVariablePaths,
+                                   structureAndVariableOffsets,
+                                   pathIndex);
+    }
+
+    /**************************************************************************
+     * Adjust the offset to the current variable based on the last variable's
+     * byte size and any bit packing
+     *
+     * @param dataTypeHandler
+     *            data type handler
+     *
+     * @param dataType
+     *            variable's data type
+     *
+     * @param bitLength
+     *            string representing the number of bits used by variable;
+     *            blank if this is a non-bit variable
+     *
+     * @param offset
+     *            offset to the previous variable
+     *
+     * @return The adjusted byte offset to the target variable
+     *************************************************************************/
+    private int adjustVariableOffset(CcddDataTypeHandler dataTypeHandler,
+                                     String dataType,
+                                     String bitLength,
+                                     int offset)
+    {
+        // Get the size in bytes based on the variable's data type
+        int byteSize = dataTypeHandler.getSizeInBytes(dataType);
+
+        // Get the bit length associated with the variable; use 0 if no bit
+        // length is specified
+        int bits = bitLength.matches("\\d+")
+                                            ? bits = Integer.valueOf(bitLength)
+                                            : 0;
+
+        // Update the bit counter using the bit length
+        bitCount += bits;
+
+        // Check if the current or previous variable has no bit length
+        // specified, the data type changed, or the data type has no room for
+        // the requested number of bits
+        if (bits == 0
+            || lastBitLength == 0
+            || !dataType.equals(lastDataType)
+            || bitCount > byteSize * 8)
+        {
+            // Set the bit counter to the current variable's bit length (0 if
+            // this is a non-bit variable)
+            bitCount = bits;
+
+            // Add the previous parameter's byte size to the offset counter
+            offset += lastByteSize;
+        }
+
+        // Store the size in bytes, the data type, and bit length for
+        // calculating the offset to the next variable
+        lastByteSize = byteSize;
+        lastDataType = dataType;
+        lastBitLength = bits;
+
+        return offset;
+    }
+}
@@ -0,0 +1,1131 @@
+/**
+ * CFS Command & Data Dictionary table cache handler. Copyright 2017 United
+ * States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
+import static CCDD.CcddConstants.EventLogMessageType.STATUS_MSG;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import CCDD.CcddClasses.FieldInformation;
+import CCDD.CcddClasses.TableInformation;
+import CCDD.CcddConstants.InternalTable;
+import CCDD.CcddConstants.ModifiableSizeInfo;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary table cache handler class. Retains the
+ * information for recently loaded tables so that these needn't be reloaded
+ * from the database. The cached information is discarded whenever the
+ * database indicates (via a notification) that a data table or the internal
+ * tables that affect the loaded table information have changed. The
+ * notifications are sent by a trigger on each table when its contents change,
+ * and by the commands that rename or delete tables. The notifications are
+ * also passed on to any registered change observers
+ *****************************************************************************/
+public class CcddTableCacheHandler
+{
+    // Class reference
+    private final CcddMain ccddMain;
+
+    // Name of the notification channel on which database changes are
+    // announced, and the payload used to indicate that all tables are affected
+    protected static final String CHANGE_CHANNEL = "ccdd_table_change";
+    protected static final String ALL_TABLES_CHANGED = "*";
+
+    // Payload prefixes for the notifications sent when tables are renamed or
+    // deleted, and the separator between the prefix and the table name(s).
+    // The payload for a renamed table is
+    // [TABLE_RENAMED][CHANGE_SEPARATOR][old name][CHANGE_SEPARATOR][new name]
+    protected static final String TABLE_RENAMED = "renamed";
+    protected static final String TABLE_DELETED = "deleted";
+    protected static final String CHANGE_SEPARATOR = ":";
+
+    // Time, in milliseconds, between checks for database change notifications
+    // and between attempts to reconnect the change listener
+    private static final int NOTIFY_POLL_INTERVAL = 500;
+    private static final int LISTENER_RETRY_INTERVAL = 5000;
+
+    // Cached table information, stored by table path in least recently used
+    // order
+    private final Map<String, CachedTable> tableCache;
+
+    // Counter incremented each time cached information is discarded. A table
+    // loaded while the counter changes isn't stored since its information may
+    // predate the change
+    private long generation;
+
+    // Generation at which each internal table last changed, stored by table
+    // name, and the generation at which every internal table was last
+    // considered changed (i.e., when the change is unspecified)
+    private final Map<String, Long> internalGenerations;
+    private long allInternalGeneration;
+
+    // Cache statistics
+    private long numHits;
+    private long numMisses;
+    private long numInvalidations;
+
+    // Database change listener thread; null if not listening
+    private volatile ChangeListener listener;
+
+    // Lock for starting and stopping the listener
+    private final Object listenerLock;
+
+    // Database URL, user name, and password used by the listener to connect
+    // to the open project database; the URL is null if no project database
+    // is open
+    private String databaseURL;
+    private String user;
+    private String password;
+
+    // Flag indicating that this application committed a change to the
+    // database for which the listener may not yet have handled the
+    // notifications
+    private volatile boolean isLocalChangePending;
+
+    // Observers informed of each database change notification
+    private final List<ChangeObserver> observers;
+
+    // Observers that require the listener to run even if the cache is
+    // disabled
+    private final List<ChangeObserver> listenerObservers;
+
+    /**************************************************************************
+     * Database change observer interface
+     *************************************************************************/
+    protected interface ChangeObserver
+    {
+        /**********************************************************************
+         * Handle a database change notification. This is called on the change
+         * listener's thread, so the observer mustn't block
+         *
+         * @param change
+         *            notification payload: the name of the changed table, as
+         *            used in the database; a renamed or deleted table
+         *            indicator followed by the table name(s); or the all
+         *            tables indicator if changes may have been missed
+         *********************************************************************/
+        void databaseChanged(String change);
+    }
+
+    // Tables loaded by a thread reading from a database snapshot, stored by
+    // table path; not set if the thread isn't reading from a snapshot. These
+    // are kept apart from the cached information since they may predate it
+    private final ThreadLocal<Map<String, CachedTable>> snapshotTables;
+
+    /**************************************************************************
+     * Cached table information class
+     *************************************************************************/
+    private class CachedTable
+    {
+        private final String tableType;
+        private final String[][] tableData;
+        private String description;
+        private String columnOrder;
+
+        /**********************************************************************
+         * Cached table information class constructor
+         *
+         * @param tableType
+         *            table type
+         *
+         * @param tableData
+         *            table data
+         *
+         * @param description
+         *            table description; null if not loaded
+         *
+         * @param columnOrder
+         *            table column order; null if not loaded
+         *********************************************************************/
+        private CachedTable(String tableType,
+                            String[][] tableData,
+                            String description,
+                            String columnOrder)
+        {
+            this.tableType = tableType;
+            this.tableData = copyData(tableData);
+            this.description = description;
+            this.columnOrder = columnOrder;
+        }
+    }
+
+    /**************************************************************************
+     * Database change listener class. Listens on a dedicated connection for
+     * notifications that data or internal tables have changed and discards
+     * the affected cached information
+     *************************************************************************/
+    private class ChangeListener extends Thread
+    {
+        private final String databaseURL;
+        private final String user;
+        private final String password;
+        private volatile boolean isListening;
+        private volatile boolean isStopped;
+
+        // Number of completed checks for notifications, flag indicating if a
+        // check is in progress, and flag indicating if an immediate check is
+        // requested. These are guarded by the poll lock
+        private final Object pollLock;
+        private long numPolls;
+        private boolean isPolling;
+        private boolean isPollRequested;
+
+        /**********************************************************************
+         * Database change listener class constructor
+         *
+         * @param databaseURL
+         *            database URL
+         *
+         * @param user
+         *            user name
+         *
+         * @param password
+         *            user password
+         *********************************************************************/
+        private ChangeListener(String databaseURL, String user, String password)
+        {
+            super("CCDD table change listener");
+            setDaemon(true);
+            this.databaseURL = databaseURL;
+            this.user = user;
+            this.password = password;
+            isListening = false;
+            isStopped = false;
+            pollLock = new Object();
+            numPolls = 0;
+            isPolling = false;
+            isPollRequested = false;
+        }
+
+        /**********************************************************************
+         * Wait until the listener has received and handled the notifications
+         * for all changes committed before this call
+         *
+         * @return true if the notifications were handled; false if the
+         *         listener isn't connected or doesn't respond in time
+         *********************************************************************/
+        private boolean awaitPoll()
+        {
+            synchronized (pollLock)
+            {
+                // A check already in progress may have preceded the changes,
+                // in which case the following check is required
+                long targetPolls = numPolls + (isPolling ? 2 : 1);
+                long endTime = System.currentTimeMillis() + LISTENER_RETRY_INTERVAL;
+
+                try
+                {
+                    // Wait until the required checks complete
+                    while (isListening && numPolls < targetPolls)
+                    {
+                        long waitTime = endTime - System.currentTimeMillis();
+
+                        // Check if the listener didn't respond in time
+                        if (waitTime <= 0)
+                        {
+                            break;
+                        }
+
+                        // Have the listener check for notifications
+                        // immediately
+                        isPollRequested = true;
+                        pollLock.notifyAll();
+                        pollLock.wait(waitTime);
+                    }
+                }
+                catch (InterruptedException ie)
+                {
+                    // Restore the interrupt status
+                    Thread.currentThread().interrupt();
+                }
+
+                return isListening && numPolls >= targetPolls;
+            }
+        }
+
+        /**********************************************************************
+         * Record the completion of a check for notifications and wait until
+         * the next check is due or requested
+         *
+         * @throws InterruptedException
+         *             If the listener is stopped while waiting
+         *********************************************************************/
+        private void completePoll() throws InterruptedException
+        {
+            synchronized (pollLock)
+            {
+                isPolling = false;
+                numPolls++;
+                pollLock.notifyAll();
+
+                // Check if no immediate check is requested
+                if (!isPollRequested)
+                {
+                    pollLock.wait(NOTIFY_POLL_INTERVAL);
+                }
+
+                isPollRequested = false;
+            }
+        }
+
+        /**********************************************************************
+         * Listen for database change notifications until stopped
+         *********************************************************************/
+        @Override
+        public void run()
+        {
+            Connection connection = null;
+
+            while (!isStopped)
+            {
+                try
+                {
+                    // Check if the listener isn't connected
+                    if (connection == null)
+                    {
+                        // Connect to the database and listen for change
+                        // notifications
+                        connection = DriverManager.getConnection(databaseURL,
+                                                                 user,
+                                                                 password);
+                        connection.setAutoCommit(true);
+                        Statement statement = connection.createStatement();
+                        statement.execute("LISTEN " + CHANGE_CHANNEL + ";");
+                        statement.close();
+
+                        // Any changes made while not listening are unknown, so
+                        // discard all of the cached information before making
+                        // the cache available
+                        invalidateAll();
+                        isListening = true;
+                        notifyObservers(ALL_TABLES_CHANGED);
+                    }
+
+                    synchronized (pollLock)
+                    {
+                        isPolling = true;
+                    }
+
+                    // Execute an empty query; the notifications received by
+                    // the connection are retrieved with the query response
+                    Statement statement = connection.createStatement();
+                    statement.execute("SELECT 1;");
+                    statement.close();
+
+                    // Get any notifications received
+                    PGNotification[] notifications = ((PGConnection) connection).getNotifications();
+
+                    // Check if any notifications were received
+                    if (notifications != null)
+                    {
+                        // Step through each notification
+                        for (PGNotification notification : notifications)
+                        {
+                            // Discard the information affected by the change
+                            // and inform the observers
+                            invalidate(notification.getParameter());
+                            notifyObservers(notification.getParameter());
+                        }
+                    }
+
+                    completePoll();
+                }
+                catch (SQLException se)
+                {
+                    // Changes can't be detected while the listener is
+                    // disconnected, so stop using the cache
+                    synchronized (pollLock)
+                    {
+                        isListening = false;
+                        isPolling = false;
+                        pollLock.notifyAll();
+                    }
+
+                    invalidateAll();
+
+                    // Check if the listener was connected
+                    if (connection != null)
+                    {
+                        try
+                        {
+                            // Close the failed connection
+                            connection.close();
+                        }
+                        catch (SQLException se2)
+                        {
+                            // Ignore the error; the connection is discarded
+                            // regardless
+                        }
+
+                        connection = null;
+                    }
+
+                    try
+                    {
+                        // Wait before attempting to reconnect
+                        Thread.sleep(LISTENER_RETRY_INTERVAL);
+                    }
+                    catch (InterruptedException ie)
+                    {
+                        // The listener is being stopped
+                    }
+                }
+                catch (InterruptedException ie)
+                {
+                    // The listener is being stopped
+                }
+            }
+
+            synchronized (pollLock)
+            {
+                isListening = false;
+                pollLock.notifyAll();
+            }
+
+            // Check if the listener is connected
+            if (connection != null)
+            {
+                try
+                {
+                    // Close the listener's connection
+                    connection.close();
+                }
+                catch (SQLException se)
+                {
+                    // Ignore the error; the connection is discarded regardless
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Table cache handler class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *************************************************************************/
+    @SuppressWarnings("serial")
+    CcddTableCacheHandler(CcddMain ccddMain)
+    {
+        this.ccddMain = ccddMain;
+
+        // Create the cache storage. The least recently used table is removed
+        // when the maximum number of cached tables is exceeded
+        tableCache = new LinkedHashMap<String, CachedTable>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTable> eldest)
+            {
+                return size() > ModifiableSizeInfo.TABLE_CACHE_SIZE.getSize();
+            }
+        };
+
+        internalGenerations = new HashMap<String, Long>();
+        allInternalGeneration = 0;
+        listener = null;
+        listenerLock = new Object();
+        databaseURL = null;
+        isLocalChangePending = false;
+        observers = new CopyOnWriteArrayList<ChangeObserver>();
+        listenerObservers = new ArrayList<ChangeObserver>();
+        snapshotTables = new ThreadLocal<Map<String, CachedTable>>();
+    }
+
+    /**************************************************************************
+     * Begin retaining the tables loaded by the calling thread from a database
+     * snapshot. The cache is bypassed for the thread until the snapshot ends
+     *************************************************************************/
+    protected void beginSnapshot()
+    {
+        snapshotTables.set(new HashMap<String, CachedTable>());
+    }
+
+    /**************************************************************************
+     * Discard the tables loaded by the calling thread from a database snapshot
+     * and resume using the cache
+     *************************************************************************/
+    protected void endSnapshot()
+    {
+        snapshotTables.remove();
+    }
+
+    /**************************************************************************
+     * Add an observer to be informed of database change notifications. The
+     * observer receives notifications only while the listener is running
+     *
+     * @param observer
+     *            change observer
+     *************************************************************************/
+    protected void addChangeObserver(ChangeObserver observer)
+    {
+        addChangeObserver(observer, false);
+    }
+
+    /**************************************************************************
+     * Add an observer to be informed of database change notifications
+     *
+     * @param observer
+     *            change observer
+     *
+     * @param isListenerRequired
+     *            true to run the listener while a project database is open
+     *            even if the cache is disabled; false if the observer only
+     *            receives the notifications when the listener is running for
+     *            the cache
+     *************************************************************************/
+    protected void addChangeObserver(ChangeObserver observer,
+                                     boolean isListenerRequired)
+    {
+        observers.add(observer);
+
+        // Check if the observer requires the listener
+        if (isListenerRequired)
+        {
+            synchronized (listenerLock)
+            {
+                listenerObservers.add(observer);
+
+                // Start the listener if a project database is open and the
+                // listener isn't already running
+                updateListener();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Remove a database change observer
+     *
+     * @param observer
+     *            change observer
+     *************************************************************************/
+    protected void removeChangeObserver(ChangeObserver observer)
+    {
+        observers.remove(observer);
+
+        synchronized (listenerLock)
+        {
+            // Check if the observer required the listener
+            if (listenerObservers.remove(observer))
+            {
+                // Stop the listener if it's no longer needed
+                updateListener();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Inform the observers of a database change notification
+     *
+     * @param change
+     *            notification payload
+     *************************************************************************/
+    private void notifyObservers(String change)
+    {
+        // Step through each observer
+        for (ChangeObserver observer : observers)
+        {
+            observer.databaseChanged(change);
+        }
+    }
+
+    /**************************************************************************
+     * Start listening for database change notifications if the cache is
+     * enabled or an observer requires the listener. The cache is used only
+     * while the listener is connected. Any existing listener is stopped first
+     *
+     * @param databaseURL
+     *            database URL
+     *
+     * @param user
+     *            user name
+     *
+     * @param password
+     *            user password
+     *************************************************************************/
+    protected void startListener(String databaseURL,
+                                 String user,
+                                 String password)
+    {
+        synchronized (listenerLock)
+        {
+            // Stop any existing listener
+            stopChangeListener();
+
+            // Store the connection information so that the listener can be
+            // started later if an observer requires it
+            this.databaseURL = databaseURL;
+            this.user = user;
+            this.password = password;
+
+            // Start the listener if it's needed
+            updateListener();
+        }
+    }
+
+    /**************************************************************************
+     * Stop listening for database change notifications, discard the cached
+     * information, and log the cache statistics. The listener isn't restarted
+     * until a project database is opened
+     *************************************************************************/
+    protected void stopListener()
+    {
+        synchronized (listenerLock)
+        {
+            databaseURL = null;
+            user = null;
+            password = null;
+            stopChangeListener();
+        }
+    }
+
+    /**************************************************************************
+     * Start the listener if a project database is open and either the cache
+     * is enabled or an observer requires the listener, and stop the listener
+     * if neither is the case. The caller must hold the listener lock
+     *************************************************************************/
+    private void updateListener()
+    {
+        boolean isNeeded = databaseURL != null
+                           && (ModifiableSizeInfo.TABLE_CACHE_SIZE.getSize() != 0
+                               || !listenerObservers.isEmpty());
+
+        // Check if the listener is needed and isn't running
+        if (isNeeded && listener == null)
+        {
+            // Create and start the change listener
+            listener = new ChangeListener(databaseURL, user, password);
+            listener.start();
+        }
+        // Check if the listener is running and is no longer needed
+        else if (!isNeeded && listener != null)
+        {
+            stopChangeListener();
+        }
+    }
+
+    /**************************************************************************
+     * Stop the listener, if running, discard the cached information, and log
+     * the cache statistics. The caller must hold the listener lock
+     *************************************************************************/
+    private void stopChangeListener()
+    {
+        ChangeListener activeListener = listener;
+
+        // Check if a listener is active
+        if (activeListener != null)
+        {
+            listener = null;
+
+            // Stop the listener and wait for it to close its connection
+            activeListener.isStopped = true;
+            activeListener.interrupt();
+
+            try
+            {
+                activeListener.join(LISTENER_RETRY_INTERVAL);
+            }
+            catch (InterruptedException ie)
+            {
+                // Restore the interrupt status
+                Thread.currentThread().interrupt();
+            }
+
+            synchronized (tableCache)
+            {
+                // Log the cache statistics for the session
+                ccddMain.getSessionEventLog().logEvent(STATUS_MSG,
+                                                       "Table cache: "
+                                                           + numHits
+                                                           + " hit(s), "
+                                                           + numMisses
+                                                           + " miss(es), "
+                                                           + numInvalidations
+                                                           + " invalidation(s)");
+
+                // Reset the statistics
+                numHits = 0;
+                numMisses = 0;
+                numInvalidations = 0;
+            }
+
+            invalidateAll();
+        }
+    }
+
+    /**************************************************************************
+     * Check if the cache can be used by the calling thread. The cache isn't
+     * used if it's disabled, if database changes can't be detected, if the
+     * calling thread has uncommitted changes in progress (since the tables it
+     * loads may reflect changes that could be reverted), or if the calling
+     * thread is reading from a database snapshot. If this application
+     * committed a change since the last check then the notifications for the
+     * change are handled first, so that the information for the changed
+     * tables isn't reused
+     *
+     * @return true if the cache can be used
+     *************************************************************************/
+    protected boolean isEnabled()
+    {
+        ChangeListener activeListener = listener;
+
+        boolean isEnabled = activeListener != null
+                            && activeListener.isListening
+                            && ModifiableSizeInfo.TABLE_CACHE_SIZE.getSize() != 0
+                            && !ccddMain.getDbCommandHandler().isSavePointOwner()
+                            && snapshotTables.get() == null;
+
+        // Check if the cache is usable, a change committed by this
+        // application may not have been handled, and this isn't the listener
+        // (which handles the notifications itself)
+        if (isEnabled
+            && isLocalChangePending
+            && Thread.currentThread() != activeListener)
+        {
+            // Reset the flag prior to waiting so that a change committed while
+            // waiting is handled by the next check
+            isLocalChangePending = false;
+
+            // Wait for the listener to discard the information affected by the
+            // change. The cache can't be used if the listener doesn't respond
+            isEnabled = activeListener.awaitPoll();
+        }
+
+        return isEnabled;
+    }
+
+    /**************************************************************************
+     * Record that this application committed a change to the database. The
+     * cached information isn't discarded here; the change's notifications
+     * identify the affected tables, and these are handled before the cache is
+     * next used
+     *************************************************************************/
+    protected void localChangeCommitted()
+    {
+        isLocalChangePending = true;
+    }
+
+    /**************************************************************************
+     * Wait until the notifications for all database changes committed before
+     * this call have been received and passed to the change observers. This
+     * is used by an observer that must reflect the changes made by this
+     * application before proceeding
+     *
+     * @return true if the notifications were handled; false if the listener
+     *         isn't connected (in which case changes can't be detected)
+     *************************************************************************/
+    protected boolean awaitChangeNotifications()
+    {
+        ChangeListener activeListener = listener;
+
+        return activeListener != null && activeListener.awaitPoll();
+    }
+
+    /**************************************************************************
+     * Get the current cache generation. This is obtained prior to loading a
+     * table and supplied when storing the table in the cache
+     *
+     * @return Current cache generation
+     *************************************************************************/
+    protected long getGeneration()
+    {
+        synchronized (tableCache)
+        {
+            return generation;
+        }
+    }
+
+    /**************************************************************************
+     * Get the generation at which the specified internal table last changed.
+     * Information derived from the internal table needn't be rebuilt while
+     * this is unchanged, provided the cache is enabled
+     *
+     * @param intTable
+     *            internal table
+     *
+     * @return Generation at which the internal table last changed
+     *************************************************************************/
+    protected long getGeneration(InternalTable intTable)
+    {
+        synchronized (tableCache)
+        {
+            Long tableGeneration = internalGenerations.get(intTable.getTableName());
+
+            return tableGeneration == null
+                                           ? allInternalGeneration
+                                           : Math.max(tableGeneration,
+                                                      allInternalGeneration);
+        }
+    }
+
+    /**************************************************************************
+     * Get the information for the specified table from the cache
+     *
+     * @param tablePath
+     *            table path
+     *
+     * @param isRootStructure
+     *            true if the table is a root structure
+     *
+     * @param loadDescription
+     *            true if the table's description is required
+     *
+     * @param loadColumnOrder
+     *            true if the table's column order is required
+     *
+     * @param fieldInfo
+     *            list of the table's data field information; null if the
+     *            field information isn't required
+     *
+     * @return Table information containing a copy of the cached table data;
+     *         null if the table isn't in the cache, or if the description or
+     *         column order is required but wasn't cached
+     *************************************************************************/
+    protected TableInformation getTable(String tablePath,
+                                        boolean isRootStructure,
+                                        boolean loadDescription,
+                                        boolean loadColumnOrder,
+                                        List<FieldInformation> fieldInfo)
+    {
+        TableInformation tableInfo = null;
+        Map<String, CachedTable> snapshotTable = snapshotTables.get();
+
+        // Check if the calling thread is reading from a database snapshot
+        if (snapshotTable != null)
+        {
+            // Get the table's information if the thread loaded it previously
+            tableInfo = createTableInformation(snapshotTable.get(tablePath),
+                                               tablePath,
+                                               isRootStructure,
+                                               loadDescription,
+                                               loadColumnOrder,
+                                               fieldInfo);
+        }
+        // Check if the cache can be used
+        else if (isEnabled())
+        {
+            synchronized (tableCache)
+            {
+                // Get the cached information for the table
+                tableInfo = createTableInformation(tableCache.get(tablePath),
+                                                   tablePath,
+                                                   isRootStructure,
+                                                   loadDescription,
+                                                   loadColumnOrder,
+                                                   fieldInfo);
+
+                // Check if the table is cached along with the requested
+                // description and column order
+                if (tableInfo != null)
+                {
+                    numHits++;
+                }
+                // The table isn't cached
+                else
+                {
+                    numMisses++;
+                }
+            }
+        }
+
+        return tableInfo;
+    }
+
+    /**************************************************************************
+     * Store the information for a table in the cache
+     *
+     * @param tableInfo
+     *            table information. The table isn't stored if its error flag
+     *            is set
+     *
+     * @param isDescriptionLoaded
+     *            true if the table's description was loaded
+     *
+     * @param isColumnOrderLoaded
+     *            true if the table's column order was loaded
+     *
+     * @param loadGeneration
+     *            cache generation obtained prior to loading the table. The
+     *            table isn't stored if the cached information has been
+     *            discarded since then
+     *************************************************************************/
+    protected void putTable(TableInformation tableInfo,
+                            boolean isDescriptionLoaded,
+                            boolean isColumnOrderLoaded,
+                            long loadGeneration)
+    {
+        Map<String, CachedTable> snapshotTable = snapshotTables.get();
+
+        // Check if the table loaded successfully
+        if (!tableInfo.isErrorFlag())
+        {
+            // Check if the calling thread is reading from a database snapshot
+            if (snapshotTable != null)
+            {
+                // Retain the table's information for the snapshot
+                storeTable(snapshotTable,
+                           tableInfo,
+                           isDescriptionLoaded,
+                           isColumnOrderLoaded);
+            }
+            // Check if the cache can be used
+            else if (isEnabled())
+            {
+                synchronized (tableCache)
+                {
+                    // Check that no change occurred while the table was
+                    // loading
+                    if (loadGeneration == generation)
+                    {
+                        // Store the table's information
+                        storeTable(tableCache,
+                                   tableInfo,
+                                   isDescriptionLoaded,
+                                   isColumnOrderLoaded);
+                    }
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Create the table information from the supplied stored table information
+     *
+     * @param cachedTable
+     *            stored table information; null if the table isn't stored
+     *
+     * @param tablePath
+     *            table path
+     *
+     * @param isRootStructure
+     *            true if the table is a root structure
+     *
+     * @param loadDescription
+     *            true if the table's description is required
+     *
+     * @param loadColumnOrder
+     *            true if the table's column order is required
+     *
+     * @param fieldInfo
+     *            list of the table's data field information; null if the
+     *            field information isn't required
+     *
+     * @return Table information containing a copy of the stored table data;
+     *         null if the table isn't stored, or if the description or column
+     *         order is required but wasn't stored
+     *************************************************************************/
+    private TableInformation createTableInformation(CachedTable cachedTable,
+                                                    String tablePath,
+                                                    boolean isRootStructure,
+                                                    boolean loadDescription,
+                                                    boolean loadColumnOrder,
+                                                    List<FieldInformation> fieldInfo)
+    {
+        TableInformation tableInfo = null;
+
+        // Check if the table is stored along with the requested description
+        // and column order
+        if (cachedTable != null
+            && (!loadDescription || cachedTable.description != null)
+            && (!loadColumnOrder || cachedTable.columnOrder != null))
+        {
+            // Create the table information from a copy of the stored
+            // information so that changes to it don't alter the stored copy
+            tableInfo = new TableInformation(cachedTable.tableType,
+                                             tablePath,
+                                             copyData(cachedTable.tableData),
+                                             loadColumnOrder
+                                                             ? cachedTable.columnOrder
+                                                             : "",
+                                             loadDescription
+                                                             ? cachedTable.description
+                                                             : "",
+                                             isRootStructure,
+                                             fieldInfo);
+        }
+
+        return tableInfo;
+    }
+
+    /**************************************************************************
+     * Store the information for a table in the specified table storage
+     *
+     * @param tables
+     *            table storage, by table path
+     *
+     * @param tableInfo
+     *            table information
+     *
+     * @param isDescriptionLoaded
+     *            true if the table's description was loaded
+     *
+     * @param isColumnOrderLoaded
+     *            true if the table's column order was loaded
+     *************************************************************************/
+    private void storeTable(Map<String, CachedTable> tables,
+                            TableInformation tableInfo,
+                            boolean isDescriptionLoaded,
+                            boolean isColumnOrderLoaded)
+    {
+        CachedTable oldTable = tables.get(tableInfo.getTablePath());
+
+        // Store the table's information
+        CachedTable cachedTable = new CachedTable(tableInfo.getType(),
+                                                  tableInfo.getData(),
+                                                  isDescriptionLoaded
+                                                                      ? tableInfo.getDescription()
+                                                                      : null,
+                                                  isColumnOrderLoaded
+                                                                      ? tableInfo.getColumnOrder()
+                                                                      : null);
+
+        // Check if the table was already stored
+        if (oldTable != null)
+        {
+            // Retain the description and column order if stored previously
+            // but not loaded this time
+            if (cachedTable.description == null)
+            {
+                cachedTable.description = oldTable.description;
+            }
+
+            if (cachedTable.columnOrder == null)
+            {
+                cachedTable.columnOrder = oldTable.columnOrder;
+            }
+        }
+
+        tables.put(tableInfo.getTablePath(), cachedTable);
+    }
+
+    /**************************************************************************
+     * Discard the cached information affected by a change to the specified
+     * table
+     *
+     * @param tableName
+     *            name of the changed table, as used in the database. A change
+     *            to an internal table, a renamed or deleted table, or the all
+     *            tables indicator, discards all of the cached information
+     *************************************************************************/
+    protected void invalidate(String tableName)
+    {
+        // Check if a specific data table changed
+        if (tableName != null
+            && !tableName.equals(ALL_TABLES_CHANGED)
+            && !tableName.startsWith(INTERNAL_TABLE_PREFIX)
+            && !tableName.contains(CHANGE_SEPARATOR))
+        {
+            synchronized (tableCache)
+            {
+                generation++;
+                numInvalidations++;
+
+                // Step through each cached table
+                for (Iterator<String> iterator = tableCache.keySet().iterator(); iterator.hasNext();)
+                {
+                    // Check if the table is, or is an instance of, the changed
+                    // table
+                    if (TableInformation.getPrototypeName(iterator.next()).equalsIgnoreCase(tableName))
+                    {
+                        // Discard the table's information
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+        // Check if an internal table changed
+        else if (tableName != null
+                 && tableName.startsWith(INTERNAL_TABLE_PREFIX)
+                 && !tableName.contains(CHANGE_SEPARATOR))
+        {
+            synchronized (tableCache)
+            {
+                // Discard the cached information and record the change to the
+                // internal table
+                discardAll();
+                internalGenerations.put(tableName, generation);
+            }
+        }
+        // Check if a data table was renamed or deleted. The internal tables
+        // referencing the table report their own changes
+        else if (tableName != null && tableName.contains(CHANGE_SEPARATOR))
+        {
+            synchronized (tableCache)
+            {
+                discardAll();
+            }
+        }
+        // The change is unspecified
+        else
+        {
+            invalidateAll();
+        }
+    }
+
+    /**************************************************************************
+     * Discard all of the cached information, and consider every internal
+     * table changed
+     *************************************************************************/
+    protected void invalidateAll()
+    {
+        synchronized (tableCache)
+        {
+            discardAll();
+            allInternalGeneration = generation;
+        }
+    }
+
+    /**************************************************************************
+     * Discard all of the cached information. The caller must hold the cache's
+     * lock
+     *************************************************************************/
+    private void discardAll()
+    {
+        generation++;
+
+        // Check if any tables are cached
+        if (!tableCache.isEmpty())
+        {
+            numInvalidations++;
+            tableCache.clear();
+        }
+    }
+
+    /**************************************************************************
+     * Create a copy of the supplied table data
+     *
+     * @param tableData
+     *            table data
+     *
+     * @return Copy of the table data
+     *************************************************************************/
+    private static String[][] copyData(String[][] tableData)
+    {
+        String[][] copy = new String[tableData.length][];
+
+        // Step through each row
+        for (int row = 0; row < tableData.length; row++)
+        {
+            copy[row] = tableData[row].clone();
+        }
+
+        return copy;
+    }
+}
@@ -260,7 +260,49 @@ public class CcddUtilities
      *************************************************************************/
     protected static String[] splitAndRemoveQuotes(String text)
     {
-        return splitAndRemoveQuotes(text, ",", -1, true);
+        List<String> parts = new ArrayList<String>();
+
+        // Count the double quotes in the text
+        int numQuotes = 0;
+
+        for (int index = 0; index < text.length(); index++)
+        {
+            // Check if the character is a double quote
+            if (text.charAt(index) == '"')
+            {
+                numQuotes++;
+            }
+        }
+
+        int start = 0;
+
+        // Step through each character in the text. A comma separates the text
+        // if it's followed by an even number of double quotes (i.e., it isn't
+        // within quotes). This produces the same result as splitting the text
+        // using the SPLIT_IGNORE_QUOTES regular expression, but with a single
+        // pass through the text
+        for (int index = 0; index < text.length(); index++)
+        {
+            // Check if the character is a double quote
+            if (text.charAt(index) == '"')
+            {
+                numQuotes--;
+            }
+            // Check if the character is a comma followed by an even number of
+            // double quotes
+            else if (text.charAt(index) == ',' && numQuotes % 2 == 0)
+            {
+                // Store the text preceding the comma, with the excess quotes
+                // removed
+                parts.add(removeExcessQuotes(text.substring(start, index)));
+                start = index + 1;
+            }
+        }
+
+        // Store the text following the last comma
+        parts.add(removeExcessQuotes(text.substring(start)));
+
+        return parts.toArray(new String[0]);
     }
 
     /**************************************************************************
@@ -674,7 +716,14 @@ public class CcddUtilities
      *************************************************************************/
     protected static String removeExcessQuotes(String text)
     {
-        return text.replaceAll("^\"|\"$", "").replaceAll("\"\"", "\"");
+        // Remove the leading and trailing double quotes, if present
+        int start = text.startsWith("\"") ? 1 : 0;
+        int end = text.length() > start && text.endsWith("\"")
+                                                              ? text.length() - 1
+                                                              : text.length();
+
+        // Replace each pair of double quotes with a single double quote
+        return text.substring(start, end).replace("\"\"", "\"");
     }
 
     /**************************************************************************
@@ -227,21 +227,27 @@ public class CcddVariableConversionHandler
             // types are to be removed
             if (varPathSeparator.equals("_") && excludeDataTypes == true)
             {
-                // Check if the conversion list hasn't been created already
-                if (originalVariableNameList == null)
+                // The conversion list creation is synchronized since the
+                // handler can be shared by concurrent web server requests
+                synchronized (this)
                 {
-                    // Create the conversion list. The conversion list is
-                    // needed since it's possible that duplicate variable path
-                    // + names can occur if underscores are part of the names.
-                    // The lists ensure that no duplicate is returned; instead,
-                    // a unique name is created by appending one or more
-                    // underscores to the otherwise duplicate name
-                    createConvertedVariableNameList(allVariableNameList);
-                }
+                    // Check if the conversion list hasn't been created already
+                    if (originalVariableNameList == null)
+                    {
+                        // Create the conversion list. The conversion list is
+                        // needed since it's possible that duplicate variable
+                        // path + names can occur if underscores are part of
+                        // the names. The lists ensure that no duplicate is
+                        // returned; instead, a unique name is created by
+                        // appending one or more underscores to the otherwise
+                        // duplicate name
+                        createConvertedVariableNameList(allVariableNameList);
+                    }
 
-                // Get the index of the variable name from the list of
-                // original names
-                index = originalVariableNameList.indexOf(fullName);
+                    // Get the index of the variable name from the list of
+                    // original names
+                    index = originalVariableNameList.indexOf(fullName);
+                }
             }
 
             // Check if the variable name was extracted from the list
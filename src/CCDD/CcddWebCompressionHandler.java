@@ -0,0 +1,792 @@
+/**
+ * CFS Command & Data Dictionary web compression handler. Copyright 2017 United
+ * States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+import CCDD.CcddConstants.ModifiableSizeInfo;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary web compression handler class. Compresses the
+ * responses of the wrapped handler using gzip or deflate encoding when the
+ * requester accepts it and the response is large enough to benefit. The
+ * compression level and size threshold are obtained from the program
+ * preferences
+ *****************************************************************************/
+public class CcddWebCompressionHandler extends HandlerWrapper
+{
+    // Content encodings supported by the handler
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+
+    /**************************************************************************
+     * Compress the response to the web-based request, if the requester
+     * accepts a supported encoding and compression is enabled
+     *************************************************************************/
+    @Override
+    public void handle(String target,
+                       Request baseRequest,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException,
+                                                     ServletException
+    {
+        int level = ModifiableSizeInfo.WEB_COMPRESSION_LEVEL.getSize();
+        String encoding = getAcceptedEncoding(request.getHeader("Accept-Encoding"));
+
+        // Check if compression is enabled
+        if (level != 0)
+        {
+            // Indicate that the response depends on the request's accepted
+            // encodings. This is added whether or not the response is
+            // compressed, so that a cache doesn't return a response sent
+            // uncompressed to a requester that accepts compression, or vice
+            // versa
+            response.addHeader("Vary", "Accept-Encoding");
+        }
+
+        // Check if compression is disabled or the requester doesn't accept a
+        // supported encoding
+        if (level == 0 || encoding == null)
+        {
+            // Pass the request to the wrapped handler unaltered
+            super.handle(target, baseRequest, request, response);
+        }
+        // The response can be compressed
+        else
+        {
+            // Wrap the response so that its content is compressed, and the
+            // request so that the compression is completed when the request
+            // is processed asynchronously
+            final CompressedResponse compressedResponse = new CompressedResponse(response,
+                                                                                 encoding,
+                                                                                 level,
+                                                                                 ModifiableSizeInfo.WEB_COMPRESSION_THRESHOLD.getSize());
+            HttpServletRequest compressedRequest = new HttpServletRequestWrapper(request)
+            {
+                /**************************************************************
+                 * Start asynchronous processing of the request. The
+                 * compressed response is completed when the asynchronous
+                 * request is completed
+                 *************************************************************/
+                @Override
+                public AsyncContext startAsync() throws IllegalStateException
+                {
+                    return new CompressedAsyncContext(super.startAsync(),
+                                                      compressedResponse);
+                }
+            };
+
+            super.handle(target, baseRequest, compressedRequest, compressedResponse);
+
+            // Check if the request was completed by the wrapped handler
+            if (!request.isAsyncStarted())
+            {
+                // Complete the compressed response
+                compressedResponse.finish();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Get the supported content encoding accepted by the requester
+     *
+     * @param acceptEncoding
+     *            Accept-Encoding header value; null if the header isn't
+     *            present
+     *
+     * @return The gzip encoding if accepted by the requester, otherwise the
+     *         deflate encoding if accepted; null if neither is accepted
+     *************************************************************************/
+    private String getAcceptedEncoding(String acceptEncoding)
+    {
+        boolean isDeflate = false;
+        String encoding = null;
+
+        // Check if the header is present
+        if (acceptEncoding != null)
+        {
+            // Step through each encoding in the header
+            for (String accepted : acceptEncoding.toLowerCase().split(","))
+            {
+                // Separate the encoding name from its quality value, if
+                // present
+                String[] parts = accepted.split(";");
+                String name = parts[0].trim();
+
+                // Check if the encoding is explicitly refused (i.e., its
+                // quality value is zero)
+                if (parts.length > 1
+                    && parts[1].trim().matches("q\\s*=\\s*0(?:\\.0*)?"))
+                {
+                    continue;
+                }
+
+                // Check if gzip encoding is accepted
+                if (name.equals(GZIP) || name.equals("*"))
+                {
+                    encoding = GZIP;
+                    break;
+                }
+
+                // Check if deflate encoding is accepted
+                if (name.equals(DEFLATE))
+                {
+                    isDeflate = true;
+                }
+            }
+
+            // Check if gzip isn't accepted but deflate is
+            if (encoding == null && isDeflate)
+            {
+                encoding = DEFLATE;
+            }
+        }
+
+        return encoding;
+    }
+
+    /**************************************************************************
+     * Compressed response class. The response content is held until it
+     * reaches the size threshold; it's then compressed as it's written. A
+     * response that doesn't reach the threshold, or that is written using
+     * non-blocking output, is sent uncompressed
+     *************************************************************************/
+    private static class CompressedResponse extends HttpServletResponseWrapper
+    {
+        private final String encoding;
+        private final int level;
+        private final int threshold;
+        private final CompressedOutputStream outputStream;
+        private PrintWriter writer;
+
+        // Content length set by the wrapped handler; -1 if not set
+        private long contentLength;
+
+        /**********************************************************************
+         * Compressed response class constructor
+         *
+         * @param response
+         *            web response
+         *
+         * @param encoding
+         *            content encoding: gzip or deflate
+         *
+         * @param level
+         *            compression level, 1 (fastest) to 9 (smallest)
+         *
+         * @param threshold
+         *            minimum response size, in bytes, to compress
+         *********************************************************************/
+        private CompressedResponse(HttpServletResponse response,
+                                   String encoding,
+                                   int level,
+                                   int threshold)
+        {
+            super(response);
+            this.encoding = encoding;
+            this.level = level;
+            this.threshold = threshold;
+            outputStream = new CompressedOutputStream();
+            writer = null;
+            contentLength = -1;
+        }
+
+        /**********************************************************************
+         * Get the output stream to which the response content is written
+         *********************************************************************/
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException
+        {
+            return outputStream;
+        }
+
+        /**********************************************************************
+         * Get the writer with which the response text is written. The text is
+         * encoded using the response's character encoding
+         *********************************************************************/
+        @Override
+        public PrintWriter getWriter() throws IOException
+        {
+            // Check if the writer hasn't been created already
+            if (writer == null)
+            {
+                try
+                {
+                    writer = new PrintWriter(new OutputStreamWriter(outputStream,
+                                                                    getCharacterEncoding()));
+                }
+                catch (UnsupportedEncodingException uee)
+                {
+                    throw new IOException(uee);
+                }
+            }
+
+            return writer;
+        }
+
+        /**********************************************************************
+         * Store the content length. The length is passed to the response only
+         * if the content isn't compressed
+         *********************************************************************/
+        @Override
+        public void setContentLength(int length)
+        {
+            contentLength = length;
+        }
+
+        /**********************************************************************
+         * Store the content length. The length is passed to the response only
+         * if the content isn't compressed
+         *********************************************************************/
+        @Override
+        public void setContentLengthLong(long length)
+        {
+            contentLength = length;
+        }
+
+        /**********************************************************************
+         * Send the response content written so far to the requester. Content
+         * held until the compression decision is made isn't sent
+         *********************************************************************/
+        @Override
+        public void flushBuffer() throws IOException
+        {
+            // Check if the writer exists
+            if (writer != null)
+            {
+                writer.flush();
+            }
+
+            outputStream.flush();
+        }
+
+        /**********************************************************************
+         * Check if the response has been committed
+         *********************************************************************/
+        @Override
+        public boolean isCommitted()
+        {
+            return outputStream.isStarted() || super.isCommitted();
+        }
+
+        /**********************************************************************
+         * Discard the response content held but not yet sent
+         *********************************************************************/
+        @Override
+        public void resetBuffer()
+        {
+            outputStream.resetBuffer();
+            super.resetBuffer();
+        }
+
+        /**********************************************************************
+         * Complete the response, sending any content not yet sent and ending
+         * the compressed content
+         *
+         * @throws IOException
+         *             If an error occurs writing the response
+         *********************************************************************/
+        private void finish() throws IOException
+        {
+            // Check if the writer exists
+            if (writer != null)
+            {
+                writer.flush();
+            }
+
+            outputStream.finish();
+        }
+
+        /**********************************************************************
+         * Compressed output stream class
+         *********************************************************************/
+        private class CompressedOutputStream extends ServletOutputStream
+        {
+            // Content held until the compression decision is made
+            private ByteArrayOutputStream buffer;
+
+            // Stream to which the content is written once the compression
+            // decision is made; null until then
+            private OutputStream stream;
+
+            // Flag indicating if the content is written using non-blocking
+            // output
+            private boolean isNonBlocking;
+
+            /******************************************************************
+             * Compressed output stream class constructor
+             *****************************************************************/
+            private CompressedOutputStream()
+            {
+                buffer = new ByteArrayOutputStream();
+                stream = null;
+                isNonBlocking = false;
+            }
+
+            /******************************************************************
+             * Check if the compression decision has been made and content
+             * sent to the requester
+             *
+             * @return true if content has been sent to the requester
+             *****************************************************************/
+            private boolean isStarted()
+            {
+                return stream != null;
+            }
+
+            /******************************************************************
+             * Discard the content held until the compression decision is made
+             *****************************************************************/
+            private void resetBuffer()
+            {
+                // Check if the compression decision hasn't been made
+                if (stream == null)
+                {
+                    buffer.reset();
+                }
+            }
+
+            /******************************************************************
+             * Write a byte to the response
+             *****************************************************************/
+            @Override
+            public void write(int b) throws IOException
+            {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            /******************************************************************
+             * Write the specified bytes to the response
+             *****************************************************************/
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException
+            {
+                // Check if the compression decision hasn't been made
+                if (stream == null)
+                {
+                    // Hold the content
+                    buffer.write(bytes, offset, length);
+
+                    // Check if the content reaches the size threshold
+                    if (buffer.size() >= threshold)
+                    {
+                        // Start compressing the content
+                        start(true);
+                    }
+                }
+                // The compression decision has been made
+                else
+                {
+                    stream.write(bytes, offset, length);
+                }
+            }
+
+            /******************************************************************
+             * Send the content written so far to the requester if the
+             * compression decision has been made. Compressed content is
+             * flushed so that the requester can decompress what it's received
+             *****************************************************************/
+            @Override
+            public void flush() throws IOException
+            {
+                // Check if the compression decision has been made
+                if (stream != null)
+                {
+                    stream.flush();
+                }
+            }
+
+            /******************************************************************
+             * Close the output stream, completing the response
+             *****************************************************************/
+            @Override
+            public void close() throws IOException
+            {
+                finish();
+            }
+
+            /******************************************************************
+             * Check if the output stream can be written without blocking.
+             * Content sent uncompressed is written directly to the response's
+             * output stream, so that stream determines if it's ready; held or
+             * compressed content is written using blocking output
+             *****************************************************************/
+            @Override
+            public boolean isReady()
+            {
+                return stream instanceof ServletOutputStream
+                                                             ? ((ServletOutputStream) stream).isReady()
+                                                             : true;
+            }
+
+            /******************************************************************
+             * Write the content using non-blocking output. Compressing the
+             * content could produce more output than the response's output
+             * stream is ready to accept, so the content is instead sent
+             * uncompressed, directly to the response's output stream
+             *
+             * @throws IllegalStateException
+             *             If compressed content has already been sent
+             *****************************************************************/
+            @Override
+            public void setWriteListener(WriteListener writeListener)
+            {
+                // Check if compressed content has already been sent
+                if (stream instanceof DeflaterOutputStream)
+                {
+                    throw new IllegalStateException("non-blocking output not supported for compressed content");
+                }
+
+                try
+                {
+                    // Check if the compression decision hasn't been made
+                    if (stream == null)
+                    {
+                        // Send the content uncompressed
+                        start(false);
+                    }
+                }
+                catch (IOException ioe)
+                {
+                    throw new IllegalStateException(ioe);
+                }
+
+                isNonBlocking = true;
+                ((ServletOutputStream) stream).setWriteListener(writeListener);
+            }
+
+            /******************************************************************
+             * Make the compression decision and send the content held so far.
+             * The content is compressed only if the response succeeded and
+             * its length, if set, reaches the threshold
+             *
+             * @param isCompress
+             *            true if the content is large enough to compress
+             *
+             * @throws IOException
+             *             If an error occurs writing the response
+             *****************************************************************/
+            private void start(boolean isCompress) throws IOException
+            {
+                HttpServletResponse response = (HttpServletResponse) getResponse();
+
+                // Check if the content is to be compressed
+                if (isCompress
+                    && response.getStatus() == HttpServletResponse.SC_OK
+                    && (contentLength == -1 || contentLength >= threshold))
+                {
+                    // Indicate the encoding of the content. The compressed
+                    // length isn't known in advance
+                    response.setHeader("Content-Encoding", encoding);
+
+                    // Check if gzip encoding is used
+                    if (encoding.equals(GZIP))
+                    {
+                        // Create the gzip stream with the requested
+                        // compression level
+                        stream = new LeveledGZIPOutputStream(response.getOutputStream(),
+                                                             level);
+                    }
+                    // Deflate encoding is used
+                    else
+                    {
+                        // Create the deflate (zlib format) stream with the
+                        // requested compression level
+                        stream = new LeveledDeflaterOutputStream(response.getOutputStream(),
+                                                                 level);
+                    }
+                }
+                // The content is sent uncompressed
+                else
+                {
+                    // Check if the wrapped handler set the content length
+                    if (contentLength != -1)
+                    {
+                        response.setContentLengthLong(contentLength);
+                    }
+
+                    stream = response.getOutputStream();
+                }
+
+                // Send the content held so far and discard the hold buffer
+                buffer.writeTo(stream);
+                buffer = null;
+            }
+
+            /******************************************************************
+             * Complete the response. If the compression decision hasn't been
+             * made then the content is below the size threshold and is sent
+             * uncompressed
+             *
+             * @throws IOException
+             *             If an error occurs writing the response
+             *****************************************************************/
+            private void finish() throws IOException
+            {
+                // Check if the compression decision hasn't been made
+                if (stream == null)
+                {
+                    // Send the content uncompressed
+                    start(false);
+                }
+
+                // Check if the content is compressed
+                if (stream instanceof DeflaterOutputStream)
+                {
+                    // End the compressed content
+                    ((DeflaterOutputStream) stream).finish();
+                    stream.close();
+                }
+                // Check if the uncompressed content is written using blocking
+                // output. Non-blocking content is sent by the response's
+                // output stream as the stream becomes ready
+                else if (!isNonBlocking)
+                {
+                    stream.flush();
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Gzip output stream class with a selectable compression level. Output is
+     * flushed through the compressor when the stream is flushed
+     *************************************************************************/
+    private static class LeveledGZIPOutputStream extends GZIPOutputStream
+    {
+        /**********************************************************************
+         * Gzip output stream class constructor
+         *
+         * @param stream
+         *            output stream to which the compressed content is written
+         *
+         * @param level
+         *            compression level, 1 (fastest) to 9 (smallest)
+         *
+         * @throws IOException
+         *             If an error occurs writing the gzip header
+         *********************************************************************/
+        private LeveledGZIPOutputStream(OutputStream stream,
+                                        int level) throws IOException
+        {
+            super(stream, true);
+            def.setLevel(level);
+        }
+    }
+
+    /**************************************************************************
+     * Deflate output stream class with a selectable compression level. Output
+     * is flushed through the compressor when the stream is flushed
+     *************************************************************************/
+    private static class LeveledDeflaterOutputStream extends DeflaterOutputStream
+    {
+        /**********************************************************************
+         * Deflate output stream class constructor
+         *
+         * @param stream
+         *            output stream to which the compressed content is written
+         *
+         * @param level
+         *            compression level, 1 (fastest) to 9 (smallest)
+         *********************************************************************/
+        private LeveledDeflaterOutputStream(OutputStream stream, int level)
+        {
+            super(stream, new Deflater(level), true);
+        }
+
+        /**********************************************************************
+         * Close the stream and release the compressor
+         *********************************************************************/
+        @Override
+        public void close() throws IOException
+        {
+            super.close();
+            def.end();
+        }
+    }
+
+    /**************************************************************************
+     * Compressed asynchronous context class. Completes the compressed
+     * response before the asynchronous request is completed
+     *************************************************************************/
+    private static class CompressedAsyncContext implements AsyncContext
+    {
+        private final AsyncContext context;
+        private final CompressedResponse response;
+
+        /**********************************************************************
+         * Compressed asynchronous context class constructor
+         *
+         * @param context
+         *            asynchronous context of the request
+         *
+         * @param response
+         *            compressed response
+         *********************************************************************/
+        private CompressedAsyncContext(AsyncContext context,
+                                       CompressedResponse response)
+        {
+            this.context = context;
+            this.response = response;
+        }
+
+        /**********************************************************************
+         * Complete the compressed response, then the asynchronous request
+         *********************************************************************/
+        @Override
+        public void complete()
+        {
+            try
+            {
+                response.finish();
+            }
+            catch (IOException ioe)
+            {
+                // Ignore the error; the requester receives an incomplete
+                // response, which it detects
+            }
+            finally
+            {
+                context.complete();
+            }
+        }
+
+        /**********************************************************************
+         * Get the request
+         *********************************************************************/
+        @Override
+        public ServletRequest getRequest()
+        {
+            return context.getRequest();
+        }
+
+        /**********************************************************************
+         * Get the response
+         *********************************************************************/
+        @Override
+        public ServletResponse getResponse()
+        {
+            return context.getResponse();
+        }
+
+        /**********************************************************************
+         * Check if the original request and response are in use
+         *********************************************************************/
+        @Override
+        public boolean hasOriginalRequestAndResponse()
+        {
+            return context.hasOriginalRequestAndResponse();
+        }
+
+        /**********************************************************************
+         * Dispatch the request
+         *********************************************************************/
+        @Override
+        public void dispatch()
+        {
+            context.dispatch();
+        }
+
+        /**********************************************************************
+         * Dispatch the request
+         *********************************************************************/
+        @Override
+        public void dispatch(String path)
+        {
+            context.dispatch(path);
+        }
+
+        /**********************************************************************
+         * Dispatch the request
+         *********************************************************************/
+        @Override
+        public void dispatch(ServletContext servletContext, String path)
+        {
+            context.dispatch(servletContext, path);
+        }
+
+        /**********************************************************************
+         * Process the request using a new thread
+         *********************************************************************/
+        @Override
+        public void start(Runnable run)
+        {
+            context.start(run);
+        }
+
+        /**********************************************************************
+         * Add a listener for asynchronous events
+         *********************************************************************/
+        @Override
+        public void addListener(AsyncListener listener)
+        {
+            context.addListener(listener);
+        }
+
+        /**********************************************************************
+         * Add a listener for asynchronous events
+         *********************************************************************/
+        @Override
+        public void addListener(AsyncListener listener,
+                                ServletRequest request,
+                                ServletResponse response)
+        {
+            context.addListener(listener, request, response);
+        }
+
+        /**********************************************************************
+         * Create a listener for asynchronous events
+         *********************************************************************/
+        @Override
+        public <T extends AsyncListener> T createListener(Class<T> listenerClass) throws ServletException
+        {
+            return context.createListener(listenerClass);
+        }
+
+        /**********************************************************************
+         * Set the asynchronous request timeout
+         *********************************************************************/
+        @Override
+        public void setTimeout(long timeout)
+        {
+            context.setTimeout(timeout);
+        }
+
+        /**********************************************************************
+         * Get the asynchronous request timeout
+         *********************************************************************/
+        @Override
+        public long getTimeout()
+        {
+            return context.getTimeout();
+        }
+    }
+}
@@ -12,12 +12,25 @@ import static CCDD.CcddConstants.TRUE_OR_FALSE;
 import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_DATA_FIELD_IDENT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Savepoint;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -25,8 +38,6 @@ import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
 
 import CCDD.CcddClasses.ArrayListMultiple;
 import CCDD.CcddClasses.AssociatedColumns;
@@ -39,10 +50,14 @@ import CCDD.CcddClasses.ToolTipTreeNode;
 import CCDD.CcddConstants.CopyTableEntry;
 import CCDD.CcddConstants.EventLogMessageType;
 import CCDD.CcddConstants.InputDataType;
+import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.JSONTags;
+import CCDD.CcddConstants.ModifiableSizeInfo;
 import CCDD.CcddConstants.SearchDialogType;
 import CCDD.CcddConstants.SearchResultsColumnInfo;
 import CCDD.CcddConstants.TableTreeType;
+import CCDD.CcddJSONStreamWriter.StreamedJSONArray;
+import CCDD.CcddStructureLayoutHandler.StructureLayout;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /******************************************************************************
@@ -52,6 +67,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
 {
     // Class references
     private final CcddMain ccddMain;
+    private final CcddWebDataAccessHandler serverHandler;
     private final CcddDbControlHandler dbControl;
     private final CcddDbTableCommandHandler dbTable;
     private final CcddEventLogDialog eventLog;
@@ -59,6 +75,17 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     private CcddRateParameterHandler rateHandler;
     private CcddVariableConversionHandler variableHandler;
     private CcddLinkHandler linkHandler;
+    private CcddGroupHandler groupHandler;
+
+    // Group and link handlers shared by the requests, and the conditions under
+    // which these were built. Only the server handler has shared handlers.
+    // These are rebuilt when the group or link definitions, or the structure
+    // layout, change
+    private CcddGroupHandler sharedGroupHandler;
+    private long sharedGroupGeneration;
+    private CcddLinkHandler sharedLinkHandler;
+    private long sharedLinkGeneration;
+    private StructureLayout sharedLinkLayout;
     private TableTreeType tableTreeType;
     private CcddJSONHandler jsonHandler;
     private CcddFieldHandler fieldHandler;
@@ -71,53 +98,359 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     // structure table data
     private boolean isIncludePath;
 
+    // Index of the first row to return, and the maximum number of rows to
+    // return (-1 to return all rows). For requests covering all tables these
+    // apply to the list of tables instead of to each table's rows
+    private int rowOffset;
+    private int rowLimit;
+
+    // Names of the table columns to return; null to return all columns
+    private List<String> columnNames;
+
+    // Cursor with which the requester continues a request that has rows
+    // remaining beyond those returned; null if no rows remain
+    private String nextCursor;
+
     // Flag that indicates if the table tree path list should only include
     // table names to a specified level in the tree. This is used to get the
     // root tables
     boolean isMaxLevel;
 
+    // Maximum number of requests waiting for a request processing thread.
+    // Requests received while the queue is full are rejected
+    private static final int MAX_QUEUED_REQUESTS = 200;
+
+    // Request components that are answered quickly from information held in
+    // memory. These are processed on the web server's connection thread; all
+    // other requests are processed asynchronously by the request threads
+    private static final List<String> QUICK_COMPONENTS = Arrays.asList("authenticate",
+                                                                       "project_info",
+                                                                       "table_type",
+                                                                       "data_type",
+                                                                       "macro",
+                                                                       "shutdown");
+
+    // Request components that can't be included in a batch request
+    private static final List<String> NON_BATCH_COMPONENTS = Arrays.asList("batch",
+                                                                           "authenticate",
+                                                                           "shutdown");
+
+    // Maximum number of options following the request item
+    private static final int MAX_REQUEST_OPTIONS = 6;
+
+    // Threads used to process the requests asynchronously. Only the server
+    // handler has request threads
+    private ThreadPoolExecutor requestExecutor;
+
+    // Request components for which the responses are cached. The response to
+    // a structure size request is also cached
+    private static final List<String> CACHED_COMPONENTS = Arrays.asList("project_info",
+                                                                        "table_type",
+                                                                        "data_type",
+                                                                        "macro",
+                                                                        "group",
+                                                                        "application");
+
+    // Maximum number of cached responses. The least recently used response is
+    // discarded when the limit is exceeded
+    private static final int MAX_CACHED_RESPONSES = 100;
+
+    // Number of tables loaded from the database at a time when the response
+    // to a request is built from the variables or commands in many tables.
+    // This bounds the table data held in memory while still loading several
+    // tables per database query
+    private static final int TABLE_BATCH_SIZE = 25;
+
+    // Cached responses, stored by request component and query string in least
+    // recently used order. Only the server handler has a response cache
+    private final Map<String, CachedResponse> responseCache;
+
+    // Prefix for the entity tags assigned to the cached responses
+    private final String eTagPrefix;
+
+    /**************************************************************************
+     * Cached response class
+     *************************************************************************/
+    private static class CachedResponse
+    {
+        private final long generation;
+        private final byte[] content;
+
+        /**********************************************************************
+         * Cached response class constructor
+         * 
+         * @param generation
+         *            database change generation in effect when the response
+         *            was created
+         * 
+         * @param content
+         *            response, encoded in UTF-8
+         *********************************************************************/
+        private CachedResponse(long generation, byte[] content)
+        {
+            this.generation = generation;
+            this.content = content;
+        }
+    }
+
     /**************************************************************************
-     * Web data access handler class constructor
+     * Web data access handler class constructor. This creates the handler
+     * used by the web server; each request is processed by a separate
+     * instance created from it
      * 
      * @param ccddMain
      *            main class
      *************************************************************************/
+    @SuppressWarnings("serial")
     protected CcddWebDataAccessHandler(CcddMain ccddMain)
     {
         this.ccddMain = ccddMain;
+        serverHandler = this;
         dbControl = ccddMain.getDbControlHandler();
         dbTable = ccddMain.getDbTableCommandHandler();
         eventLog = ccddMain.getSessionEventLog();
+        eTagPrefix = Long.toHexString(System.currentTimeMillis()) + "-";
+
+        // Create the response cache storage. The least recently used response
+        // is removed when the maximum number of cached responses is exceeded
+        responseCache = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true)
+        {
+            /******************************************************************
+             * Remove the least recently used response if the cache is full
+             *****************************************************************/
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest)
+            {
+                return size() > MAX_CACHED_RESPONSES;
+            }
+        };
     }
 
     /**************************************************************************
-     * Set the reference to the rate parameter, data field, and JSON handler
-     * classes
+     * Web data access handler class constructor for processing a single
+     * request. The request flags and the JSON handler belong to the request
+     * so that requests can be processed concurrently
+     * 
+     * @param serverHandler
+     *            reference to the web server's data access handler
      *************************************************************************/
-    protected void setHandlers()
+    private CcddWebDataAccessHandler(CcddWebDataAccessHandler serverHandler)
     {
-        tableTypeHandler = ccddMain.getTableTypeHandler();
-        rateHandler = ccddMain.getRateParameterHandler();
-        fieldHandler = new CcddFieldHandler(ccddMain,
-                                            null,
-                                            ccddMain.getMainFrame());
+        this.serverHandler = serverHandler;
+        ccddMain = serverHandler.ccddMain;
+        dbControl = serverHandler.dbControl;
+        dbTable = serverHandler.dbTable;
+        eventLog = serverHandler.eventLog;
+        eTagPrefix = serverHandler.eTagPrefix;
+        responseCache = null;
+        tableTypeHandler = serverHandler.tableTypeHandler;
+        rateHandler = serverHandler.rateHandler;
+
+        // Use the project's data field handler. The handler is shared with
+        // the other requests (and is only rebuilt if the database changes),
+        // so the request mustn't alter its field information
+        setFieldHandler(dbTable.getProjectFieldHandler(ccddMain.getMainFrame()));
+    }
+
+    /**************************************************************************
+     * Set the data field handler used by the request, and create the JSON
+     * handler used to format the request's response
+     * 
+     * @param fieldHandler
+     *            data field handler
+     *************************************************************************/
+    private void setFieldHandler(CcddFieldHandler fieldHandler)
+    {
+        this.fieldHandler = fieldHandler;
         jsonHandler = new CcddJSONHandler(ccddMain,
                                           fieldHandler,
                                           ccddMain.getMainFrame());
     }
 
     /**************************************************************************
-     * Handle a web-based request
+     * Set the reference to the table type and rate parameter handler classes,
+     * and discard the variable, group, and link handlers so that these are
+     * rebuilt for the current project
+     *************************************************************************/
+    protected void setHandlers()
+    {
+        tableTypeHandler = ccddMain.getTableTypeHandler();
+        rateHandler = ccddMain.getRateParameterHandler();
+
+        synchronized (this)
+        {
+            variableHandler = null;
+            sharedGroupHandler = null;
+            sharedLinkHandler = null;
+            sharedLinkLayout = null;
+        }
+
+        // Discard the responses cached for the previous project
+        synchronized (responseCache)
+        {
+            responseCache.clear();
+        }
+    }
+
+    /**************************************************************************
+     * Get the variable handler shared by the requests, creating it if it
+     * doesn't exist
+     * 
+     * @return Variable handler
+     *************************************************************************/
+    private CcddVariableConversionHandler getVariableHandler()
+    {
+        synchronized (serverHandler)
+        {
+            // Check if the variable handler hasn't been created already
+            if (serverHandler.variableHandler == null)
+            {
+                // Create the variable handler
+                serverHandler.variableHandler = new CcddVariableConversionHandler(ccddMain);
+            }
+
+            return serverHandler.variableHandler;
+        }
+    }
+
+    /**************************************************************************
+     * Create the threads used to process the web requests when the web server
+     * starts. The number of threads is obtained from the program preferences
      *************************************************************************/
     @Override
-    public void handle(String target,
+    protected void doStart() throws Exception
+    {
+        int numThreads = ModifiableSizeInfo.WEB_SERVER_THREADS.getSize();
+
+        // Create the request threads. The number of requests waiting to be
+        // processed is limited so that the server can't be overwhelmed
+        requestExecutor = new ThreadPoolExecutor(numThreads,
+                                                 numThreads,
+                                                 0L,
+                                                 TimeUnit.MILLISECONDS,
+                                                 new LinkedBlockingQueue<Runnable>(MAX_QUEUED_REQUESTS));
+
+        super.doStart();
+    }
+
+    /**************************************************************************
+     * Stop the request threads when the web server stops. Requests already
+     * being processed are allowed to complete
+     *************************************************************************/
+    @Override
+    protected void doStop() throws Exception
+    {
+        super.doStop();
+
+        // Check if the request threads exist
+        if (requestExecutor != null)
+        {
+            // Stop accepting requests and wait for those in progress to
+            // complete
+            requestExecutor.shutdown();
+            requestExecutor.awaitTermination(30, TimeUnit.SECONDS);
+            requestExecutor = null;
+        }
+    }
+
+    /**************************************************************************
+     * Handle a web-based request. Requests that require database access or
+     * lengthy processing are handed off to the request threads and completed
+     * asynchronously, which frees the web server's connection thread to
+     * accept other requests
+     *************************************************************************/
+    @Override
+    public void handle(final String target,
                        Request baseRequest,
-                       HttpServletRequest request,
-                       HttpServletResponse response) throws IOException
+                       final HttpServletRequest request,
+                       final HttpServletResponse response) throws IOException
     {
         // Indicate that the request has been handled
         baseRequest.setHandled(true);
 
+        // Get the request component. The leading '/' is removed from the
+        // request path
+        final String component = target.replaceFirst("^/", "");
+
+        // Check if the request is answered quickly or the request threads
+        // aren't available
+        if (QUICK_COMPONENTS.contains(component) || requestExecutor == null)
+        {
+            // Process the request on the connection thread
+            respond(component, request, response);
+        }
+        // The request is processed asynchronously
+        else
+        {
+            // Start asynchronous processing of the request. The request
+            // doesn't time out since the time required depends on the size of
+            // the project
+            final AsyncContext asyncContext = request.startAsync();
+            asyncContext.setTimeout(0);
+
+            try
+            {
+                // Process the request using one of the request threads
+                requestExecutor.execute(new Runnable()
+                {
+                    /**********************************************************
+                     * Process the request and complete the response
+                     *********************************************************/
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            respond(component, request, response);
+                        }
+                        catch (Exception e)
+                        {
+                            // Inform the user that processing the web server
+                            // request failed
+                            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                                  "Web Server Error",
+                                                  "Cannot respond to web server request; cause '"
+                                                      + e.getMessage()
+                                                      + "'",
+                                                  "<html><b>Cannot respond to web server request");
+                        }
+                        finally
+                        {
+                            // Indicate the request is complete
+                            asyncContext.complete();
+                        }
+                    }
+                });
+            }
+            catch (RejectedExecutionException ree)
+            {
+                // The request queue is full (or the server is stopping);
+                // indicate that the server can't process the request
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                asyncContext.complete();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Process a web-based request and return the response to the requester
+     * 
+     * @param component
+     *            component for which to request data
+     * 
+     * @param request
+     *            web request
+     * 
+     * @param response
+     *            web response
+     * 
+     * @throws IOException
+     *             If the query string can't be decoded
+     *************************************************************************/
+    private void respond(String component,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException
+    {
         // Get the request
         String query = request.getQueryString();
 
@@ -134,36 +467,86 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             query = "";
         }
 
-        // Process the request and get the information encoded as a JSON
-        // string. The leading '/' is removed from the request path
-        String jsonResponse = getQueryResults(target.replaceFirst("^/", ""),
-                                              query);
-
-        // Check if the specified content was loaded successfully
-        if (jsonResponse != null)
-        {
-            // Set the flag indicating the response is valid
-            response.setStatus(HttpServletResponse.SC_OK);
-        }
-        // The request failed
-        else
-        {
-            // Set the flag indicating the response is invalid and return an
-            // empty string
-            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            jsonResponse = "";
-        }
+        CcddTableCacheHandler tableCache = ccddMain.getTableCacheHandler();
+        CcddDbCommandHandler dbCommand = ccddMain.getDbCommandHandler();
+        long startCommandCount = dbCommand.getCommandCount();
 
         try
         {
-            // Set the response type and length
-            response.setContentType("text/json");
-            response.setContentLength(jsonResponse.length());
+            // Check if the response to the request can be cached and changes
+            // to the database are being detected
+            if (isCacheable(component, query) && tableCache.isEnabled())
+            {
+                // Return the cached response, if current, to the requester
+                respondFromCache(component,
+                                 query,
+                                 tableCache.getGeneration(),
+                                 request,
+                                 response);
+            }
+            // The response isn't cached
+            else
+            {
+                // Process the request using a handler created for this request
+                // and get the information as a JSON object, array, or value
+                CcddWebDataAccessHandler requestHandler = new CcddWebDataAccessHandler(this);
+                Object jsonResponse = requestHandler.getQueryResults(component,
+                                                                     query);
+
+                // Check if the specified content was loaded successfully
+                if (jsonResponse != null)
+                {
+                    // Set the flag indicating the response is valid
+                    response.setStatus(HttpServletResponse.SC_OK);
+
+                    // Check if rows remain beyond those in the response
+                    if (requestHandler.nextCursor != null)
+                    {
+                        // Return the cursor with which the requester obtains
+                        // the remaining rows
+                        response.setHeader("Next-Cursor",
+                                           requestHandler.nextCursor);
+                    }
+                }
+                // The request failed
+                else
+                {
+                    // Set the flag indicating the response is invalid and
+                    // return an empty string
+                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                    jsonResponse = "";
+                }
+
+                // Set the response type and encoding. The content length isn't
+                // set so that the response is sent using chunked transfer
+                // encoding as it's written
+                response.setContentType("text/json");
+                response.setCharacterEncoding("UTF-8");
+
+                // Return the response to the requester
+                writeResponse(response.getWriter(), jsonResponse);
+            }
 
-            // Return the response to the requester
-            response.getWriter().write(jsonResponse);
             response.flushBuffer();
         }
+        catch (CCDDException ce)
+        {
+            // Inform the user that the web server request is invalid
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Web Server Error",
+                                  "Invalid web server request; cause '"
+                                      + ce.getMessage()
+                                      + "'",
+                                  "<html><b>Invalid web server request");
+
+            // Check if none of the response has been sent to the requester
+            if (!response.isCommitted())
+            {
+                // Discard the partial response and indicate the request failed
+                response.resetBuffer();
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            }
+        }
         catch (IOException ioe)
         {
             // Inform the user that processing the web server request failed
@@ -174,6 +557,294 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                       + "'",
                                   "<html><b>Cannot respond to web server request");
         }
+        finally
+        {
+            // Store the number of database commands executed to answer the
+            // request so that these are included in the request metrics
+            request.setAttribute(CcddWebMetricsHandler.COMMAND_COUNT_ATTRIBUTE,
+                                 dbCommand.getCommandCount() - startCommandCount);
+        }
+    }
+
+    /**************************************************************************
+     * Write the supplied response to the specified output stream
+     * 
+     * @param writer
+     *            output stream to which the response is written
+     * 
+     * @param jsonResponse
+     *            response to the request. A text string is written unaltered;
+     *            a JSON object or array is serialized
+     * 
+     * @throws IOException
+     *             If an error occurs writing to the output stream
+     * 
+     * @throws CCDDException
+     *             If a streamed array member can't be created
+     *************************************************************************/
+    private void writeResponse(Writer writer,
+                               Object jsonResponse) throws IOException,
+                                                    CCDDException
+    {
+        // Check if the response is a simple text string
+        if (jsonResponse instanceof String)
+        {
+            // Write the response text unaltered
+            writer.write((String) jsonResponse);
+        }
+        // The response is a JSON object or array
+        else
+        {
+            // Serialize the response directly to the output stream
+            new CcddJSONStreamWriter(writer).writeValue(jsonResponse);
+        }
+    }
+
+    /**************************************************************************
+     * Check if the response to the specified request can be cached. Only the
+     * requests for information that changes infrequently and that's small
+     * enough to retain in memory are cached
+     * 
+     * @param component
+     *            component for which to request data
+     * 
+     * @param query
+     *            decoded query string
+     * 
+     * @return true if the response to the request can be cached
+     *************************************************************************/
+    private boolean isCacheable(String component, String query)
+    {
+        return CACHED_COMPONENTS.contains(component)
+               || ((component.equals("table")
+                    || component.equals("proto_table")
+                    || component.equals("root_table")
+                    || component.equals("instance_table"))
+                   && query.matches("size(?:=.*|;.*)?"));
+    }
+
+    /**************************************************************************
+     * Return the response to a cacheable request. The response is tagged with
+     * the database change generation in effect when it was created. If the
+     * requester already has the current response (as identified by the
+     * If-None-Match header) then a 'not modified' status is returned without
+     * processing the request; otherwise the response is obtained from the
+     * response cache, or is created and stored in the cache if it isn't
+     * present or predates a database change
+     * 
+     * @param component
+     *            component for which to request data
+     * 
+     * @param query
+     *            decoded query string
+     * 
+     * @param generation
+     *            database change generation obtained prior to processing the
+     *            request
+     * 
+     * @param request
+     *            web request
+     * 
+     * @param response
+     *            web response
+     * 
+     * @throws IOException
+     *             If an error occurs writing the response
+     * 
+     * @throws CCDDException
+     *             If the response can't be created
+     *************************************************************************/
+    private void respondFromCache(String component,
+                                  String query,
+                                  long generation,
+                                  HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException,
+                                                                CCDDException
+    {
+        String cacheKey = component + "?" + query;
+
+        // Build the entity tag from the server's start time and the database
+        // change generation. The start time distinguishes tags issued in a
+        // previous session, in which the generation was counted from zero.
+        // The tag is weak since the same tag is used regardless of the
+        // content encoding applied to the response
+        String eTag = "W/\""
+                      + serverHandler.eTagPrefix
+                      + Long.toHexString(generation)
+                      + "\"";
+
+        // Check if the requester's copy of the response is current
+        if (isETagMatch(request.getHeader("If-None-Match"), eTag))
+        {
+            // Indicate that the response is unchanged
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader("ETag", eTag);
+        }
+        // The requester doesn't have the current response
+        else
+        {
+            // Get the response from the cache
+            byte[] content = serverHandler.getCachedResponse(cacheKey,
+                                                             generation);
+
+            // Check if the response isn't cached
+            if (content == null)
+            {
+                // Process the request using a handler created for this
+                // request
+                Object jsonResponse = new CcddWebDataAccessHandler(this).getQueryResults(component,
+                                                                                         query);
+
+                // Check if the specified content was loaded successfully
+                if (jsonResponse != null)
+                {
+                    // Serialize the response and store it in the cache
+                    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                    Writer writer = new OutputStreamWriter(stream,
+                                                           StandardCharsets.UTF_8);
+                    writeResponse(writer, jsonResponse);
+                    writer.flush();
+                    content = stream.toByteArray();
+                    serverHandler.putCachedResponse(cacheKey,
+                                                    generation,
+                                                    content);
+                }
+            }
+
+            // Check if the response exists
+            if (content != null)
+            {
+                // Set the flag indicating the response is valid, and the
+                // response's tag, type, encoding, and length. The requester
+                // must revalidate the response before reusing it
+                response.setStatus(HttpServletResponse.SC_OK);
+                response.setHeader("ETag", eTag);
+                response.setHeader("Cache-Control", "no-cache");
+                response.setContentType("text/json");
+                response.setCharacterEncoding("UTF-8");
+                response.setContentLength(content.length);
+
+                // Return the response to the requester
+                response.getOutputStream().write(content);
+            }
+            // The request failed
+            else
+            {
+                // Set the flag indicating the response is invalid
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                response.setContentType("text/json");
+                response.setContentLength(0);
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Check if the supplied If-None-Match header value matches the specified
+     * entity tag
+     * 
+     * @param ifNoneMatch
+     *            If-None-Match header value; null if the header isn't present
+     * 
+     * @param eTag
+     *            entity tag of the current response
+     * 
+     * @return true if the header value is the wildcard or contains the entity
+     *         tag (ignoring any weak tag indicator)
+     *************************************************************************/
+    private boolean isETagMatch(String ifNoneMatch, String eTag)
+    {
+        boolean isMatch = false;
+
+        // Check if the header is present
+        if (ifNoneMatch != null)
+        {
+            // Remove the weak tag indicator from the current tag
+            eTag = eTag.replaceFirst("^W/", "");
+
+            // Step through each tag in the header
+            for (String tag : ifNoneMatch.split(","))
+            {
+                tag = tag.trim().replaceFirst("^W/", "");
+
+                // Check if the tag is the wildcard or matches the current tag
+                if (tag.equals("*") || tag.equals(eTag))
+                {
+                    isMatch = true;
+                    break;
+                }
+            }
+        }
+
+        return isMatch;
+    }
+
+    /**************************************************************************
+     * Get the cached response for the specified request
+     * 
+     * @param cacheKey
+     *            request component and query string
+     * 
+     * @param generation
+     *            current database change generation
+     * 
+     * @return Cached response, encoded in UTF-8; null if the response isn't
+     *         cached or predates a database change
+     *************************************************************************/
+    private byte[] getCachedResponse(String cacheKey, long generation)
+    {
+        byte[] content = null;
+
+        synchronized (responseCache)
+        {
+            CachedResponse cached = responseCache.get(cacheKey);
+
+            // Check if the response is cached
+            if (cached != null)
+            {
+                // Check if the response is current
+                if (cached.generation == generation)
+                {
+                    content = cached.content;
+                }
+                // The response predates a database change
+                else
+                {
+                    // Discard the obsolete response
+                    responseCache.remove(cacheKey);
+                }
+            }
+        }
+
+        return content;
+    }
+
+    /**************************************************************************
+     * Store the response for the specified request in the cache. The response
+     * isn't stored if the database changed while it was being created
+     * 
+     * @param cacheKey
+     *            request component and query string
+     * 
+     * @param generation
+     *            database change generation obtained prior to creating the
+     *            response
+     * 
+     * @param content
+     *            response, encoded in UTF-8
+     *************************************************************************/
+    private void putCachedResponse(String cacheKey,
+                                   long generation,
+                                   byte[] content)
+    {
+        synchronized (responseCache)
+        {
+            // Check that no change occurred while the response was created
+            if (ccddMain.getTableCacheHandler().getGeneration() == generation)
+            {
+                responseCache.put(cacheKey,
+                                  new CachedResponse(generation, content));
+            }
+        }
     }
 
     /**************************************************************************
@@ -300,8 +971,89 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     }
 
     /**************************************************************************
-     * Process the web query and return the results encoded as a JSON string.
-     * The query is in the form [server]:[port]/[component]?[attribute][=name]
+     * Get the row index or row count from the supplied request option value
+     * 
+     * @param value
+     *            option value
+     * 
+     * @param option
+     *            option name, used in the exception message
+     * 
+     * @return Row index or row count
+     * 
+     * @throws CCDDException
+     *             If the value isn't a non-negative integer
+     *************************************************************************/
+    private int getRowCount(String value, String option) throws CCDDException
+    {
+        // Check if the value isn't a non-negative integer
+        if (!value.matches("\\d{1,9}"))
+        {
+            throw new CCDDException("invalid "
+                                    + option
+                                    + " value '"
+                                    + value
+                                    + "'");
+        }
+
+        return Integer.valueOf(value);
+    }
+
+    /**************************************************************************
+     * Get the requested range of tables for a request covering all tables.
+     * The continuation cursor is set if tables remain beyond the range. The
+     * row range is then reset so that every row of each table in the range is
+     * returned
+     * 
+     * @param tableNameList
+     *            list of all of the table names
+     * 
+     * @return List of the table names in the requested range
+     *************************************************************************/
+    private List<String> getTablePage(List<String> tableNameList)
+    {
+        int first = Math.min(rowOffset, tableNameList.size());
+        int last = rowLimit == -1
+                                 ? tableNameList.size()
+                                 : Math.min(first + rowLimit,
+                                            tableNameList.size());
+
+        // Check if tables remain beyond the requested range
+        if (last < tableNameList.size())
+        {
+            // Set the cursor to the first table of the next range
+            nextCursor = String.valueOf(last);
+        }
+
+        // Return all rows of each table in the range
+        rowOffset = 0;
+        rowLimit = -1;
+
+        return tableNameList.subList(first, last);
+    }
+
+    /**************************************************************************
+     * Set the continuation cursor if rows remain in the table beyond the
+     * requested range of rows
+     * 
+     * @param rowCount
+     *            total number of rows in the table
+     *************************************************************************/
+    private void setRowCursor(int rowCount)
+    {
+        // Check if the number of rows is limited and rows remain beyond the
+        // requested range
+        if (rowLimit != -1 && rowOffset + rowLimit < rowCount)
+        {
+            // Set the cursor to the first row of the next range
+            nextCursor = String.valueOf(rowOffset + rowLimit);
+        }
+    }
+
+    /**************************************************************************
+     * Process the web query and return the results as a JSON object, array, or
+     * value. The query is in the form
+     * [server]:[port]/[component]?[attribute][=name]
      * 
      * @param component
      *            component for which to request data
@@ -309,11 +1061,11 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * @param item
      *            item in the component
      * 
-     * @return Query results encoded as a JSON string
+     * @return Query results as a JSON object, array, or value
      *************************************************************************/
-    private String getQueryResults(String component, String item)
+    private Object getQueryResults(String component, String item)
     {
-        String response = null;
+        Object response = null;
 
         // Log the web server request. Mask the password for authentication
         // requests (match an expanded range in case the user mistypes the
@@ -333,15 +1085,27 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             String[] separators = null;
 
             // Separate the component/attribute/name from the other flag(s) (if
-            // present)
-            String[] itemAndOther = getParts(item, ";", 2, false);
-
-            // Set the default macro and variable path flag values
+            // present). The item for a batch request consists of the
+            // individual requests, each of which has its own flag(s)
+            String[] itemAndOther = component.equals("batch")
+                                                              ? new String[] {item, ""}
+                                                              : getParts(item, ";", 2, false);
+
+            // Set the default macro and variable path flag values, and
+            // return all rows and columns
             isReplaceMacro = true;
             isIncludePath = false;
-
-            // Step through the macro and/or variable path flags, if present
-            for (String macroAndPath : getParts(itemAndOther[1], ";", 2, false))
+            rowOffset = 0;
+            rowLimit = -1;
+            columnNames = null;
+            nextCursor = null;
+
+            // Step through the macro, variable path, row range, and column
+            // options, if present
+            for (String macroAndPath : getParts(itemAndOther[1],
+                                                ";",
+                                                MAX_REQUEST_OPTIONS,
+                                                false))
             {
                 // Split the macro/path option from any parameter values
                 String[] parts = getParts(macroAndPath, ",", 2, false);
@@ -364,9 +1128,36 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         isIncludePath = true;
                         separators = getVariablePathSeparators(parts[1]);
                         break;
+
+                    // First row command. The cursor returned with a partial
+                    // response is the first row of the next part
+                    case "offset":
+                    case "cursor":
+                        // Set the index of the first row to return
+                        rowOffset = getRowCount(parts[1], parts[0]);
+                        break;
+
+                    // Maximum rows command
+                    case "limit":
+                        // Set the maximum number of rows to return
+                        rowLimit = getRowCount(parts[1], parts[0]);
+                        break;
+
+                    // Column projection command
+                    case "column":
+                    case "columns":
+                        // Set the names of the columns to return
+                        columnNames = Arrays.asList(getParts(parts[1],
+                                                             ",",
+                                                             0,
+                                                             true));
+                        break;
                 }
             }
 
+            // Set the columns to return in the table data
+            jsonHandler.setTableDataFilter(0, -1, columnNames);
+
             // Extract the item's attribute and name
             String[] attributeAndName = getParts(itemAndOther[0], "=", 2, false);
 
@@ -463,8 +1254,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         // if no group name is specified)
                         response = getGroupInformation(attributeAndName[1],
                                                        applicationOnly,
-                                                       new CcddGroupHandler(ccddMain,
-                                                                            ccddMain.getMainFrame()));
+                                                       getGroupHandler());
                         break;
 
                     case "tables":
@@ -473,8 +1263,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         response = getGroupTables(attributeAndName[1],
                                                   applicationOnly,
                                                   true,
-                                                  new CcddGroupHandler(ccddMain,
-                                                                       ccddMain.getMainFrame()));
+                                                  getGroupHandler());
                         break;
 
                     case "description":
@@ -483,8 +1272,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         response = getGroupDescription(attributeAndName[1],
                                                        applicationOnly,
                                                        true,
-                                                       new CcddGroupHandler(ccddMain,
-                                                                            ccddMain.getMainFrame()));
+                                                       getGroupHandler());
                         break;
 
                     case "fields":
@@ -493,15 +1281,13 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         response = getGroupFields(attributeAndName[1],
                                                   applicationOnly,
                                                   true,
-                                                  new CcddGroupHandler(ccddMain,
-                                                                       ccddMain.getMainFrame()));
+                                                  getGroupHandler());
                         break;
 
                     case "names":
                         // Get all group names
                         response = getGroupNames(applicationOnly,
-                                                 new CcddGroupHandler(ccddMain,
-                                                                      ccddMain.getMainFrame()));
+                                                 getGroupHandler());
                         break;
 
                     default:
@@ -584,6 +1370,12 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 // Get the project information (name, description, etc.)
                 response = getProjectInformation();
             }
+            // Check if this is a batch request
+            else if (component.equals("batch"))
+            {
+                // Get the responses to the individual requests
+                response = getBatchResults(item);
+            }
             // Check if this is a web server shutdown request
             else if (component.equals("shutdown"))
             {
@@ -626,16 +1418,260 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             CcddUtilities.displayException(e, ccddMain.getMainFrame());
         }
 
-        // Check if a response to the request was made
-        if (response != null)
+        return response;
+    }
+
+    /**************************************************************************
+     * Process the individual requests in a batch request and return the
+     * combined results. The requests are evaluated against a single
+     * consistent snapshot of the database, and share the tables, links, and
+     * groups loaded while processing them. The item is in the form
+     * [component]?[attribute][=name]\n[component]?[attribute][=name]\n...
+     * where \n is a line feed (encoded in the query as %0A)
+     * 
+     * @param item
+     *            individual requests, separated by line feeds
+     * 
+     * @return JSON array containing the results of the individual requests,
+     *         in the order requested. Each member contains the request
+     *         component and item, the request's result (null if the request
+     *         failed), and the cursor for obtaining the request's remaining
+     *         rows (if any)
+     * 
+     * @throws CCDDException
+     *             If an individual request's component is missing or can't be
+     *             included in a batch request
+     *************************************************************************/
+    @SuppressWarnings("unchecked")
+    private JSONArray getBatchResults(String item) throws CCDDException
+    {
+        JSONArray responseJA = new JSONArray();
+        List<String[]> requests = new ArrayList<String[]>();
+
+        // Step through each individual request
+        for (String request : item.split("\n"))
         {
-            // Remove the extraneous escape (\) characters that the JSON
-            // encoder inserts into the string
-            response = response.replaceAll("\\\\\\\\",
-                                           "\\\\").replaceAll("\\\\/", "/");
+            // Check if the request isn't blank
+            if (!request.trim().isEmpty())
+            {
+                // Separate the request's component from its item
+                String[] componentAndItem = getParts(request, "?", 2, false);
+
+                // Check if the component is missing
+                if (componentAndItem[0].isEmpty())
+                {
+                    throw new CCDDException("batch request component missing");
+                }
+
+                // Check if the component can't be included in a batch request
+                if (NON_BATCH_COMPONENTS.contains(componentAndItem[0]))
+                {
+                    throw new CCDDException("request component '"
+                                            + componentAndItem[0]
+                                            + "' not allowed in a batch request");
+                }
+
+                requests.add(componentAndItem);
+            }
         }
 
-        return response;
+        CcddDbCommandHandler dbCommand = ccddMain.getDbCommandHandler();
+
+        // Read from a consistent snapshot of the database, if possible, so
+        // that the requests see the same data
+        boolean isSnapshot = dbCommand.beginSnapshot();
+
+        try
+        {
+            // Check if the snapshot is established
+            if (isSnapshot)
+            {
+                // Reload the project-level data fields from the snapshot so
+                // that these are consistent with the tables. The project's
+                // field handler isn't shared while reading from a snapshot
+                setFieldHandler(dbTable.getProjectFieldHandler(ccddMain.getMainFrame()));
+            }
+
+            // Step through each individual request
+            for (String[] request : requests)
+            {
+                // Establish a save point so that a database error in this
+                // request doesn't cause the subsequent requests to fail
+                Savepoint savePoint = dbCommand.setSnapshotSavePoint();
+
+                // Process the request
+                Object result = getQueryResults(request[0], request[1]);
+
+                // Check if the result is a table list that loads each table
+                // as it's output
+                if (result instanceof StreamedJSONArray)
+                {
+                    StreamedJSONArray streamedJA = (StreamedJSONArray) result;
+                    JSONArray resultJA = new JSONArray();
+
+                    // Load the tables now, while the snapshot is in effect
+                    for (int index = 0; index < streamedJA.size(); index++)
+                    {
+                        // Check if the members are created in batches
+                        if (streamedJA.isBatched())
+                        {
+                            resultJA.addAll((List<?>) streamedJA.getMember(index));
+                        }
+                        // The members are created one at a time
+                        else
+                        {
+                            resultJA.add(streamedJA.getMember(index));
+                        }
+                    }
+
+                    result = resultJA;
+                }
+
+                // Check if a database command failed while processing the
+                // request. The snapshot is rolled back to the save point
+                if (dbCommand.endSnapshotSavePoint(savePoint))
+                {
+                    // The result may be incomplete, so indicate that the
+                    // request failed
+                    result = null;
+                    nextCursor = null;
+                }
+
+                // Store the request and its result
+                JSONObject requestJO = new JSONObject();
+                requestJO.put("Component", request[0]);
+                requestJO.put("Item", request[1]);
+                requestJO.put("Response", result);
+
+                // Check if rows remain beyond those in the result
+                if (nextCursor != null)
+                {
+                    // Store the cursor with which the requester obtains the
+                    // remaining rows
+                    requestJO.put("Next Cursor", nextCursor);
+                }
+
+                responseJA.add(requestJO);
+            }
+        }
+        finally
+        {
+            // Check if the snapshot was established
+            if (isSnapshot)
+            {
+                // Release the snapshot
+                dbCommand.endSnapshot();
+            }
+
+            // The cursor for each request is returned with its result
+            nextCursor = null;
+        }
+
+        return responseJA;
+    }
+
+    /**************************************************************************
+     * Get the group handler used by the request. The handler shared by the
+     * requests is used if the group definitions are unchanged since it was
+     * built; otherwise it's rebuilt. If changes to the database can't be
+     * detected then a handler is created for the request
+     * 
+     * @return Group handler
+     *************************************************************************/
+    private CcddGroupHandler getGroupHandler()
+    {
+        // Check if the request's group handler hasn't been obtained
+        if (groupHandler == null)
+        {
+            CcddTableCacheHandler tableCache = ccddMain.getTableCacheHandler();
+
+            // Check if changes to the group definitions can't be detected
+            if (!tableCache.isEnabled())
+            {
+                // Create a group handler for the request
+                groupHandler = new CcddGroupHandler(ccddMain, ccddMain.getMainFrame());
+            }
+            // Changes to the group definitions are detected
+            else
+            {
+                synchronized (serverHandler)
+                {
+                    // Get the generation prior to loading the groups so that a
+                    // change made while loading is detected
+                    long generation = tableCache.getGeneration(InternalTable.GROUPS);
+
+                    // Check if the shared group handler doesn't exist or the
+                    // group definitions changed since it was built
+                    if (serverHandler.sharedGroupHandler == null
+                        || serverHandler.sharedGroupGeneration != generation)
+                    {
+                        // Build the shared group handler
+                        serverHandler.sharedGroupHandler = new CcddGroupHandler(ccddMain,
+                                                                                ccddMain.getMainFrame());
+                        serverHandler.sharedGroupGeneration = generation;
+                    }
+
+                    groupHandler = serverHandler.sharedGroupHandler;
+                }
+            }
+        }
+
+        return groupHandler;
+    }
+
+    /**************************************************************************
+     * Get the link handler used by the request. The handler shared by the
+     * requests is used if the link definitions and the structure layout are
+     * unchanged since it was built; otherwise it's rebuilt. If changes to the
+     * database can't be detected then a handler is created for the request
+     * 
+     * @return Link handler
+     *************************************************************************/
+    private CcddLinkHandler getLinkHandler()
+    {
+        // Check if the request's link handler hasn't been obtained
+        if (linkHandler == null)
+        {
+            CcddTableCacheHandler tableCache = ccddMain.getTableCacheHandler();
+
+            // Check if changes to the link definitions can't be detected
+            if (!tableCache.isEnabled())
+            {
+                // Create a link handler for the request
+                linkHandler = new CcddLinkHandler(ccddMain, ccddMain.getMainFrame());
+            }
+            // Changes to the link definitions are detected
+            else
+            {
+                synchronized (serverHandler)
+                {
+                    // Get the generation prior to loading the links so that a
+                    // change made while loading is detected. The structure
+                    // layout is rebuilt only if the structures, data types,
+                    // or macros changed
+                    long generation = tableCache.getGeneration(InternalTable.LINKS);
+                    StructureLayout layout = ccddMain.getStructureLayoutHandler().getLayout();
+
+                    // Check if the shared link handler doesn't exist, or the
+                    // link definitions or structure layout changed since it
+                    // was built
+                    if (serverHandler.sharedLinkHandler == null
+                        || serverHandler.sharedLinkGeneration != generation
+                        || serverHandler.sharedLinkLayout != layout)
+                    {
+                        // Build the shared link handler
+                        serverHandler.sharedLinkHandler = new CcddLinkHandler(ccddMain,
+                                                                              ccddMain.getMainFrame());
+                        serverHandler.sharedLinkGeneration = generation;
+                        serverHandler.sharedLinkLayout = layout;
+                    }
+
+                    linkHandler = serverHandler.sharedLinkHandler;
+                }
+            }
+        }
+
+        return linkHandler;
     }
 
     /**************************************************************************
@@ -679,14 +1715,14 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            tables. The column names must be comma-separated (if more
      *            than one) and are case sensitive
      * 
-     * @return JSON encoded string containing the search results. An empty
+     * @return JSON encoded value containing the search results. An empty
      *         string if no matches are found, and null if the search
      *         parameters are missing or invalid
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getSearchResults(String searchCriteria)
+    private Object getSearchResults(String searchCriteria)
     {
-        String response = null;
+        Object response = null;
 
         // Separate the search criteria string into the search text, ignore
         // case flag, allow regular expression, search data table cells only
@@ -783,7 +1819,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 searchJA.add(searchJO);
             }
 
-            response = searchJA.toString();
+            response = searchJA;
         }
 
         return response;
@@ -793,10 +1829,10 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * Get the active project's information (name, description, lock status,
      * and user)
      * 
-     * @return JSON encoded string containing active project's information
+     * @return JSON encoded value containing active project's information
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getProjectInformation()
+    private Object getProjectInformation()
     {
         String user = "";
         JSONObject projectJO = new JSONObject();
@@ -826,7 +1862,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         projectJO.put("Server", dbControl.getHost());
         projectJO.put("Port", dbControl.getPort());
 
-        return projectJO.toString();
+        return projectJO;
     }
 
     /**************************************************************************
@@ -868,54 +1904,56 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            character(s), show/hide data types flag ('true' or 'false'),
      *            and data type/variable name separator character(s)
      * 
-     * @return JSON encoded string containing the specified table cell data;
+     * @return JSON encoded value containing the specified table cell data;
      *         null if a table name is specified and the table doesn't exist or
      *         if no data tables exist in the project database, or blank if the
      *         specified table has no data or none of the tables have data.
      *         Empty cells are included
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTableData(String tableName,
+    private Object getTableData(String tableName,
                                 boolean getDescription,
                                 String[] separators) throws CCDDException
     {
-        String response = null;
+        Object response = null;
 
         // Check if no table name is specified
         if (tableName.isEmpty())
         {
             // Get the list of all data table names
-            List<String> tableNameList = getTableList();
+            List<String> allTableNameList = getTableList();
 
             // Check that at least one table exists in the project database
-            if (!tableNameList.isEmpty())
+            if (!allTableNameList.isEmpty())
             {
-                JSONArray responseJA = new JSONArray();
-                JSONParser parser = new JSONParser();
-                response = "";
+                // Get the names of the tables in the requested range
+                final List<String> tableNameList = getTablePage(allTableNameList);
 
-                // Step through each table name
-                for (String name : tableNameList)
+                // Create the response array. Each table's data is loaded as
+                // the array is written to the requester so that only one
+                // table's data is held in memory at a time
+                response = new StreamedJSONArray()
                 {
-                    try
+                    /**********************************************************
+                     * Get the number of tables in the response
+                     *********************************************************/
+                    @Override
+                    protected int size()
                     {
-                        // Get the data for this table as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getTableData(name,
-                                                                 true,
-                                                                 separators)));
+                        return tableNameList.size();
                     }
-                    catch (ParseException pe)
+
+                    /**********************************************************
+                     * Get the data for the table at the specified index
+                     *********************************************************/
+                    @Override
+                    protected Object getMember(int index) throws CCDDException
                     {
-                        throw new CCDDException("error parsing table data");
+                        return getTableData(tableNameList.get(index),
+                                            true,
+                                            separators);
                     }
-                }
-
-                // Convert the response array to a JSON string
-                response = responseJA.toString();
+                };
             }
         }
         // A table name is provided
@@ -923,13 +1961,14 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         {
             // Check if variable paths are to be included and the variable
             // handler hasn't been created already
-            if (isIncludePath && variableHandler == null)
+            if (isIncludePath)
             {
-                // Create the variable handler
-                variableHandler = new CcddVariableConversionHandler(ccddMain);
+                // Get the variable handler
+                variableHandler = getVariableHandler();
             }
 
-            // Get the table data
+            // Get the table data for the requested range of rows
+            jsonHandler.setTableDataFilter(rowOffset, rowLimit, columnNames);
             JSONObject tableNameAndData = jsonHandler.getTableData(tableName,
                                                                    getDescription,
                                                                    isReplaceMacro,
@@ -937,6 +1976,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                                                    variableHandler,
                                                                    separators,
                                                                    new JSONObject());
+            setRowCursor(jsonHandler.getTableRowCount());
 
             // Check if the table data loaded successfully
             if (tableNameAndData != null)
@@ -944,7 +1984,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 // Add the table name. If the table has no data then the table
                 // data shows empty
                 tableNameAndData.put(JSONTags.TABLE_NAME.getTag(), tableName);
-                response = tableNameAndData.toString();
+                response = tableNameAndData;
             }
         }
 
@@ -961,14 +2001,14 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            description for every data table with a description is
      *            returned
      * 
-     * @return JSON encoded string containing the specified table's
+     * @return JSON encoded value containing the specified table's
      *         description; null if the specified table doesn't exist or the
      *         project has no data tables
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTableDescription(String tableName)
+    private Object getTableDescription(String tableName)
     {
-        String response = null;
+        Object response = null;
 
         // Check if a table name is provided
         if (!tableName.isEmpty())
@@ -982,7 +2022,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 tableNameAndDesc.put(JSONTags.TABLE_DESCRIPTION.getTag(),
                                      dbTable.queryTableDescription(tableName,
                                                                    ccddMain.getMainFrame()));
-                response = tableNameAndDesc.toString();
+                response = tableNameAndDesc;
             }
         }
         // No table is specified; i.e., get the descriptions for all tables
@@ -1028,7 +2068,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                     responseJA.add(tableNameAndDesc);
                 }
 
-                response = responseJA.toString();
+                response = responseJA;
             }
         }
 
@@ -1048,15 +2088,15 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            true to check if the specified table exists in the project
      *            database
      * 
-     * @return JSON encoded string containing the specified table's data
+     * @return JSON encoded value containing the specified table's data
      *         fields; null if the table doesn't exist or if the project
      *         database contains no data tables
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTableFields(String tableName,
+    private Object getTableFields(String tableName,
                                   boolean checkExists) throws CCDDException
     {
-        String response = null;
+        Object response = null;
 
         // Check if no table name is provided (i.e., get all tables' fields)
         if (tableName.isEmpty())
@@ -1080,30 +2120,28 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                     }
                 }
 
-                JSONArray responseJA = new JSONArray();
-                JSONParser parser = new JSONParser();
-                response = "";
-
-                // Step through the list of tables with data fields
-                for (String name : tableNames)
+                // Create the response array. Each table's fields are
+                // retrieved as the array is written to the requester
+                response = new StreamedJSONArray()
                 {
-                    try
+                    /**********************************************************
+                     * Get the number of tables with data fields
+                     *********************************************************/
+                    @Override
+                    protected int size()
                     {
-                        // Get the fields for this table as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getTableFields(name, false)));
+                        return tableNames.size();
                     }
-                    catch (ParseException pe)
+
+                    /**********************************************************
+                     * Get the data fields for the table at the specified index
+                     *********************************************************/
+                    @Override
+                    protected Object getMember(int index) throws CCDDException
                     {
-                        throw new CCDDException("error parsing table data fields");
+                        return getTableFields(tableNames.get(index), false);
                     }
-                }
-
-                // Add the table fields to the response
-                response = responseJA.toString();
+                };
             }
         }
         // A table name is provided. Check if the table existence should be
@@ -1117,7 +2155,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             tableNameAndFields = jsonHandler.getDataFields(tableName,
                                                            JSONTags.TABLE_FIELD.getTag(),
                                                            tableNameAndFields);
-            response = tableNameAndFields.toString();
+            response = tableNameAndFields;
         }
 
         return response;
@@ -1131,15 +2169,15 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            table type. The type is case insensitive. If blank then every
      *            data table and its type is returned
      * 
-     * @return JSON encoded string containing all table names of the specified
+     * @return JSON encoded value containing all table names of the specified
      *         table type; blank if the type is valid but no tables of the type
      *         exist, and null if the specified table type doesn't exist or if
      *         no data tables exist in the project database
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTableNames(String tableType)
+    private Object getTableNames(String tableType)
     {
-        String response = null;
+        Object response = null;
 
         // Get the list of table names and their associated table type
         ArrayListMultiple protoNamesAndTableTypes = new ArrayListMultiple();
@@ -1220,8 +2258,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 // used to prevent the extraneous brackets from enclosing the
                 // response
                 response = (isSingle)
-                                     ? responseJO.toString()
-                                     : responseJA.toString();
+                                     ? responseJO
+                                     : responseJA;
             }
         }
 
@@ -1235,15 +2273,15 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * @param tableName
      *            structure table name or path
      * 
-     * @return JSON encoded string containing the structure table name(s) and
+     * @return JSON encoded value containing the structure table name(s) and
      *         corresponding size(s) in bytes; null if a table name is
      *         specified and the table doesn't exist or isn't a structure, or
      *         if no structure tables exist in the project database
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getStructureSize(String tableName)
+    private Object getStructureSize(String tableName)
     {
-        String response = null;
+        Object response = null;
         JSONObject responseJO = null;
         JSONArray responseJA = new JSONArray();
 
@@ -1272,20 +2310,13 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 {
                     responseJO = new JSONObject();
 
-                    // Check if the link handler exists
-                    if (linkHandler == null)
-                    {
-                        // Create a link handler
-                        linkHandler = new CcddLinkHandler(ccddMain, ccddMain.getMainFrame());
-                    }
-
                     // Store the table name and its size in bytes
                     responseJO.put(JSONTags.TABLE_NAME.getTag(),
                                    (isSingle
                                             ? tableName
                                             : namesAndType[0]));
                     responseJO.put(JSONTags.TABLE_BYTE_SIZE.getTag(),
-                                   linkHandler.getDataTypeSizeInBytes(namesAndType[0]));
+                                   getLinkHandler().getDataTypeSizeInBytes(namesAndType[0]));
 
                     // Check if only one table is being processed
                     if (isSingle)
@@ -1310,8 +2341,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             // used to prevent the extraneous brackets from enclosing the
             // response
             response = (isSingle)
-                                 ? responseJO.toString()
-                                 : responseJA.toString();
+                                 ? responseJO
+                                 : responseJA;
         }
 
         return response;
@@ -1331,75 +2362,80 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            character(s), show/hide data types flag ('true' or 'false'),
      *            and data type/variable name separator character(s)
      * 
-     * @return JSON encoded string containing the specified table information;
+     * @return JSON encoded value containing the specified table information;
      *         null if a table name is specified and the table doesn't exist or
      *         if no data tables exist in the project database
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTableInformation(String tableName,
+    private Object getTableInformation(String tableName,
                                        String[] separators) throws CCDDException
     {
-        JSONArray responseJA = new JSONArray();
-        JSONParser parser = new JSONParser();
-        String response = null;
+        Object response = null;
 
         // Check if no table name is provided (i.e., get the information for
         // all tables)
         if (tableName.isEmpty())
         {
             // Get the list of all data table names
-            List<String> tableNameList = getTableList();
+            List<String> allTableNameList = getTableList();
 
             // Check that at least one table exists in the project database
-            if (!tableNameList.isEmpty())
+            if (!allTableNameList.isEmpty())
             {
-                response = "";
+                // Get the names of the tables in the requested range
+                final List<String> tableNameList = getTablePage(allTableNameList);
 
-                // Step through each table name
-                for (String name : tableNameList)
+                // Create the response array. Each table's information is
+                // loaded as the array is written to the requester so that
+                // only one table's information is held in memory at a time
+                response = new StreamedJSONArray()
                 {
-                    try
+                    /**********************************************************
+                     * Get the number of tables in the response
+                     *********************************************************/
+                    @Override
+                    protected int size()
                     {
-                        // Get the fields for this table as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getTableInformation(name,
-                                                                        separators)));
+                        return tableNameList.size();
                     }
-                    catch (ParseException pe)
+
+                    /**********************************************************
+                     * Get the information for the table at the specified index
+                     *********************************************************/
+                    @Override
+                    protected Object getMember(int index) throws CCDDException
                     {
-                        throw new CCDDException("error parsing table information");
+                        return getTableInformation(tableNameList.get(index),
+                                                   separators);
                     }
-                }
-
-                // Convert the response array to a JSON string
-                response = responseJA.toString();
+                };
             }
         }
         // A table name is provided
+        else
         {
             // Check if variable paths are to be included and the variable
             // handler hasn't been created already
-            if (isIncludePath && variableHandler == null)
+            if (isIncludePath)
             {
-                // Create the variable handler
-                variableHandler = new CcddVariableConversionHandler(ccddMain);
+                // Get the variable handler
+                variableHandler = getVariableHandler();
             }
 
-            // Get the tables information
+            // Get the tables information for the requested range of rows
+            jsonHandler.setTableDataFilter(rowOffset, rowLimit, columnNames);
             JSONObject tableInfoJO = jsonHandler.getTableInformation(tableName,
                                                                      isReplaceMacro,
                                                                      isIncludePath,
                                                                      variableHandler,
                                                                      separators);
+            setRowCursor(jsonHandler.getTableRowCount());
 
             // Check if the table loaded successfully
             if (tableInfoJO != null)
             {
                 // Add the table's information to the output
-                response = tableInfoJO.toString();
+                response = tableInfoJO;
             }
         }
 
@@ -1424,7 +2460,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * @param groupHandler
      *            group handler
      * 
-     * @return JSON encoded string containing the specified group's
+     * @return JSON encoded value containing the specified group's
      *         (application's) table members; null if the specified
      *         group/application doesn't exist or the project has no
      *         groups/applications, or blank if the specified group/application
@@ -1432,19 +2468,18 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         but none have a table member
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getGroupTables(String groupName,
+    private Object getGroupTables(String groupName,
                                   boolean applicationOnly,
                                   boolean includeNameTag,
                                   CcddGroupHandler groupHandler) throws CCDDException
     {
-        String response = null;
+        Object response = null;
 
         // Check if no group name is provided (i.e., get the fields for all
         // groups/applications)
         if (groupName.isEmpty())
         {
             JSONArray responseJA = new JSONArray();
-            JSONParser parser = new JSONParser();
 
             // Get an array containing all group/application names
             String[] groupNames = groupHandler.getGroupNames(applicationOnly);
@@ -1455,30 +2490,15 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 // Step through each group/application name
                 for (String name : groupNames)
                 {
-                    try
-                    {
-                        // Get the data for this group as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getGroupTables(name,
-                                                                   applicationOnly,
-                                                                   true,
-                                                                   groupHandler)));
-                    }
-                    catch (ParseException pe)
-                    {
-                        throw new CCDDException("error parsing "
-                                                + (applicationOnly
-                                                                  ? "application"
-                                                                  : "group")
-                                                + " tables");
-                    }
+                    // Add the tables for this group to the response array
+                    responseJA.add(getGroupTables(name,
+                                                  applicationOnly,
+                                                  true,
+                                                  groupHandler));
                 }
 
-                // Convert the response array to a JSON string
-                response = responseJA.toString();
+                // Store the response array
+                response = responseJA;
             }
         }
         // A group name is provided
@@ -1526,13 +2546,13 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                                           ? JSONTags.APPLICATION_TABLE.getTag()
                                                           : JSONTags.GROUP_TABLE.getTag()),
                                           dataJA);
-                    response = groupNameAndTable.toString();
+                    response = groupNameAndTable;
                 }
                 // Don't include the name and table tags
                 else
                 {
                     // Add the tables to the output
-                    response = dataJA.toString();
+                    response = dataJA;
                 }
             }
         }
@@ -1555,7 +2575,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * @param groupHandler
      *            group handler
      * 
-     * @return JSON encoded string containing the specified group's
+     * @return JSON encoded value containing the specified group's
      *         (application's) description; null if the specified
      *         group/application doesn't exist or the project has no
      *         groups/applications, or blank if the specified group/application
@@ -1563,12 +2583,12 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *         but none have a description
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getGroupDescription(String groupName,
+    private Object getGroupDescription(String groupName,
                                        boolean applicationOnly,
                                        boolean includeNameTag,
                                        CcddGroupHandler groupHandler) throws CCDDException
     {
-        String response = null;
+        Object response = null;
 
         // Check if no group name is provided (i.e., get the fields for all
         // groups/applications)
@@ -1581,36 +2601,20 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             if (groupNames.length != 0)
             {
                 JSONArray responseJA = new JSONArray();
-                JSONParser parser = new JSONParser();
                 response = "";
 
                 // Step through each group/application name
                 for (String name : groupNames)
                 {
-                    try
-                    {
-                        // Get the description for this group as a JSON string,
-                        // then format it as a JSON object so that is can be
-                        // added to the response array. This is needed to get
-                        // the brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getGroupDescription(name,
-                                                                        applicationOnly,
-                                                                        true,
-                                                                        groupHandler)));
-                    }
-                    catch (ParseException pe)
-                    {
-                        throw new CCDDException("error parsing "
-                                                + (applicationOnly
-                                                                  ? "application"
-                                                                  : "group")
-                                                + " description");
-                    }
+                    // Add the description for this group to the response array
+                    responseJA.add(getGroupDescription(name,
+                                                       applicationOnly,
+                                                       true,
+                                                       groupHandler));
                 }
 
-                // Convert the response array to a JSON string
-                response = responseJA.toString();
+                // Store the response array
+                response = responseJA;
             }
         }
         // A group name is provided
@@ -1640,7 +2644,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                                          ? JSONTags.APPLICATION_DESCRIPTION.getTag()
                                                          : JSONTags.GROUP_DESCRIPTION.getTag()),
                                          response);
-                    response = groupNameAndDesc.toString();
+                    response = groupNameAndDesc;
                 }
                 // Don't include the name and description tags
                 else
@@ -1675,18 +2679,18 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * @param groupHandler
      *            group handler
      * 
-     * @return JSON encoded string containing the specified group's data
+     * @return JSON encoded value containing the specified group's data
      *         fields; null if the group doesn't exist or if the project
      *         database contains no groups, or blank if the group contains no
      *         data fields
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getGroupFields(String groupName,
+    private Object getGroupFields(String groupName,
                                   boolean applicationOnly,
                                   boolean includeNameTag,
                                   CcddGroupHandler groupHandler) throws CCDDException
     {
-        String response = null;
+        Object response = null;
 
         // Check if no group name is provided (i.e., get the fields for all
         // groups/applications)
@@ -1699,35 +2703,19 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             if (groupNames.length != 0)
             {
                 JSONArray responseJA = new JSONArray();
-                JSONParser parser = new JSONParser();
 
                 // Step through each group/application name
                 for (String name : groupNames)
                 {
-                    try
-                    {
-                        // Get the fields for this group as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getGroupFields(name,
-                                                                   applicationOnly,
-                                                                   true,
-                                                                   groupHandler)));
-                    }
-                    catch (ParseException pe)
-                    {
-                        throw new CCDDException("error parsing "
-                                                + (applicationOnly
-                                                                  ? "application"
-                                                                  : "group")
-                                                + " data fields");
-                    }
+                    // Add the data fields for this group to the response array
+                    responseJA.add(getGroupFields(name,
+                                                  applicationOnly,
+                                                  true,
+                                                  groupHandler));
                 }
 
                 // Add the table fields to the response
-                response = responseJA.toString();
+                response = responseJA;
             }
         }
         // A group name is provided
@@ -1745,11 +2733,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             {
                 JSONArray groupFieldsJA = new JSONArray();
 
-                // Build the field information list for this group
-                fieldHandler.buildFieldInformation(CcddFieldHandler.getFieldGroupName(groupName));
-
                 // Check if the group has any fields
-                if (!fieldHandler.getFieldInformation().isEmpty())
+                if (!fieldHandler.getFieldInformationFromDefinitions(CcddFieldHandler.getFieldGroupName(groupName)).isEmpty())
                 {
                     // Get the group data fields (extract the data field array
                     // from the table field tag)
@@ -1772,13 +2757,13 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                                            ? JSONTags.APPLICATION_FIELD.getTag()
                                                            : JSONTags.GROUP_FIELD.getTag()),
                                            groupFieldsJA);
-                    response = groupNameAndFields.toString();
+                    response = groupNameAndFields;
                 }
                 // Don't include the name and field tags
                 else
                 {
                     // Add the data fields to the output
-                    response = groupFieldsJA.toString();
+                    response = groupFieldsJA;
                 }
             }
         }
@@ -1796,14 +2781,14 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * @param groupHandler
      *            group handler
      * 
-     * @return JSON encoded string containing the all group/application names;
+     * @return JSON encoded value containing the all group/application names;
      *         null if no groups/applications exist in the project database
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getGroupNames(boolean applicationOnly,
+    private Object getGroupNames(boolean applicationOnly,
                                  CcddGroupHandler groupHandler)
     {
-        String response = null;
+        Object response = null;
 
         // Get an array containing all group/application names
         String[] groupNames = groupHandler.getGroupNames(applicationOnly);
@@ -1827,7 +2812,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                            ? JSONTags.APPLICATION_NAMES.getTag()
                                            : JSONTags.GROUP_NAMES.getTag()),
                            namesJA);
-            response = responseJO.toString();
+            response = responseJO;
         }
 
         return response;
@@ -1848,19 +2833,18 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      * @param groupHandler
      *            group handler
      * 
-     * @return JSON encoded string containing the specified group/application
+     * @return JSON encoded value containing the specified group/application
      *         information; null if a group name is specified and the
      *         group/application doesn't exist or if no groups/applications
      *         exist in the project database
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getGroupInformation(String groupName,
+    private Object getGroupInformation(String groupName,
                                        boolean applicationOnly,
                                        CcddGroupHandler groupHandler) throws CCDDException
     {
         JSONArray responseJA = new JSONArray();
-        JSONParser parser = new JSONParser();
-        String response = null;
+        Object response = null;
         String groupType;
         String nameTag;
         String descriptionTag;
@@ -1901,27 +2885,14 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 // Step though each group/application
                 for (String name : groupNames)
                 {
-                    try
-                    {
-                        // Get the fields for this group as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getGroupInformation(name,
-                                                                        applicationOnly,
-                                                                        groupHandler)));
-                    }
-                    catch (ParseException pe)
-                    {
-                        throw new CCDDException("error parsing "
-                                                + groupType
-                                                + " information");
-                    }
+                    // Add the information for this group to the response array
+                    responseJA.add(getGroupInformation(name,
+                                                       applicationOnly,
+                                                       groupHandler));
                 }
 
-                // Convert the response array to a JSON string
-                response = responseJA.toString();
+                // Store the response array
+                response = responseJA;
             }
         }
         // A group name is provided
@@ -1937,38 +2908,26 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 && (!applicationOnly
                 || groupInfo.isApplication()))
             {
-                try
-                {
-                    // Store the group's name, description, tables, and data
-                    // fields
-                    JSONObject groupInfoJO = new JSONObject();
-                    groupInfoJO.put(nameTag, groupName);
-                    groupInfoJO.put(descriptionTag,
-                                    getGroupDescription(groupName,
-                                                        applicationOnly,
-                                                        false,
-                                                        groupHandler));
-                    groupInfoJO.put(tableTag,
-                                    parser.parse(getGroupTables(groupName,
-                                                                applicationOnly,
-                                                                false,
-                                                                groupHandler)));
-                    groupInfoJO.put(dataFieldTag,
-                                    parser.parse(getGroupFields(groupName,
-                                                                applicationOnly,
-                                                                false,
-                                                                groupHandler)));
-
-                    // Convert the response object to a JSON string
-                    response = groupInfoJO.toString();
-                }
-                catch (ParseException pe)
-                {
-                    pe.printStackTrace();
-                    throw new CCDDException("error parsing "
-                                            + groupType
-                                            + " information");
-                }
+                // Store the group's name, description, tables, and data
+                // fields
+                JSONObject groupInfoJO = new JSONObject();
+                groupInfoJO.put(nameTag, groupName);
+                groupInfoJO.put(descriptionTag,
+                                getGroupDescription(groupName,
+                                                    applicationOnly,
+                                                    false,
+                                                    groupHandler));
+                groupInfoJO.put(tableTag,
+                                getGroupTables(groupName,
+                                               applicationOnly,
+                                               false,
+                                               groupHandler));
+                groupInfoJO.put(dataFieldTag,
+                                getGroupFields(groupName,
+                                               applicationOnly,
+                                               false,
+                                               groupHandler));
+                response = groupInfoJO;
             }
         }
 
@@ -1983,13 +2942,13 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            header size (in bytes), message ID name data field name, and
      *            the optimize result flag ('true' or 'false')
      * 
-     * @return JSON encoded string containing the specified copy table entries;
+     * @return JSON encoded value containing the specified copy table entries;
      *         null if the number of parameters or their formats are incorrect
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTelemetrySchedulerData(String parameters) throws CCDDException
+    private Object getTelemetrySchedulerData(String parameters) throws CCDDException
     {
-        String response = null;
+        Object response = null;
 
         // Separate the input parameters
         String[] parameter = getParts(parameters, ",", 4, true);
@@ -2062,7 +3021,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             copyJO.put(JSONTags.COPY_TABLE_OPTIMIZE.getTag(),
                        String.valueOf(optimize));
             copyJO.put(JSONTags.COPY_TABLE_DATA.getTag(), tableJA);
-            response = copyJO.toString();
+            response = copyJO;
         }
         // Invalid parameter format
         else
@@ -2076,12 +3035,12 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     /**************************************************************************
      * Get the application scheduler's schedule table entries
      * 
-     * @return JSON encoded string containing the scheduler entries; null if
+     * @return JSON encoded value containing the scheduler entries; null if
      *         the number of parameters or their formats are incorrect
      *************************************************************************/
-    private String getApplicationSchedulerData()
+    private Object getApplicationSchedulerData()
     {
-        String response = null;
+        Object response = null;
 
         // TODO Need to get the application scheduler working before
         // addressing this
@@ -2103,15 +3062,15 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            and data type/variable name separator character(s); blank to
      *            use the default separators
      * 
-     * @return JSON encoded string containing the variable names; blank if the
+     * @return JSON encoded value containing the variable names; blank if the
      *         project doesn't contain any variables and null if any input
      *         parameter is invalid
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getVariableNames(String variablePath,
+    private Object getVariableNames(String variablePath,
                                     String parameters) throws CCDDException
     {
-        String response = null;
+        Object response = null;
 
         // Parse the variable path separators
         String[] separators = getVariablePathSeparators(parameters);
@@ -2128,12 +3087,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             boolean hideDataTypes = Boolean.valueOf(separators[1]);
             String typeNameSeparator = separators[2];
 
-            // Check if the variable handler hasn't been created already
-            if (variableHandler == null)
-            {
-                // Create the variable handler
-                variableHandler = new CcddVariableConversionHandler(ccddMain);
-            }
+            // Get the variable handler
+            variableHandler = getVariableHandler();
 
             // Check if a variable path is specified
             if (!variablePath.isEmpty())
@@ -2162,7 +3117,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 }
             }
 
-            response = responseJO.toString();
+            response = responseJO;
         }
         // Illegal separator character(s) or invalid show/hide data type flag
         // value
@@ -2190,31 +3145,19 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            order to be included; blank to include the variable
      *            regardless of the rate value
      * 
-     * @return JSON encoded string containing the path, data type, bit length,
+     * @return JSON encoded value containing the path, data type, bit length,
      *         description, units, data stream name(s), and enumeration(s) for
      *         each telemetered variable matching the specified filters; empty
      *         array if no variables are telemetered
      *************************************************************************/
     @SuppressWarnings("unchecked")
-    private String getTelemetryInformation(String telemetryFilter) throws CCDDException
+    private Object getTelemetryInformation(String telemetryFilter) throws CCDDException
     {
-        JSONArray telemetryJA = new JSONArray();
-        TypeDefinition typeDefn = null;
         String groupFilter = "";
         String streamFilter = "";
         String rateFilter = "";
-        int variableNameIndex = -1;
-        int dataTypeIndex = -1;
-        int bitLengthIndex = -1;
-        List<Integer> rateIndices = null;
-        List<Integer> enumerationIndices = null;
-        int descriptionIndex = -1;
-        int unitsIndex = -1;
         List<String> allTableNameList = new ArrayList<String>();
 
-        // Table type name for the previous table type loaded
-        String lastType = "";
-
         // Get the array of data stream names
         String[] dataStreamNames = rateHandler.getDataStreamNames();
 
@@ -2241,11 +3184,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 // Check if a group name filter is specified
                 if (!groupFilter.isEmpty())
                 {
-                    // Create a group handler and extract the table names
-                    // belonging to the group
-                    CcddGroupHandler groupHandler = new CcddGroupHandler(ccddMain,
-                                                                         ccddMain.getMainFrame());
-                    GroupInformation groupInfo = groupHandler.getGroupInformationByName(groupFilter);
+                    // Extract the table names belonging to the group
+                    GroupInformation groupInfo = getGroupHandler().getGroupInformationByName(groupFilter);
 
                     // Check if the group doesn't exist
                     if (groupInfo == null)
@@ -2272,17 +3212,200 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             allTableNameList = getTableList();
         }
 
-        // Step through each structure table
-        for (String table : allTableNameList)
+        Object response;
+        final List<String> tableNameList = allTableNameList;
+        final String streamName = streamFilter;
+        final String rateValue = rateFilter;
+
+        // Check if the number of variables returned is limited
+        if (rowLimit != -1)
+        {
+            JSONArray telemetryJA = new JSONArray();
+
+            // Number of variables matching the filters found so far
+            int numVariables = 0;
+
+            // Step through the structure tables, a batch at a time, stopping
+            // if the requested number of variables is reached
+            for (int batch = 0; batch < getNumTableBatches(tableNameList) && nextCursor == null; batch++)
+            {
+                // Step through each variable in the batch of tables that
+                // matches the filters
+                for (Object variable : getTelemetryVariables(getTableBatch(tableNameList,
+                                                                           batch),
+                                                             streamName,
+                                                             rateValue))
+                {
+                    // Check if the variable is in the requested range
+                    if (numVariables >= rowOffset)
+                    {
+                        // Check if the requested number of variables has been
+                        // reached
+                        if (telemetryJA.size() == rowLimit)
+                        {
+                            // Set the cursor to this variable, which is the
+                            // first of the next range
+                            nextCursor = String.valueOf(numVariables);
+                            break;
+                        }
+
+                        // Add the variable to the JSON array
+                        telemetryJA.add(variable);
+                    }
+
+                    numVariables++;
+                }
+            }
+
+            response = telemetryJA;
+        }
+        // All variables from the requested offset onward are returned
+        else
         {
-            // Get the information from the database for the specified table
-            TableInformation tableInfo = dbTable.loadTableData(table,
-                                                               false,
-                                                               false,
-                                                               false,
-                                                               false,
-                                                               ccddMain.getMainFrame());
+            // Create the response array. The variables are obtained a batch
+            // of tables at a time as the array is written to the requester so
+            // that only one batch of tables is held in memory at a time
+            response = new StreamedJSONArray()
+            {
+                // Number of variables matching the filters found so far
+                private int numVariables = 0;
+
+                /**************************************************************
+                 * Get the number of batches of tables in the response
+                 *************************************************************/
+                @Override
+                protected int size()
+                {
+                    return getNumTableBatches(tableNameList);
+                }
+
+                /**************************************************************
+                 * Indicate that the variables are created in batches
+                 *************************************************************/
+                @Override
+                protected boolean isBatched()
+                {
+                    return true;
+                }
+
+                /**************************************************************
+                 * Get the variables in the requested range for the batch of
+                 * tables at the specified index
+                 *************************************************************/
+                @Override
+                protected Object getMember(int index)
+                {
+                    JSONArray variablesJA = new JSONArray();
+
+                    // Step through each variable in the batch of tables that
+                    // matches the filters
+                    for (Object variable : getTelemetryVariables(getTableBatch(tableNameList,
+                                                                               index),
+                                                                 streamName,
+                                                                 rateValue))
+                    {
+                        // Check if the variable is in the requested range
+                        if (numVariables >= rowOffset)
+                        {
+                            // Add the variable to the JSON array
+                            variablesJA.add(variable);
+                        }
+
+                        numVariables++;
+                    }
+
+                    return variablesJA;
+                }
+            };
+        }
+
+        return response;
+    }
+
+    /**************************************************************************
+     * Get the number of batches in which the specified tables are loaded
+     * 
+     * @param tableNameList
+     *            list of table names
+     * 
+     * @return Number of batches in which the tables are loaded
+     *************************************************************************/
+    private int getNumTableBatches(List<String> tableNameList)
+    {
+        return (tableNameList.size() + TABLE_BATCH_SIZE - 1) / TABLE_BATCH_SIZE;
+    }
+
+    /**************************************************************************
+     * Get the specified batch of tables to load
+     * 
+     * @param tableNameList
+     *            list of table names
+     * 
+     * @param batch
+     *            index of the batch
+     * 
+     * @return List of the names of the tables in the batch
+     *************************************************************************/
+    private List<String> getTableBatch(List<String> tableNameList, int batch)
+    {
+        return tableNameList.subList(batch * TABLE_BATCH_SIZE,
+                                     Math.min((batch + 1) * TABLE_BATCH_SIZE,
+                                              tableNameList.size()));
+    }
+
+    /**************************************************************************
+     * Get the path, data type, bit length, description, units, data stream
+     * information, and enumeration information for each telemetered variable
+     * in the specified tables matching the specified filters
+     * 
+     * @param tableNameList
+     *            list of the names of the tables from which to get the
+     *            variables
+     * 
+     * @param streamFilter
+     *            data stream name for which a variable must have a rate
+     *            assigned in order to be included; blank to include all data
+     *            streams
+     * 
+     * @param rateFilter
+     *            rate value a variable's rate must match in order to be
+     *            included; blank to include the variable regardless of the
+     *            rate value
+     * 
+     * @return JSON array containing the information for each telemetered
+     *         variable in the tables matching the filters
+     *************************************************************************/
+    @SuppressWarnings("unchecked")
+    private JSONArray getTelemetryVariables(List<String> tableNameList,
+                                            String streamFilter,
+                                            String rateFilter)
+    {
+        JSONArray telemetryJA = new JSONArray();
+        TypeDefinition typeDefn = null;
+        int variableNameIndex = -1;
+        int dataTypeIndex = -1;
+        int bitLengthIndex = -1;
+        List<Integer> rateIndices = null;
+        List<Integer> enumerationIndices = null;
+        int descriptionIndex = -1;
+        int unitsIndex = -1;
+
+        // Table type name for the previous table type loaded
+        String lastType = "";
 
+        // Get the information from the database for the tables
+        List<TableInformation> tableInfoList = dbTable.loadTableData(tableNameList,
+                                                                     null,
+                                                                     false,
+                                                                     false,
+                                                                     false,
+                                                                     ccddMain.getMainFrame());
+
+        // Step through each structure table
+        for (int index = 0; index < tableNameList.size(); index++)
+        {
+            String table = tableNameList.get(index);
+            TableInformation tableInfo = tableInfoList.get(index);
             // Check if the table loaded successfully
             if (!tableInfo.isErrorFlag())
             {
@@ -2455,6 +3578,18 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                                     cellValue);
                                 }
 
+                                // Step through each of the variable's column
+                                // names
+                                for (Iterator<?> iterator = structureJO.keySet().iterator(); iterator.hasNext();)
+                                {
+                                    // Check if the column isn't requested
+                                    if (!jsonHandler.isColumnIncluded(iterator.next().toString()))
+                                    {
+                                        // Remove the column
+                                        iterator.remove();
+                                    }
+                                }
+
                                 // Add the variable to the JSON array
                                 telemetryJA.add(structureJO);
                             }
@@ -2464,7 +3599,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             }
         }
 
-        return telemetryJA.toString();
+        return telemetryJA;
     }
 
     /**************************************************************************
@@ -2476,31 +3611,18 @@ public class CcddWebDataAccessHandler extends AbstractHandler
      *            returned; blank to get all telemetered variables (regardless
      *            of group)
      * 
-     * @return JSON encoded string containing information for each command
+     * @return JSON encoded value containing information for each command
      *         matching the specified filters
      *************************************************************************/
-    @SuppressWarnings("unchecked")
-    private String getCommandInformation(String groupFilter) throws CCDDException
+    private Object getCommandInformation(String groupFilter) throws CCDDException
     {
-        JSONArray commandsJA = new JSONArray();
-        TypeDefinition typeDefn = null;
-        int commandNameIndex = -1;
-        int commandCodeIndex = -1;
-        int commandDescriptionIndex = -1;
-        List<AssociatedColumns> commandArguments = null;
         List<String> groupTables = null;
 
-        // Table type name for the previous table type loaded
-        String lastType = "";
-
         // Check if a group name filter is specified
         if (!groupFilter.isEmpty())
         {
-            // Create a group handler and extract the table names belonging to
-            // the group
-            CcddGroupHandler groupHandler = new CcddGroupHandler(ccddMain,
-                                                                 ccddMain.getMainFrame());
-            GroupInformation groupInfo = groupHandler.getGroupInformationByName(groupFilter);
+            // Extract the table names belonging to the group
+            GroupInformation groupInfo = getGroupHandler().getGroupInformationByName(groupFilter);
 
             // Check if the group doesn't exist
             if (groupInfo == null)
@@ -2512,6 +3634,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             groupTables = groupInfo.getTablesAndAncestors();
         }
 
+        final List<String> commandTables = new ArrayList<String>();
+
         // Step through each command table
         for (String commandTable : dbTable.getPrototypeTablesOfType(TYPE_COMMAND))
         {
@@ -2521,229 +3645,291 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             if (groupFilter.isEmpty()
                 || groupTables.contains(commandTable))
             {
-                // Get the information from the database for the specified
-                // table
-                TableInformation tableInfo = dbTable.loadTableData(commandTable,
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   ccddMain.getMainFrame());
-
-                // Check if the table loaded successfully
-                if (!tableInfo.isErrorFlag())
-                {
-                    // Check if the table type changed. This accounts for
-                    // multiple table types that represent commands, and
-                    // prevents reloading the table type information for every
-                    // table
-                    if (!tableInfo.getType().equals(lastType))
-                    {
-                        String descColName;
-                        commandDescriptionIndex = -1;
+                // Add the table to the list of those to load
+                commandTables.add(commandTable);
+            }
+        }
 
-                        // Store the table type name
-                        lastType = tableInfo.getType();
+        // Create the response array. The commands are obtained a batch of
+        // tables at a time as the array is written to the requester so that
+        // only one batch of tables is held in memory at a time
+        return new StreamedJSONArray()
+        {
+            /******************************************************************
+             * Get the number of batches of command tables in the response
+             *****************************************************************/
+            @Override
+            protected int size()
+            {
+                return getNumTableBatches(commandTables);
+            }
 
-                        // Get the table's type definition
-                        typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+            /******************************************************************
+             * Indicate that the commands are created in batches
+             *****************************************************************/
+            @Override
+            protected boolean isBatched()
+            {
+                return true;
+            }
 
-                        // Get the command name column
-                        commandNameIndex = typeDefn.getColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_NAME));
+            /******************************************************************
+             * Get the commands in the batch of command tables at the
+             * specified index
+             *****************************************************************/
+            @Override
+            protected Object getMember(int index)
+            {
+                return getCommands(getTableBatch(commandTables, index));
+            }
+        };
+    }
 
-                        // Get the command name column
-                        commandCodeIndex = typeDefn.getColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_CODE));
+    /**************************************************************************
+     * Get the information for each command in the specified command tables
+     * 
+     * @param commandTables
+     *            list of the names of the command tables from which to get
+     *            the commands
+     * 
+     * @return JSON array containing the information for each command in the
+     *         command tables
+     *************************************************************************/
+    @SuppressWarnings("unchecked")
+    private JSONArray getCommands(List<String> commandTables)
+    {
+        JSONArray commandsJA = new JSONArray();
+        TypeDefinition typeDefn = null;
+        int commandNameIndex = -1;
+        int commandCodeIndex = -1;
+        int commandDescriptionIndex = -1;
+        List<AssociatedColumns> commandArguments = null;
 
-                        // Check if a command description column exists
-                        if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
-                        {
-                            // Get the command description column
-                            commandDescriptionIndex = typeDefn.getColumnIndexByUserName(descColName);
-                        }
+        // Table type name for the previous table type loaded
+        String lastType = "";
 
-                        // Get the list containing command argument column
-                        // indices for each argument grouping
-                        commandArguments = typeDefn.getAssociatedCommandColumns(false);
-                    }
+        // Step through the information from the database for each of the
+        // command tables
+        for (TableInformation tableInfo : dbTable.loadTableData(commandTables,
+                                                                null,
+                                                                false,
+                                                                false,
+                                                                false,
+                                                                ccddMain.getMainFrame()))
+        {
+            // Check if the table loaded successfully
+            if (!tableInfo.isErrorFlag())
+            {
+                // Check if the table type changed. This accounts for
+                // multiple table types that represent commands, and
+                // prevents reloading the table type information for every
+                // table
+                if (!tableInfo.getType().equals(lastType))
+                {
+                    String descColName;
+                    commandDescriptionIndex = -1;
 
-                    // Check if the macro names should be replaced with the
-                    // corresponding macro values
-                    if (!isReplaceMacro)
+                    // Store the table type name
+                    lastType = tableInfo.getType();
+
+                    // Get the table's type definition
+                    typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+
+                    // Get the command name column
+                    commandNameIndex = typeDefn.getColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_NAME));
+
+                    // Get the command name column
+                    commandCodeIndex = typeDefn.getColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_CODE));
+
+                    // Check if a command description column exists
+                    if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
                     {
-                        // Replace all macros in the table
-                        tableInfo.setData(ccddMain.getMacroHandler().replaceAllMacros(tableInfo.getData()));
+                        // Get the command description column
+                        commandDescriptionIndex = typeDefn.getColumnIndexByUserName(descColName);
                     }
 
-                    // Step through each command in the command table
-                    for (int row = 0; row < tableInfo.getData().length; row++)
+                    // Get the list containing command argument column
+                    // indices for each argument grouping
+                    commandArguments = typeDefn.getAssociatedCommandColumns(false);
+                }
+
+                // Check if the macro names should be replaced with the
+                // corresponding macro values
+                if (!isReplaceMacro)
+                {
+                    // Replace all macros in the table
+                    tableInfo.setData(ccddMain.getMacroHandler().replaceAllMacros(tableInfo.getData()));
+                }
+
+                // Step through each command in the command table
+                for (int row = 0; row < tableInfo.getData().length; row++)
+                {
+                    JSONObject commandJO = new JSONObject();
+                    String cellValue;
+
+                    // Check if the command name is present. If not then
+                    // all the command data on this row is skipped
+                    if (!(cellValue = tableInfo.getData()[row][commandNameIndex]).isEmpty())
                     {
-                        JSONObject commandJO = new JSONObject();
-                        String cellValue;
+                        JSONArray commandArgumentsJA = new JSONArray();
 
-                        // Check if the command name is present. If not then
-                        // all the command data on this row is skipped
-                        if (!(cellValue = tableInfo.getData()[row][commandNameIndex]).isEmpty())
-                        {
-                            JSONArray commandArgumentsJA = new JSONArray();
+                        // Store the name of the command table from which
+                        // this command is taken
+                        commandJO.put("Command Table Name", tableInfo.getTablePath());
 
-                            // Store the name of the command table from which
-                            // this command is taken
-                            commandJO.put("Command Table Name", commandTable);
+                        // Store the command name in the JSON output
+                        commandJO.put(typeDefn.getColumnNamesUser()[commandNameIndex],
+                                      cellValue);
 
-                            // Store the command name in the JSON output
-                            commandJO.put(typeDefn.getColumnNamesUser()[commandNameIndex],
+                        // Check if the command code is present
+                        if (!(cellValue = tableInfo.getData()[row][commandCodeIndex]).isEmpty())
+                        {
+                            // Store the command code in the JSON output
+                            commandJO.put(typeDefn.getColumnNamesUser()[commandCodeIndex],
                                           cellValue);
+                        }
 
-                            // Check if the command code is present
-                            if (!(cellValue = tableInfo.getData()[row][commandCodeIndex]).isEmpty())
-                            {
-                                // Store the command code in the JSON output
-                                commandJO.put(typeDefn.getColumnNamesUser()[commandCodeIndex],
-                                              cellValue);
-                            }
+                        // Check if the command description is present
+                        if (commandDescriptionIndex != -1
+                            && !(cellValue = tableInfo.getData()[row][commandDescriptionIndex]).isEmpty())
+                        {
+                            // Store the command description in the JSON
+                            // output
+                            commandJO.put(typeDefn.getColumnNamesUser()[commandDescriptionIndex],
+                                          cellValue);
+                        }
 
-                            // Check if the command description is present
-                            if (commandDescriptionIndex != -1
-                                && !(cellValue = tableInfo.getData()[row][commandDescriptionIndex]).isEmpty())
-                            {
-                                // Store the command description in the JSON
-                                // output
-                                commandJO.put(typeDefn.getColumnNamesUser()[commandDescriptionIndex],
-                                              cellValue);
-                            }
+                        // Step through each command argument associated
+                        // with the current command row
+                        for (AssociatedColumns cmdArgument : commandArguments)
+                        {
+                            JSONObject commandArgumentJO = new JSONObject();
 
-                            // Step through each command argument associated
-                            // with the current command row
-                            for (AssociatedColumns cmdArgument : commandArguments)
+                            // Check if the command argument name column
+                            // has a value. If not, all associated argument
+                            // values are skipped
+                            if (!(cellValue = tableInfo.getData()[row][cmdArgument.getName()]).isEmpty())
                             {
-                                JSONObject commandArgumentJO = new JSONObject();
-
-                                // Check if the command argument name column
-                                // has a value. If not, all associated argument
-                                // values are skipped
-                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getName()]).isEmpty())
+                                // Store the command argument name in the
+                                // JSON output
+                                commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getName()],
+                                                      cellValue);
+
+                                // Check if the command argument data type
+                                // column has a value
+                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getDataType()]).isEmpty())
                                 {
-                                    // Store the command argument name in the
-                                    // JSON output
-                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getName()],
+                                    // Store the data type in the JSON
+                                    // output
+                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getDataType()],
                                                           cellValue);
+                                }
 
-                                    // Check if the command argument data type
-                                    // column has a value
-                                    if (!(cellValue = tableInfo.getData()[row][cmdArgument.getDataType()]).isEmpty())
-                                    {
-                                        // Store the data type in the JSON
-                                        // output
-                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getDataType()],
-                                                              cellValue);
-                                    }
+                                // Check if the command argument
+                                // enumeration column has a value
+                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getEnumeration()]).isEmpty())
+                                {
+                                    // Store the enumeration in the JSON
+                                    // output
+                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getEnumeration()],
+                                                          cellValue);
+                                }
 
-                                    // Check if the command argument
-                                    // enumeration column has a value
-                                    if (!(cellValue = tableInfo.getData()[row][cmdArgument.getEnumeration()]).isEmpty())
-                                    {
-                                        // Store the enumeration in the JSON
-                                        // output
-                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getEnumeration()],
-                                                              cellValue);
-                                    }
+                                // Check if the command argument minimum
+                                // column has a value
+                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getMinimum()]).isEmpty())
+                                {
+                                    // Store the minimum value in the JSON
+                                    // output
+                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getMinimum()],
+                                                          cellValue);
+                                }
 
-                                    // Check if the command argument minimum
-                                    // column has a value
-                                    if (!(cellValue = tableInfo.getData()[row][cmdArgument.getMinimum()]).isEmpty())
-                                    {
-                                        // Store the minimum value in the JSON
-                                        // output
-                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getMinimum()],
-                                                              cellValue);
-                                    }
+                                // Check if the command argument maximum
+                                // column has a value
+                                if (!(cellValue = tableInfo.getData()[row][cmdArgument.getMaximum()]).isEmpty())
+                                {
+                                    // Store the maximum value in the JSON
+                                    // output
+                                    commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getMaximum()],
+                                                          cellValue);
+                                }
 
-                                    // Check if the command argument maximum
-                                    // column has a value
-                                    if (!(cellValue = tableInfo.getData()[row][cmdArgument.getMaximum()]).isEmpty())
+                                // Step through any other columns
+                                // associated with this command argument
+                                for (int otherArg : cmdArgument.getOther())
+                                {
+                                    // Check if the other argument column
+                                    // has a value
+                                    if (!(cellValue = tableInfo.getData()[row][otherArg]).isEmpty())
                                     {
-                                        // Store the maximum value in the JSON
+                                        // Store the value in the JSON
                                         // output
-                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[cmdArgument.getMaximum()],
+                                        commandArgumentJO.put(typeDefn.getColumnNamesUser()[otherArg],
                                                               cellValue);
                                     }
-
-                                    // Step through any other columns
-                                    // associated with this command argument
-                                    for (int otherArg : cmdArgument.getOther())
-                                    {
-                                        // Check if the other argument column
-                                        // has a value
-                                        if (!(cellValue = tableInfo.getData()[row][otherArg]).isEmpty())
-                                        {
-                                            // Store the value in the JSON
-                                            // output
-                                            commandArgumentJO.put(typeDefn.getColumnNamesUser()[otherArg],
-                                                                  cellValue);
-                                        }
-                                    }
                                 }
-
-                                // Store the command arguments in the JSON
-                                // array
-                                commandArgumentsJA.add(commandArgumentJO);
                             }
 
-                            // Check if the command has an argument
-                            if (!commandArgumentsJA.isEmpty())
-                            {
-                                // Store the command arguments in the JSON
-                                // output
-                                commandJO.put("Arguments", commandArgumentsJA);
-                            }
+                            // Store the command arguments in the JSON
+                            // array
+                            commandArgumentsJA.add(commandArgumentJO);
                         }
 
-                        // Add the command to the JSON array
-                        commandsJA.add(commandJO);
+                        // Check if the command has an argument
+                        if (!commandArgumentsJA.isEmpty())
+                        {
+                            // Store the command arguments in the JSON
+                            // output
+                            commandJO.put("Arguments", commandArgumentsJA);
+                        }
                     }
+
+                    // Add the command to the JSON array
+                    commandsJA.add(commandJO);
                 }
             }
         }
 
-        return commandsJA.toString();
+        return commandsJA;
     }
 
     /**************************************************************************
      * Get the table type definitions
      * 
-     * @return JSON encoded string containing the table type definitions; an
+     * @return JSON encoded value containing the table type definitions; an
      *         empty list if no table type definition exists
      *************************************************************************/
-    private String getTableTypeDefinitions()
+    private Object getTableTypeDefinitions()
     {
         // Add the table type definitions to the output
         return jsonHandler.getTableTypeDefinitions(null,
-                                                   new JSONObject()).toJSONString();
+                                                   new JSONObject());
     }
 
     /**************************************************************************
      * Get the data type definitions
      * 
-     * @return JSON encoded string containing the data type definitions; an
+     * @return JSON encoded value containing the data type definitions; an
      *         empty list if no data type definition exists
      *************************************************************************/
-    private String getDataTypeDefinitions()
+    private Object getDataTypeDefinitions()
     {
         // Add the data type definitions to the output
         return jsonHandler.getDataTypeDefinitions(null,
-                                                  new JSONObject()).toJSONString();
+                                                  new JSONObject());
     }
 
     /**************************************************************************
      * Get the macro definitions
      * 
-     * @return JSON encoded string containing the macro definitions; an empty
+     * @return JSON encoded value containing the macro definitions; an empty
      *         list if no macro definition exists
      *************************************************************************/
-    private String getMacroDefinitions()
+    private Object getMacroDefinitions()
     {
         // Add the macro definitions to the output
         return jsonHandler.getMacroDefinitions(null,
-                                               new JSONObject()).toJSONString();
+                                               new JSONObject());
     }
 }
@@ -0,0 +1,609 @@
+/**
+ * CFS Command & Data Dictionary web change feed handler. Copyright 2017 United
+ * States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.json.simple.JSONObject;
+
+import CCDD.CcddTableCacheHandler.ChangeObserver;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary web change feed handler class. Answers
+ * requests for the change feed by holding the connection open and streaming
+ * an event (in server-sent events format) for each change committed to the
+ * project database, whether by this application or another client. All other
+ * requests are passed to the wrapped handler. The event types are:
+ * table_modified (the table's contents changed), table_renamed, table_deleted,
+ * [internal table]_modified (e.g., macros_modified, data_types_modified,
+ * links_modified), and resync (changes may have been missed, so any
+ * information obtained previously should be reloaded)
+ *****************************************************************************/
+public class CcddWebEventHandler extends HandlerWrapper implements ChangeObserver
+{
+    // Class reference
+    private final CcddMain ccddMain;
+
+    // Request path for the change feed
+    private static final String EVENTS_TARGET = "/events";
+
+    // Maximum number of change feed subscribers. Subscription requests
+    // received while at the limit are rejected
+    private static final int MAX_SUBSCRIBERS = 100;
+
+    // Time, in milliseconds, between the keep-alive messages sent to the
+    // subscribers. These prevent idle connections from being closed and
+    // detect subscribers that have disconnected
+    private static final long KEEP_ALIVE_INTERVAL = 15000L;
+
+    // Maximum number of messages waiting to be sent to a subscriber. A
+    // subscriber that falls this far behind is removed
+    private static final int MAX_QUEUED_MESSAGES = 100;
+
+    // Time, in milliseconds, the subscriber waits before reconnecting if the
+    // connection is lost
+    private static final long RECONNECT_DELAY = 5000L;
+
+    // Change feed subscribers
+    private final List<Subscriber> subscribers;
+
+    // Number of the most recent event. A subscriber reconnecting with an
+    // older event identifier is sent a resync event since it may have missed
+    // changes
+    private long lastEventID;
+
+    // Prefix for the event identifiers. This differs for each application
+    // session, so that a subscriber reconnecting with an identifier from a
+    // previous session is sent a resync event even if the event numbers
+    // coincide
+    private final String eventIDPrefix;
+
+    // Thread that queues the events and keep-alive messages for the
+    // subscribers so that the database change listener and the web server
+    // threads aren't blocked; null if the web server isn't running
+    private ScheduledExecutorService eventExecutor;
+
+    /**************************************************************************
+     * Change feed subscriber class. The messages for the subscriber are queued
+     * and written as the connection accepts them, so that a slow subscriber
+     * doesn't delay the others
+     *************************************************************************/
+    private class Subscriber implements AsyncListener, WriteListener
+    {
+        private final AsyncContext asyncContext;
+        private final Request baseRequest;
+        private final ServletOutputStream output;
+
+        // Messages waiting to be written to the subscriber
+        private final Queue<byte[]> messages;
+
+        // Flag indicating if messages were written since the output was last
+        // flushed
+        private boolean isFlushNeeded;
+
+        // Flag indicating if a write is waiting for the connection to become
+        // ready
+        private boolean isWritePending;
+
+        /**********************************************************************
+         * Change feed subscriber class constructor
+         *
+         * @param asyncContext
+         *            asynchronous context holding the subscriber's connection
+         *            open
+         *
+         * @param baseRequest
+         *            subscription request
+         *
+         * @throws IOException
+         *             If the response output stream can't be obtained
+         *********************************************************************/
+        private Subscriber(AsyncContext asyncContext,
+                           Request baseRequest) throws IOException
+        {
+            this.asyncContext = asyncContext;
+            this.baseRequest = baseRequest;
+            messages = new ArrayDeque<byte[]>();
+            isFlushNeeded = false;
+            isWritePending = false;
+            output = asyncContext.getResponse().getOutputStream();
+
+            // Write to the subscriber without blocking
+            output.setWriteListener(this);
+        }
+
+        /**********************************************************************
+         * Queue a message to send to the subscriber. The subscriber is removed
+         * if it has fallen too far behind in receiving the messages; on
+         * reconnecting it's informed that it may have missed changes
+         *
+         * @param message
+         *            message text, in server-sent events format
+         *********************************************************************/
+        private void send(String message)
+        {
+            boolean isFull;
+
+            synchronized (this)
+            {
+                isFull = messages.size() >= MAX_QUEUED_MESSAGES;
+
+                // Check if the queue has room for the message
+                if (!isFull)
+                {
+                    messages.add(message.getBytes(StandardCharsets.UTF_8));
+                    writeMessages();
+                }
+            }
+
+            // Check if the subscriber isn't keeping up with the messages
+            if (isFull)
+            {
+                close();
+            }
+        }
+
+        /**********************************************************************
+         * Write the queued messages to the subscriber while the connection
+         * accepts them without blocking. The writing resumes when the
+         * connection is ready for more. The caller must hold the subscriber's
+         * lock
+         *********************************************************************/
+        private void writeMessages()
+        {
+            try
+            {
+                isWritePending = true;
+
+                // Continue to write while the connection is ready
+                while (output.isReady())
+                {
+                    byte[] message = messages.poll();
+
+                    // Check if all of the queued messages are written
+                    if (message == null)
+                    {
+                        // Check if the written messages haven't been flushed
+                        if (isFlushNeeded)
+                        {
+                            // Send the written messages to the subscriber
+                            isFlushNeeded = false;
+                            output.flush();
+                            continue;
+                        }
+
+                        isWritePending = false;
+                        break;
+                    }
+
+                    output.write(message);
+                    isFlushNeeded = true;
+                }
+            }
+            catch (IOException | IllegalStateException e)
+            {
+                // The subscriber disconnected; stop sending it events
+                messages.clear();
+                close();
+            }
+        }
+
+        /**********************************************************************
+         * Resume writing the queued messages when the connection is ready
+         *********************************************************************/
+        @Override
+        public synchronized void onWritePossible()
+        {
+            writeMessages();
+        }
+
+        /**********************************************************************
+         * Remove the subscriber if writing to its connection fails
+         *********************************************************************/
+        @Override
+        public void onError(Throwable error)
+        {
+            close();
+        }
+
+        /**********************************************************************
+         * Remove the subscriber and end its response
+         *********************************************************************/
+        private void close()
+        {
+            // Check if the subscriber hasn't already been removed
+            if (subscribers.remove(this))
+            {
+                boolean isStalled;
+
+                synchronized (this)
+                {
+                    isStalled = isWritePending;
+                }
+
+                // Check if a write to the subscriber is waiting for the
+                // connection to become ready
+                if (isStalled)
+                {
+                    // The response can't be ended while the write is waiting,
+                    // so close the connection instead
+                    baseRequest.getHttpChannel().abort();
+                }
+                // No write is waiting
+                else
+                {
+                    try
+                    {
+                        asyncContext.complete();
+                    }
+                    catch (IllegalStateException ise)
+                    {
+                        // Ignore the error; the response is already complete
+                    }
+                }
+            }
+        }
+
+        /**********************************************************************
+         * Remove the subscriber when its response completes
+         *********************************************************************/
+        @Override
+        public void onComplete(AsyncEvent event)
+        {
+            subscribers.remove(this);
+        }
+
+        /**********************************************************************
+         * Remove the subscriber if its response times out
+         *********************************************************************/
+        @Override
+        public void onTimeout(AsyncEvent event)
+        {
+            close();
+        }
+
+        /**********************************************************************
+         * Remove the subscriber if its connection fails
+         *********************************************************************/
+        @Override
+        public void onError(AsyncEvent event)
+        {
+            close();
+        }
+
+        /**********************************************************************
+         * Not used
+         *********************************************************************/
+        @Override
+        public void onStartAsync(AsyncEvent event)
+        {
+        }
+    }
+
+    /**************************************************************************
+     * Web change feed handler class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *************************************************************************/
+    CcddWebEventHandler(CcddMain ccddMain)
+    {
+        this.ccddMain = ccddMain;
+        subscribers = new CopyOnWriteArrayList<Subscriber>();
+        lastEventID = 0;
+        eventIDPrefix = Long.toHexString(System.currentTimeMillis()) + "-";
+        eventExecutor = null;
+    }
+
+    /**************************************************************************
+     * Start the event thread and begin observing database changes when the
+     * web server starts
+     *************************************************************************/
+    @Override
+    protected void doStart() throws Exception
+    {
+        eventExecutor = new ScheduledThreadPoolExecutor(1);
+
+        // Send a keep-alive message to the subscribers periodically
+        eventExecutor.scheduleWithFixedDelay(new Runnable()
+        {
+            /******************************************************************
+             * Send the keep-alive message
+             *****************************************************************/
+            @Override
+            public void run()
+            {
+                sendToSubscribers(": keep-alive\n\n");
+            }
+        },
+                                             KEEP_ALIVE_INTERVAL,
+                                             KEEP_ALIVE_INTERVAL,
+                                             TimeUnit.MILLISECONDS);
+
+        // Observe the database changes. The change listener is required while
+        // the server runs, even if the table cache is disabled
+        ccddMain.getTableCacheHandler().addChangeObserver(this, true);
+        super.doStart();
+    }
+
+    /**************************************************************************
+     * Stop observing database changes, end the subscribers' responses, and
+     * stop the event thread when the web server stops
+     *************************************************************************/
+    @Override
+    protected void doStop() throws Exception
+    {
+        ccddMain.getTableCacheHandler().removeChangeObserver(this);
+
+        // Check if the event thread exists
+        if (eventExecutor != null)
+        {
+            eventExecutor.shutdownNow();
+            eventExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            eventExecutor = null;
+        }
+
+        // Step through each subscriber
+        for (Subscriber subscriber : subscribers)
+        {
+            // End the subscriber's response
+            subscriber.close();
+        }
+
+        super.doStop();
+    }
+
+    /**************************************************************************
+     * Handle a web-based request. A change feed request is held open to
+     * receive the events; all other requests are passed to the wrapped handler
+     *************************************************************************/
+    @Override
+    public void handle(String target,
+                       Request baseRequest,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException,
+                                                     ServletException
+    {
+        // Check if this isn't a change feed request
+        if (!target.equals(EVENTS_TARGET))
+        {
+            // Pass the request to the wrapped handler
+            super.handle(target, baseRequest, request, response);
+        }
+        // Check if the subscriber limit is reached or the server is stopping
+        else if (subscribers.size() >= MAX_SUBSCRIBERS || eventExecutor == null)
+        {
+            baseRequest.setHandled(true);
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+        // The request is a subscription to the change feed
+        else
+        {
+            baseRequest.setHandled(true);
+
+            // Set the response headers for the event stream
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType("text/event-stream");
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader("Cache-Control", "no-cache");
+
+            // Hold the connection open for the events. The subscription
+            // doesn't time out; disconnected subscribers are detected by the
+            // keep-alive messages
+            AsyncContext asyncContext = request.startAsync();
+            asyncContext.setTimeout(0);
+            final Subscriber subscriber = new Subscriber(asyncContext,
+                                                         baseRequest);
+            asyncContext.addListener(subscriber);
+
+            // Get the identifier of the last event the subscriber received
+            // before reconnecting, if any
+            String lastID = request.getHeader("Last-Event-ID");
+
+            try
+            {
+                // Commit the response headers and the reconnection delay, and
+                // add the subscriber once this is sent so that the event
+                // thread is the only one sending to the subscribers
+                eventExecutor.execute(new Runnable()
+                {
+                    /**********************************************************
+                     * Send the response headers and add the subscriber
+                     *********************************************************/
+                    @Override
+                    public void run()
+                    {
+                        subscribers.add(subscriber);
+                        subscriber.send("retry: " + RECONNECT_DELAY + "\n\n");
+
+                        // Check if the subscriber is reconnecting and events
+                        // were sent since it last received one
+                        if (lastID != null && !lastID.equals(getLastEventID()))
+                        {
+                            // Inform the subscriber that it may have missed
+                            // changes
+                            subscriber.send(buildMessage(getLastEventID(),
+                                                         "resync",
+                                                         null));
+                        }
+                    }
+                });
+            }
+            catch (RejectedExecutionException ree)
+            {
+                // The server is stopping
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                asyncContext.complete();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Send an event to the subscribers for a database change notification
+     *
+     * @param change
+     *            notification payload
+     *************************************************************************/
+    @Override
+    public void databaseChanged(final String change)
+    {
+        ScheduledExecutorService executor = eventExecutor;
+
+        // Check if the web server is running
+        if (executor != null)
+        {
+            try
+            {
+                // Send the event using the event thread
+                executor.execute(new Runnable()
+                {
+                    /**********************************************************
+                     * Send the event to the subscribers
+                     *********************************************************/
+                    @Override
+                    public void run()
+                    {
+                        sendEvent(change);
+                    }
+                });
+            }
+            catch (RejectedExecutionException ree)
+            {
+                // The server is stopping; the event is discarded
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Convert a database change notification to an event and send it to the
+     * subscribers. This is called only by the event thread
+     *
+     * @param change
+     *            notification payload
+     *************************************************************************/
+    @SuppressWarnings("unchecked")
+    private void sendEvent(String change)
+    {
+        String eventType;
+        JSONObject eventJO = new JSONObject();
+        String[] parts = change.split(CcddTableCacheHandler.CHANGE_SEPARATOR);
+
+        // Check if changes may have been missed
+        if (change.equals(CcddTableCacheHandler.ALL_TABLES_CHANGED))
+        {
+            eventType = "resync";
+        }
+        // Check if a table was renamed
+        else if (parts[0].equals(CcddTableCacheHandler.TABLE_RENAMED)
+                 && parts.length == 3)
+        {
+            eventType = "table_renamed";
+            eventJO.put("Old Name", parts[1]);
+            eventJO.put("New Name", parts[2]);
+        }
+        // Check if a table was deleted
+        else if (parts[0].equals(CcddTableCacheHandler.TABLE_DELETED)
+                 && parts.length == 2)
+        {
+            eventType = "table_deleted";
+            eventJO.put("Table Name", parts[1]);
+        }
+        // Check if an internal table changed
+        else if (change.startsWith(INTERNAL_TABLE_PREFIX))
+        {
+            eventType = change.substring(INTERNAL_TABLE_PREFIX.length())
+                        + "_modified";
+        }
+        // A data table's contents changed
+        else
+        {
+            eventType = "table_modified";
+            eventJO.put("Table Name", change);
+        }
+
+        lastEventID++;
+
+        // Send the event to the subscribers
+        sendToSubscribers(buildMessage(getLastEventID(), eventType, eventJO));
+    }
+
+    /**************************************************************************
+     * Get the identifier of the most recent event. This is called only by the
+     * event thread
+     *
+     * @return Identifier of the most recent event
+     *************************************************************************/
+    private String getLastEventID()
+    {
+        return eventIDPrefix + lastEventID;
+    }
+
+    /**************************************************************************
+     * Build an event message in server-sent events format
+     *
+     * @param eventID
+     *            event identifier
+     *
+     * @param eventType
+     *            event type
+     *
+     * @param eventJO
+     *            event information; null if the event has no information
+     *
+     * @return Event message
+     *************************************************************************/
+    private String buildMessage(String eventID, String eventType, JSONObject eventJO)
+    {
+        return "id: "
+               + eventID
+               + "\nevent: "
+               + eventType
+               + "\ndata: "
+               + (eventJO == null
+                                  ? "{}"
+                                  : eventJO.toJSONString())
+               + "\n\n";
+    }
+
+    /**************************************************************************
+     * Send a message to every subscriber. This is called only by the event
+     * thread
+     *
+     * @param message
+     *            message text, in server-sent events format
+     *************************************************************************/
+    private void sendToSubscribers(String message)
+    {
+        // Step through each subscriber
+        for (Subscriber subscriber : subscribers)
+        {
+            subscriber.send(message);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+/**
+ * CFS Command & Data Dictionary web metrics handler. Copyright 2017 United
+ * States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary web metrics handler class. Records the number
+ * of requests, failed requests, database commands, and response bytes, and
+ * the distribution of the response times, for each request component handled
+ * by the wrapped handler. The metrics are returned in the Prometheus text
+ * exposition format in response to a metrics request
+ *****************************************************************************/
+public class CcddWebMetricsHandler extends HandlerWrapper
+{
+    // Request path for the metrics
+    private static final String METRICS_TARGET = "/metrics";
+
+    // Name of the request attribute in which the wrapped handler stores the
+    // number of database commands executed to answer the request
+    protected static final String COMMAND_COUNT_ATTRIBUTE = "CCDD.commandCount";
+
+    // Upper bounds, in seconds, of the response time histogram buckets. The
+    // response time percentiles are estimated from the bucket counts
+    private static final double[] DURATION_BUCKETS = {0.005,
+                                                      0.01,
+                                                      0.025,
+                                                      0.05,
+                                                      0.1,
+                                                      0.25,
+                                                      0.5,
+                                                      1.0,
+                                                      2.5,
+                                                      5.0,
+                                                      10.0,
+                                                      30.0};
+
+    // Maximum number of components for which metrics are recorded separately.
+    // Requests for unrecognized components beyond this are combined so that
+    // invalid requests can't grow the metrics without bound
+    private static final int MAX_COMPONENTS = 50;
+
+    // Component name under which the combined metrics are recorded
+    private static final String OTHER_COMPONENT = "other";
+
+    // Metrics for each request component, sorted by component name
+    private final Map<String, ComponentMetrics> metrics;
+
+    /**************************************************************************
+     * Request component metrics class
+     *************************************************************************/
+    private static class ComponentMetrics
+    {
+        private long numRequests;
+        private long numErrors;
+        private long numCommands;
+        private long numBytes;
+        private double totalDuration;
+        private final long[] bucketCounts;
+
+        /**********************************************************************
+         * Request component metrics class constructor
+         *********************************************************************/
+        private ComponentMetrics()
+        {
+            bucketCounts = new long[DURATION_BUCKETS.length];
+        }
+    }
+
+    /**************************************************************************
+     * Web metrics handler class constructor
+     *************************************************************************/
+    CcddWebMetricsHandler()
+    {
+        metrics = new TreeMap<String, ComponentMetrics>();
+    }
+
+    /**************************************************************************
+     * Handle a web-based request. A metrics request is answered with the
+     * recorded metrics; all other requests are passed to the wrapped handler
+     * and their metrics recorded once the response is complete
+     *************************************************************************/
+    @Override
+    public void handle(String target,
+                       final Request baseRequest,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException,
+                                                     ServletException
+    {
+        // Check if this is a metrics request
+        if (target.equals(METRICS_TARGET))
+        {
+            baseRequest.setHandled(true);
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType("text/plain; version=0.0.4");
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader("Cache-Control", "no-cache");
+            writeMetrics(response.getWriter());
+        }
+        // Not a metrics request
+        else
+        {
+            // Get the request component. The leading '/' is removed from the
+            // request path
+            final String component = target.replaceFirst("^/", "");
+            final long startTime = System.nanoTime();
+            boolean isFailed = true;
+
+            try
+            {
+                // Pass the request to the wrapped handler
+                super.handle(target, baseRequest, request, response);
+                isFailed = false;
+            }
+            finally
+            {
+                // Check if the request is being processed asynchronously
+                if (!isFailed && request.isAsyncStarted())
+                {
+                    // Record the metrics once the response is complete
+                    request.getAsyncContext().addListener(new AsyncListener()
+                    {
+                        /******************************************************
+                         * Record the metrics when the response completes
+                         *****************************************************/
+                        @Override
+                        public void onComplete(AsyncEvent event)
+                        {
+                            record(component, startTime, baseRequest, false);
+                        }
+
+                        /******************************************************
+                         * Not used; the response completes afterwards
+                         *****************************************************/
+                        @Override
+                        public void onTimeout(AsyncEvent event)
+                        {
+                        }
+
+                        /******************************************************
+                         * Not used; the response completes afterwards
+                         *****************************************************/
+                        @Override
+                        public void onError(AsyncEvent event)
+                        {
+                        }
+
+                        /******************************************************
+                         * Not used
+                         *****************************************************/
+                        @Override
+                        public void onStartAsync(AsyncEvent event)
+                        {
+                        }
+                    });
+                }
+                // The request is complete
+                else
+                {
+                    // Record the metrics
+                    record(component, startTime, baseRequest, isFailed);
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Record the metrics for a completed request
+     *
+     * @param component
+     *            request component
+     *
+     * @param startTime
+     *            time, in nanoseconds, at which the request was received
+     *
+     * @param baseRequest
+     *            request
+     *
+     * @param isFailed
+     *            true if the wrapped handler failed to process the request
+     *************************************************************************/
+    private void record(String component,
+                        long startTime,
+                        Request baseRequest,
+                        boolean isFailed)
+    {
+        double duration = (System.nanoTime() - startTime) / 1.0e9;
+        Object numCommands = baseRequest.getAttribute(COMMAND_COUNT_ATTRIBUTE);
+        long numBytes = baseRequest.getResponse().getHttpOutput().getWritten();
+
+        // Treat the request as failed if its status indicates an error
+        isFailed |= baseRequest.getResponse().getStatus() >= 400;
+
+        synchronized (metrics)
+        {
+            ComponentMetrics componentMetrics = metrics.get(component);
+
+            // Check if no metrics exist for the component
+            if (componentMetrics == null)
+            {
+                // Check if the limit on the number of components is reached
+                if (metrics.size() >= MAX_COMPONENTS)
+                {
+                    // Combine the component's metrics with those of the other
+                    // unrecognized components
+                    component = OTHER_COMPONENT;
+                    componentMetrics = metrics.get(component);
+                }
+
+                // Check if the component's metrics need to be created
+                if (componentMetrics == null)
+                {
+                    componentMetrics = new ComponentMetrics();
+                    metrics.put(component, componentMetrics);
+                }
+            }
+
+            componentMetrics.numRequests++;
+            componentMetrics.numBytes += numBytes;
+            componentMetrics.totalDuration += duration;
+
+            // Check if the request failed
+            if (isFailed)
+            {
+                componentMetrics.numErrors++;
+            }
+
+            // Check if the number of database commands was recorded
+            if (numCommands instanceof Long)
+            {
+                componentMetrics.numCommands += (Long) numCommands;
+            }
+
+            // Step through each response time bucket
+            for (int index = 0; index < DURATION_BUCKETS.length; index++)
+            {
+                // Check if the response time is within the bucket's bound
+                if (duration <= DURATION_BUCKETS[index])
+                {
+                    // Count the request in the bucket. The bucket counts are
+                    // cumulative when output
+                    componentMetrics.bucketCounts[index]++;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Write the recorded metrics in the Prometheus text exposition format
+     *
+     * @param writer
+     *            output stream to which the metrics are written
+     *************************************************************************/
+    private void writeMetrics(PrintWriter writer)
+    {
+        StringBuilder requests = new StringBuilder("# HELP ccdd_web_requests_total Number of web server requests\n"
+                                                   + "# TYPE ccdd_web_requests_total counter\n");
+        StringBuilder errors = new StringBuilder("# HELP ccdd_web_request_errors_total Number of failed web server requests\n"
+                                                 + "# TYPE ccdd_web_request_errors_total counter\n");
+        StringBuilder commands = new StringBuilder("# HELP ccdd_web_db_commands_total Number of database commands executed for web server requests\n"
+                                                   + "# TYPE ccdd_web_db_commands_total counter\n");
+        StringBuilder bytes = new StringBuilder("# HELP ccdd_web_response_bytes_total Number of web server response content bytes written\n"
+                                                + "# TYPE ccdd_web_response_bytes_total counter\n");
+        StringBuilder durations = new StringBuilder("# HELP ccdd_web_request_duration_seconds Web server request response time\n"
+                                                    + "# TYPE ccdd_web_request_duration_seconds histogram\n");
+
+        synchronized (metrics)
+        {
+            // Step through each component's metrics
+            for (Map.Entry<String, ComponentMetrics> entry : metrics.entrySet())
+            {
+                String label = "{component=\""
+                               + escapeLabel(entry.getKey())
+                               + "\"";
+                ComponentMetrics componentMetrics = entry.getValue();
+
+                requests.append("ccdd_web_requests_total")
+                        .append(label)
+                        .append("} ")
+                        .append(componentMetrics.numRequests)
+                        .append("\n");
+                errors.append("ccdd_web_request_errors_total")
+                      .append(label)
+                      .append("} ")
+                      .append(componentMetrics.numErrors)
+                      .append("\n");
+                commands.append("ccdd_web_db_commands_total")
+                        .append(label)
+                        .append("} ")
+                        .append(componentMetrics.numCommands)
+                        .append("\n");
+                bytes.append("ccdd_web_response_bytes_total")
+                     .append(label)
+                     .append("} ")
+                     .append(componentMetrics.numBytes)
+                     .append("\n");
+
+                long cumulativeCount = 0;
+
+                // Step through each response time bucket
+                for (int index = 0; index < DURATION_BUCKETS.length; index++)
+                {
+                    // Output the number of requests within the bucket's bound
+                    cumulativeCount += componentMetrics.bucketCounts[index];
+                    durations.append("ccdd_web_request_duration_seconds_bucket")
+                             .append(label)
+                             .append(",le=\"")
+                             .append(DURATION_BUCKETS[index])
+                             .append("\"} ")
+                             .append(cumulativeCount)
+                             .append("\n");
+                }
+
+                durations.append("ccdd_web_request_duration_seconds_bucket")
+                         .append(label)
+                         .append(",le=\"+Inf\"} ")
+                         .append(componentMetrics.numRequests)
+                         .append("\n")
+                         .append("ccdd_web_request_duration_seconds_sum")
+                         .append(label)
+                         .append("} ")
+                         .append(componentMetrics.totalDuration)
+                         .append("\n")
+                         .append("ccdd_web_request_duration_seconds_count")
+                         .append(label)
+                         .append("} ")
+                         .append(componentMetrics.numRequests)
+                         .append("\n");
+            }
+        }
+
+        writer.print(requests);
+        writer.print(errors);
+        writer.print(commands);
+        writer.print(bytes);
+        writer.print(durations);
+    }
+
+    /**************************************************************************
+     * Escape the characters in a label value that have special meaning in the
+     * Prometheus text exposition format
+     *
+     * @param value
+     *            label value
+     *
+     * @return Label value with any backslash, double quote, and line feed
+     *         characters escaped
+     *************************************************************************/
+    private static String escapeLabel(String value)
+    {
+        return value.replace("\\", "\\\\")
+                    .replace("\"", "\\\"")
+                    .replace("\n", "\\n");
+    }
+}
@@ -9,9 +9,16 @@ package CCDD;
 import static CCDD.CcddConstants.DEFAULT_WEB_SERVER_PORT;
 import static CCDD.CcddConstants.WEB_SERVER_PORT;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.eclipse.jetty.security.ConstraintMapping;
 import org.eclipse.jetty.security.ConstraintSecurityHandler;
@@ -40,10 +47,61 @@ public class CcddWebServer
     // Web server
     private Server server;
 
-    // Storage for a user+password combination authenticated by the PostgreSQL
-    // server for the current project database
-    private String validUser;
-    private String validPassword;
+    // Maximum number of users whose authenticated credentials are cached, and
+    // the time, in milliseconds, for which a user's credentials are cached
+    // before the PostgreSQL server must authenticate them again
+    private static final int MAX_CACHED_CREDENTIALS = 32;
+    private static final long CREDENTIAL_CACHE_TIME = 10 * 60 * 1000L;
+
+    // Number of random bytes used to salt a cached password hash
+    private static final int SALT_LENGTH = 16;
+
+    // Credentials authenticated by the PostgreSQL server, stored by user name
+    // in least recently used order
+    private final Map<String, CachedCredential> credentialCache;
+
+    // Random number generator for the password hash salts
+    private final SecureRandom saltGenerator;
+
+    /**************************************************************************
+     * Cached credential class. The password is stored as a salted hash so
+     * that it isn't retained as plain text
+     *************************************************************************/
+    private static class CachedCredential
+    {
+        private final String database;
+        private final byte[] salt;
+        private final byte[] passwordHash;
+        private final long expirationTime;
+
+        /**********************************************************************
+         * Cached credential class constructor
+         * 
+         * @param database
+         *            name of the database for which the credentials were
+         *            authenticated
+         * 
+         * @param salt
+         *            random bytes used to salt the password hash
+         * 
+         * @param passwordHash
+         *            salted hash of the password
+         * 
+         * @param expirationTime
+         *            system time, in milliseconds, after which the credentials
+         *            must be authenticated again
+         *********************************************************************/
+        private CachedCredential(String database,
+                                 byte[] salt,
+                                 byte[] passwordHash,
+                                 long expirationTime)
+        {
+            this.database = database;
+            this.salt = salt;
+            this.passwordHash = passwordHash;
+            this.expirationTime = expirationTime;
+        }
+    }
 
     /**************************************************************************
      * Web server class constructor
@@ -51,14 +109,29 @@ public class CcddWebServer
      * @param ccddMain
      *            main class
      *************************************************************************/
+    @SuppressWarnings("serial")
     protected CcddWebServer(CcddMain ccddMain)
     {
         this.ccddMain = ccddMain;
         this.eventLog = ccddMain.getSessionEventLog();
         this.dbControl = ccddMain.getDbControlHandler();
 
-        validUser = null;
-        validPassword = null;
+        saltGenerator = new SecureRandom();
+
+        // Create the credential cache storage. The least recently used
+        // credentials are removed when the maximum number of cached users is
+        // exceeded
+        credentialCache = new LinkedHashMap<String, CachedCredential>(16, 0.75f, true)
+        {
+            /******************************************************************
+             * Remove the least recently used credentials if the cache is full
+             *****************************************************************/
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCredential> eldest)
+            {
+                return size() > MAX_CACHED_CREDENTIALS;
+            }
+        };
 
         // Set the web server log so that it outputs to the event log file
         org.eclipse.jetty.util.log.Log.setLog(new ServerLogging());
@@ -77,6 +150,151 @@ public class CcddWebServer
         return accessHandler;
     }
 
+    /**************************************************************************
+     * Check if the supplied user+password combination has been authenticated
+     * for the current project database and the authentication hasn't expired
+     * 
+     * @param user
+     *            user name
+     * 
+     * @param password
+     *            user password
+     * 
+     * @return true if the credentials match those cached for the user
+     *************************************************************************/
+    private boolean isCredentialCached(String user, String password)
+    {
+        boolean isCached = false;
+
+        synchronized (credentialCache)
+        {
+            CachedCredential credential = credentialCache.get(user);
+
+            // Check if the user's credentials are cached
+            if (credential != null)
+            {
+                // Check if the credentials are for a different database or
+                // have expired
+                if (!credential.database.equals(dbControl.getDatabase())
+                    || System.currentTimeMillis() > credential.expirationTime)
+                {
+                    // Discard the credentials so that the user is
+                    // authenticated again
+                    credentialCache.remove(user);
+                }
+                // The cached credentials are current
+                else
+                {
+                    // Check if the password matches the cached password
+                    isCached = MessageDigest.isEqual(credential.passwordHash,
+                                                     hashPassword(credential.salt,
+                                                                  password));
+                }
+            }
+        }
+
+        return isCached;
+    }
+
+    /**************************************************************************
+     * Authenticate the supplied user+password combination by connecting to
+     * the current project database. The credentials are cached if valid
+     * 
+     * @param user
+     *            user name
+     * 
+     * @param password
+     *            user password
+     * 
+     * @return true if the PostgreSQL server accepts the credentials
+     *************************************************************************/
+    private boolean authenticateCredential(String user, String password)
+    {
+        boolean isValid = false;
+        String database = dbControl.getDatabase();
+
+        try
+        {
+            // Attempt to connect to the database using the supplied user and
+            // password. The connection is only used to authenticate the
+            // credentials, so it's closed immediately
+            Connection connection = DriverManager.getConnection(dbControl.getDatabaseURL(database),
+                                                                user,
+                                                                password);
+            isValid = true;
+            connection.close();
+        }
+        catch (SQLException se)
+        {
+            // The supplied user+password combination is not valid if the
+            // connection failed; an error closing the connection is ignored
+        }
+
+        synchronized (credentialCache)
+        {
+            // Check if the credentials are valid
+            if (isValid)
+            {
+                // Store the salted hash of the password for future login
+                // requests
+                byte[] salt = new byte[SALT_LENGTH];
+                saltGenerator.nextBytes(salt);
+                credentialCache.put(user,
+                                    new CachedCredential(database,
+                                                         salt,
+                                                         hashPassword(salt,
+                                                                      password),
+                                                         System.currentTimeMillis()
+                                                                   + CREDENTIAL_CACHE_TIME));
+            }
+            // The credentials are invalid
+            else
+            {
+                CachedCredential credential = credentialCache.get(user);
+
+                // Check if the credentials cached for the user have the same
+                // password. A failed attempt using a different password
+                // leaves the user's valid cached credentials in place
+                if (credential != null
+                    && MessageDigest.isEqual(credential.passwordHash,
+                                             hashPassword(credential.salt,
+                                                          password)))
+                {
+                    // Discard the credentials cached for the user
+                    credentialCache.remove(user);
+                }
+            }
+        }
+
+        return isValid;
+    }
+
+    /**************************************************************************
+     * Create the salted hash of the supplied password
+     * 
+     * @param salt
+     *            random bytes used to salt the hash
+     * 
+     * @param password
+     *            user password
+     * 
+     * @return Salted SHA-256 hash of the password
+     *************************************************************************/
+    private byte[] hashPassword(byte[] salt, String password)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            return digest.digest(password.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (NoSuchAlgorithmException nsae)
+        {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(nsae);
+        }
+    }
+
     /**************************************************************************
      * Create the web server
      *************************************************************************/
@@ -103,42 +321,25 @@ public class CcddWebServer
                 {
                     UserIdentity identity = null;
 
-                    try
-                    {
-                        // Convert the password object to a string
-                        String passwordS = password.toString();
-
-                        // Check if the user+password hasn't been set of if
-                        // either has changed. This prevents contacting the
-                        // PostgreSQL server with each request after the
-                        // user+password is authenticated initially
-                        if (validUser == null
-                            || !validUser.equals(user)
-                            || !validPassword.equals(passwordS))
-                        {
-                            // Attempt to connect to the database using the
-                            // supplied user and password
-                            DriverManager.getConnection(dbControl.getDatabaseURL(dbControl.getDatabase()),
-                                                        user,
-                                                        passwordS);
-
-                            // Store the authenticated user and password for
-                            // future login requests
-                            validUser = user;
-                            validPassword = passwordS;
-                        }
+                    // Convert the password object to a string
+                    String passwordS = password.toString();
 
+                    // Check if the user+password has been authenticated
+                    // previously and the authentication hasn't expired. This
+                    // prevents contacting the PostgreSQL server with each
+                    // request after the user+password is authenticated
+                    // initially
+                    if (isCredentialCached(user, passwordS)
+                        || authenticateCredential(user, passwordS))
+                    {
                         // User+password combination is valid, so set the user
                         // identity using the generic login credentials
                         identity = super.login("valid", "valid");
                     }
-                    catch (SQLException se)
+                    // The supplied user+password combination is not valid
+                    else
                     {
-                        validUser = null;
-                        validPassword = null;
-
-                        // The supplied user+password combination is not valid;
-                        // set the user identity using invalid credentials so
+                        // Set the user identity using invalid credentials so
                         // that the request is rejected
                         identity = super.login("invalid", "invalid");
                     }
@@ -179,9 +380,19 @@ public class CcddWebServer
             security.setAuthenticator(new BasicAuthenticator());
             security.setLoginService(loginService);
 
-            // Create the web server request access handler
+            // Create the web server request access handler. The handler's
+            // responses are compressed if the requester accepts it, and the
+            // metrics for each request are recorded. Change feed requests are
+            // answered before reaching the compression handler so that the
+            // events aren't held in its buffer
             accessHandler = new CcddWebDataAccessHandler(ccddMain);
-            security.setHandler(accessHandler);
+            CcddWebCompressionHandler compression = new CcddWebCompressionHandler();
+            compression.setHandler(accessHandler);
+            CcddWebMetricsHandler metrics = new CcddWebMetricsHandler();
+            metrics.setHandler(compression);
+            CcddWebEventHandler events = new CcddWebEventHandler(ccddMain);
+            events.setHandler(metrics);
+            security.setHandler(events);
         }
         catch (Exception e)
         {